@@ -0,0 +1,18 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.autoexport;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class AutoExportResources extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "calendar_list","Exported calendars"}
+   , { "show_navigation","Show navigation bar"}
+   , { "webserver","Web Server"}
+  };
+}
@@ -0,0 +1,18 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.autoexport;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class AutoExportResources_de extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "calendar_list","Exportierte Kalender"}
+   , { "show_navigation","Zeige den Navigationsbalken"}
+   , { "webserver","Web-Server"}
+  };
+}
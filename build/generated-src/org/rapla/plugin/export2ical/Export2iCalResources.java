@@ -0,0 +1,32 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.export2ical;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class Export2iCalResources extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "available_autoexport_views_text","Available views based on html export:"}
+   , { "available_ical_views_text","Available iCal views:"}
+   , { "cancel_text","Cancel"}
+   , { "created_succesfully_text","Successfully created."}
+   , { "delete_text","Delete"}
+   , { "export_file_succesfull_text","The iCal file has been successfully created."}
+   , { "export_file_text","Export view to iCal file"}
+   , { "export_ical_text","Publish calendar to iCal"}
+   , { "export_text","Export"}
+   , { "ical_view_name_text","iCal view name:"}
+   , { "no_dates_text","No dates available in the current view."}
+   , { "no_name_text","No name is given."}
+   , { "previous_days_text","previous days:"}
+   , { "save_title_text","Save iCal view"}
+   , { "subsequent_days_text","subsequent days:"}
+   , { "use_user_interval_setting_text","use user interval setting"}
+   , { "user_interval_setting_text","User interval setting:"}
+  };
+}
@@ -0,0 +1,16 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.export2ical;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class Export2iCalResources_es extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "export_ical_text","Publicar el calendario en iCal"}
+  };
+}
@@ -0,0 +1,32 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.export2ical;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class Export2iCalResources_fr extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "available_autoexport_views_text","Les vues disponibles \u00e0 la base d`HTML Export:"}
+   , { "available_ical_views_text","Les vues iCal disponibles:"}
+   , { "cancel_text","Annuler"}
+   , { "created_succesfully_text","Cr\u00e9\u00e9 avec succ\u00e8s."}
+   , { "delete_text","Effacer"}
+   , { "export_file_succesfull_text","Le fichier iCal a \u00e9t\u00e9 cr\u00e9\u00e9 avec succ\u00e8s."}
+   , { "export_file_text","Exporte la vue en iCal File"}
+   , { "export_ical_text","Publier le calendrier en iCal"}
+   , { "export_text","Exporter"}
+   , { "ical_view_name_text","Nom de la vue iCal:"}
+   , { "no_dates_text","Pas de dates disponibles dans la vue en cours."}
+   , { "no_name_text","Aucun nom n'est donn\u00e9."}
+   , { "previous_days_text","les jours pr\u00e9c\u00e9dents:"}
+   , { "save_title_text","Enregistrer la vue iCal"}
+   , { "subsequent_days_text","les jours suivants:"}
+   , { "use_user_interval_setting_text","utiliser le param\u00e8tre d`intervalle utilisateur sp\u00e9cifique:"}
+   , { "user_interval_setting_text","le param\u00e8tre d`intervalle utilisateur sp\u00e9cifique:"}
+  };
+}
@@ -0,0 +1,16 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.importusers;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class ImportUsersResources_es extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "checklog","{0} de {1} errores. Consulte el archivo de registro."}
+  };
+}
@@ -0,0 +1,31 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.notification;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class NotificationResources extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "appointment.add","New appointment for [{0}]:"}
+   , { "appointment.change","Appointment changed for [{0}] from:"}
+   , { "appointment.remove","Removed appointment for [{0}]:"}
+   , { "complete_reservation","Complete event"}
+   , { "disclaimer_1","------------------------------------------------------------------------------------------------------------------------------" 
+      +  " This email has been sent by [{0}] "}
+   , { "disclaimer_2","because you opted for notification on ressource/s --{0}--. If you do not want to receive this message, change your notification settings in your personal settings." 
+      +  " ------------------------------------------------------------------------------------------------------------------------------"}
+   , { "mail_body","The following allocation changes have been made by [{0}]:"}
+   , { "mail_subject","Rapla: Allocation change of [{0}]"}
+   , { "modified_by","Modified by [{0}]"}
+   , { "moved_to","to : "}
+   , { "notification.option.description","Mail for every allocation change of the listed resources and persons"}
+   , { "notification_options","Notification options"}
+   , { "notify_if_owner","Also notify on modification of own events."}
+   , { "subscribe_notification","Select resources for notification"}
+  };
+}
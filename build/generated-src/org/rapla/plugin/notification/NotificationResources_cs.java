@@ -0,0 +1,16 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.notification;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class NotificationResources_cs extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "subscribe_notification","Vyberte zdroje pro ozn\u00e1men\u00ed"}
+  };
+}
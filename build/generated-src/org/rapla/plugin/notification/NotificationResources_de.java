@@ -0,0 +1,31 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.notification;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class NotificationResources_de extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "appointment.add","Neuer Termin f\u00fcr [{0}]:"}
+   , { "appointment.change","Termin ver\u00e4ndert f\u00fcr [{0}] von:"}
+   , { "appointment.remove","Termin f\u00fcr [{0}] gel\u00f6scht:"}
+   , { "complete_reservation","Komplette Veranstaltung"}
+   , { "disclaimer_1","------------------------------------------------------------------------------------------------------------------------------" 
+      +  " Diese E-mail wurde von [{0}] gesendet, "}
+   , { "disclaimer_2","weil Sie \u00fcber Ver\u00e4nderungen der Ressource/n --{0}-- benachrichtigt werden wollten. Wenn Sie diese Nachricht nicht mehr erhalten wollen, \u00e4ndern Sie die Benachrichtigungseinstellungen in ihren pers\u00f6nlichen Einstellungen." 
+      +  " ------------------------------------------------------------------------------------------------------------------------------"}
+   , { "mail_body","Die folgenden Belegungs\u00e4nderungen wurden von [{0}] vorgenommen:"}
+   , { "mail_subject","Rapla: Reservierungsbenachrichtigung [{0}]"}
+   , { "modified_by","ver\u00e4ndert durch [{0}]"}
+   , { "moved_to","nach: "}
+   , { "notification.option.description","Mail bei Belegungs\u00e4nderung von folgenden Ressourcen und Personen"}
+   , { "notification_options","Benachrichtigungs Optionen"}
+   , { "notify_if_owner","Benachrichtige auch bei \u00c4nderungen an eigenen Veranstaltungen."}
+   , { "subscribe_notification","W\u00e4hlen Sie Ressourcen f\u00fcr die Benachrichtigung"}
+  };
+}
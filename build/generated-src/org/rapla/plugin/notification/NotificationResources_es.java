@@ -0,0 +1,28 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.notification;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class NotificationResources_es extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "appointment.add","Nueva cita para [{0}]"}
+   , { "appointment.change","Cambio de cita para [{0}]"}
+   , { "complete_reservation","Descriptci\u00f3n completa del evento"}
+   , { "disclaimer_1",""}
+   , { "disclaimer_2",""}
+   , { "mail_body","Se han hecho los siguientes cambios de asignaci\u00f3n:"}
+   , { "mail_subject","Rapla : Cambio de asignaci\u00f3n para [{0}]"}
+   , { "modified_by","Modificado por [{0}]"}
+   , { "moved_to","para:"}
+   , { "notification.option.description","Env\u00edo de correo a cada cambio de asignaci\u00f3n de recursos/personas listado"}
+   , { "notification_options","Notificaciones"}
+   , { "notify_if_owner","Quiero ser notificado de los cambios hechos por m\u00ed mismo"}
+   , { "subscribe_notification","Seleccione los recursos para la notificaci\u00f3n"}
+  };
+}
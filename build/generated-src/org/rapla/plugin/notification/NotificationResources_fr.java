@@ -0,0 +1,29 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.notification;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class NotificationResources_fr extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "appointment.add","Nouvelle r\u00e9servation pour [{0}] :"}
+   , { "appointment.change","Changement d''horaire pour [{0}] c''\u00e9tait :"}
+   , { "appointment.remove","Se elimin\u00f3 la cita para [{0}]"}
+   , { "complete_reservation","Description compl\u00e8te de l'\u00e9v\u00e8nement"}
+   , { "disclaimer_1",""}
+   , { "disclaimer_2",""}
+   , { "mail_body","Les changement d'allocation suivants ont \u00e9t\u00e9 faits:"}
+   , { "mail_subject","Rapla : Changement d'allocation pour [{0}]"}
+   , { "modified_by","Modifi\u00e9 par [{0}]"}
+   , { "moved_to","\u00e0 :"}
+   , { "notification.option.description","Envoit de Mail \u00e0 chaque changement d'allocation des resources/personnes list\u00e9es"}
+   , { "notification_options","Options de notification"}
+   , { "notify_if_owner","Je veux \u00eatre notifi\u00e9 pour les changements faits par moi-m\u00eame"}
+   , { "subscribe_notification","S\u00e9lectionnez les ressources pour la notification"}
+  };
+}
@@ -0,0 +1,46 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.occupationview;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class OccupationResources extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "FirstDay","Day 1 of month"}
+   , { "ToDay","Today"}
+   , { "archive_gt","Archive {0} >= {1} days inactive"}
+   , { "archive_yn","Archive"}
+   , { "bestFit","Best fit"}
+   , { "confirm","Confirm. Archive on {0}."}
+   , { "daysin","In"}
+   , { "daysout","In"}
+   , { "event_check","Remarks"}
+   , { "firstFit","First fit"}
+   , { "forbidden","Resource not availabe."}
+   , { "forcearchive_lt","Archive {0} < {1} days inactive"}
+   , { "freeSlot","Free slot: "}
+   , { "horizon","Month +"}
+   , { "icon.archive","images/archive.gif"}
+   , { "icon.delete","images/eclipse-icons/trash.gif"}
+   , { "icon.edit","images/eclipse-icons/edit.gif"}
+   , { "icon.error","images/error.png"}
+   , { "icon.help","images/eclipse-icons/help.gif"}
+   , { "icon.new","images/eclipse-icons/new.gif"}
+   , { "icon.no_perm","gui/images/eclipse-icons/no_perm.gif"}
+   , { "minus1month","-1 Month"}
+   , { "noendoflife","_endoflive not defined."}
+   , { "occupation","Occupation"}
+   , { "options.timeshift","Options"}
+   , { "permission.denied","Denied"}
+   , { "plus1month","+1 Month"}
+   , { "resourcedeleted","Deleted"}
+   , { "resources_persons","Resources/persons"}
+   , { "slotGaps","#Gaps"}
+   , { "startday","Starting day of the month"}
+  };
+}
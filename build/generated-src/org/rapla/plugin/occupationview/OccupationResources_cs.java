@@ -0,0 +1,38 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.occupationview;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class OccupationResources_cs extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "FirstDay","Den 1 m\u011bs\u00edce"}
+   , { "ToDay","Dnes"}
+   , { "archive_gt","Archiv {0} >= {1} dn\u016f neaktivn\u00ed"}
+   , { "archive_yn","Archiv"}
+   , { "bestFit","...: "}
+   , { "confirm","Potvrdit. Archivu na {0}."}
+   , { "daysin","Vstupn\u00ed"}
+   , { "daysout","V\u00fdstupn\u00ed"}
+   , { "firstFit","...: "}
+   , { "forbidden","...: "}
+   , { "forcearchive_lt","Archiv {0} < {1} dn\u016f neaktivn\u00ed"}
+   , { "freeSlot","...: "}
+   , { "horizon","...: "}
+   , { "minus1month","-1"}
+   , { "noendoflife","_endoflive nen\u00ed definov\u00e1no."}
+   , { "occupation","Obsazenost"}
+   , { "options.timeshift","Volby"}
+   , { "permission.denied","Zam\u00edtnuto"}
+   , { "plus1month","+1"}
+   , { "resourcedeleted","vypou\u0161t\u00ed"}
+   , { "resources_persons","Prost\u0159edky/osoby"}
+   , { "slotGaps","...: "}
+   , { "startday","Prvn\u00ed den v m\u011bs\u00edci"}
+  };
+}
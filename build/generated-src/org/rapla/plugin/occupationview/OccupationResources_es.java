@@ -0,0 +1,39 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.occupationview;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class OccupationResources_es extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "FirstDay","El d\u00eda 1 del mes"}
+   , { "ToDay","Hoy"}
+   , { "archive_gt","pArchivo {0} >= {1} d\u00eda inactivos"}
+   , { "archive_yn","pArchivo"}
+   , { "bestFit","...: "}
+   , { "confirm","Confirmar. Archivo de {0}."}
+   , { "daysin","Entrada"}
+   , { "daysout","Salida"}
+   , { "event_check","..."}
+   , { "firstFit","...: "}
+   , { "forbidden","...: "}
+   , { "forcearchive_lt","Archivo {0} < {1} d\u00eda inactivos"}
+   , { "freeSlot","...: "}
+   , { "horizon","...: "}
+   , { "minus1month","-1"}
+   , { "noendoflife","_endoflive no se define."}
+   , { "occupation","Ocupaci\u00f3n"}
+   , { "options.timeshift","Opciones"}
+   , { "permission.denied","Denegado"}
+   , { "plus1month","+1"}
+   , { "resourcedeleted","Eliminado"}
+   , { "resources_persons","Recursos/personas"}
+   , { "slotGaps","...: "}
+   , { "startday","D\u00edas a partir del mes"}
+  };
+}
@@ -0,0 +1,39 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.occupationview;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class OccupationResources_fr extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "FirstDay","Jour 1 du mois"}
+   , { "ToDay","Aujourd'hui"}
+   , { "archive_gt","Archive {0} >= {1} jours inactifs"}
+   , { "archive_yn","Archive"}
+   , { "bestFit","Mellieur libre"}
+   , { "confirm","Confirmer. Archives le {0}.)"}
+   , { "daysin","Entr\u00e9e"}
+   , { "daysout","Sortie"}
+   , { "event_check","..."}
+   , { "firstFit","Premier libre"}
+   , { "forbidden","Resource pas disponible.\""}
+   , { "forcearchive_lt","Archive {0} < {1} jours inactifs"}
+   , { "freeSlot","Libre:"}
+   , { "horizon","Mois + "}
+   , { "minus1month","-1 Mois\""}
+   , { "noendoflife","_endoflive pas d\u00e9fini."}
+   , { "occupation","l''Occupation"}
+   , { "options.timeshift","Options"}
+   , { "permission.denied","Interdit"}
+   , { "plus1month","+1 Mois\""}
+   , { "resourcedeleted","Supprim\u00e9"}
+   , { "resources_persons","Ressources/Personnes"}
+   , { "slotGaps","#Gaps"}
+   , { "startday","A partir du jour du mois"}
+  };
+}
@@ -0,0 +1,19 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.occupationview;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class OccupationResources_pl extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "FirstDay","Dzie\u0144 1 miesi\u0105ca"}
+   , { "ToDay","Dzisiaj"}
+   , { "occupation","Zaw\u00f3d"}
+   , { "startday","Pocz\u0105wszy od dnia miesi\u0105ca"}
+  };
+}
@@ -0,0 +1,65 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.periodwizard;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class WizardResources extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "enter_appointments","Enter appointments:"}
+   , { "error.no_period_found","" 
+      +  " No periods found. Please enter the periods which you want to use for planning first. You'll need to login as admin for this." 
+      +  " "}
+   , { "reservation.create_with_default_wizard","Weekly event in a period"}
+   , { "reservation_wizard.add_appointment","Add Appointment"}
+   , { "reservation_wizard.appointment_menu","Appointment Menu"}
+   , { "reservation_wizard.panel1","" 
+      +  " <strong>Create a regular event:</strong><br/>" 
+      +  " <br/>" 
+      +  " <strong>1.</strong> Select a period.<br/>" 
+      +  " <br/>" 
+      +  " <strong>2.</strong> Choose a event-type.<br/>" 
+      +  " <br/>" 
+      +  " <strong>3.</strong> Enter the event information.<br/>" 
+      +  " <br/>" 
+      +  " <strong>4.</strong> Proceed to the appointments-menu.<br/>" 
+      +  " "}
+   , { "reservation_wizard.panel2","" 
+      +  " <strong>Enter known appointments:</strong><br/>" 
+      +  " Fill in the day of the week and the time of the appointments.<br/>" 
+      +  " <br/>" 
+      +  " <strong>Search for free appointments:</strong><br/>" 
+      +  " Mark the resource or persons for which you are searching a free appointment in" 
+      +  " the left table and press \"Search free appointment\".<br/>" 
+      +  " <br/>" 
+      +  " <strong>Selecting resources and persons:</strong><br/>" 
+      +  " Mark the persons and resources you want in the left table." 
+      +  " Double-click to add them to the right table and to assign them" 
+      +  " to all entered appointments. If you want to assign a" 
+      +  " resource or person to a particular appointment, click in the" 
+      +  " right column next to the corresponding entry in the right table." 
+      +  " "}
+   , { "reservation_wizard.panel3","" 
+      +  " <strong>Search for appointments:</strong><br/>" 
+      +  " Select with your mouse a free appointment in the wee kview." 
+      +  " Click \"Add Appointment\" to create the appointment" 
+      +  " and return to the previous menu." 
+      +  " <br/>" 
+      +  " <br/>" 
+      +  " There you can assign the resource or person to the appointment." 
+      +  " "}
+   , { "reservation_wizard.search_free_appointment","Search for a free appointment"}
+   , { "reservation_wizard.title","Wizard for regular events"}
+   , { "reservation_wizard.weekview","{0}: {1}"}
+   , { "select_persons_and_resources","Select resources and persons:"}
+   , { "warning.need_resource_or_person","" 
+      +  " You have to mark at least one resource or person" 
+      +  " to search for a free appointment!" 
+      +  " "}
+  };
+}
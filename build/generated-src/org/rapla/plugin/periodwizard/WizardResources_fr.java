@@ -0,0 +1,64 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.periodwizard;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class WizardResources_fr extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "enter_appointments","Ajouter des cr\u00e9naux :"}
+   , { "error.no_period_found","Pas de p\u00e9riode. Commencez par d\u00e9finir des p\u00e9riodes dans l'ann\u00e9e. Vous avez besoin de vous connecter comme 'admin' pour le faire"}
+   , { "reservation.create_with_default_wizard","\u00c9v\u00e8nement hebdomadaire pendant toute une p\u00e9riode"}
+   , { "reservation_wizard.add_appointment","Ajouter un cr\u00e9nau"}
+   , { "reservation_wizard.appointment_menu","Cr\u00e9ation des cr\u00e9naux"}
+   , { "reservation_wizard.panel1","" 
+      +  " <strong>Cr\u00e9ation d'\u00e9v\u00e8nement hebdomadaire</strong><br/>" 
+      +  " <br/>" 
+      +  " <strong>1.</strong> Choisissez la p\u00e9riode de l'ann\u00e9e.<br/>" 
+      +  " <br/>" 
+      +  " <strong>2.</strong> Choisissez le type de l'\u00e9v\u00e8nement.<br/>" 
+      +  " <br/>" 
+      +  " <strong>3.</strong> Entrez les informations concernant l'\u00e9v\u00e8nement.<br/>" 
+      +  " <br/>" 
+      +  " <strong>4.</strong> Passez \u00e0 la fen\u00eatre de d\u00e9finition des cr\u00e9naux.<br/>" 
+      +  " "}
+   , { "reservation_wizard.panel2","" 
+      +  " <strong>Indiquer les cr\u00e9naux que vous connaissez :</strong><br/>" 
+      +  " Indiquez le jour de la semaine et l'heure de d\u00e9but et de fin du cr\u00e9nau.<br/>" 
+      +  " <br/>" 
+      +  " <strong>Chercher des cr\u00e9naux libres :</strong><br/>" 
+      +  " S\u00e9lectionnez dans la table de gauche" 
+      +  " les ressources et personnes pour lesquelles vous" 
+      +  " voulez rechercher un cr\u00e9nau libre." 
+      +  " Puis cliquez sur \"Chercher un cr\u00e9nau libre\".<br/>" 
+      +  " <br/>" 
+      +  " <strong>Selectionner les ressources et personnes :</strong><br/>" 
+      +  " S\u00e9lectionnez dans la table de gauche" 
+      +  " les ressources et personnes puis cliquez sur \"Ins\u00e9rer\"" 
+      +  " Elle seront assign\u00e9es pour tous les cr\u00e9naux." 
+      +  " Pour assigner une ressource ou personne \u00e0 des cr\u00e9naux" 
+      +  " particuliers, cliquez sur le bouton \u00e0 cot\u00e9 de la ressource" 
+      +  " ou personne dans la table de droite." 
+      +  " "}
+   , { "reservation_wizard.panel3","" 
+      +  " <strong>Chercher des cr\u00e9naux :</strong><br/>" 
+      +  " S\u00e9lectionnez avec la souris un cr\u00e9nau libre" 
+      +  " dans la semaine." 
+      +  " Cliquez sur \"Ajouter cr\u00e9naux\" pour" 
+      +  " ajouter le cr\u00e9naux et revenir sur la fen\u00eatre pr\u00e9c\u00e9dente." 
+      +  " <br/>" 
+      +  " Ainsi vous pouvez assigner la ressource ou la personne" 
+      +  " aux cr\u00e9naux en cliquant sur 'ins\u00e9rer'" 
+      +  " "}
+   , { "reservation_wizard.search_free_appointment","Chercher un cr\u00e9nau libre"}
+   , { "reservation_wizard.title","Assistant de cr\u00e9ation d'\u00e9v\u00e8nement hebdomadaire"}
+   , { "reservation_wizard.weekview","{0}: {1}"}
+   , { "select_persons_and_resources","S\u00e9lection des ressources et personnes :"}
+   , { "warning.need_resource_or_person","Vous devez au moins s\u00e9lectionner une resource ou personne pour laquelle (ou lesquelles) vous voulez rechercher un cr\u00e9nau possible"}
+  };
+}
@@ -0,0 +1,18 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.setowner;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class SetOwnerResources extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "changeowner","Change owner"}
+   , { "changeownerto","Select the new owner:"}
+   , { "icon.tree.persons","images/persons.png"}
+  };
+}
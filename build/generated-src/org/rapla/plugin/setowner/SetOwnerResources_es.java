@@ -0,0 +1,17 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.setowner;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class SetOwnerResources_es extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "changeowner","Cambiar el propietario"}
+   , { "changeownerto","Cambiar el propietario:"}
+  };
+}
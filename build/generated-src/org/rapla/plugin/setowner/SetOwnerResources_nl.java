@@ -0,0 +1,17 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.setowner;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class SetOwnerResources_nl extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "changeowner","Wijzig eigenaar"}
+   , { "changeownerto","Wijzig eigenaar:"}
+  };
+}
@@ -12,9 +12,14 @@
  *--------------------------------------------------------------------------*/
 package org.rapla;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
 import java.io.ObjectOutputStream;
+import java.io.OutputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -22,6 +27,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.zip.GZIPOutputStream;
 
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServlet;
@@ -31,7 +37,12 @@ import javax.servlet.http.HttpSession;
 
 import org.apache.avalon.framework.container.ContainerUtil;
 import org.apache.avalon.framework.logger.Logger;
+import org.eclipse.jetty.continuation.Continuation;
+import org.eclipse.jetty.continuation.ContinuationListener;
+import org.eclipse.jetty.continuation.ContinuationSupport;
 import org.rapla.components.util.IOUtil;
+import org.rapla.components.util.xml.BinaryXMLReader;
+import org.rapla.components.util.xml.BinaryXMLWriter;
 import org.rapla.framework.Container;
 import org.rapla.framework.RaplaContext;
 import org.rapla.framework.RaplaContextException;
@@ -40,6 +51,7 @@ import org.rapla.framework.StartupEnvironment;
 import org.rapla.plugin.RaplaExtensionPoints;
 import org.rapla.server.RemoteServer;
 import org.rapla.server.RemoteSession;
+import org.rapla.server.RemoteStorage;
 import org.rapla.server.ServerService;
 import org.rapla.server.ShutdownListener;
 import org.rapla.server.ShutdownService;
@@ -47,6 +59,8 @@ import org.rapla.server.internal.RemoteSessionImpl;
 import org.rapla.server.internal.ServerServiceImpl;
 import org.rapla.servletpages.RaplaPageGenerator;
 import org.rapla.servletpages.ServletRequestResponsePreprocessor;
+import org.rapla.storage.dbrm.BinaryHTTPConnector;
+import org.rapla.storage.dbrm.HTTPConnector;
 
 
 final public class MainServlet extends HttpServlet {
@@ -61,6 +75,15 @@ final public class MainServlet extends HttpServlet {
     long serverStartTime;
 	Logger logger = null;
 
+    /** the long poll, that is parked until the repository changes */
+    private final static String WAIT_FOR_UPDATE = RemoteStorage.class.getName() + "/waitForUpdate";
+    /** the maximum time a long poll is parked. Must be lower than the idle time of the connector. */
+    private final static long WAIT_FOR_UPDATE_TIMEOUT = 20000;
+    /** the request attribute for the arguments of a call that were sent in binary form */
+    private final static String RPC_ARGUMENTS = "org.rapla.rpc.arguments";
+    /** the maximum number of calls in a batch request */
+    private final static int MAX_BATCH_CALLS = 16;
+
     private File getConfigFile(String entryName, String defaultName) throws ServletException,IOException {
         String configName = getServletConfig().getInitParameter(entryName);
         if (configName == null)
@@ -262,71 +285,51 @@ final public class MainServlet extends HttpServlet {
             return;
         }
 
+        RPCResponseStream responseStream = null;
         try
         {
-            @SuppressWarnings("unchecked")
-			Map<String,String[]> originalMap = request.getParameterMap();
-			Map<String,String> parameterMap = makeSingles(originalMap);
             ServerServiceImpl server = (ServerServiceImpl)raplaMainContainer.getContext().lookup( ServerService.ROLE);
-            if ( methodName.equals(RemoteServer.ROLE + "/login"))
+            boolean binary = accepts( request, "Accept", BinaryHTTPConnector.CONTENT_TYPE );
+            if ( methodName.equals( HTTPConnector.BATCH_METHOD ))
             {
-            	List<String> arg = new ArrayList<String>(parameterMap.values());
-            	String username = (String) arg.get(0);
-            	String password = (String) arg.get( 1);
-            			//parameterMap.get("password");
-            	server.login( username, password);
-                session.setAttribute("username", username);
-                response.getWriter().println("Login successfull" );
-				logger.info("Login " + username);
-            }
-            else if ( methodName.equals(RemoteServer.ROLE + "/logout"))
+                handleBatch( request, response, session, server, binary );
+                return;
+            }
+			Map<String,String> parameterMap = getArguments( request );
+            if ( methodName.equals( WAIT_FOR_UPDATE) && parkUntilUpdate( request, server, parameterMap))
             {
-                response.getWriter().println("User logout" );
-                RemoteSession remoteSession = (RemoteSession)session.getAttribute(RemoteSession.class.getName());
-                if ( remoteSession != null)
-                {
-                	currentSession.set( remoteSession);
-                	server.logout();
-                }
+                // the request is dispatched again on the next change or when the timeout elapses
+                return;
+            }
+            if ( binary )
+            {
+                response.setContentType( BinaryHTTPConnector.CONTENT_TYPE );
             }
             else
             {
-            	RemoteSession  remoteSession = (RemoteSession)session.getAttribute(RemoteSession.class.getName());
-                if ( remoteSession != null)
-                {
-                    // If session was created by another server, than invalidate
-                    if (((RemoteSessionImpl)remoteSession).getServerStartTime() != serverStartTime)
-                    {
-                        remoteSession = null;
-                    }
-                }
-                if ( remoteSession == null)
-                {
-                    remoteSession = new RemoteSessionImpl(server.getContext(), session.getId(), serverStartTime)
-                    {
-
-						@Override
-						public void logout() throws RaplaException {
-							//String sessionId = session.getId();
-							session.removeAttribute(RemoteSession.class.getName());
-							session.removeAttribute("username");
-						}
-
-                    };
-                    session.setAttribute( RemoteSession.class.getName(), remoteSession);
-                }
-                currentSession.set( remoteSession);
-                final String username = (String)session.getAttribute("username");
-               ((RemoteSessionImpl)remoteSession).setUsername( username);
-                byte[] out = server.dispatch(remoteSession, methodName, parameterMap);
                 response.setContentType( "text/html; charset=utf-8");
-                //response.setCharacterEncoding( "utf-8" );
-                response.getOutputStream().write( out );
             }
-                //  response.getWriter().println("There are currently " + reservations + " reservations");
+            //response.setCharacterEncoding( "utf-8" );
+            // the result is streamed, so the container sends it chunked
+            responseStream = new RPCResponseStream( response, accepts( request, "Accept-Encoding", "gzip" ));
+            processCall( session, server, methodName, parameterMap, responseStream, binary );
+            responseStream.finish();
+        }
+        catch (BadRequestException e)
+        {
+            logger.warn( "Malformed request for " + methodName + ": " + e.getMessage());
+            response.sendError( 400, e.getMessage());
         }
         catch (Exception e)
         {
+            if ( ( responseStream != null && responseStream.isStarted()) || response.isCommitted())
+            {
+                // the client already receives the result, so we can only abort the response
+                logger.error( "Error while writing the result of " + methodName, e);
+                IOException ex = new IOException( e.getMessage());
+                ex.initCause( e);
+                throw ex;
+            }
             String message = e.getMessage();
             if ( message == null )
             {
@@ -334,15 +337,397 @@ final public class MainServlet extends HttpServlet {
             }
             session.setAttribute( "lastException", e);
             response.addHeader("X-Error-Stacktrace", message);
-            response.getWriter().println("Error: " + IOUtil.getStackTraceAsString( e));
-
-            //response.sendError( 500, e.getMessage());
-
             response.setStatus( 500);
+            if ( accepts( request, "Accept", HTTPConnector.ERROR_CONTENT_TYPE ))
+            {
+                // the client reads the exception from the response, so it needs no second request
+                response.setContentType( HTTPConnector.ERROR_CONTENT_TYPE );
+                response.getOutputStream().write( serialize( e ));
+            }
+            else
+            {
+                response.getWriter().println("Error: " + IOUtil.getStackTraceAsString( e));
+            }
+            //response.sendError( 500, e.getMessage());
             //throw new ServletException( e);
         }
     }
 
+    /** executes one call of the client and writes the result to the passed stream.*/
+    private void processCall( final HttpSession session, ServerServiceImpl server, String methodName, Map<String,String> parameterMap, OutputStream out, boolean binary ) throws Exception
+    {
+        if ( methodName.equals(RemoteServer.ROLE + "/login"))
+        {
+        	List<String> arg = new ArrayList<String>(parameterMap.values());
+        	String username = (String) arg.get(0);
+        	String password = (String) arg.get( 1);
+        			//parameterMap.get("password");
+        	server.login( username, password);
+            session.setAttribute("username", username);
+            writeText( out, "Login successfull" );
+			logger.info("Login " + username);
+        }
+        else if ( methodName.equals(RemoteServer.ROLE + "/logout"))
+        {
+            writeText( out, "User logout" );
+            RemoteSession remoteSession = (RemoteSession)session.getAttribute(RemoteSession.class.getName());
+            if ( remoteSession != null)
+            {
+            	currentSession.set( remoteSession);
+            	server.logout();
+            }
+        }
+        else
+        {
+        	RemoteSession  remoteSession = (RemoteSession)session.getAttribute(RemoteSession.class.getName());
+            if ( remoteSession != null)
+            {
+                // If session was created by another server, than invalidate
+                if (((RemoteSessionImpl)remoteSession).getServerStartTime() != serverStartTime)
+                {
+                    remoteSession = null;
+                }
+            }
+            if ( remoteSession == null)
+            {
+                remoteSession = new RemoteSessionImpl(server.getContext(), session.getId(), serverStartTime)
+                {
+
+					@Override
+					public void logout() throws RaplaException {
+						//String sessionId = session.getId();
+						session.removeAttribute(RemoteSession.class.getName());
+						session.removeAttribute("username");
+					}
+
+                };
+                session.setAttribute( RemoteSession.class.getName(), remoteSession);
+            }
+            currentSession.set( remoteSession);
+            final String username = (String)session.getAttribute("username");
+           ((RemoteSessionImpl)remoteSession).setUsername( username);
+            server.dispatch(remoteSession, methodName, parameterMap, out, binary);
+        }
+    }
+
+    /** executes the calls of a batch request one after another. The result of each call is written in chunks, each
+     * with its length, as soon as the writer buffer is full. A chunk with length 0 ends the result and is followed by 0,
+     * or by 1, the length and the bytes of the serialized exception if the call failed. The client discards the chunks
+     * of a failed call. The calls after a failed call are not executed, because they usually depend on it, e.g. on the login.
+     * @throws BadRequestException if the request is truncated or has more than {@link #MAX_BATCH_CALLS} calls*/
+    private void handleBatch( HttpServletRequest request, HttpServletResponse response, HttpSession session, ServerServiceImpl server, boolean binary ) throws IOException
+    {
+        InputStream in = new BufferedInputStream( request.getInputStream());
+        int count;
+        String[] methodNames;
+        List<Map<String,String>> arguments = new ArrayList<Map<String,String>>();
+        try
+        {
+            count = BinaryXMLReader.readLength( in, MAX_BATCH_CALLS );
+            methodNames = new String[count];
+            for ( int i = 0; i < count; i++ )
+            {
+                methodNames[i] = BinaryXMLReader.readString( in );
+                arguments.add( BinaryHTTPConnector.readArgumentMap( in ));
+            }
+        }
+        catch (IOException ex)
+        {
+            throw new BadRequestException( ex.getMessage());
+        }
+        response.setContentType( BinaryHTTPConnector.CONTENT_TYPE );
+        RPCResponseStream responseStream = new RPCResponseStream( response, accepts( request, "Accept-Encoding", "gzip" ));
+        for ( int i = 0; i < count; i++ )
+        {
+            BatchResultStream result = new BatchResultStream( responseStream );
+            try
+            {
+                processCall( session, server, methodNames[i], arguments.get( i ), result, binary );
+                result.end();
+                responseStream.write( 0 );
+            }
+            catch (Exception e)
+            {
+                session.setAttribute( "lastException", e);
+                result.end();
+                responseStream.write( 1 );
+                BinaryXMLWriter.writeBytes( responseStream, serialize( e ));
+                break;
+            }
+        }
+        responseStream.finish();
+    }
+
+    private void writeText( OutputStream out, String text ) throws IOException
+    {
+        out.write( (text + "\n").getBytes( "UTF-8" ));
+    }
+
+    /** returns the java serialization of the exception. If the exception or one of its causes can't be serialized,
+     * a RaplaException with the message of the exception is serialized instead.*/
+    private byte[] serialize( Exception e ) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try
+        {
+            ObjectOutputStream out = new ObjectOutputStream( bytes );
+            out.writeObject( e );
+            out.flush();
+        }
+        catch (NotSerializableException ex)
+        {
+            bytes.reset();
+            ObjectOutputStream out = new ObjectOutputStream( bytes );
+            out.writeObject( new RaplaException( e.getMessage() ));
+            out.flush();
+        }
+        return bytes.toByteArray();
+    }
+
+    /** suspends the request until the repository is newer than the version of the client.
+     * @return true if the request was suspended and will be dispatched again.*/
+    private boolean parkUntilUpdate( HttpServletRequest request, final ServerServiceImpl server, Map<String,String> parameterMap ) throws InterruptedException
+    {
+        if ( parameterMap.size() != 1)
+        {
+            return false;
+        }
+        long clientRepositoryVersion;
+        try
+        {
+            clientRepositoryVersion = Long.parseLong( parameterMap.values().iterator().next());
+        }
+        catch (NumberFormatException ex)
+        {
+            return false;
+        }
+        final Continuation continuation;
+        try
+        {
+            continuation = ContinuationSupport.getContinuation( request );
+        }
+        catch (IllegalStateException ex)
+        {
+            // the container can't park requests, so we wait in the request thread
+            server.waitForUpdate( clientRepositoryVersion, WAIT_FOR_UPDATE_TIMEOUT);
+            return false;
+        }
+        if ( !continuation.isInitial())
+        {
+            return false;
+        }
+        if ( server.getRepositoryVersion() > clientRepositoryVersion)
+        {
+            return false;
+        }
+        final Runnable waiter = new Runnable()
+        {
+            public void run()
+            {
+                try
+                {
+                    continuation.resume();
+                }
+                catch (IllegalStateException ex)
+                {
+                    // the request already expired
+                }
+            }
+        };
+        continuation.setTimeout( WAIT_FOR_UPDATE_TIMEOUT );
+        continuation.addContinuationListener( new ContinuationListener()
+        {
+            public void onTimeout( Continuation continuation )
+            {
+                server.removeUpdateWaiter( waiter );
+            }
+
+            public void onComplete( Continuation continuation )
+            {
+                server.removeUpdateWaiter( waiter );
+            }
+        });
+        continuation.suspend();
+        if ( !server.addUpdateWaiter( clientRepositoryVersion, waiter))
+        {
+            // changed since the check
+            continuation.resume();
+        }
+        return true;
+    }
+
+    /** returns the arguments of the call. They are either form encoded or sent in the binary form of the
+     * {@link BinaryHTTPConnector}. The binary arguments are kept in the request, because the body can only be
+     * read once and a parked request is dispatched again.
+     * @throws BadRequestException if the binary arguments are truncated or their lengths exceed the limits of the reader*/
+    private Map<String,String> getArguments( HttpServletRequest request ) throws IOException
+    {
+        String contentType = request.getContentType();
+        if ( contentType == null || !contentType.startsWith( BinaryHTTPConnector.CONTENT_TYPE))
+        {
+            @SuppressWarnings("unchecked")
+            Map<String,String[]> originalMap = request.getParameterMap();
+            return makeSingles(originalMap);
+        }
+        @SuppressWarnings("unchecked")
+        Map<String,String> arguments = (Map<String,String>) request.getAttribute( RPC_ARGUMENTS );
+        if ( arguments == null)
+        {
+            InputStream in = new BufferedInputStream( request.getInputStream());
+            try
+            {
+                arguments = BinaryHTTPConnector.readArgumentMap( in );
+            }
+            catch (IOException ex)
+            {
+                throw new BadRequestException( ex.getMessage());
+            }
+            request.setAttribute( RPC_ARGUMENTS, arguments);
+        }
+        return arguments;
+    }
+
+    private boolean accepts( HttpServletRequest request, String header, String value )
+    {
+        String entry = request.getHeader( header );
+        return entry != null && entry.indexOf( value ) >= 0;
+    }
+
+    /** Stream for the result of a remote call. The response stream is requested with the first write,
+     * so an error that occurs before can still be sent as error page.*/
+    /** writes the result of a batched call in chunks with a length prefix, see {@link MainServlet#handleBatch} */
+    static class BatchResultStream extends OutputStream
+    {
+        OutputStream out;
+        byte[] buffer = new byte[8192];
+        int count;
+
+        BatchResultStream( OutputStream out )
+        {
+            this.out = out;
+        }
+
+        public void write( int b ) throws IOException
+        {
+            if ( count == buffer.length)
+            {
+                writeChunk();
+            }
+            buffer[count++] = (byte) b;
+        }
+
+        public void write( byte[] b, int off, int len ) throws IOException
+        {
+            if ( count + len > buffer.length)
+            {
+                writeChunk();
+            }
+            if ( len >= buffer.length)
+            {
+                BinaryXMLWriter.writeNumber( out, len);
+                out.write( b, off, len);
+                return;
+            }
+            System.arraycopy( b, off, buffer, count, len);
+            count += len;
+        }
+
+        private void writeChunk() throws IOException
+        {
+            if ( count > 0)
+            {
+                BinaryXMLWriter.writeNumber( out, count);
+                out.write( buffer, 0, count);
+                count = 0;
+            }
+        }
+
+        /** the chunks are written when the buffer is full, so flushing doesn't create small chunks */
+        public void flush() throws IOException
+        {
+        }
+
+        /** writes the remaining bytes and the chunk with length 0 */
+        void end() throws IOException
+        {
+            writeChunk();
+            BinaryXMLWriter.writeNumber( out, 0);
+        }
+    }
+
+    /** the body of the request can't be read. The client gets the status 400.*/
+    static class BadRequestException extends IOException
+    {
+        private static final long serialVersionUID = 1L;
+
+        BadRequestException( String message )
+        {
+            super( message );
+        }
+    }
+
+    static class RPCResponseStream extends OutputStream
+    {
+        HttpServletResponse response;
+        boolean gzip;
+        OutputStream out;
+
+        RPCResponseStream( HttpServletResponse response, boolean gzip )
+        {
+            this.response = response;
+            this.gzip = gzip;
+        }
+
+        private OutputStream getOut() throws IOException
+        {
+            if ( out == null)
+            {
+                if ( gzip)
+                {
+                    response.setHeader( "Content-Encoding", "gzip");
+                    out = new GZIPOutputStream( response.getOutputStream(), 8192);
+                }
+                else
+                {
+                    out = response.getOutputStream();
+                }
+            }
+            return out;
+        }
+
+        boolean isStarted()
+        {
+            return out != null;
+        }
+
+        public void write( int b ) throws IOException
+        {
+            getOut().write( b);
+        }
+
+        public void write( byte[] b, int off, int len ) throws IOException
+        {
+            getOut().write( b, off, len);
+        }
+
+        public void flush() throws IOException
+        {
+            if ( out != null)
+            {
+                out.flush();
+            }
+        }
+
+        /** completes the compressed stream. The response stream is closed by the container.*/
+        void finish() throws IOException
+        {
+            if ( out instanceof GZIPOutputStream)
+            {
+                ((GZIPOutputStream)out).finish();
+            }
+        }
+    }
+
     private Map<String,String> makeSingles( Map<String, String[]> parameterMap )
     {
         TreeMap<String,String> singlesMap = new TreeMap<String,String>();
@@ -154,6 +154,60 @@ public abstract class DateTools
     static public long countMinutes(long start, long end){
     	return (end-start)/ MILLISECONDS_PER_MINUTE;
     }
+    /** returns the year of a GMT date. Unlike a Calendar this method creates no objects.*/
+    static public int getYear(long date) {
+        return (int) (toYearMonthDay( date ) >> 9);
+    }
+
+    /** returns the month of a GMT date from 0 for january to 11 like Calendar.MONTH.*/
+    static public int getMonth(long date) {
+        return (int) ((toYearMonthDay( date ) >> 5) & 15) - 1;
+    }
+
+    /** returns the day of month of a GMT date, starting with 1. */
+    static public int getDayOfMonth(long date) {
+        return (int) (toYearMonthDay( date ) & 31);
+    }
+
+    /** returns the number of days of the month. The month starts with 0 like Calendar.MONTH.*/
+    static public int getDaysInMonth(int year, int month) {
+        switch ( month ) {
+            case 1: return ( year % 4 == 0 && ( year % 100 != 0 || year % 400 == 0 )) ? 29 : 28;
+            case 3: case 5: case 8: case 10: return 30;
+            default: return 31;
+        }
+    }
+
+    /** returns the GMT date of the day at 0:00. The month starts with 0 like Calendar.MONTH.*/
+    static public long toDate(int year, int month, int day) {
+        // days since 1.3.0000 in the proleptic gregorian calendar, so the leap day is the last day of a year
+        long y = month < 2 ? year - 1 : year;
+        long era = ( y >= 0 ? y : y - 399 ) / 400;
+        long yearOfEra = y - era * 400;
+        long dayOfYear = ( 153 * ( month < 2 ? month + 10 : month - 2 ) + 2 ) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return ( era * 146097 + dayOfEra - 719468 ) * MILLISECONDS_PER_DAY;
+    }
+
+    /** returns year, month (1-12) and day as year &lt;&lt; 9 | month &lt;&lt; 5 | day */
+    static private long toYearMonthDay(long date) {
+        long days = date / MILLISECONDS_PER_DAY;
+        if ( date % MILLISECONDS_PER_DAY < 0 )
+        {
+            days--;
+        }
+        days += 719468;
+        long era = ( days >= 0 ? days : days - 146096 ) / 146097;
+        long dayOfEra = days - era * 146097;
+        long yearOfEra = ( dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096 ) / 365;
+        long dayOfYear = dayOfEra - ( 365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100 );
+        long monthOfYear = ( 5 * dayOfYear + 2 ) / 153;
+        long day = dayOfYear - ( 153 * monthOfYear + 2 ) / 5 + 1;
+        long month = monthOfYear < 10 ? monthOfYear + 3 : monthOfYear - 9;
+        long year = yearOfEra + era * 400 + ( month <= 2 ? 1 : 0 );
+        return ( year << 9 ) | ( month << 5 ) | day;
+    }
+
     static public Calendar createGMTCalendar()
     {
         return Calendar.getInstance( GMT);
@@ -0,0 +1,248 @@
+/*--------------------------------------------------------------------------*
+ | Copyright (C) 2006 Christopher Kohlhaas                                  |
+ |                                                                          |
+ | This program is free software; you can redistribute it and/or modify     |
+ | it under the terms of the GNU General Public License as published by the |
+ | Free Software Foundation. A copy of the license has been included with   |
+ | these distribution in the COPYING file, if not go to www.fsf.org         |
+ |                                                                          |
+ | As a special exception, you are granted the permissions to link this     |
+ | program with every library, which license fulfills the Open Source       |
+ | Definition as published by the Open Source Initiative (OSI).             |
+ *--------------------------------------------------------------------------*/
+package org.rapla.components.util;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/** <p>Index of objects by a closed time interval [start, end], both
+ * in milliseconds.</p>
+ *
+ * <p>The intervals are kept in a balanced (AVL) tree ordered by start and
+ * augmented with the maximum end of each subtree, so a window query
+ * costs O(log n + k) for k matches. Intervals with an open end
+ * ({@link #OPEN_END}) are kept in a second tree, because they would
+ * otherwise disable the pruning by the maximum end for all their
+ * ancestors.</p>
+ *
+ * <p>Every object can only be indexed once. The interval is stored with
+ * the object, so an object can be removed even if the values it was
+ * indexed with have changed in the meantime.</p>
+ *
+ * <p>This class is not thread-safe.</p>
+ */
+public class IntervalIndex<T>
+{
+    /** use this as end for intervals without an end.*/
+    public static final long OPEN_END = Long.MAX_VALUE;
+
+    private Node<T> root;
+    private Node<T> openRoot;
+    private final Map<T,Node<T>> nodes = new HashMap<T,Node<T>>();
+    // used to order intervals with the same start
+    private long sequence;
+
+    static final class Node<T>
+    {
+        final T value;
+        final long start;
+        final long end;
+        final long seq;
+        long maxEnd;
+        int height = 1;
+        Node<T> left;
+        Node<T> right;
+
+        Node(T value, long start, long end, long seq)
+        {
+            this.value = value;
+            this.start = start;
+            this.end = end;
+            this.seq = seq;
+            this.maxEnd = end;
+        }
+
+        int compareTo(Node<T> other)
+        {
+            if (start != other.start)
+                return start < other.start ? -1 : 1;
+            if (seq != other.seq)
+                return seq < other.seq ? -1 : 1;
+            return 0;
+        }
+    }
+
+    /** adds the value with the interval [start,end]. If the value is already indexed,
+     * the old interval is replaced.*/
+    public void add(T value, long start, long end)
+    {
+        Assert.notNull(value);
+        Assert.isTrue(start <= end, "start must not be after end");
+        remove(value);
+        Node<T> node = new Node<T>(value, start, end, sequence++);
+        nodes.put(value, node);
+        if (end == OPEN_END)
+            openRoot = insert(openRoot, node);
+        else
+            root = insert(root, node);
+    }
+
+    /** @return true if the value was indexed.*/
+    public boolean remove(T value)
+    {
+        Node<T> node = nodes.remove(value);
+        if (node == null)
+            return false;
+        if (node.end == OPEN_END)
+            openRoot = delete(openRoot, node);
+        else
+            root = delete(root, node);
+        return true;
+    }
+
+    public boolean contains(T value)
+    {
+        return nodes.containsKey(value);
+    }
+
+    public int size()
+    {
+        return nodes.size();
+    }
+
+    public void clear()
+    {
+        root = null;
+        openRoot = null;
+        nodes.clear();
+    }
+
+    /** adds all values whose interval intersects the closed interval [start,end]
+     * to the result. The values are added in the order of their start.*/
+    public void query(long start, long end, Collection<? super T> result)
+    {
+        collect(root, start, end, result);
+        collect(openRoot, start, end, result);
+    }
+
+    private void collect(Node<T> node, long start, long end, Collection<? super T> result)
+    {
+        while (node != null)
+        {
+            // nothing in this subtree ends after the requested start
+            if (node.maxEnd < start)
+                return;
+            collect(node.left, start, end, result);
+            // the node and the right subtree start after the requested end
+            if (node.start > end)
+                return;
+            if (node.end >= start)
+                result.add(node.value);
+            node = node.right;
+        }
+    }
+
+    private static int height(Node<?> node)
+    {
+        return node == null ? 0 : node.height;
+    }
+
+    private static <T> void update(Node<T> node)
+    {
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+        long max = node.end;
+        if (node.left != null && node.left.maxEnd > max)
+            max = node.left.maxEnd;
+        if (node.right != null && node.right.maxEnd > max)
+            max = node.right.maxEnd;
+        node.maxEnd = max;
+    }
+
+    private static <T> Node<T> rotateRight(Node<T> node)
+    {
+        Node<T> left = node.left;
+        node.left = left.right;
+        left.right = node;
+        update(node);
+        update(left);
+        return left;
+    }
+
+    private static <T> Node<T> rotateLeft(Node<T> node)
+    {
+        Node<T> right = node.right;
+        node.right = right.left;
+        right.left = node;
+        update(node);
+        update(right);
+        return right;
+    }
+
+    private static <T> Node<T> balance(Node<T> node)
+    {
+        update(node);
+        int diff = height(node.left) - height(node.right);
+        if (diff > 1)
+        {
+            if (height(node.left.left) < height(node.left.right))
+                node.left = rotateLeft(node.left);
+            return rotateRight(node);
+        }
+        if (diff < -1)
+        {
+            if (height(node.right.right) < height(node.right.left))
+                node.right = rotateRight(node.right);
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static <T> Node<T> insert(Node<T> node, Node<T> newNode)
+    {
+        if (node == null)
+            return newNode;
+        if (newNode.compareTo(node) < 0)
+            node.left = insert(node.left, newNode);
+        else
+            node.right = insert(node.right, newNode);
+        return balance(node);
+    }
+
+    private static <T> Node<T> delete(Node<T> node, Node<T> toDelete)
+    {
+        if (node == null)
+            return null;
+        int comp = toDelete.compareTo(node);
+        if (comp < 0)
+        {
+            node.left = delete(node.left, toDelete);
+        }
+        else if (comp > 0)
+        {
+            node.right = delete(node.right, toDelete);
+        }
+        else
+        {
+            if (node.left == null)
+                return node.right;
+            if (node.right == null)
+                return node.left;
+            Node<T> min = node.right;
+            while (min.left != null)
+                min = min.left;
+            min.right = deleteMin(node.right);
+            min.left = node.left;
+            node = min;
+        }
+        return balance(node);
+    }
+
+    private static <T> Node<T> deleteMin(Node<T> node)
+    {
+        if (node.left == null)
+            return node.right;
+        node.left = deleteMin(node.left);
+        return balance(node);
+    }
+}
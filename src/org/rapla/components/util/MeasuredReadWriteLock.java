@@ -0,0 +1,262 @@
+/*--------------------------------------------------------------------------*
+ | Copyright (C) 2006 Christopher Kohlhaas                                  |
+ |                                                                          |
+ | This program is free software; you can redistribute it and/or modify     |
+ | it under the terms of the GNU General Public License as published by the |
+ | Free Software Foundation. A copy of the license has been included with   |
+ | these distribution in the COPYING file, if not go to www.fsf.org         |
+ |                                                                          |
+ | As a special exception, you are granted the permissions to link this     |
+ | program with every library, which license fulfills the Open Source       |
+ | Definition as published by the Open Source Initiative (OSI).             |
+ *--------------------------------------------------------------------------*/
+package org.rapla.components.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/** <p>A reentrant read/write lock that measures how long threads wait for
+ * the lock and how long they hold it.</p>
+ *
+ * <p>Only the outermost lock/unlock pair of a thread is measured, so
+ * reentrant calls don't distort the numbers. A thread that holds the write
+ * lock can also acquire the read lock, but not the other way round.</p>
+ *
+ * <p>If the lock is created as exclusive, the read lock is the same as the
+ * write lock. Use this if readers can't run in parallel.</p>
+ */
+public class MeasuredReadWriteLock implements ReadWriteLock
+{
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final MeasuredLock readLock;
+    private final MeasuredLock writeLock;
+
+    public MeasuredReadWriteLock()
+    {
+        this( false );
+    }
+
+    public MeasuredReadWriteLock(boolean exclusive)
+    {
+        writeLock = new MeasuredLock( "write", lock.writeLock() );
+        readLock = exclusive ? writeLock : new MeasuredLock( "read", lock.readLock() );
+    }
+
+    public Lock readLock()
+    {
+        return readLock;
+    }
+
+    public Lock writeLock()
+    {
+        return writeLock;
+    }
+
+    public boolean isExclusive()
+    {
+        return readLock == writeLock;
+    }
+
+    public boolean isWriteLockedByCurrentThread()
+    {
+        return lock.isWriteLockedByCurrentThread();
+    }
+
+    public Statistics getReadStatistics()
+    {
+        return readLock.getStatistics();
+    }
+
+    public Statistics getWriteStatistics()
+    {
+        return writeLock.getStatistics();
+    }
+
+    public void resetStatistics()
+    {
+        readLock.reset();
+        writeLock.reset();
+    }
+
+    public String toString()
+    {
+        if ( isExclusive() )
+        {
+            return writeLock.getStatistics().toString();
+        }
+        return readLock.getStatistics() + ", " + writeLock.getStatistics();
+    }
+
+    /** Snapshot of the times measured for one side of the lock. All times are in milliseconds.*/
+    public static class Statistics
+    {
+        private final String name;
+        private final long count;
+        private final long totalWait;
+        private final long maxWait;
+        private final long totalHold;
+        private final long maxHold;
+
+        Statistics(String name, long count, long totalWait, long maxWait, long totalHold, long maxHold)
+        {
+            this.name = name;
+            this.count = count;
+            this.totalWait = totalWait;
+            this.maxWait = maxWait;
+            this.totalHold = totalHold;
+            this.maxHold = maxHold;
+        }
+
+        /** the number of times the lock was acquired.*/
+        public long getCount()
+        {
+            return count;
+        }
+
+        public long getTotalWait()
+        {
+            return totalWait / 1000000;
+        }
+
+        public long getMaxWait()
+        {
+            return maxWait / 1000000;
+        }
+
+        public long getTotalHold()
+        {
+            return totalHold / 1000000;
+        }
+
+        public long getMaxHold()
+        {
+            return maxHold / 1000000;
+        }
+
+        public String toString()
+        {
+            long avgWait = count > 0 ? totalWait / count / 1000 : 0;
+            long avgHold = count > 0 ? totalHold / count / 1000 : 0;
+            return name + " lock: " + count + " times"
+                + ", wait avg " + avgWait + "us max " + getMaxWait() + "ms"
+                + ", hold avg " + avgHold + "us max " + getMaxHold() + "ms";
+        }
+    }
+
+    static final class MeasuredLock implements Lock
+    {
+        private final String name;
+        private final Lock lock;
+        // per thread: [0] nesting depth, [1] time of the outermost acquire
+        private final ThreadLocal<long[]> holds = new ThreadLocal<long[]>() {
+            protected long[] initialValue()
+            {
+                return new long[2];
+            }
+        };
+        private long count;
+        private long totalWait;
+        private long maxWait;
+        private long totalHold;
+        private long maxHold;
+
+        MeasuredLock(String name, Lock lock)
+        {
+            this.name = name;
+            this.lock = lock;
+        }
+
+        public void lock()
+        {
+            long start = System.nanoTime();
+            lock.lock();
+            acquired( start );
+        }
+
+        public void lockInterruptibly() throws InterruptedException
+        {
+            long start = System.nanoTime();
+            lock.lockInterruptibly();
+            acquired( start );
+        }
+
+        public boolean tryLock()
+        {
+            long start = System.nanoTime();
+            if ( !lock.tryLock() )
+            {
+                return false;
+            }
+            acquired( start );
+            return true;
+        }
+
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException
+        {
+            long start = System.nanoTime();
+            if ( !lock.tryLock( time, unit ) )
+            {
+                return false;
+            }
+            acquired( start );
+            return true;
+        }
+
+        public void unlock()
+        {
+            long[] hold = holds.get();
+            lock.unlock();
+            if ( hold[0] > 0 && --hold[0] == 0 )
+            {
+                long holdTime = System.nanoTime() - hold[1];
+                synchronized ( this )
+                {
+                    totalHold += holdTime;
+                    if ( holdTime > maxHold )
+                        maxHold = holdTime;
+                }
+            }
+        }
+
+        public Condition newCondition()
+        {
+            return lock.newCondition();
+        }
+
+        private void acquired(long start)
+        {
+            long[] hold = holds.get();
+            if ( hold[0]++ > 0 )
+            {
+                return;
+            }
+            long now = System.nanoTime();
+            hold[1] = now;
+            long waitTime = now - start;
+            synchronized ( this )
+            {
+                count++;
+                totalWait += waitTime;
+                if ( waitTime > maxWait )
+                    maxWait = waitTime;
+            }
+        }
+
+        synchronized Statistics getStatistics()
+        {
+            return new Statistics( name, count, totalWait, maxWait, totalHold, maxHold );
+        }
+
+        synchronized void reset()
+        {
+            count = 0;
+            totalWait = 0;
+            maxWait = 0;
+            totalHold = 0;
+            maxHold = 0;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+/*--------------------------------------------------------------------------*
+ | Copyright (C) 2006 Christopher Kohlhaas                                  |
+ |                                                                          |
+ | This program is free software; you can redistribute it and/or modify     |
+ | it under the terms of the GNU General Public License as published by the |
+ | Free Software Foundation. A copy of the license has been included with   |
+ | these distribution in the COPYING file, if not go to www.fsf.org         |
+ |                                                                          |
+ | As a special exception, you are granted the permissions to link this     |
+ | program with every library, which license fulfills the Open Source       |
+ | Definition as published by the Open Source Initiative (OSI).             |
+ *--------------------------------------------------------------------------*/
+package org.rapla.components.util.xml;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.NamespaceSupport;
+
+/** Reads the binary form written by the {@link BinaryXMLWriter} and passes it as SAX events
+ * to a ContentHandler, like a namespace aware xml parser would do. The xmlns attributes are passed
+ * as prefix mappings and not as attributes.
+ */
+public class BinaryXMLReader
+{
+    /** the maximum length of a string or a byte array in the stream */
+    public static final int MAX_LENGTH = 16 * 1024 * 1024;
+    /** the maximum number of attributes of an element */
+    static final int MAX_ATTRIBUTES = 4096;
+    private static final int BUFFER_SIZE = 8192;
+
+    private final List<String> table = new ArrayList<String>();
+    private final NamespaceSupport namespaces = new NamespaceSupport();
+    private final String[] parts = new String[3];
+    private final List<String> openElements = new ArrayList<String>();
+    private InputStream in;
+
+    /** returns if the stream starts with the {@link BinaryXMLWriter#MAGIC} bytes.
+     * The stream must support mark and is reset to the start.*/
+    public static boolean isBinary( InputStream in ) throws IOException
+    {
+        byte[] magic = BinaryXMLWriter.MAGIC;
+        in.mark( magic.length );
+        try
+        {
+            for ( int i = 0; i < magic.length; i++ )
+            {
+                if ( in.read() != magic[i] )
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+        finally
+        {
+            in.reset();
+        }
+    }
+
+    public void parse( InputStream in, ContentHandler handler ) throws IOException, SAXException
+    {
+        this.in = in;
+        table.clear();
+        namespaces.reset();
+        openElements.clear();
+        byte[] magic = BinaryXMLWriter.MAGIC;
+        for ( int i = 0; i < magic.length; i++ )
+        {
+            if ( in.read() != magic[i] )
+            {
+                throw new IOException( "Not a binary xml stream" );
+            }
+        }
+        handler.startDocument();
+        while ( true )
+        {
+            int token = in.read();
+            if ( token == BinaryXMLWriter.EOF )
+            {
+                break;
+            }
+            if ( token == BinaryXMLWriter.START )
+            {
+                startElement( handler );
+            }
+            else if ( token == BinaryXMLWriter.END )
+            {
+                endElement( handler );
+            }
+            else if ( token == BinaryXMLWriter.TEXT )
+            {
+                char[] text = readString().toCharArray();
+                handler.characters( text, 0, text.length );
+            }
+            else if ( token < 0 )
+            {
+                throw new EOFException( "Unexpected end of binary xml stream" );
+            }
+            else
+            {
+                throw new IOException( "Unknown token " + token );
+            }
+        }
+        if ( !openElements.isEmpty() )
+        {
+            throw new IOException( "Element " + openElements.get( openElements.size() - 1 ) + " not closed" );
+        }
+        handler.endDocument();
+    }
+
+    private void startElement( ContentHandler handler ) throws IOException, SAXException
+    {
+        String qName = readString();
+        int count = readLength( in, MAX_ATTRIBUTES );
+        namespaces.pushContext();
+        String[] attributes = new String[count * 2];
+        for ( int i = 0; i < attributes.length; i++ )
+        {
+            attributes[i] = readString();
+        }
+        for ( int i = 0; i < count; i++ )
+        {
+            String name = attributes[i * 2];
+            if ( name.equals( "xmlns" ) )
+            {
+                declarePrefix( handler, "", attributes[i * 2 + 1] );
+            }
+            else if ( name.startsWith( "xmlns:" ) )
+            {
+                declarePrefix( handler, name.substring( 6 ), attributes[i * 2 + 1] );
+            }
+        }
+        AttributesImpl atts = new AttributesImpl();
+        for ( int i = 0; i < count; i++ )
+        {
+            String name = attributes[i * 2];
+            if ( name.equals( "xmlns" ) || name.startsWith( "xmlns:" ) )
+            {
+                continue;
+            }
+            String[] attributeParts = processName( name, true );
+            atts.addAttribute( attributeParts[0], attributeParts[1], name, "CDATA", attributes[i * 2 + 1] );
+        }
+        String[] elementParts = processName( qName, false );
+        openElements.add( qName );
+        handler.startElement( elementParts[0], elementParts[1], qName, atts );
+    }
+
+    private void declarePrefix( ContentHandler handler, String prefix, String uri ) throws SAXException
+    {
+        namespaces.declarePrefix( prefix, uri );
+        handler.startPrefixMapping( prefix, uri );
+    }
+
+    private String[] processName( String qName, boolean isAttribute ) throws IOException
+    {
+        if ( namespaces.processName( qName, parts, isAttribute ) == null )
+        {
+            throw new IOException( "Undeclared prefix in " + qName );
+        }
+        return new String[] { parts[0], parts[1] };
+    }
+
+    private void endElement( ContentHandler handler ) throws IOException, SAXException
+    {
+        if ( openElements.isEmpty() )
+        {
+            throw new IOException( "End of element without start" );
+        }
+        String qName = openElements.remove( openElements.size() - 1 );
+        String[] elementParts = processName( qName, false );
+        handler.endElement( elementParts[0], elementParts[1], qName );
+        Enumeration<?> prefixes = namespaces.getDeclaredPrefixes();
+        while ( prefixes.hasMoreElements() )
+        {
+            handler.endPrefixMapping( (String) prefixes.nextElement() );
+        }
+        namespaces.popContext();
+    }
+
+    private String readString() throws IOException
+    {
+        int reference = (int) readNumber( in );
+        if ( reference == BinaryXMLWriter.ID )
+        {
+            String prefix = readString();
+            return prefix + "_" + readNumber( in );
+        }
+        if ( reference >= BinaryXMLWriter.TABLE_OFFSET )
+        {
+            int index = reference - BinaryXMLWriter.TABLE_OFFSET;
+            if ( index >= table.size() )
+            {
+                throw new IOException( "Invalid string reference " + index );
+            }
+            return table.get( index );
+        }
+        String value = readString( in );
+        if ( value.length() <= BinaryXMLWriter.MAX_TABLE_STRING )
+        {
+            table.add( value );
+        }
+        return value;
+    }
+
+    /** reads a string written by {@link BinaryXMLWriter#writeString(java.io.OutputStream, String)}. */
+    public static String readString( InputStream in ) throws IOException
+    {
+        return new String( readBytes( in ), "UTF-8" );
+    }
+
+    /** reads bytes written by {@link BinaryXMLWriter#writeBytes(java.io.OutputStream, byte[])}.
+     * The array grows with the bytes that are actually read, so a wrong length in a truncated stream
+     * doesn't allocate more memory than the stream contains.
+     * @throws IOException if the length is greater than {@link #MAX_LENGTH} */
+    public static byte[] readBytes( InputStream in ) throws IOException
+    {
+        int length = readLength( in, MAX_LENGTH );
+        byte[] bytes = new byte[Math.min( length, BUFFER_SIZE )];
+        int pos = 0;
+        while ( pos < length )
+        {
+            if ( pos == bytes.length )
+            {
+                byte[] newBytes = new byte[(int) Math.min( length, 2L * bytes.length )];
+                System.arraycopy( bytes, 0, newBytes, 0, pos );
+                bytes = newBytes;
+            }
+            int read = in.read( bytes, pos, bytes.length - pos );
+            if ( read < 0 )
+            {
+                throw new EOFException( "Unexpected end of binary xml stream" );
+            }
+            pos += read;
+        }
+        return bytes;
+    }
+
+    /** reads a length or a count written by {@link BinaryXMLWriter#writeNumber(java.io.OutputStream, long)}.
+     * @throws IOException if the number is greater than max */
+    public static int readLength( InputStream in, int max ) throws IOException
+    {
+        long length = readNumber( in );
+        if ( length < 0 || length > max )
+        {
+            throw new IOException( "Invalid length " + length + " in binary xml stream" );
+        }
+        return (int) length;
+    }
+
+    /** reads a number written by {@link BinaryXMLWriter#writeNumber(java.io.OutputStream, long)}. */
+    public static long readNumber( InputStream in ) throws IOException
+    {
+        long value = 0;
+        int shift = 0;
+        while ( true )
+        {
+            int b = in.read();
+            if ( b < 0 )
+            {
+                throw new EOFException( "Unexpected end of binary xml stream" );
+            }
+            value |= (long) ( b & 0x7f ) << shift;
+            if ( ( b & 0x80 ) == 0 )
+            {
+                return value;
+            }
+            shift += 7;
+            if ( shift > 63 )
+            {
+                throw new IOException( "Number too long" );
+            }
+        }
+    }
+}
@@ -0,0 +1,419 @@
+/*--------------------------------------------------------------------------*
+ | Copyright (C) 2006 Christopher Kohlhaas                                  |
+ |                                                                          |
+ | This program is free software; you can redistribute it and/or modify     |
+ | it under the terms of the GNU General Public License as published by the |
+ | Free Software Foundation. A copy of the license has been included with   |
+ | these distribution in the COPYING file, if not go to www.fsf.org         |
+ |                                                                          |
+ | As a special exception, you are granted the permissions to link this     |
+ | program with every library, which license fulfills the Open Source       |
+ | Definition as published by the Open Source Initiative (OSI).             |
+ *--------------------------------------------------------------------------*/
+package org.rapla.components.util.xml;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+
+/** <p>Converts the xml text that is written by an {@link XMLWriter} into a compact binary form,
+ * that can be read with the {@link BinaryXMLReader} without an xml parser.</p>
+ * <p>The stream starts with the {@link #MAGIC} bytes, followed by the tokens
+ * START (element name, attribute count, attribute names and values), TEXT (text) and END.
+ * It is terminated by EOF.
+ * Every string is written as a reference: 0 is followed by the length of the
+ * utf-8 bytes and the bytes, 1 by a reference to the prefix and the number of a
+ * value like <code>reservation_123</code>, and n &gt; 1 is the n-2th string of the table.
+ * New strings with up to {@link #MAX_TABLE_STRING} characters are added to the table, so
+ * repeated element names, attribute names and values are only written once.
+ * Numbers are written with 7 bits per byte, the highest bit marks that more bytes follow.</p>
+ * <p>Comments, processing instructions and whitespace between elements are skipped. Whitespace that is the
+ * only content of an element is kept.
+ * The text must be well formed, CDATA sections are not supported.</p>
+ */
+public class BinaryXMLWriter extends Writer
+{
+    public static final byte[] MAGIC = new byte[] { 0, 'R', 'B', 1 };
+
+    static final int EOF = 0;
+    static final int START = 1;
+    static final int END = 2;
+    static final int TEXT = 3;
+
+    static final int NEW_STRING = 0;
+    static final int ID = 1;
+    static final int TABLE_OFFSET = 2;
+
+    static final int MAX_TABLE_STRING = 64;
+
+    private final OutputStream out;
+    private final Map<String,Integer> table = new HashMap<String,Integer>();
+    private final StringBuffer buf = new StringBuffer();
+    private boolean inMarkup;
+    private char quote;
+    private boolean finished;
+    // whitespace is only written if it is the only content of an element
+    private boolean afterStartTag;
+    private String pendingWhitespace;
+
+    public BinaryXMLWriter( OutputStream out ) throws IOException
+    {
+        this.out = new BufferedOutputStream( out, 8192 );
+        this.out.write( MAGIC );
+    }
+
+    public void write( char[] cbuf, int off, int len ) throws IOException
+    {
+        int end = off + len;
+        for ( int i = off; i < end; i++ )
+        {
+            process( cbuf[i] );
+        }
+    }
+
+    public void write( String str, int off, int len ) throws IOException
+    {
+        int end = off + len;
+        for ( int i = off; i < end; i++ )
+        {
+            process( str.charAt( i ) );
+        }
+    }
+
+    public void write( int c ) throws IOException
+    {
+        process( (char) c );
+    }
+
+    private void process( char c ) throws IOException
+    {
+        if ( !inMarkup )
+        {
+            if ( c == '<' )
+            {
+                writeText();
+                inMarkup = true;
+            }
+            else
+            {
+                buf.append( c );
+            }
+            return;
+        }
+        if ( quote != 0 )
+        {
+            if ( c == quote )
+            {
+                quote = 0;
+            }
+            buf.append( c );
+            return;
+        }
+        boolean isTag = buf.length() == 0 || buf.charAt( 0 ) != '!';
+        if ( isTag && ( c == '"' || c == '\'' ) )
+        {
+            quote = c;
+            buf.append( c );
+            return;
+        }
+        if ( c == '>' && ( isTag || endsWithDashes() ) )
+        {
+            writeMarkup();
+            buf.setLength( 0 );
+            inMarkup = false;
+            return;
+        }
+        buf.append( c );
+    }
+
+    private boolean endsWithDashes()
+    {
+        int len = buf.length();
+        // a comment ends with -->, other declarations like doctype with >
+        if ( len < 3 || buf.charAt( 1 ) != '-' )
+        {
+            return true;
+        }
+        return len >= 5 && buf.charAt( len - 1 ) == '-' && buf.charAt( len - 2 ) == '-';
+    }
+
+    private void writeText() throws IOException
+    {
+        int len = buf.length();
+        boolean whitespace = true;
+        for ( int i = 0; i < len && whitespace; i++ )
+        {
+            whitespace = Character.isWhitespace( buf.charAt( i ) );
+        }
+        if ( !whitespace )
+        {
+            out.write( TEXT );
+            writeString( decode( buf.toString() ) );
+            afterStartTag = false;
+        }
+        else if ( afterStartTag && len > 0 )
+        {
+            // the content of an element like <name> </name>, written if the next tag ends the element
+            pendingWhitespace = buf.toString();
+        }
+        buf.setLength( 0 );
+    }
+
+    private void writeMarkup() throws IOException
+    {
+        int len = buf.length();
+        if ( len == 0 )
+        {
+            throw new IOException( "Empty tag" );
+        }
+        char first = buf.charAt( 0 );
+        String whitespace = pendingWhitespace;
+        pendingWhitespace = null;
+        afterStartTag = false;
+        if ( first == '!' || first == '?' )
+        {
+            return;
+        }
+        if ( first == '/' )
+        {
+            if ( whitespace != null )
+            {
+                out.write( TEXT );
+                writeString( whitespace );
+            }
+            out.write( END );
+            return;
+        }
+        boolean empty = buf.charAt( len - 1 ) == '/';
+        if ( empty )
+        {
+            len--;
+        }
+        int pos = 0;
+        while ( pos < len && !Character.isWhitespace( buf.charAt( pos ) ) )
+        {
+            pos++;
+        }
+        String name = buf.substring( 0, pos );
+        int attributeCount = 0;
+        String[] attributes = new String[8];
+        while ( true )
+        {
+            while ( pos < len && Character.isWhitespace( buf.charAt( pos ) ) )
+            {
+                pos++;
+            }
+            if ( pos >= len )
+            {
+                break;
+            }
+            int equals = buf.indexOf( "=", pos );
+            if ( equals < 0 || equals >= len )
+            {
+                throw new IOException( "Invalid attribute in <" + buf + ">" );
+            }
+            String attributeName = buf.substring( pos, equals ).trim();
+            pos = equals + 1;
+            while ( pos < len && Character.isWhitespace( buf.charAt( pos ) ) )
+            {
+                pos++;
+            }
+            if ( pos >= len )
+            {
+                throw new IOException( "Missing value of attribute " + attributeName + " in <" + buf + ">" );
+            }
+            char attributeQuote = buf.charAt( pos );
+            int valueEnd = buf.indexOf( String.valueOf( attributeQuote ), pos + 1 );
+            if ( ( attributeQuote != '"' && attributeQuote != '\'' ) || valueEnd < 0 || valueEnd >= len )
+            {
+                throw new IOException( "Unquoted value of attribute " + attributeName + " in <" + buf + ">" );
+            }
+            if ( attributeCount * 2 == attributes.length )
+            {
+                String[] newAttributes = new String[attributes.length * 2];
+                System.arraycopy( attributes, 0, newAttributes, 0, attributes.length );
+                attributes = newAttributes;
+            }
+            attributes[attributeCount * 2] = attributeName;
+            attributes[attributeCount * 2 + 1] = decode( buf.substring( pos + 1, valueEnd ) );
+            attributeCount++;
+            pos = valueEnd + 1;
+        }
+        out.write( START );
+        writeString( name );
+        writeNumber( out, attributeCount );
+        for ( int i = 0; i < attributeCount * 2; i++ )
+        {
+            writeString( attributes[i] );
+        }
+        if ( empty )
+        {
+            out.write( END );
+        }
+        else
+        {
+            afterStartTag = true;
+        }
+    }
+
+    private void writeString( String value ) throws IOException
+    {
+        Integer index = table.get( value );
+        if ( index != null )
+        {
+            writeNumber( out, index.intValue() + TABLE_OFFSET );
+            return;
+        }
+        int separator = getIdSeparator( value );
+        if ( separator > 0 )
+        {
+            writeNumber( out, ID );
+            writeString( value.substring( 0, separator ) );
+            writeNumber( out, Long.parseLong( value.substring( separator + 1 ) ) );
+            return;
+        }
+        writeNumber( out, NEW_STRING );
+        writeString( out, value );
+        if ( value.length() <= MAX_TABLE_STRING )
+        {
+            table.put( value, new Integer( table.size() ) );
+        }
+    }
+
+    /** returns the position of the underscore if the value has the form name_number and the number
+     * is written without leading zeros, -1 otherwise.*/
+    static int getIdSeparator( String value )
+    {
+        int separator = value.lastIndexOf( '_' );
+        int digits = value.length() - separator - 1;
+        if ( separator <= 0 || digits == 0 || digits > 18 )
+        {
+            return -1;
+        }
+        if ( digits > 1 && value.charAt( separator + 1 ) == '0' )
+        {
+            return -1;
+        }
+        for ( int i = separator + 1; i < value.length(); i++ )
+        {
+            char c = value.charAt( i );
+            if ( c < '0' || c > '9' )
+            {
+                return -1;
+            }
+        }
+        return separator;
+    }
+
+    static String decode( String text ) throws IOException
+    {
+        int amp = text.indexOf( '&' );
+        if ( amp < 0 )
+        {
+            return text;
+        }
+        StringBuffer result = new StringBuffer( text.length() );
+        int pos = 0;
+        while ( amp >= 0 )
+        {
+            result.append( text, pos, amp );
+            int semicolon = text.indexOf( ';', amp );
+            if ( semicolon < 0 )
+            {
+                throw new IOException( "Unterminated entity in " + text );
+            }
+            String entity = text.substring( amp + 1, semicolon );
+            if ( entity.equals( "lt" ) )
+            {
+                result.append( '<' );
+            }
+            else if ( entity.equals( "gt" ) )
+            {
+                result.append( '>' );
+            }
+            else if ( entity.equals( "amp" ) )
+            {
+                result.append( '&' );
+            }
+            else if ( entity.equals( "quot" ) )
+            {
+                result.append( '"' );
+            }
+            else if ( entity.equals( "apos" ) )
+            {
+                result.append( '\'' );
+            }
+            else if ( entity.startsWith( "#x" ) )
+            {
+                result.append( Character.toChars( Integer.parseInt( entity.substring( 2 ), 16 ) ) );
+            }
+            else if ( entity.startsWith( "#" ) )
+            {
+                result.append( Character.toChars( Integer.parseInt( entity.substring( 1 ) ) ) );
+            }
+            else
+            {
+                throw new IOException( "Unknown entity &" + entity + ";" );
+            }
+            pos = semicolon + 1;
+            amp = text.indexOf( '&', pos );
+        }
+        result.append( text, pos, text.length() );
+        return result.toString();
+    }
+
+    /** writes the utf-8 bytes of the string with a length prefix. */
+    public static void writeString( OutputStream out, String value ) throws IOException
+    {
+        writeBytes( out, value.getBytes( "UTF-8" ) );
+    }
+
+    /** writes the bytes with a length prefix. */
+    public static void writeBytes( OutputStream out, byte[] bytes ) throws IOException
+    {
+        writeNumber( out, bytes.length );
+        out.write( bytes );
+    }
+
+    /** writes a not negative number with 7 bits per byte. */
+    public static void writeNumber( OutputStream out, long value ) throws IOException
+    {
+        while ( value >= 0x80 )
+        {
+            out.write( (int) ( value & 0x7f ) | 0x80 );
+            value >>>= 7;
+        }
+        out.write( (int) value );
+    }
+
+    public void flush() throws IOException
+    {
+        out.flush();
+    }
+
+    /** writes the end of the stream and flushes it. The underlying stream is not closed. */
+    public void finish() throws IOException
+    {
+        if ( finished )
+        {
+            return;
+        }
+        if ( inMarkup )
+        {
+            throw new IOException( "Unterminated tag <" + buf );
+        }
+        writeText();
+        out.write( EOF );
+        out.flush();
+        finished = true;
+    }
+
+    public void close() throws IOException
+    {
+        finish();
+        out.close();
+    }
+}
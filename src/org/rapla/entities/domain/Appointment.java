@@ -109,6 +109,12 @@ public interface Appointment extends Entity<Appointment>, Comparable<Appointment
     A block is in the period if its starttime<end or its endtime>start. You can specify if exceptions should be excluded.
     */
     void createBlocks(Date start,Date end,Collection<AppointmentBlock> blocks, boolean excludeExceptions);
+
+    /** adds the start and end of all Appointment-blocks in the given period to the blocks array, without creating an
+    AppointmentBlock for each of them. The array is not cleared before, so it can collect the blocks of several appointments.
+    @see #createBlocks(Date, Date, Collection, boolean)
+    */
+    void createBlocks(long start,long end,AppointmentBlockArray blocks, boolean excludeExceptions);
     
     final Appointment[] EMPTY_ARRAY = new Appointment[0];
 }
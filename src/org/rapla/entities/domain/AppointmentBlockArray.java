@@ -0,0 +1,118 @@
+/*--------------------------------------------------------------------------*
+ | Copyright (C) 2006 Christopher Kohlhaas                                  |
+ |                                                                          |
+ | This program is free software; you can redistribute it and/or modify     |
+ | it under the terms of the GNU General Public License as published by the |
+ | Free Software Foundation. A copy of the license has been included with   |
+ | these distribution in the COPYING file, if not go to www.fsf.org         |
+ |                                                                          |
+ | As a special exception, you are granted the permissions to link this     |
+ | program with every library, which license fulfills the Open Source       |
+ | Definition as published by the Open Source Initiative (OSI).             |
+ *--------------------------------------------------------------------------*/
+package org.rapla.entities.domain;
+
+/**
+ * The start and end of appointment blocks in primitive arrays. Use it instead of a collection of
+ * {@link AppointmentBlock}s if you only need the times of many blocks. The arrays grow as needed and are
+ * kept on {@link #clear()}, so an instance can be reused for the blocks of many appointments.
+ * <p>This class is not thread-safe.</p>
+ * @see Appointment#createBlocks(long, long, AppointmentBlockArray, boolean)
+ */
+public final class AppointmentBlockArray
+{
+    private long[] starts;
+    private long[] ends;
+    private boolean[] exceptions;
+    private int size;
+
+    public AppointmentBlockArray()
+    {
+        this( 16 );
+    }
+
+    public AppointmentBlockArray( int capacity )
+    {
+        capacity = Math.max( 1, capacity );
+        starts = new long[capacity];
+        ends = new long[capacity];
+        exceptions = new boolean[capacity];
+    }
+
+    public void add( long start, long end, boolean isException )
+    {
+        ensureCapacity( size + 1 );
+        starts[size] = start;
+        ends[size] = end;
+        exceptions[size] = isException;
+        size++;
+    }
+
+    /** adds all blocks of the other array */
+    public void addAll( AppointmentBlockArray other )
+    {
+        int count = other.size;
+        ensureCapacity( size + count );
+        System.arraycopy( other.starts, 0, starts, size, count );
+        System.arraycopy( other.ends, 0, ends, size, count );
+        System.arraycopy( other.exceptions, 0, exceptions, size, count );
+        size += count;
+    }
+
+    /** shrinks the arrays to the number of blocks, e.g. before the array is kept in a cache */
+    public void trimToSize()
+    {
+        if ( size < starts.length )
+        {
+            resize( Math.max( 1, size ) );
+        }
+    }
+
+    private void ensureCapacity( int capacity )
+    {
+        if ( capacity > starts.length )
+        {
+            resize( Math.max( capacity, starts.length * 2 ) );
+        }
+    }
+
+    private void resize( int capacity )
+    {
+        long[] newStarts = new long[capacity];
+        long[] newEnds = new long[capacity];
+        boolean[] newExceptions = new boolean[capacity];
+        System.arraycopy( starts, 0, newStarts, 0, size );
+        System.arraycopy( ends, 0, newEnds, 0, size );
+        System.arraycopy( exceptions, 0, newExceptions, 0, size );
+        starts = newStarts;
+        ends = newEnds;
+        exceptions = newExceptions;
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    /** removes all blocks, but keeps the arrays */
+    public void clear()
+    {
+        size = 0;
+    }
+
+    public long getStart( int index )
+    {
+        return starts[index];
+    }
+
+    public long getEnd( int index )
+    {
+        return ends[index];
+    }
+
+    /** Returns if the block is an exception from the appointment rule */
+    public boolean isException( int index )
+    {
+        return exceptions[index];
+    }
+}
@@ -0,0 +1,229 @@
+/*--------------------------------------------------------------------------*
+ | Copyright (C) 2006 Christopher Kohlhaas                                  |
+ |                                                                          |
+ | This program is free software; you can redistribute it and/or modify     |
+ | it under the terms of the GNU General Public License as published by the |
+ | Free Software Foundation. A copy of the license has been included with   |
+ | these distribution in the COPYING file, if not go to www.fsf.org         |
+ |                                                                          |
+ | As a special exception, you are granted the permissions to link this     |
+ | program with every library, which license fulfills the Open Source       |
+ | Definition as published by the Open Source Initiative (OSI).             |
+ *--------------------------------------------------------------------------*/
+package org.rapla.entities.domain.internal;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.rapla.entities.domain.AppointmentBlockArray;
+
+/** <p>The expanded blocks of the persistant repeating appointments, so the calendar views, the conflict finder
+ * and the security checks don't expand the same appointment again and again.</p>
+ * <p>The blocks are cached by appointment id and by requested period. The version and a weak reference to the appointment
+ * are stored with its blocks, so the blocks of an older version or of another instance are never returned and the cache
+ * doesn't keep removed appointments and their reservations in memory. The entries of changed and removed appointments
+ * should nevertheless be removed with {@link #remove(Object)} to free the memory.</p>
+ * <p>The cache holds at most the given number of blocks. The appointments that were not used for the longest time
+ * are removed first. Each appointment keeps the blocks of at most {@link #MAX_PERIODS} periods.</p>
+ * <p>Each {@link org.rapla.storage.LocalCache} owns the cache for its appointments and clears it with its entities.
+ * This class is thread-safe.</p>
+ * @see AppointmentImpl#setBlockCache
+ */
+public final class AppointmentBlockCache
+{
+    static final int MAX_PERIODS = 8;
+    static final int DEFAULT_MAX_BLOCKS = 100000;
+
+    private final int maxBlocks;
+    private final LinkedHashMap<Object,Entry> entries = new LinkedHashMap<Object,Entry>( 256, 0.75f, true );
+    private int blockCount;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public AppointmentBlockCache()
+    {
+        this( DEFAULT_MAX_BLOCKS );
+    }
+
+    AppointmentBlockCache( int maxBlocks )
+    {
+        this.maxBlocks = maxBlocks;
+    }
+
+    /** returns the cached blocks or null. The returned array must not be modified. */
+    synchronized AppointmentBlockArray get( AppointmentImpl appointment, long start, long end, boolean excludeExceptions )
+    {
+        Entry entry = entries.get( appointment.getId() );
+        if ( entry != null && entry.matches( appointment ) )
+        {
+            for ( int i = 0; i < entry.size; i++ )
+            {
+                if ( entry.starts[i] == start && entry.ends[i] == end && entry.excludeExceptions[i] == excludeExceptions )
+                {
+                    hits++;
+                    return entry.blocks[i];
+                }
+            }
+        }
+        misses++;
+        return null;
+    }
+
+    /** adds the blocks of the period. The array must not be modified after the call. */
+    synchronized void put( AppointmentImpl appointment, long start, long end, boolean excludeExceptions, AppointmentBlockArray blocks )
+    {
+        if ( blocks.size() > maxBlocks )
+        {
+            return;
+        }
+        Object id = appointment.getId();
+        Entry entry = entries.get( id );
+        if ( entry == null || !entry.matches( appointment ) )
+        {
+            if ( entry != null )
+            {
+                blockCount -= entry.getBlockCount();
+            }
+            entry = new Entry( appointment );
+            entries.put( id, entry );
+        }
+        // the oldest period is replaced if all are used
+        int index = entry.size < MAX_PERIODS ? entry.size++ : entry.next++ % MAX_PERIODS;
+        if ( entry.blocks[index] != null )
+        {
+            blockCount -= entry.blocks[index].size();
+        }
+        entry.starts[index] = start;
+        entry.ends[index] = end;
+        entry.excludeExceptions[index] = excludeExceptions;
+        entry.blocks[index] = blocks;
+        blockCount += blocks.size();
+        Iterator<Map.Entry<Object,Entry>> it = entries.entrySet().iterator();
+        while ( blockCount > maxBlocks && it.hasNext() )
+        {
+            Entry eldest = it.next().getValue();
+            if ( eldest == entry )
+            {
+                continue;
+            }
+            blockCount -= eldest.getBlockCount();
+            evictions++;
+            it.remove();
+        }
+    }
+
+    /** removes the blocks of the appointment */
+    public synchronized void remove( Object id )
+    {
+        Entry entry = entries.remove( id );
+        if ( entry != null )
+        {
+            blockCount -= entry.getBlockCount();
+        }
+    }
+
+    public synchronized void clear()
+    {
+        entries.clear();
+        blockCount = 0;
+    }
+
+    public synchronized Statistics getStatistics()
+    {
+        return new Statistics( entries.size(), blockCount, hits, misses, evictions );
+    }
+
+    public String toString()
+    {
+        return getStatistics().toString();
+    }
+
+    static private final class Entry
+    {
+        // a reloaded appointment can have the same id and version with other times
+        final WeakReference<AppointmentImpl> appointment;
+        final long version;
+        final long[] starts = new long[MAX_PERIODS];
+        final long[] ends = new long[MAX_PERIODS];
+        final boolean[] excludeExceptions = new boolean[MAX_PERIODS];
+        final AppointmentBlockArray[] blocks = new AppointmentBlockArray[MAX_PERIODS];
+        int size;
+        int next;
+
+        Entry( AppointmentImpl appointment )
+        {
+            this.appointment = new WeakReference<AppointmentImpl>( appointment );
+            this.version = appointment.getVersion();
+        }
+
+        boolean matches( AppointmentImpl other )
+        {
+            return appointment.get() == other && version == other.getVersion();
+        }
+
+        int getBlockCount()
+        {
+            int count = 0;
+            for ( int i = 0; i < size; i++ )
+            {
+                count += blocks[i].size();
+            }
+            return count;
+        }
+    }
+
+    /** A snapshot of the usage of the cache */
+    public static final class Statistics
+    {
+        private final int appointmentCount;
+        private final int blockCount;
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+
+        Statistics( int appointmentCount, int blockCount, long hits, long misses, long evictions )
+        {
+            this.appointmentCount = appointmentCount;
+            this.blockCount = blockCount;
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+        }
+
+        /** the number of appointments with cached blocks */
+        public int getAppointmentCount()
+        {
+            return appointmentCount;
+        }
+
+        public int getBlockCount()
+        {
+            return blockCount;
+        }
+
+        public long getHits()
+        {
+            return hits;
+        }
+
+        public long getMisses()
+        {
+            return misses;
+        }
+
+        /** the number of appointments that were removed to keep the size of the cache */
+        public long getEvictions()
+        {
+            return evictions;
+        }
+
+        public String toString()
+        {
+            return "appointment block cache: " + appointmentCount + " appointments, " + blockCount + " blocks, " + hits + " hits, "
+                + misses + " misses, " + evictions + " evictions";
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.rapla.components.util.Tools;
 import org.rapla.entities.RaplaType;
 import org.rapla.entities.domain.Appointment;
 import org.rapla.entities.domain.AppointmentBlock;
+import org.rapla.entities.domain.AppointmentBlockArray;
 import org.rapla.entities.domain.Repeating;
 import org.rapla.entities.domain.RepeatingType;
 import org.rapla.entities.domain.Reservation;
@@ -40,6 +41,7 @@ public class AppointmentImpl extends SimpleEntity<Appointment> implements Appoin
     private Date end;
     private RepeatingImpl repeating;
     private boolean isWholeDaysSet = false;
+    private transient AppointmentBlockCache blockCache;
     /** set DE (DebugDisabled) to false for debuging output. You must change in code
         because this flag is final for efficience reasons.*/
     public final static boolean DE = true;
@@ -324,11 +326,46 @@ public class AppointmentImpl extends SimpleEntity<Appointment> implements Appoin
         Assert.notNull(blocks);
         Assert.notNull(start,"You must set a startDate");
         Assert.notNull(end, "You must set an endDate");
-        processBlocks(start.getTime(), end.getTime(), blocks, excludeExceptions);
+        AppointmentBlockArray array = new AppointmentBlockArray();
+        addBlocks(start.getTime(), end.getTime(), array, excludeExceptions);
+        for ( int i=0;i<array.size();i++)
+        {
+            blocks.add(new AppointmentBlock(array.getStart( i ),array.getEnd( i ),this, array.isException( i )));
+        }
+    }
+
+    public void createBlocks(long start,long end,AppointmentBlockArray blocks, boolean excludeExceptions) {
+        Assert.notNull(blocks);
+        addBlocks(start, end, blocks, excludeExceptions);
+    }
+
+    /** sets the cache for the blocks of the appointment. It is set by the LocalCache that holds the persistant appointment
+     * and reset to null, when the appointment is removed from the LocalCache. Clones don't use the cache. */
+    public void setBlockCache(AppointmentBlockCache blockCache) {
+        this.blockCache = blockCache;
+    }
+
+    /** adds the blocks of a persistant repeating appointment from the AppointmentBlockCache. The blocks of the other
+     * appointments are not cached, because they can change without a new version.*/
+    private void addBlocks(long start,long end,AppointmentBlockArray blocks, boolean excludeExceptions) {
+        AppointmentBlockCache cache = blockCache;
+        if ( cache == null || repeating == null || getId() == null || !isPersistant()) {
+            processBlocks(start, end, blocks, excludeExceptions);
+            return;
+        }
+        AppointmentBlockArray cached = cache.get( this, start, end, excludeExceptions);
+        if ( cached == null) {
+            cached = new AppointmentBlockArray();
+            processBlocks(start, end, cached, excludeExceptions);
+            cached.trimToSize();
+            cache.put( this, start, end, excludeExceptions, cached);
+        }
+        blocks.addAll( cached );
     }
+
     /* returns true if there is at least one block in an array. If the passed blocks array is not null it will contain all blocks
      * that overlap the start,end period after a call.*/
-    private boolean processBlocks(long start,long end,Collection<AppointmentBlock> blocks, boolean excludeExceptions) {
+    private boolean processBlocks(long start,long end,AppointmentBlockArray blocks, boolean excludeExceptions) {
         boolean checkOnly = (blocks == null);
         long c1 = start;
         long c2 = end;
@@ -338,7 +375,7 @@ public class AppointmentImpl extends SimpleEntity<Appointment> implements Appoin
         if (repeating==null) {
             if (s <c2 && e>c1) {
                 if ( !checkOnly )
-                    blocks.add(new AppointmentBlock(s,e,this, false));
+                    blocks.add(s,e, false);
                 return true;
             } 
             return false;
@@ -350,7 +387,7 @@ public class AppointmentImpl extends SimpleEntity<Appointment> implements Appoin
             if (checkOnly) {
                 return true;
             } else {
-                blocks.add(new AppointmentBlock(s,e,this, repeating.isException(s)));
+                blocks.add(s,e, repeating.isException(s));
             }
         }
         
@@ -382,7 +419,7 @@ public class AppointmentImpl extends SimpleEntity<Appointment> implements Appoin
                     if ( checkOnly ) {
                         return true;
                     } else {
-                        blocks.add( new AppointmentBlock(currentPos,currentPos + blockLength,this, isException));
+                        blocks.add( currentPos,currentPos + blockLength, isException);
                     }
                 }
             }
@@ -552,18 +589,18 @@ public class AppointmentImpl extends SimpleEntity<Appointment> implements Appoin
     private boolean overlapsHard( AppointmentImpl a2 )
     {
         Repeating r2 = a2.getRepeating();
-        Collection<AppointmentBlock> array = new ArrayList<AppointmentBlock>(); 
+        AppointmentBlockArray array = new AppointmentBlockArray(); 
         Date maxEnd =r2.getEnd();
         if ( maxEnd == null)
         {
             // overlaps will be checked two  250 weeks (5 years) from now on
             maxEnd = new Date(a2.getStart().getTime() + DateTools.MILLISECONDS_PER_WEEK * 250); 
         }
-        createBlocks( getStart(), maxEnd, array);
-        for ( AppointmentBlock block:array)
+        addBlocks( getStart().getTime(), maxEnd.getTime(), array, true);
+        for ( int i=0;i<array.size();i++)
         {
-            long start = block.getStart();
-            long end = block.getEnd();
+            long start = array.getStart( i );
+            long end = array.getEnd( i );
             if (a2.overlaps( start, end, true))
             {
                 return true;
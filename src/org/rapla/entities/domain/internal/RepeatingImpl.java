@@ -11,7 +11,6 @@
  | Definition as published by the Open Source Initiative (OSI).             |
  *--------------------------------------------------------------------------*/
 package org.rapla.entities.domain.internal;
-import java.util.Calendar;
 import java.util.Date;
 import java.util.TreeSet;
 
@@ -35,6 +34,7 @@ class RepeatingImpl implements Repeating,java.io.Serializable {
     private RepeatingType repeatingType;
     private TreeSet<Date> exceptions;
     transient private Date[] exceptionArray;
+    transient private long[] exceptionTimes;
     transient private boolean arrayUpToDate = false;
     private Appointment appointment;
     private long frequency;
@@ -162,21 +162,12 @@ class RepeatingImpl implements Repeating,java.io.Serializable {
         if ( !isFixedIntervalLength())
         {
             int counts = (int) ((number -1) * interval) ;
-            Calendar cal= DateTools.createGMTCalendar();
-            cal.setTime( appointment.getStart());
+            long time = appointment.getStart().getTime();
             for ( int i=0;i< counts;i++)
             {
-                if ( monthly)
-                {
-                    gotoNextMonth( cal, cal.getTime());
-                }
-                else
-                {
-                    gotoNextYear( cal, cal.getTime());
-                }
-                
+                time = getNextStart( time );
             }
-            return cal.getTime();
+            return new Date( time );
         }
         else
         {
@@ -212,20 +203,19 @@ class RepeatingImpl implements Repeating,java.io.Serializable {
         if (!hasExceptions())
             return false;
 
-        Date[] exceptions = getExceptions();
-        if (exceptions.length == 0) {
-            //          System.out.println("no exceptions");
-            return false;
-        }
-        for (int i=0;i<exceptions.length;i++) {
-            //System.out.println("Comparing exception " + exceptions[i] + " with " + new Date(time));
-            if (exceptions[i].getTime()<=time
-                && time<exceptions[i].getTime() + DateTools.MILLISECONDS_PER_DAY) {
-                //System.out.println("Exception matched " + exceptions[i]);
-                return true;
+        long[] exceptionTimes = getExceptionTimes();
+        // the exceptions are sorted, so only the last exception that starts before the time can match
+        int low = 0;
+        int high = exceptionTimes.length - 1;
+        while ( low <= high ) {
+            int middle = (low + high) >>> 1;
+            if ( exceptionTimes[middle] <= time ) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
             }
         }
-        return false;
+        return high >= 0 && time < exceptionTimes[high] + DateTools.MILLISECONDS_PER_DAY;
     }
 
     public int getNumber() {
@@ -246,21 +236,14 @@ class RepeatingImpl implements Repeating,java.io.Serializable {
         }
         else
         {
-            Calendar cal= DateTools.createGMTCalendar();
+            long time = System.currentTimeMillis();
             int number = 0;
             do 
             {
                 number ++;
-                if ( monthly)
-                {
-                    gotoNextMonth( cal, cal.getTime());
-                }
-                else
-                {
-                    gotoNextYear( cal, cal.getTime());
-                }
+                time = getNextStart( time );
             }
-            while ( cal.getTime().before( end));
+            while ( time < end.getTime());
             return number;
         }            
             
@@ -330,6 +313,7 @@ class RepeatingImpl implements Repeating,java.io.Serializable {
         dest.end = source.end;
         dest.interval = source.interval;
         dest.exceptions = (TreeSet<Date>) ((source.exceptions != null) ? source.exceptions.clone(): null);
+        dest.arrayUpToDate = false;
 	}
     
     public void setFrom(Repeating repeating)
@@ -344,14 +328,26 @@ class RepeatingImpl implements Repeating,java.io.Serializable {
     private static Date[] DATE_ARRAY = new Date[0];
     public Date[] getExceptions() {
         if (!arrayUpToDate) {
+            Date[] newExceptionArray;
             if (exceptions != null)
-                exceptionArray = (Date[])exceptions.toArray(DATE_ARRAY);
+                newExceptionArray = (Date[])exceptions.toArray(DATE_ARRAY);
             else
-                exceptionArray = DATE_ARRAY;
+                newExceptionArray = DATE_ARRAY;
+            long[] newExceptionTimes = new long[newExceptionArray.length];
+            for (int i=0;i<newExceptionArray.length;i++)
+                newExceptionTimes[i] = newExceptionArray[i].getTime();
+            exceptionArray = newExceptionArray;
+            exceptionTimes = newExceptionTimes;
             arrayUpToDate = true;
         }
         return exceptionArray;
     }
+
+    /** the times of the exceptions in ascending order */
+    private long[] getExceptionTimes() {
+        getExceptions();
+        return exceptionTimes;
+    }
     public boolean hasExceptions() {
         return exceptions != null && exceptions.size()>0;
     }
@@ -362,52 +358,44 @@ class RepeatingImpl implements Repeating,java.io.Serializable {
         {
             return getFixedIntervalLength();
         }
-        
-        Date startDate = new Date(s);
-        Calendar cal= DateTools.createGMTCalendar();
-        if ( monthly)
-        {
-            gotoNextMonth( cal, startDate);
-        }
-        else
-        {
-            gotoNextYear( cal, startDate);
-        }
-        Date newDate = cal.getTime();
-        long newTime = newDate.getTime(); 
+        long newTime = getNextStart( s );
         Assert.isTrue( newTime > s );
         return  newTime- s;
-        
-        // yearly
-        
     }
 
-    private void gotoNextMonth( Calendar cal, Date beginDate )
+    /** returns the start of the next monthly or yearly repeating. The date is computed without a Calendar,
+     *  because this is done for every block of the appointment. */
+    private long getNextStart( long s )
     {
-        cal.setTime( appointment.getStart());
-        int dayofweekinmonth = cal.get( Calendar.DAY_OF_WEEK_IN_MONTH);
-        cal.setTime( beginDate);
-        cal.add( Calendar.WEEK_OF_YEAR, 4);
-        while ( cal.get( Calendar.DAY_OF_WEEK_IN_MONTH) != dayofweekinmonth )
+        long appointmentStart = appointment.getStart().getTime();
+        if ( monthly)
         {
-            //System.out.println( new MonthMapper().getName(month));
-            cal.add( Calendar.WEEK_OF_YEAR, 1);
+            // at least 4 weeks later, in the same week of the month as the start of the appointment
+            int weekOfMonth = ( DateTools.getDayOfMonth( appointmentStart ) - 1) / 7;
+            long next = s + 4 * DateTools.MILLISECONDS_PER_WEEK;
+            while ( ( DateTools.getDayOfMonth( next ) - 1) / 7 != weekOfMonth )
+            {
+                next += DateTools.MILLISECONDS_PER_WEEK;
+            }
+            return next;
         }
-    }
-
-    private void gotoNextYear( Calendar cal, Date beginDate )
-    {
-        cal.setTime( appointment.getStart());
-        int dayOfMonth = cal.get( Calendar.DAY_OF_MONTH);
-        int month = cal.get( Calendar.MONTH);
-        cal.setTime( beginDate);
-        cal.add( Calendar.YEAR,1);
-        while ( cal.get( Calendar.DAY_OF_MONTH) != dayOfMonth)
+        // yearly on the day of the start of the appointment. A 29th of february is skipped in the other years.
+        int dayOfMonth = DateTools.getDayOfMonth( appointmentStart );
+        int month = DateTools.getMonth( s );
+        int year = DateTools.getYear( s ) + 1;
+        int day = Math.min( DateTools.getDayOfMonth( s ), DateTools.getDaysInMonth( year, month ));
+        if ( day != dayOfMonth )
         {
-            cal.add( Calendar.YEAR,1);
-            cal.set( Calendar.MONTH, month);
-            cal.set( Calendar.DAY_OF_MONTH, dayOfMonth);
+            month = DateTools.getMonth( appointmentStart );
+            do
+            {
+                year++;
+            }
+            while ( dayOfMonth > DateTools.getDaysInMonth( year, month ));
+            day = dayOfMonth;
         }
+        long timeOfDay = s - DateTools.toDate( DateTools.getYear( s ), DateTools.getMonth( s ), DateTools.getDayOfMonth( s ));
+        return DateTools.toDate( year, month, day) + timeOfDay;
     }
 
     final public boolean isFixedIntervalLength()
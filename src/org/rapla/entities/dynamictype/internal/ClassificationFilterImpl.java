@@ -12,18 +12,15 @@
  *--------------------------------------------------------------------------*/
 package org.rapla.entities.dynamictype.internal;
 
-import java.util.Date;
 import java.util.Iterator;
 import java.util.LinkedList;
 
 import org.rapla.components.util.Assert;
 import org.rapla.components.util.iterator.IteratorChain;
 import org.rapla.components.util.iterator.NestedIterator;
-import org.rapla.entities.Category;
 import org.rapla.entities.EntityNotFoundException;
 import org.rapla.entities.ReadOnlyException;
 import org.rapla.entities.dynamictype.Attribute;
-import org.rapla.entities.dynamictype.AttributeType;
 import org.rapla.entities.dynamictype.Classification;
 import org.rapla.entities.dynamictype.ClassificationFilter;
 import org.rapla.entities.dynamictype.ClassificationFilterRule;
@@ -50,6 +47,7 @@ public final class ClassificationFilterImpl
     LinkedList<ClassificationFilterRuleImpl> list = new LinkedList<ClassificationFilterRuleImpl>();
     transient boolean arrayUpToDate = false;
     transient ClassificationFilterRuleImpl[] rulesArray;
+    transient volatile CompiledRules compiledRules;
     ReferenceHandler referenceHandler = new ReferenceHandler();
 
     ClassificationFilterImpl(DynamicTypeImpl dynamicType) {
@@ -62,6 +60,7 @@ public final class ClassificationFilterImpl
         {
              it.next().resolveEntities( resolver );
         }
+        compiledRules = null;
     }
 
     public DynamicType getType() {
@@ -128,6 +127,7 @@ public final class ClassificationFilterImpl
         else
             list.add(index, rule);
         arrayUpToDate = false;
+        compiledRules = null;
     }
 
     
@@ -177,12 +177,14 @@ public final class ClassificationFilterImpl
         checkWritable();
         list.clear();
         arrayUpToDate = false;
+        compiledRules = null;
     }
 
     public void removeRule(int index) {
         checkWritable();
         list.remove(index);
         arrayUpToDate = false;
+        compiledRules = null;
         //System.out.println("Rule " + index + " for '" + dynamicType + "' removed.");
     }
 
@@ -196,139 +198,42 @@ public final class ClassificationFilterImpl
     public boolean matches(Classification classification) {
         if (!getType().equals(classification.getType()))
             return false;
-        ClassificationFilterRule[] rules = getRules();
+        CompiledFilterRule[] rules = getCompiledRules();
         for (int i=0;i<rules.length;i++) {
             Object value = classification.getValue(rules[i].getAttribute());
-            if (!matches(rules[i], value))
+            if (!rules[i].matches(value))
                 return false;
         }
         return true;
     }
 
-    boolean matches(ClassificationFilterRule rule,Object value) {
-        Object[] ruleValues = rule.getValues();
-        String[] ruleOperators = rule.getOperators();
-        for (int i=0;i<ruleValues.length;i++) {
-            if (matches(rule.getAttribute(),ruleOperators[i],ruleValues[i],value))
-                return true;
-        }
-        return false;
-    }
-
-    private boolean matches(Attribute attribute,String operator,Object ruleValue,Object value) {
-        AttributeType type = attribute.getType();
-        if (type.equals(AttributeType.CATEGORY))
-        {
-            Category category = (Category)ruleValue;
-            if (category == null)
-            {
-                return (value == null);
-            }
-            if ( operator.equals("=")  ) 
-            {
-                return value != null && category.equals((Category)value);
-            } 
-            else if ( operator.equals("is") )
-            {
-                return value != null && (category.equals((Category)value)
-                        || category.isAncestorOf((Category)value));
-            }
-        }
-        else if (type.equals( AttributeType.STRING))
-        {
-            if (ruleValue == null)
-            {
-                return (value == null);
-            }
-            if ( operator.equals("is") || operator.equals("=")) 
-            {
-                return  value != null && value.equals( ruleValue );
-            } 
-            else if ( operator.equals("contains") )
-            {
-                String string = ((String)ruleValue).toLowerCase();
-                if (string == null)
-                    return true;
-                string = string.trim();
-                if (value == null)
-                    return string.length() == 0;
-                return (((String)value).toLowerCase().indexOf(string)>=0);
-            }
-            else if ( operator.equals("starts") )
-            {
-                String string = ((String)ruleValue).toLowerCase();
-                if (string == null)
-                    return true;
-                string = string.trim();
-                if (value == null)
-                    return string.length() == 0;
-                return (((String)value).toLowerCase().startsWith(string));
-            }
-        }
-        else if (type.equals( AttributeType.BOOLEAN))
-        {
-            Boolean boolean1 = (Boolean)ruleValue;
-            Boolean boolean2 = (Boolean)value;
-            if (boolean1 == null)
-            {
-                return (boolean2 == null || boolean2.booleanValue());
-            }
-            if (boolean2 == null)
-            {
-                return !boolean1.booleanValue();
+    /** returns the rules compiled for matching. They are compiled again when the filter or the version of the dynamic type changes. */
+    private CompiledFilterRule[] getCompiledRules() {
+        CompiledRules compiled = compiledRules;
+        DynamicType type = getType();
+        long version = ((RefEntity<?>)type).getVersion();
+        if (compiled == null || compiled.type != type || compiled.version != version) {
+            ClassificationFilterRuleImpl[] rules = getRules();
+            CompiledFilterRule[] compiledArray = new CompiledFilterRule[rules.length];
+            for (int i=0;i<rules.length;i++) {
+                compiledArray[i] = CompiledFilterRule.compile(rules[i].getAttribute(), rules[i].getOperators(), rules[i].getValues());
             }
-            return (boolean1.equals(boolean2));
+            compiled = new CompiledRules(type, version, compiledArray);
+            compiledRules = compiled;
         }
-        else if (type.equals( AttributeType.INT) || type.equals(AttributeType.DATE))
-        {
-            if(ruleValue == null) {
-                if (operator.equals("<>")) 
-                    if(value == null) 
-                        return false;
-                    else
-                        return true;
-                else if (operator.equals("=")) 
-                    if(value == null) 
-                        return true;
-                    else
-                        return false;
-                else
-                return false;
-            }
+        return compiled.rules;
+    }
 
-            if(value == null) 
-                return false;
-            
-            long long1 = type.equals( AttributeType.INT) ? ((Long) value).longValue()     : ((Date) value).getTime();
-            long long2 = type.equals( AttributeType.INT) ? ((Long) ruleValue).longValue() : ((Date) ruleValue).getTime();
+    static private final class CompiledRules {
+        final DynamicType type;
+        final long version;
+        final CompiledFilterRule[] rules;
 
-            if (operator.equals("<")) 
-            {
-                return long1 < long2;
-            }
-            else if (operator.equals("=")) 
-            {
-                return long1 ==  long2;
-            }
-            else if (operator.equals(">")) 
-            {
-                return long1 >  long2;
-            }
-            else if (operator.equals(">=")) 
-            {
-                return long1 >=  long2;
-            }
-            else if (operator.equals("<=")) 
-            {
-                return long1 >=  long2;
-            }
-            else if (operator.equals("<>")) 
-            {
-                return long1 !=  long2;
-            }
+        CompiledRules(DynamicType type, long version, CompiledFilterRule[] rules) {
+            this.type = type;
+            this.version = version;
+            this.rules = rules;
         }
-        
-        return false;
     }
 
     boolean hasType(DynamicType type) {
@@ -376,6 +281,7 @@ public final class ClassificationFilterImpl
             }
         }
         arrayUpToDate = false;
+        compiledRules = null;
     }
 
     public void commitRemove(DynamicType type) throws CannotExistWithoutTypeException 
@@ -398,6 +304,7 @@ public final class ClassificationFilterImpl
         }
         clone.readOnly = false;// clones are always writable
         clone.arrayUpToDate = false;
+        clone.compiledRules = null;
         return clone;
     }
 
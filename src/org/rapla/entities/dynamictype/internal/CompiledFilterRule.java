@@ -0,0 +1,298 @@
+/*--------------------------------------------------------------------------*
+ | Copyright (C) 2006 Christopher Kohlhaas                                  |
+ |                                                                          |
+ | This program is free software; you can redistribute it and/or modify     |
+ | it under the terms of the GNU General Public License as published by the |
+ | Free Software Foundation. A copy of the license has been included with   |
+ | these distribution in the COPYING file, if not go to www.fsf.org         |
+ |                                                                          |
+ | As a special exception, you are granted the permissions to link this     |
+ | program with every library, which license fulfills the Open Source       |
+ | Definition as published by the Open Source Initiative (OSI).             |
+ *--------------------------------------------------------------------------*/
+package org.rapla.entities.dynamictype.internal;
+
+import java.util.Date;
+
+import org.rapla.entities.Category;
+import org.rapla.entities.dynamictype.Attribute;
+import org.rapla.entities.dynamictype.AttributeType;
+
+/** <p>A rule of a {@link ClassificationFilterImpl} that is compiled for matching many classifications.
+ * The attribute is looked up, the operators are parsed and the rule values are converted when the rule is compiled,
+ * so a match only compares the value of the classification.</p>
+ * <p>A rule matches if one of its conditions matches. Instances are immutable.</p>
+ */
+final class CompiledFilterRule
+{
+    enum Operator
+    {
+        LESS("<"), GREATER(">"), EQUALS("="), CONTAINS("contains"), STARTS("starts"), IS("is"), LESS_OR_EQUALS("<="), GREATER_OR_EQUALS(">="), NOT_EQUALS("<>");
+
+        private final String name;
+
+        private Operator( String name )
+        {
+            this.name = name;
+        }
+
+        /** returns the operator with the name or null */
+        static Operator find( String name )
+        {
+            for ( Operator operator : values() )
+            {
+                if ( operator.name.equals( name ) )
+                {
+                    return operator;
+                }
+            }
+            return null;
+        }
+
+        public String toString()
+        {
+            return name;
+        }
+    }
+
+    private final Attribute attribute;
+    private final Condition[] conditions;
+
+    private CompiledFilterRule( Attribute attribute, Condition[] conditions )
+    {
+        this.attribute = attribute;
+        this.conditions = conditions;
+    }
+
+    Attribute getAttribute()
+    {
+        return attribute;
+    }
+
+    boolean matches( Object value )
+    {
+        for ( int i = 0; i < conditions.length; i++ )
+        {
+            if ( conditions[i].matches( value ) )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static CompiledFilterRule compile( Attribute attribute, String[] operators, Object[] ruleValues )
+    {
+        AttributeType type = attribute.getType();
+        Condition[] conditions = new Condition[ruleValues.length];
+        for ( int i = 0; i < ruleValues.length; i++ )
+        {
+            conditions[i] = createCondition( type, Operator.find( operators[i] ), ruleValues[i] );
+        }
+        return new CompiledFilterRule( attribute, conditions );
+    }
+
+    private static Condition createCondition( AttributeType type, Operator operator, Object ruleValue )
+    {
+        if ( type.equals( AttributeType.CATEGORY ) )
+        {
+            if ( ruleValue == null )
+            {
+                return IS_NULL;
+            }
+            if ( operator == Operator.EQUALS )
+            {
+                return new EqualsCondition( ruleValue );
+            }
+            if ( operator == Operator.IS )
+            {
+                return new CategoryCondition( (Category) ruleValue );
+            }
+        }
+        else if ( type.equals( AttributeType.STRING ) )
+        {
+            if ( ruleValue == null )
+            {
+                return IS_NULL;
+            }
+            if ( operator == Operator.IS || operator == Operator.EQUALS )
+            {
+                return new EqualsCondition( ruleValue );
+            }
+            if ( operator == Operator.CONTAINS || operator == Operator.STARTS )
+            {
+                return new StringCondition( ((String) ruleValue).toLowerCase().trim(), operator == Operator.STARTS );
+            }
+        }
+        else if ( type.equals( AttributeType.BOOLEAN ) )
+        {
+            return new BooleanCondition( (Boolean) ruleValue );
+        }
+        else if ( type.equals( AttributeType.INT ) || type.equals( AttributeType.DATE ) )
+        {
+            if ( ruleValue == null )
+            {
+                if ( operator == Operator.NOT_EQUALS )
+                {
+                    return IS_NOT_NULL;
+                }
+                if ( operator == Operator.EQUALS )
+                {
+                    return IS_NULL;
+                }
+                return NEVER;
+            }
+            if ( operator == null || operator == Operator.CONTAINS || operator == Operator.STARTS || operator == Operator.IS )
+            {
+                return NEVER;
+            }
+            long number = ruleValue instanceof Date ? ((Date) ruleValue).getTime() : ((Long) ruleValue).longValue();
+            return new NumberCondition( operator, number );
+        }
+        return NEVER;
+    }
+
+    private interface Condition
+    {
+        boolean matches( Object value );
+    }
+
+    private static final Condition NEVER = new Condition()
+    {
+        public boolean matches( Object value )
+        {
+            return false;
+        }
+    };
+
+    private static final Condition IS_NULL = new Condition()
+    {
+        public boolean matches( Object value )
+        {
+            return value == null;
+        }
+    };
+
+    private static final Condition IS_NOT_NULL = new Condition()
+    {
+        public boolean matches( Object value )
+        {
+            return value != null;
+        }
+    };
+
+    private static final class EqualsCondition implements Condition
+    {
+        private final Object ruleValue;
+
+        EqualsCondition( Object ruleValue )
+        {
+            this.ruleValue = ruleValue;
+        }
+
+        public boolean matches( Object value )
+        {
+            return value != null && ruleValue.equals( value );
+        }
+    }
+
+    /** matches the category and its sub-categories */
+    private static final class CategoryCondition implements Condition
+    {
+        private final Category category;
+
+        CategoryCondition( Category category )
+        {
+            this.category = category;
+        }
+
+        public boolean matches( Object value )
+        {
+            return value != null && ( category.equals( value ) || category.isAncestorOf( (Category) value ) );
+        }
+    }
+
+    /** compares the lower case value with the lower case rule value, that is converted only once */
+    private static final class StringCondition implements Condition
+    {
+        private final String needle;
+        private final boolean starts;
+
+        StringCondition( String needle, boolean starts )
+        {
+            this.needle = needle;
+            this.starts = starts;
+        }
+
+        public boolean matches( Object value )
+        {
+            if ( value == null )
+            {
+                return needle.length() == 0;
+            }
+            if ( needle.length() == 0 )
+            {
+                return true;
+            }
+            String string = ((String) value).toLowerCase();
+            return starts ? string.startsWith( needle ) : string.indexOf( needle ) >= 0;
+        }
+    }
+
+    /** a missing rule value matches true and missing values, a missing value matches false */
+    private static final class BooleanCondition implements Condition
+    {
+        private final Boolean ruleValue;
+
+        BooleanCondition( Boolean ruleValue )
+        {
+            this.ruleValue = ruleValue;
+        }
+
+        public boolean matches( Object value )
+        {
+            Boolean booleanValue = (Boolean) value;
+            if ( ruleValue == null )
+            {
+                return booleanValue == null || booleanValue.booleanValue();
+            }
+            if ( booleanValue == null )
+            {
+                return !ruleValue.booleanValue();
+            }
+            return ruleValue.equals( booleanValue );
+        }
+    }
+
+    /** compares the Long or the time of the Date value */
+    private static final class NumberCondition implements Condition
+    {
+        private final Operator operator;
+        private final long ruleValue;
+
+        NumberCondition( Operator operator, long ruleValue )
+        {
+            this.operator = operator;
+            this.ruleValue = ruleValue;
+        }
+
+        public boolean matches( Object value )
+        {
+            if ( value == null )
+            {
+                return false;
+            }
+            long number = value instanceof Date ? ((Date) value).getTime() : ((Long) value).longValue();
+            switch ( operator )
+            {
+                case LESS: return number < ruleValue;
+                case EQUALS: return number == ruleValue;
+                case GREATER: return number > ruleValue;
+                case GREATER_OR_EQUALS: return number >= ruleValue;
+                case LESS_OR_EQUALS: return number <= ruleValue;
+                case NOT_EQUALS: return number != ruleValue;
+                default: return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,518 @@
+/*--------------------------------------------------------------------------*
+ | Copyright (C) 2006 Christopher Kohlhaas                                  |
+ |                                                                          |
+ | This program is free software; you can redistribute it and/or modify     |
+ | it under the terms of the GNU General Public License as published by the |
+ | Free Software Foundation. A copy of the license has been included with   |
+ | these distribution in the COPYING file, if not go to www.fsf.org         |
+ |                                                                          |
+ | As a special exception, you are granted the permissions to link this     |
+ | program with every library, which license fulfills the Open Source       |
+ | Definition as published by the Open Source Initiative (OSI).             |
+ *--------------------------------------------------------------------------*/
+package org.rapla.facade.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.rapla.components.util.DateTools;
+import org.rapla.entities.domain.Allocatable;
+import org.rapla.entities.domain.Appointment;
+import org.rapla.entities.domain.AppointmentBlockArray;
+import org.rapla.facade.Conflict;
+
+/** <p>The time blocks of the appointments of one allocatable and the conflicts between them.</p>
+ * <p>The blocks are kept in primitive arrays sorted by start. Each block refers to its appointment
+ * by a number, so changing an appointment only removes and inserts its own blocks.
+ * The overlapping blocks are found with a sweep line over the part of the timeline that the changed
+ * blocks can reach, and only pairs with at least one changed appointment are checked with
+ * {@link Appointment#overlaps(Appointment)}.</p>
+ * <p>Repeatings without end are expanded until the horizon, 100 weeks after the start of the last
+ * appointment. If the horizon moves, their blocks are extended.</p>
+ * <p>The conflicts are indexed by appointment, so they can be removed without scanning all conflicts.
+ * This class is not thread-safe.</p>
+ */
+final class BlockTimeline
+{
+    static final long HORIZON = DateTools.MILLISECONDS_PER_WEEK * 100;
+
+    private final Allocatable allocatable;
+
+    // the blocks, sorted by start
+    private long[] starts = new long[16];
+    private long[] ends = new long[16];
+    private int[] ids = new int[16];
+    private int size;
+    // no block is longer, used to find the blocks that start before and reach into an interval
+    private long maxDuration;
+    private long maxEnd = Long.MIN_VALUE;
+    private long horizon = Long.MIN_VALUE;
+
+    // the appointments by number, null for unused numbers
+    private final List<Appointment> appointments = new ArrayList<Appointment>();
+    private final Map<Appointment,Integer> numbers = new HashMap<Appointment,Integer>();
+    private final List<Integer> freeNumbers = new ArrayList<Integer>();
+    private final Set<Appointment> openEnded = new HashSet<Appointment>();
+    // reused for the blocks of the added appointments
+    private final AppointmentBlockArray blockArray = new AppointmentBlockArray();
+
+    private final Set<Conflict> conflicts = new LinkedHashSet<Conflict>();
+    private final Map<Appointment,Set<Conflict>> conflictsByAppointment = new HashMap<Appointment,Set<Conflict>>();
+
+    BlockTimeline( Allocatable allocatable )
+    {
+        this.allocatable = allocatable;
+    }
+
+    Set<Conflict> getConflicts()
+    {
+        return conflicts;
+    }
+
+    /** removes the conflicts and blocks of the removed and changed appointments and adds the blocks and
+     * conflicts of the changed appointments that are still in the passed set of all appointments. The horizon
+     * is taken from the last appointment of the set.*/
+    void update( Collection<Appointment> removed, Collection<Appointment> changed, Collection<Appointment> all, Appointment last )
+    {
+        Set<Appointment> toAdd = new LinkedHashSet<Appointment>();
+        boolean[] dropped = new boolean[appointments.size()];
+        for ( Appointment appointment : removed )
+        {
+            remove( appointment, dropped );
+        }
+        for ( Appointment appointment : changed )
+        {
+            remove( appointment, dropped );
+            if ( all.contains( appointment ) )
+            {
+                toAdd.add( appointment );
+            }
+        }
+        if ( last != null )
+        {
+            long newHorizon = DateTools.fillDate( new Date( last.getStart().getTime() + HORIZON ) ).getTime();
+            if ( newHorizon > horizon )
+            {
+                horizon = newHorizon;
+                // the repeatings without end must reach the new horizon
+                for ( Appointment appointment : new ArrayList<Appointment>( openEnded ) )
+                {
+                    remove( appointment, dropped );
+                    toAdd.add( appointment );
+                }
+            }
+        }
+        removeBlocks( dropped );
+        if ( toAdd.isEmpty() )
+        {
+            return;
+        }
+        boolean[] changedNumbers = addBlocks( toAdd );
+        findConflicts( changedNumbers );
+    }
+
+    /** removes the conflicts of the appointment and flags its number as dropped. */
+    private void remove( Appointment appointment, boolean[] dropped )
+    {
+        Set<Conflict> appointmentConflicts = conflictsByAppointment.remove( appointment );
+        if ( appointmentConflicts != null )
+        {
+            for ( Conflict conflict : appointmentConflicts )
+            {
+                conflicts.remove( conflict );
+                Appointment other = appointment.equals( conflict.getAppointment1() ) ? conflict.getAppointment2() : conflict.getAppointment1();
+                Set<Conflict> otherConflicts = conflictsByAppointment.get( other );
+                if ( otherConflicts != null )
+                {
+                    otherConflicts.remove( conflict );
+                }
+            }
+        }
+        Integer number = numbers.remove( appointment );
+        if ( number == null )
+        {
+            return;
+        }
+        int id = number.intValue();
+        appointments.set( id, null );
+        freeNumbers.add( number );
+        openEnded.remove( appointment );
+        dropped[id] = true;
+    }
+
+    /** removes the blocks of the dropped appointment numbers in one pass. */
+    private void removeBlocks( boolean[] dropped )
+    {
+        int newSize = 0;
+        for ( int i = 0; i < size; i++ )
+        {
+            if ( !dropped[ids[i]] )
+            {
+                starts[newSize] = starts[i];
+                ends[newSize] = ends[i];
+                ids[newSize] = ids[i];
+                newSize++;
+            }
+        }
+        size = newSize;
+    }
+
+    /** inserts the blocks of the appointments and returns the numbers of the appointments as flags. */
+    private boolean[] addBlocks( Collection<Appointment> toAdd )
+    {
+        AppointmentBlockArray blocks = blockArray;
+        blocks.clear();
+        int[] blockIds = new int[16];
+        for ( Appointment appointment : toAdd )
+        {
+            int id;
+            if ( freeNumbers.isEmpty() )
+            {
+                id = appointments.size();
+                appointments.add( appointment );
+            }
+            else
+            {
+                id = freeNumbers.remove( freeNumbers.size() - 1 ).intValue();
+                appointments.set( id, appointment );
+            }
+            numbers.put( appointment, new Integer( id ) );
+            Date end = appointment.getMaxEnd();
+            if ( end == null )
+            {
+                openEnded.add( appointment );
+                end = new Date( Math.max( horizon, appointment.getStart().getTime() ) );
+            }
+            int count = blocks.size();
+            appointment.createBlocks( appointment.getStart().getTime(), end.getTime(), blocks, true );
+            if ( blocks.size() > blockIds.length )
+            {
+                int[] newBlockIds = new int[Math.max( blocks.size(), blockIds.length * 2 )];
+                System.arraycopy( blockIds, 0, newBlockIds, 0, count );
+                blockIds = newBlockIds;
+            }
+            for ( int i = count; i < blocks.size(); i++ )
+            {
+                blockIds[i] = id;
+            }
+        }
+        int added = blocks.size();
+        long[] newStarts = new long[added];
+        long[] newEnds = new long[added];
+        int[] newIds = new int[added];
+        for ( int i = 0; i < added; i++ )
+        {
+            newStarts[i] = blocks.getStart( i );
+            newEnds[i] = blocks.getEnd( i );
+            newIds[i] = blockIds[i];
+            maxDuration = Math.max( maxDuration, newEnds[i] - newStarts[i] );
+            maxEnd = Math.max( maxEnd, newEnds[i] );
+        }
+        sort( newStarts, newEnds, newIds, 0, added );
+        merge( newStarts, newEnds, newIds, added );
+        boolean[] changed = new boolean[appointments.size()];
+        for ( Appointment appointment : toAdd )
+        {
+            changed[numbers.get( appointment ).intValue()] = true;
+        }
+        return changed;
+    }
+
+    private void merge( long[] newStarts, long[] newEnds, int[] newIds, int added )
+    {
+        int total = size + added;
+        long[] mergedStarts = new long[Math.max( 16, total + total / 2 )];
+        long[] mergedEnds = new long[mergedStarts.length];
+        int[] mergedIds = new int[mergedStarts.length];
+        int i = 0;
+        int j = 0;
+        for ( int k = 0; k < total; k++ )
+        {
+            if ( j >= added || ( i < size && starts[i] <= newStarts[j] ) )
+            {
+                mergedStarts[k] = starts[i];
+                mergedEnds[k] = ends[i];
+                mergedIds[k] = ids[i];
+                i++;
+            }
+            else
+            {
+                mergedStarts[k] = newStarts[j];
+                mergedEnds[k] = newEnds[j];
+                mergedIds[k] = newIds[j];
+                j++;
+            }
+        }
+        starts = mergedStarts;
+        ends = mergedEnds;
+        ids = mergedIds;
+        size = total;
+    }
+
+    /** sorts the blocks in the range by start. */
+    private static void sort( long[] s, long[] e, int[] id, int from, int to )
+    {
+        // insertion sort for short ranges, the blocks of an appointment are mostly in order already
+        if ( to - from < 32 )
+        {
+            for ( int i = from + 1; i < to; i++ )
+            {
+                long start = s[i];
+                long end = e[i];
+                int number = id[i];
+                int j = i - 1;
+                while ( j >= from && s[j] > start )
+                {
+                    s[j + 1] = s[j];
+                    e[j + 1] = e[j];
+                    id[j + 1] = id[j];
+                    j--;
+                }
+                s[j + 1] = start;
+                e[j + 1] = end;
+                id[j + 1] = number;
+            }
+            return;
+        }
+        int middle = ( from + to ) >>> 1;
+        sort( s, e, id, from, middle );
+        sort( s, e, id, middle, to );
+        long[] tmpStarts = new long[to - from];
+        long[] tmpEnds = new long[to - from];
+        int[] tmpIds = new int[to - from];
+        int i = from;
+        int j = middle;
+        for ( int k = 0; k < tmpStarts.length; k++ )
+        {
+            int source = ( j >= to || ( i < middle && s[i] <= s[j] ) ) ? i++ : j++;
+            tmpStarts[k] = s[source];
+            tmpEnds[k] = e[source];
+            tmpIds[k] = id[source];
+        }
+        System.arraycopy( tmpStarts, 0, s, from, tmpStarts.length );
+        System.arraycopy( tmpEnds, 0, e, from, tmpEnds.length );
+        System.arraycopy( tmpIds, 0, id, from, tmpIds.length );
+    }
+
+    /** sweeps over the part of the timeline that the changed blocks can reach. The blocks that have not ended
+     * are kept in two heaps ordered by end, one for all and one for the changed blocks. A changed block
+     * is checked against all open blocks, an unchanged block only against the open changed blocks. */
+    private void findConflicts( boolean[] changed )
+    {
+        long from = Long.MAX_VALUE;
+        long to = Long.MIN_VALUE;
+        for ( int i = 0; i < size; i++ )
+        {
+            if ( changed[ids[i]] )
+            {
+                from = Math.min( from, starts[i] );
+                to = Math.max( to, ends[i] );
+            }
+        }
+        if ( from > to )
+        {
+            return;
+        }
+        Set<Long> checkedPairs = new HashSet<Long>();
+        BlockHeap open = new BlockHeap();
+        BlockHeap openChanged = new BlockHeap();
+        for ( int i = firstIndex( from - maxDuration ); i < size && starts[i] <= to; i++ )
+        {
+            long start = starts[i];
+            open.removeEndedBefore( start );
+            openChanged.removeEndedBefore( start );
+            int id = ids[i];
+            boolean isChanged = changed[id];
+            BlockHeap candidates = isChanged ? open : openChanged;
+            for ( int k = 0; k < candidates.size; k++ )
+            {
+                int otherId = ids[candidates.blocks[k]];
+                if ( otherId == id )
+                {
+                    continue;
+                }
+                // the appointment of the changed block is the first one
+                int first = isChanged ? id : otherId;
+                int second = isChanged ? otherId : id;
+                long pair = ( (long) Math.min( id, otherId ) << 32 ) | Math.max( id, otherId );
+                if ( checkedPairs.add( new Long( pair ) ) )
+                {
+                    Appointment appointment1 = appointments.get( first );
+                    Appointment appointment2 = appointments.get( second );
+                    if ( appointment2.overlaps( appointment1 ) )
+                    {
+                        addConflict( appointment1, appointment2 );
+                    }
+                }
+            }
+            open.add( i );
+            if ( isChanged )
+            {
+                openChanged.add( i );
+            }
+        }
+    }
+
+    /** returns the index of the first block that starts at or after the passed time. */
+    private int firstIndex( long time )
+    {
+        int low = 0;
+        int high = size;
+        while ( low < high )
+        {
+            int middle = ( low + high ) >>> 1;
+            if ( starts[middle] < time )
+            {
+                low = middle + 1;
+            }
+            else
+            {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private void addConflict( Appointment appointment1, Appointment appointment2 )
+    {
+        if ( appointment1.getReservation().equals( appointment2.getReservation() ) )
+        {
+            return;
+        }
+        Conflict conflict = ConflictFinder.createConflict( appointment2, appointment1, allocatable );
+        if ( !conflicts.add( conflict ) )
+        {
+            return;
+        }
+        addToIndex( appointment1, conflict );
+        addToIndex( appointment2, conflict );
+    }
+
+    private void addToIndex( Appointment appointment, Conflict conflict )
+    {
+        Set<Conflict> appointmentConflicts = conflictsByAppointment.get( appointment );
+        if ( appointmentConflicts == null )
+        {
+            appointmentConflicts = new HashSet<Conflict>();
+            conflictsByAppointment.put( appointment, appointmentConflicts );
+        }
+        appointmentConflicts.add( conflict );
+    }
+
+    /** returns the appointments of the timeline that overlap the passed appointment. The appointment itself
+     * needs not to be part of the timeline. */
+    Collection<Appointment> getOverlappingAppointments( Appointment appointment )
+    {
+        Set<Appointment> result = new LinkedHashSet<Appointment>();
+        if ( size == 0 && openEnded.isEmpty() )
+        {
+            return result;
+        }
+        Date end = appointment.getMaxEnd();
+        if ( end == null )
+        {
+            // the blocks of the timeline end before its last block
+            end = new Date( Math.max( maxEnd, appointment.getStart().getTime() ) );
+        }
+        // not the shared array, the timeline can be queried by several threads
+        AppointmentBlockArray blocks = new AppointmentBlockArray();
+        appointment.createBlocks( appointment.getStart().getTime(), end.getTime(), blocks, true );
+        Set<Integer> candidates = new HashSet<Integer>();
+        for ( int j = 0; j < blocks.size(); j++ )
+        {
+            long blockStart = blocks.getStart( j );
+            long blockEnd = blocks.getEnd( j );
+            for ( int i = firstIndex( blockStart - maxDuration ); i < size && starts[i] <= blockEnd; i++ )
+            {
+                if ( ends[i] >= blockStart )
+                {
+                    candidates.add( new Integer( ids[i] ) );
+                }
+            }
+        }
+        for ( Integer id : candidates )
+        {
+            Appointment other = appointments.get( id.intValue() );
+            if ( other.overlaps( appointment ) )
+            {
+                result.add( other );
+            }
+        }
+        // the repeatings without end can overlap after the horizon
+        for ( Appointment other : openEnded )
+        {
+            if ( !result.contains( other ) && other.overlaps( appointment ) )
+            {
+                result.add( other );
+            }
+        }
+        return result;
+    }
+
+    /** a binary min heap of block indices, ordered by the end of the blocks */
+    private final class BlockHeap
+    {
+        int[] blocks = new int[16];
+        int size;
+
+        void add( int block )
+        {
+            if ( size == blocks.length )
+            {
+                int[] newBlocks = new int[size * 2];
+                System.arraycopy( blocks, 0, newBlocks, 0, size );
+                blocks = newBlocks;
+            }
+            int pos = size++;
+            long end = ends[block];
+            while ( pos > 0 )
+            {
+                int parent = ( pos - 1 ) >>> 1;
+                if ( ends[blocks[parent]] <= end )
+                {
+                    break;
+                }
+                blocks[pos] = blocks[parent];
+                pos = parent;
+            }
+            blocks[pos] = block;
+        }
+
+        /** removes the blocks that end before the passed time. All remaining blocks end at or after it. */
+        void removeEndedBefore( long time )
+        {
+            while ( size > 0 && ends[blocks[0]] < time )
+            {
+                int last = blocks[--size];
+                long end = ends[last];
+                int pos = 0;
+                while ( true )
+                {
+                    int child = pos * 2 + 1;
+                    if ( child >= size )
+                    {
+                        break;
+                    }
+                    if ( child + 1 < size && ends[blocks[child + 1]] < ends[blocks[child]] )
+                    {
+                        child++;
+                    }
+                    if ( end <= ends[blocks[child]] )
+                    {
+                        break;
+                    }
+                    blocks[pos] = blocks[child];
+                    pos = child;
+                }
+                blocks[pos] = last;
+            }
+        }
+    }
+}
@@ -13,25 +13,29 @@
 package org.rapla.facade.internal;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
-import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
 
-import org.rapla.components.util.DateTools;
 import org.rapla.entities.User;
 import org.rapla.entities.domain.Allocatable;
 import org.rapla.entities.domain.Appointment;
-import org.rapla.entities.domain.AppointmentBlock;
-import org.rapla.entities.domain.AppointmentBlockEndComparator;
-import org.rapla.entities.domain.AppointmentBlockStartComparator;
 import org.rapla.entities.domain.AppointmentStartComparator;
 import org.rapla.entities.domain.Reservation;
 import org.rapla.facade.AllocationChangeEvent;
@@ -45,42 +49,298 @@ import org.rapla.storage.StorageOperator;
 public class ConflictFinder {
     StorageOperator operator;
     
-    Map<Allocatable,SortedSet<Appointment>> appointmentMap;
-    Map<Allocatable,Set<Conflict>> conflictMap;
+    volatile Map<Allocatable,SortedSet<Appointment>> appointmentMap;
+    Map<Allocatable,BlockTimeline> timelines;
+    // guarded by this
+    private boolean initializing;
+    private List<AllocationChangeEvent> pendingChanges;
+
+    // progress of the initialization
+    private volatile int allocatableCount;
+    private final AtomicInteger completedCount = new AtomicInteger();
+    private volatile int threadCount;
+    private volatile long initStart;
+    private volatile long initEnd;
 
     public ConflictFinder( StorageOperator operator)  {
         this.operator = operator;
     }
 
+    /** computes the conflicts of all allocatables, if they are not computed yet. 
+     * The other methods wait until the computation is finished.*/
+    public void init() throws RaplaException
+    {
+        initIfNotNull();
+    }
+
+	/** The storage lock is always acquired before the monitor of the finder. The monitor is held by updateConflicts,
+	 * which the operator calls while it holds the write lock, so the read lock must never be requested inside the monitor.
+	 * Changes that arrive while the timelines are computed are kept and applied afterwards. */
 	private void initIfNotNull() throws RaplaException 
 	{
 		if ( appointmentMap != null)
 		{
 			return;
 		}
-		appointmentMap = new HashMap<Allocatable, SortedSet<Appointment>>();
-        conflictMap = new HashMap<Allocatable, Set<Conflict>>();
-        Date startDate = new Date();
-		// Get all appointments since the startDate
-		SortedSet<Appointment> allAppointments = operator.getAppointments(null, startDate, null);
-		for ( Appointment app:allAppointments)
+		Map<Allocatable, SortedSet<Appointment>> newAppointmentMap = new HashMap<Allocatable, SortedSet<Appointment>>();
+		while ( true )
 		{
-			Reservation reservation = app.getReservation();
-			Allocatable[] allocatables = reservation.getAllocatablesFor(app);
-			for ( Allocatable alloc:allocatables)
+			// the wait for another computation happens without the storage lock, so it doesn't block the writers
+			if ( !waitForInit() )
+			{
+				return;
+			}
+			Lock readLock = operator.getReadLock();
+			readLock.lock();
+			try
+			{
+				if ( !startInit() )
+				{
+					// another thread started or finished the computation before we got the lock
+					continue;
+				}
+				try
+				{
+					Date startDate = new Date();
+					// Get all appointments since the startDate
+					SortedSet<Appointment> allAppointments = operator.getAppointments(null, startDate, null);
+					for ( Appointment app:allAppointments)
+					{
+						Reservation reservation = app.getReservation();
+						Allocatable[] allocatables = reservation.getAllocatablesFor(app);
+						for ( Allocatable alloc:allocatables)
+						{
+							Collection<Appointment> list = getAndCreateList(newAppointmentMap, alloc);
+							list.add( app);
+						}
+					}
+				}
+				catch (RuntimeException ex)
+				{
+					cancelInit();
+					throw ex;
+				}
+				catch (RaplaException ex)
+				{
+					cancelInit();
+					throw ex;
+				}
+			}
+			finally
 			{
-				Collection<Appointment> list = getAndCreateList(alloc);
-				list.add( app);
+				readLock.unlock();
 			}
+			break;
 		}
-		for (Map.Entry<Allocatable, SortedSet<Appointment>> entry:appointmentMap.entrySet())
+		Map<Allocatable, BlockTimeline> newTimelines;
+		try
 		{
-			Allocatable allocatable = entry.getKey();
-			updateConflicts(allocatable, null);
+			allocatableCount = newAppointmentMap.size();
+			newTimelines = createTimelines( newAppointmentMap );
+		}
+		catch (RuntimeException ex)
+		{
+			cancelInit();
+			throw ex;
+		}
+		catch (RaplaException ex)
+		{
+			cancelInit();
+			throw ex;
+		}
+		synchronized ( this )
+		{
+			List<AllocationChangeEvent> changes = pendingChanges;
+			applyChanges( newAppointmentMap, newTimelines, changes.toArray( new AllocationChangeEvent[changes.size()]));
+			timelines = newTimelines;
+			appointmentMap = newAppointmentMap;
+			pendingChanges = null;
+			initializing = false;
+			initEnd = System.currentTimeMillis();
+			notifyAll();
+		}
+	}
+
+	/** waits until another thread has finished the computation.
+	 * @return true if the timelines still need to be computed */
+	private synchronized boolean waitForInit() throws RaplaException
+	{
+		while ( initializing )
+		{
+			try
+			{
+				wait();
+			}
+			catch (InterruptedException ex)
+			{
+				throw new RaplaException( "Conflict computation interrupted", ex);
+			}
+		}
+		return appointmentMap == null;
+	}
+
+	/** claims the computation. Must be called with the read lock, so no changes are dispatched until the appointments are read.
+	 * @return false if another thread has claimed or finished it in the meantime */
+	private synchronized boolean startInit()
+	{
+		if ( initializing || appointmentMap != null)
+		{
+			return false;
+		}
+		initializing = true;
+		pendingChanges = new ArrayList<AllocationChangeEvent>();
+		initStart = System.currentTimeMillis();
+		initEnd = 0;
+		completedCount.set( 0 );
+		return true;
+	}
+
+	private synchronized void cancelInit()
+	{
+		pendingChanges = null;
+		initializing = false;
+		notifyAll();
+	}
+
+	/** the allocatables don't share any state, so their timelines are computed in parallel. */
+	private Map<Allocatable, BlockTimeline> createTimelines(Map<Allocatable, SortedSet<Appointment>> newAppointmentMap) throws RaplaException
+	{
+		Map<Allocatable, BlockTimeline> newTimelines = new HashMap<Allocatable, BlockTimeline>();
+		int threads = Math.min( Runtime.getRuntime().availableProcessors(), newAppointmentMap.size());
+		threadCount = Math.max( 1, threads);
+		if ( threads <= 1)
+		{
+			for (Map.Entry<Allocatable, SortedSet<Appointment>> entry:newAppointmentMap.entrySet())
+			{
+				newTimelines.put( entry.getKey(), createTimeline( entry.getKey(), entry.getValue()));
+			}
+			return newTimelines;
+		}
+		ExecutorService executor = Executors.newFixedThreadPool( threads, new ThreadFactory()
+		{
+			int count;
+			public Thread newThread( Runnable runnable )
+			{
+				Thread thread = new Thread( runnable, "rapla-conflict-finder-" + (++count) );
+				thread.setDaemon( true );
+				return thread;
+			}
+		} );
+		try
+		{
+			Map<Allocatable, Future<BlockTimeline>> futures = new HashMap<Allocatable, Future<BlockTimeline>>();
+			for (Map.Entry<Allocatable, SortedSet<Appointment>> entry:newAppointmentMap.entrySet())
+			{
+				final Allocatable allocatable = entry.getKey();
+				final SortedSet<Appointment> appointments = entry.getValue();
+				futures.put( allocatable, executor.submit( new Callable<BlockTimeline>()
+				{
+					public BlockTimeline call()
+					{
+						return createTimeline( allocatable, appointments);
+					}
+				}));
+			}
+			for (Map.Entry<Allocatable, Future<BlockTimeline>> entry:futures.entrySet())
+			{
+				try
+				{
+					newTimelines.put( entry.getKey(), entry.getValue().get());
+				}
+				catch (ExecutionException ex)
+				{
+					Throwable cause = ex.getCause();
+					throw new RaplaException( "Can't compute the conflicts of " + entry.getKey() + ": " + cause.getMessage(), cause);
+				}
+				catch (InterruptedException ex)
+				{
+					throw new RaplaException( "Conflict computation interrupted", ex);
+				}
+			}
+			return newTimelines;
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	private BlockTimeline createTimeline(Allocatable allocatable, SortedSet<Appointment> appointments)
+	{
+		Set<Appointment> noAppointments = Collections.emptySet();
+		BlockTimeline timeline = new BlockTimeline(allocatable);
+		timeline.update(noAppointments, appointments, appointments, appointments.last());
+		completedCount.incrementAndGet();
+		return timeline;
+	}
+
+	/** returns the progress and the duration of the initial conflict computation. */
+	public InitStatistics getInitStatistics()
+	{
+		long start = initStart;
+		long end = initEnd;
+		long time = start == 0 ? 0 : (end == 0 ? System.currentTimeMillis() : end) - start;
+		return new InitStatistics( allocatableCount, completedCount.get(), threadCount, time, end != 0);
+	}
+
+	/** A snapshot of the progress of the initial conflict computation */
+	public static final class InitStatistics
+	{
+		private final int allocatableCount;
+		private final int completedCount;
+		private final int threadCount;
+		private final long time;
+		private final boolean finished;
+
+		InitStatistics( int allocatableCount, int completedCount, int threadCount, long time, boolean finished )
+		{
+			this.allocatableCount = allocatableCount;
+			this.completedCount = completedCount;
+			this.threadCount = threadCount;
+			this.time = time;
+			this.finished = finished;
+		}
+
+		/** the number of allocatables with appointments */
+		public int getAllocatableCount()
+		{
+			return allocatableCount;
+		}
+
+		/** the number of allocatables whose conflicts are computed */
+		public int getCompletedCount()
+		{
+			return completedCount;
+		}
+
+		public int getThreadCount()
+		{
+			return threadCount;
+		}
+
+		/** the time in ms the computation took or is running */
+		public long getTime()
+		{
+			return time;
+		}
+
+		public boolean isFinished()
+		{
+			return finished;
+		}
+
+		public String toString()
+		{
+			return "conflict initialization " + (finished ? "finished" : "running") + ": " + completedCount + "/" + allocatableCount
+				+ " allocatables in " + time + " ms with " + threadCount + " threads";
 		}
 	}
 
 	public SortedSet<Appointment> getAndCreateList(Allocatable alloc) {
+		return getAndCreateList( appointmentMap, alloc);
+	}
+
+	private static SortedSet<Appointment> getAndCreateList(Map<Allocatable,SortedSet<Appointment>> appointmentMap, Allocatable alloc) {
 		SortedSet<Appointment> set = appointmentMap.get( alloc);
 		if ( set == null)
 		{
@@ -92,7 +352,9 @@ public class ConflictFinder {
 
     public Conflict[] getConflicts(Reservation reservation) throws RaplaException {
     	initIfNotNull();
-    	synchronized (operator.getLock()) {
+    	Lock readLock = operator.getReadLock();
+    	readLock.lock();
+    	try {
             ArrayList<Conflict> conflictList = new ArrayList<Conflict>();
             Allocatable[] allocatables = reservation.getAllocatables();
             for ( Allocatable allocatable:allocatables)
@@ -102,29 +364,42 @@ public class ConflictFinder {
     				continue;
     			}
 
-            	SortedSet<Appointment> allAppointments = getAndCreateList(allocatable);
+            	BlockTimeline timeline = timelines.get(allocatable);
+            	if ( timeline == null)
+            	{
+            		continue;
+            	}
             	Appointment[] appointments = reservation.getAppointmentsFor(allocatable);
             	for ( Appointment appointment: appointments)
             	{
-            		for ( Appointment overlappingAppointment: allAppointments)
+            		// only the blocks near the appointment are compared
+            		for ( Appointment overlappingAppointment: timeline.getOverlappingAppointments(appointment))
             		{
-            			if ( appointment.overlaps( overlappingAppointment))
-            			{
-            				addConflicts(conflictList,appointment,overlappingAppointment,allocatable);
-            			}
+            			addConflicts(conflictList,appointment,overlappingAppointment,allocatable);
             		}
             	}
             }
             return (Conflict[]) conflictList.toArray(Conflict.CONFLICT_ARRAY);
-        }
+    	} finally {
+    	    readLock.unlock();
+    	}
     }
         
-	public void updateConflicts(AllocationChangeEvent[] changeEvents) 
+	public synchronized void updateConflicts(AllocationChangeEvent[] changeEvents) 
     {
     	if ( appointmentMap == null)
     	{
+    		if ( pendingChanges != null)
+    		{
+    			pendingChanges.addAll( Arrays.asList( changeEvents));
+    		}
     		return;
     	}
+    	applyChanges( appointmentMap, timelines, changeEvents);
+    }
+
+	private void applyChanges(Map<Allocatable,SortedSet<Appointment>> appointmentMap, Map<Allocatable,BlockTimeline> timelines, AllocationChangeEvent[] changeEvents) 
+    {
     	Date today = new Date();
     	Map<Allocatable,AllocationChange> toUpdate = new HashMap<Allocatable,AllocationChange>();
     	for ( AllocationChangeEvent evt: changeEvents)
@@ -136,7 +411,7 @@ public class ConflictFinder {
 				updateSet = new AllocationChange();
 				toUpdate.put(allocatable, updateSet);
 			}
-			Collection<Appointment> appointmentSet = getAndCreateList(allocatable);
+			Collection<Appointment> appointmentSet = getAndCreateList(appointmentMap, allocatable);
 			Type type = evt.getType();
 			if (type == AllocationChangeEvent.REMOVE)
 			{
@@ -177,7 +452,9 @@ public class ConflictFinder {
     		Allocatable allocatable = entry.getKey();
     		AllocationChange changedAppointments = entry.getValue();
 			
-			updateConflicts( allocatable, changedAppointments);
+			SortedSet<Appointment> allAppointments = appointmentMap.get(allocatable);
+			Appointment last = allAppointments.isEmpty() ? null : allAppointments.last();
+			getTimeline(timelines, allocatable).update(changedAppointments.toRemove, changedAppointments.toChange, allAppointments, last);
     	}
 	}
     class AllocationChange
@@ -186,126 +463,16 @@ public class ConflictFinder {
     	SortedSet<Appointment> toRemove=  new TreeSet<Appointment>(new AppointmentStartComparator());
     }
 	
-    private void updateConflicts(Allocatable allocatable,AllocationChange change) {
-        
-    	
-		SortedSet<Appointment> allAppointments = appointmentMap.get(allocatable);
-		SortedSet<Appointment> changedAppointments;
-    	SortedSet<Appointment> removedAppointments;
-		if ( change == null)
+	private static BlockTimeline getTimeline(Map<Allocatable,BlockTimeline> timelines, Allocatable allocatable) {
+		BlockTimeline timeline = timelines.get(allocatable);
+		if ( timeline == null)
 		{
-			changedAppointments = allAppointments;
-	    	removedAppointments = new TreeSet<Appointment>();
-
-		}
-		else
-		{
-			changedAppointments = change.toChange;
-	    	removedAppointments = change.toRemove;
-		}
-		
-		Set<Conflict> conflictList = conflictMap.get(allocatable);
-		if ( conflictList == null)
-		{
-			conflictList= new LinkedHashSet<Conflict>();
-			conflictMap.put( allocatable, conflictList);
-		}
-		else
-		{
-			removeConflicts(conflictList, removedAppointments);
-			removeConflicts(conflictList, changedAppointments);
-		}
-		
-		{
-			SortedSet<AppointmentBlock> allAppointmentBlocks = createBlocks(allAppointments, new AppointmentBlockEndComparator());
-			SortedSet<AppointmentBlock> appointmentBlocks = createBlocks(changedAppointments, new AppointmentBlockStartComparator());
-            
-			
-			// Check the conflicts for each time block
-			for (AppointmentBlock appBlock:appointmentBlocks)
-			{
-				final Appointment appointment1 = appBlock.getAppointment();
-				
-                long start = appBlock.getStart();
-				/*
-				 * Shrink the set of all time blocks down to those with a start date which is
-				 * later than or equal to the start date of the block
-				 */
-				AppointmentBlock compareBlock = new AppointmentBlock(start, start, appointment1,false);
-				final SortedSet<AppointmentBlock> tailSet = allAppointmentBlocks.tailSet(compareBlock);
-            	
-				// Check all time blocks which start after or at the same time as the block which is being checked
-				for (AppointmentBlock appBlock2:tailSet)
-				{
-					// If the start date of the compared block is after the end date of the block, quit the loop
-					if (appBlock2.getStart() > appBlock.getEnd())
-					{
-						break;
-					}
-					// Check if the corresponding appointments of both blocks overlap each other
-                    final Appointment appointment2 = appBlock2.getAppointment();
-                    if (appointment2.overlaps(appointment1))
-					{
-						// Add appointments to conflict list
-                    	addConflicts(conflictList, appointment1, appointment2,  allocatable);
-					}
-				}
-			}
+			timeline = new BlockTimeline(allocatable);
+			timelines.put(allocatable, timeline);
 		}
-		
-    }
-
-	public void removeConflicts(Set<Conflict> conflictList,
-			Set<Appointment> list) {
-		for ( Iterator<Conflict> it = conflictList.iterator();it.hasNext();)
-		{
-			Conflict conflict = it.next();
-			Appointment appointment1 = conflict.getAppointment1();
-			Appointment appointment2 = conflict.getAppointment2();
-			if ( list.contains( appointment1) || list.contains( appointment2))
-			{
-				it.remove();
-			}
-		}
-	}
-
-	public SortedSet<AppointmentBlock> createBlocks(
-			SortedSet<Appointment> appointmentSet,final Comparator<AppointmentBlock> comparator) {
-		
-		// Create a new set of time blocks, ordered by their start dates
-		SortedSet<AppointmentBlock> allAppointmentBlocks = new TreeSet<AppointmentBlock>(comparator);
-
-		if ( appointmentSet.isEmpty())
-		{
-			return allAppointmentBlocks;
-		}
-		Appointment last = appointmentSet.last();
-		
-		// Get all time blocks of all appointments
-		for (Appointment appointment:appointmentSet)
-		{
-			// Get the end date of the appointment (if repeating, end date of last occurence)
-			Date end = appointment.getMaxEnd();
-			
-			// Check if the appointment is repeating forever
-			if (end == null)
-			{
-				// If the repeating has no end, set the end to the start of the last appointment in the set + 100 weeks (~2 years)
-				
-				end = new Date(last.getStart().getTime() + DateTools.MILLISECONDS_PER_WEEK * 100);
-			}
-			
-			/*
-			 * If the appointment has a repeating, get all single time blocks of it. If it is no
-			 * repeating, this will just create one block, which is equal to the appointment
-			 * itself.
-			 */
-			appointment.createBlocks(appointment.getStart(), DateTools.fillDate(end), allAppointmentBlocks);
-		}
-		return allAppointmentBlocks;
+		return timeline;
 	}
 
-
 	/**
 	 * Determines all conflicts which occur after a given start date.
 	 * Note: This method is always called with <code>user = null</code>, see call hierarchy
@@ -319,14 +486,14 @@ public class ConflictFinder {
 		Collection<Conflict> conflictList = new HashSet<Conflict>();
 		for ( Allocatable allocatable: allocatables)
 		{
-			Set<Conflict> set = conflictMap.get( allocatable);
+			BlockTimeline timeline = timelines.get( allocatable);
 			if ( allocatable.isHoldBackConflicts())
 			{
 				continue;
 			}
-			if ( set != null)
+			if ( timeline != null)
 			{
-				for ( Conflict conflict: set)
+				for ( Conflict conflict: timeline.getConflicts())
 				{
 					
 					Reservation reservation = conflict.getReservation1();
@@ -375,7 +542,7 @@ public class ConflictFinder {
 
 	
 
-    private Conflict createConflict(Appointment a1,
+    static Conflict createConflict(Appointment a1,
                                     Appointment a2,Allocatable allocatable) {
 
         return new ConflictImpl(a1.getReservation()
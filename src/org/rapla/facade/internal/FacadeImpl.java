@@ -29,6 +29,7 @@ import java.util.Timer;
 import java.util.TimerTask;
 import java.util.TreeSet;
 import java.util.Vector;
+import java.util.concurrent.locks.Lock;
 
 import org.apache.avalon.framework.configuration.Configuration;
 import org.apache.avalon.framework.logger.AbstractLogEnabled;
@@ -225,6 +226,10 @@ public class FacadeImpl extends AbstractLogEnabled implements ClientFacade,
 		fireStorageDisconnected();
 	}
 
+	public void pushingUpdatesChanged() {
+		initRefresh();
+	}
+
 	/******************************
 	 * Update-module *
 	 ******************************/
@@ -233,10 +238,14 @@ public class FacadeImpl extends AbstractLogEnabled implements ClientFacade,
 	}
 
 	public void refresh() throws RaplaException {
-		synchronized (operator.getLock()) {
+		Lock writeLock = operator.getWriteLock();
+		writeLock.lock();
+		try {
 			if (operator.supportsActiveMonitoring()) {
 				operator.refresh();
 			}
+		} finally {
+			writeLock.unlock();
 		}
 	}
 
@@ -354,7 +363,9 @@ public class FacadeImpl extends AbstractLogEnabled implements ClientFacade,
 				if (workingUser == null)
 					return;
 
-				synchronized (operator.getLock()) {
+				Lock readLock = operator.getReadLock();
+				readLock.lock();
+				try {
 					Iterator<User> it = operator.getObjects(User.class)
 							.iterator();
 					while (it.hasNext()) {
@@ -364,6 +375,8 @@ public class FacadeImpl extends AbstractLogEnabled implements ClientFacade,
 							return;
 						}
 					}
+				} finally {
+					readLock.unlock();
 				}
 				if (workingUser == null)
 					return;
@@ -379,7 +392,9 @@ public class FacadeImpl extends AbstractLogEnabled implements ClientFacade,
 	{
 		TimerTask refreshTask = new TimerTask() {
 			public void run() {
-				synchronized (operator.getLock()) {
+				Lock writeLock = operator.getWriteLock();
+				writeLock.lock();
+				try {
 					try {
 						if (operator.isConnected()) {
 							refresh();
@@ -387,6 +402,8 @@ public class FacadeImpl extends AbstractLogEnabled implements ClientFacade,
 					} catch (RaplaException e) {
 						getLogger().error("Error refreshing.", e);
 					}
+				} finally {
+					writeLock.unlock();
 				}
 			}
 		};
@@ -400,12 +417,20 @@ public class FacadeImpl extends AbstractLogEnabled implements ClientFacade,
 				getLogger().error("Error refreshing.", e);
 			}
 		}
-		if ( refreshTimer != null)
-		{
-			refreshTimer.cancel();
+		synchronized (this) {
+			if ( refreshTimer != null)
+			{
+				refreshTimer.cancel();
+				refreshTimer = null;
+			}
+			// no need to poll while the operator gets the changes pushed, e.g. with the long poll of the server
+			if (!operator.supportsActiveMonitoring() || operator.isPushingUpdates())
+			{
+				return;
+			}
+			refreshTimer = new Timer(true); // Start timer as daemon-thread
+			refreshTimer.schedule(refreshTask, 0, intervalLength);
 		}
-		refreshTimer = new Timer(true); // Start timer as daemon-thread
-		refreshTimer.schedule(refreshTask, 0, intervalLength);
 	}
 
 	final class UpdateCommand implements Runnable, Command {
@@ -534,10 +559,14 @@ public class FacadeImpl extends AbstractLogEnabled implements ClientFacade,
 	private Collection<Allocatable> getVisibleAllocatables(
 			ClassificationFilter[] filters) throws RaplaException {
 		Collection<Allocatable> allocatables = new ArrayList<Allocatable>();
-		synchronized (operator.getLock()) {
+		Lock readLock = operator.getReadLock();
+		readLock.lock();
+		try {
 			Collection<Allocatable> objects = operator
 					.getObjects(Allocatable.class);
 			allocatables.addAll(objects);
+		} finally {
+			readLock.unlock();
 		}
 		Iterator<Allocatable> it = allocatables.iterator();
 		while (it.hasNext()) {
@@ -556,9 +585,20 @@ public class FacadeImpl extends AbstractLogEnabled implements ClientFacade,
 			Date start, Date end, ClassificationFilter[] reservationFilters)
 			throws RaplaException {
 		Collection<Reservation> reservations = new ArrayList<Reservation>();
-		synchronized (operator.getLock()) {
+		Lock readLock = operator.getReadLock();
+		readLock.lock();
+		try {
 			reservations.addAll(operator.getReservations(user, start, end));
+		} finally {
+			readLock.unlock();
 		}
+		removeInvisibleReservations(reservations, user, reservationFilters);
+		return reservations;
+	}
+
+	private void removeInvisibleReservations(Collection<Reservation> reservations,
+			User user, ClassificationFilter[] reservationFilters)
+			throws RaplaException {
 		removeFilteredClassifications(reservations, reservationFilters);
 
 		// Category can_see = getUserGroupsCategory().getCategory(
@@ -581,7 +621,6 @@ public class FacadeImpl extends AbstractLogEnabled implements ClientFacade,
 			if (!oneVisibleAllocatable)
 				it.remove();
 		}
-		return reservations;
 	}
 
 	private void removeFilteredClassifications(
@@ -640,14 +679,22 @@ public class FacadeImpl extends AbstractLogEnabled implements ClientFacade,
 	}
 
 	public Preferences getPreferences(User user) throws RaplaException {
-		synchronized (operator.getLock()) {
+		Lock readLock = operator.getReadLock();
+		readLock.lock();
+		try {
 			return (Preferences) operator.getPreferences(user);
+		} finally {
+			readLock.unlock();
 		}
 	}
 
 	public Category getSuperCategory() {
-		synchronized (operator.getLock()) {
+		Lock readLock = operator.getReadLock();
+		readLock.lock();
+		try {
 			return (Category) operator.getSuperCategory();
+		} finally {
+			readLock.unlock();
 		}
 	}
 
@@ -669,34 +716,33 @@ public class FacadeImpl extends AbstractLogEnabled implements ClientFacade,
 	public Reservation[] getReservationsForAllocatable(
 			Allocatable[] allocatables, Date start, Date end,
 			ClassificationFilter[] reservationFilters) throws RaplaException {
-		Collection<Reservation> reservations = getVisibleReservations(null,
-				start, end, reservationFilters);
-		Collection<Allocatable> allocatableSet = null;
-		if (allocatables != null) {
-			allocatableSet = new HashSet<Allocatable>(Arrays.asList(allocatables));
-			Iterator<Reservation> it = reservations.iterator();
-			while (it.hasNext()) {
-				Reservation reservation = it.next();
-				Allocatable[] reservedAllocatables = reservation
-						.getAllocatables();
-				boolean bFound = false;
-				for (int i = 0; i < reservedAllocatables.length; i++) {
-					if (allocatableSet.contains(reservedAllocatables[i]))
-						bFound = true;
-				}
-				if (!bFound)
-					it.remove();
-			}
+		if (allocatables == null) {
+			return getVisibleReservations(null, start, end,
+					reservationFilters).toArray(Reservation.RESERVATION_ARRAY);
 		}
+		Collection<Reservation> reservations = new ArrayList<Reservation>();
+		Lock readLock = operator.getReadLock();
+		readLock.lock();
+		try {
+			reservations.addAll(operator.getReservationsForAllocatable(
+					allocatables, start, end));
+		} finally {
+			readLock.unlock();
+		}
+		removeInvisibleReservations(reservations, null, reservationFilters);
 		return (Reservation[]) reservations
 				.toArray(Reservation.RESERVATION_ARRAY);
 	}
 
 	public Period[] getPeriods() throws RaplaException {
-		synchronized (operator.getLock()) {
+		Lock readLock = operator.getReadLock();
+		readLock.lock();
+		try {
 			Period[] result = operator.getObjects(Period.class).toArray(
 					Period.PERIOD_ARRAY);
 			return result;
+		} finally {
+			readLock.unlock();
 		}
 	}
 
@@ -710,13 +756,19 @@ public class FacadeImpl extends AbstractLogEnabled implements ClientFacade,
 	public DynamicType[] getDynamicTypes(String classificationType)
 			throws RaplaException {
 		if (classificationType == null) {
-			synchronized (operator.getLock()) {
+			Lock readLock = operator.getReadLock();
+			readLock.lock();
+			try {
 				return operator.getObjects(DynamicType.class).toArray(
 						DynamicType.DYNAMICTYPE_ARRAY);
+			} finally {
+				readLock.unlock();
 			}
 		}
 		ArrayList<DynamicType> result = new ArrayList<DynamicType>();
-		synchronized (operator.getLock()) {
+		Lock readLock = operator.getReadLock();
+		readLock.lock();
+		try {
 			Collection<DynamicType> collection = operator
 					.getObjects(DynamicType.class);
 			for (Iterator<DynamicType> it = collection.iterator(); it.hasNext();) {
@@ -727,12 +779,16 @@ public class FacadeImpl extends AbstractLogEnabled implements ClientFacade,
 					result.add(type);
 				}
 			}
+		} finally {
+			readLock.unlock();
 		}
 		return result.toArray(DynamicType.DYNAMICTYPE_ARRAY);
 	}
 
 	public DynamicType getDynamicType(String elementKey) throws RaplaException {
-		synchronized (operator.getLock()) {
+		Lock readLock = operator.getReadLock();
+		readLock.lock();
+		try {
 			Collection<DynamicType> collection = operator
 					.getObjects(DynamicType.class);
 			for (Iterator<DynamicType> it = collection.iterator(); it.hasNext();) {
@@ -740,30 +796,62 @@ public class FacadeImpl extends AbstractLogEnabled implements ClientFacade,
 				if (type.getElementKey().equals(elementKey))
 					return type;
 			}
+		} finally {
+			readLock.unlock();
 		}
 		throw new EntityNotFoundException("No dynamictype with elementKey "
 				+ elementKey);
 	}
 
 	public User[] getUsers() throws RaplaException {
-		synchronized (operator.getLock()) {
+		Lock readLock = operator.getReadLock();
+		readLock.lock();
+		try {
 			Set<User> users = new TreeSet<User>(new UserComparator(locale));
 			users.addAll(operator.getObjects(User.class));
 			User[] result = users.toArray(User.USER_ARRAY);
 			return result;
+		} finally {
+			readLock.unlock();
 		}
 	}
 
 	public User getUser(String username) throws RaplaException {
-		synchronized (operator.getLock()) {
+		Lock readLock = operator.getReadLock();
+		readLock.lock();
+		try {
 			User user = operator.getUser(username);
 			if (user == null)
 				throw new EntityNotFoundException("No User with username "
 						+ username);
 			return user;
+		} finally {
+			readLock.unlock();
 		}
 	}
 
+	/** computes the conflicts in a background thread, so the first conflict query needs not to wait for them. */
+	public void initConflictsInBackground() {
+		Thread thread = new Thread(new Runnable() {
+			public void run() {
+				try {
+					conflictFinder.init();
+					getLogger().info(conflictFinder.getInitStatistics().toString());
+				} catch (Exception ex) {
+					// the conflicts are computed again with the first query
+					getLogger().warn("Can't compute the conflicts in the background: " + ex.getMessage());
+				}
+			}
+		}, "rapla-conflict-init");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/** returns the progress and the duration of the initial conflict computation. */
+	public ConflictFinder.InitStatistics getConflictInitStatistics() {
+		return conflictFinder.getInitStatistics();
+	}
+
 	public Conflict[] getConflicts(Reservation reservation)
 			throws RaplaException {
 		return conflictFinder.getConflicts(reservation);
@@ -916,7 +1004,9 @@ public class FacadeImpl extends AbstractLogEnabled implements ClientFacade,
 
 	public boolean login(String username, char[] password)
 			throws RaplaException {
-		synchronized (operator.getLock()) {
+		Lock writeLock = operator.getWriteLock();
+		writeLock.lock();
+		try {
 			try {
 				if (!operator.isConnected()) {
 					operator.connect(username, password);
@@ -938,13 +1028,19 @@ public class FacadeImpl extends AbstractLogEnabled implements ClientFacade,
 			} else {
 				return false;
 			}
+		} finally {
+			writeLock.unlock();
 		}
 	
 	}
 
 	public boolean canChangePassword() {
-		synchronized (operator.getLock()) {
+		Lock readLock = operator.getReadLock();
+		readLock.lock();
+		try {
 			return operator.canChangePassword();
+		} finally {
+			readLock.unlock();
 		}
 	}
 
@@ -953,9 +1049,12 @@ public class FacadeImpl extends AbstractLogEnabled implements ClientFacade,
 	}
 
 	public void logout() throws RaplaException {
-		if (refreshTimer != null)
-		{
-			refreshTimer.cancel();
+		synchronized (this) {
+			if (refreshTimer != null)
+			{
+				refreshTimer.cancel();
+				refreshTimer = null;
+			}
 		}
 
 		if (this.workingUser == null || this.originalUser != null)
@@ -974,9 +1073,13 @@ public class FacadeImpl extends AbstractLogEnabled implements ClientFacade,
 	@SuppressWarnings("unchecked")
 	public void changePassword(User user, char[] oldPassword, char[] newPassword)
 			throws RaplaException {
-		synchronized (operator.getLock()) {
+		Lock writeLock = operator.getWriteLock();
+		writeLock.lock();
+		try {
 			operator.changePassword((RefEntity<User>) user, oldPassword,
 					newPassword);
+		} finally {
+			writeLock.unlock();
 		}
 	}
 
@@ -1219,8 +1322,12 @@ public class FacadeImpl extends AbstractLogEnabled implements ClientFacade,
 		}
 
 		RaplaType raplaType = entity.getRaplaType();
-		synchronized (operator.getLock()) {
+		Lock writeLock = operator.getWriteLock();
+		writeLock.lock();
+		try {
 			entity.setId(operator.createIdentifier(raplaType));
+		} finally {
+			writeLock.unlock();
 		}
 
 		entity.setVersion(0);
@@ -1249,10 +1356,14 @@ public class FacadeImpl extends AbstractLogEnabled implements ClientFacade,
 	public <T extends Entity<T>> T edit(Entity<T> obj) throws RaplaException {
 		if (obj == null)
 			throw new NullPointerException("Can't edit null objects");
-		synchronized (operator.getLock()) {
+		Lock readLock = operator.getReadLock();
+		readLock.lock();
+		try {
 			RefEntity<T> editObject = operator.editObject((RefEntity<T>) obj,
 					workingUser);
 			return editObject.cast();
+		} finally {
+			readLock.unlock();
 		}
 	}
 
@@ -1345,9 +1456,13 @@ public class FacadeImpl extends AbstractLogEnabled implements ClientFacade,
 	}
 
 	public <T> T getPersistant(Entity<T> obj) throws RaplaException {
-		synchronized (operator.getLock()) {
+		Lock readLock = operator.getReadLock();
+		readLock.lock();
+		try {
 			T persistant = operator.getPersistant((RefEntity<T>) obj);
 			return persistant;
+		} finally {
+			readLock.unlock();
 		}
 	}
 
@@ -1392,7 +1507,9 @@ public class FacadeImpl extends AbstractLogEnabled implements ClientFacade,
 			}
 		}
 
-		synchronized (operator.getLock()) {
+		Lock writeLock = operator.getWriteLock();
+		writeLock.lock();
+		try {
 			ArrayList<RefEntity<?>> storeList = new ArrayList<RefEntity<?>>();
 			ArrayList<RefEntity<?>> removeList = new ArrayList<RefEntity<?>>();
 			for (Entity<?> toStore : storeObjects) {
@@ -1403,6 +1520,8 @@ public class FacadeImpl extends AbstractLogEnabled implements ClientFacade,
 			}
 			operator.storeAndRemove(storeList, removeList,
 					(RefEntity<User>) workingUser);
+		} finally {
+			writeLock.unlock();
 		}
 		if (getLogger().isDebugEnabled())
 			getLogger().debug(
@@ -376,7 +376,8 @@ public abstract class RaplaBuilder extends RaplaComponent
             Appointment appointment = block.getAppointment();
             boolean isException = block.isException();
             if (DateTools.isSameDay(blockStart, blockEnd)) {
-                result.add( new AppointmentBlock(blockStart, blockEnd, appointment, isException));
+                // the block needs no split, so it can be used as it is
+                result.add( block );
             } else {
                 long firstBlockDate = Math.max(blockStart, startDate.getTime());
                 long lastBlockDate = Math.min(blockEnd, endDate.getTime());
@@ -40,10 +40,16 @@ public interface RemoteStorage  {
     long getServerTime() throws RaplaException;
     /** delegates the corresponding method in the StorageOperator. */
     EntityList getReservations(Date start,Date end) throws RaplaException;
+    /** same as above, but omits the reservations that the client already has in the same version.
+     * @param knownVersions the keys and versions of the known reservations, see {@link org.rapla.server.internal.RemoteStorageImpl#formatKnownVersions} */
+    EntityList getReservations(Date start,Date end,String knownVersions) throws RaplaException;
 
     EntityList getEntityRecursive(Object id) throws RaplaException;
 
     String refresh(String clientRepoVersion) throws RaplaException;
+    /** same as refresh, but the server parks the call until the repository is newer than the
+     * passed version or the server timeout elapses. Returns <code>&lt;uptodate/&gt;</code> on timeout. */
+    String waitForUpdate(String clientRepoVersion) throws RaplaException;
     
     void restartServer() throws RaplaException;
     void dispatch(String xml) throws RaplaException;
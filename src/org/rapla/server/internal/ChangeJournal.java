@@ -0,0 +1,170 @@
+/*--------------------------------------------------------------------------*
+ | Copyright (C) 2006 Christopher Kohlhaas                                  |
+ |                                                                          |
+ | This program is free software; you can redistribute it and/or modify     |
+ | it under the terms of the GNU General Public License as published by the |
+ | Free Software Foundation. A copy of the license has been included with   |
+ | these distribution in the COPYING file, if not go to www.fsf.org         |
+ |                                                                          |
+ | As a special exception, you are granted the permissions to link this     |
+ | program with every library, which license fulfills the Open Source       |
+ | Definition as published by the Open Source Initiative (OSI).             |
+ *--------------------------------------------------------------------------*/
+package org.rapla.server.internal;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.rapla.entities.storage.RefEntity;
+import org.rapla.storage.UpdateEvent;
+
+/** <p>Journal of the changes of the repository, ordered by the repository
+ * version. The entries are kept in a ring buffer: new changes are appended
+ * at the end and old ones are trimmed from the start, so the changes after
+ * a version can be found with a binary search.</p>
+ *
+ * <p>This class is not thread-safe.</p>
+ */
+class ChangeJournal
+{
+    private long[] versions;
+    private RefEntity<?>[] entities;
+    private boolean[] removes;
+    private int head;
+    private int size;
+
+    ChangeJournal()
+    {
+        this( 64 );
+    }
+
+    ChangeJournal( int capacity )
+    {
+        versions = new long[capacity];
+        entities = new RefEntity<?>[capacity];
+        removes = new boolean[capacity];
+    }
+
+    /** appends a change. The version must not be lower than the version of the last change.*/
+    void add( long version, RefEntity<?> entity, boolean remove )
+    {
+        if ( size > 0 && version < versions[index( size - 1 )] )
+        {
+            throw new IllegalArgumentException( "Version " + version + " is lower than the last version "
+                    + versions[index( size - 1 )] );
+        }
+        if ( size == versions.length )
+        {
+            grow();
+        }
+        int i = index( size );
+        versions[i] = version;
+        entities[i] = entity;
+        removes[i] = remove;
+        size++;
+    }
+
+    /** removes all changes up to and including the passed version.*/
+    void trim( long version )
+    {
+        int count = firstAfter( version );
+        for ( int n = 0; n < count; n++ )
+        {
+            entities[head] = null;
+            head = ( head + 1 ) % versions.length;
+        }
+        size -= count;
+    }
+
+    void clear()
+    {
+        for ( int n = 0; n < size; n++ )
+        {
+            entities[index( n )] = null;
+        }
+        head = 0;
+        size = 0;
+    }
+
+    int size()
+    {
+        return size;
+    }
+
+    /** adds the latest state of every entity that changed after the passed version
+     * to the event. An entity is either stored or removed, depending on its last change.*/
+    void collectChanges( long version, UpdateEvent evt )
+    {
+        int first = firstAfter( version );
+        // walk backwards, so that only the last change of an entity is used
+        boolean[] latest = new boolean[size - first];
+        Set<Object> ids = new HashSet<Object>();
+        for ( int n = size - 1; n >= first; n-- )
+        {
+            if ( ids.add( entities[index( n )].getId() ) )
+            {
+                latest[n - first] = true;
+            }
+        }
+        for ( int n = first; n < size; n++ )
+        {
+            if ( !latest[n - first] )
+            {
+                continue;
+            }
+            int i = index( n );
+            if ( removes[i] )
+            {
+                evt.putRemove( entities[i] );
+            }
+            else
+            {
+                evt.putStore( entities[i] );
+            }
+        }
+    }
+
+    /** @return the position of the first change with a higher version, or size if there is none.*/
+    private int firstAfter( long version )
+    {
+        int low = 0;
+        int high = size;
+        while ( low < high )
+        {
+            int mid = ( low + high ) >>> 1;
+            if ( versions[index( mid )] <= version )
+            {
+                low = mid + 1;
+            }
+            else
+            {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int index( int position )
+    {
+        return ( head + position ) % versions.length;
+    }
+
+    private void grow()
+    {
+        int capacity = versions.length * 2;
+        long[] newVersions = new long[capacity];
+        RefEntity<?>[] newEntities = new RefEntity<?>[capacity];
+        boolean[] newRemoves = new boolean[capacity];
+        for ( int n = 0; n < size; n++ )
+        {
+            int i = index( n );
+            newVersions[n] = versions[i];
+            newEntities[n] = entities[i];
+            newRemoves[n] = removes[i];
+        }
+        versions = newVersions;
+        entities = newEntities;
+        removes = newRemoves;
+        head = 0;
+    }
+}
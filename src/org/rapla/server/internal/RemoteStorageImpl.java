@@ -17,9 +17,14 @@ import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
 
 import org.apache.avalon.framework.logger.Logger;
 import org.rapla.MainServlet;
@@ -101,11 +106,17 @@ public class RemoteStorageImpl  implements RemoteStorage {
     	checkAuthentified();
         User user = null;
         this.getLogger().debug ("A RemoteServer wants to get all resource-objects.");
-        synchronized (operator.getLock()) 
+        Lock readLock = operator.getReadLock();
+        readLock.lock();
+        try
         {
             EntityList resources = makeTransactionSafe(operator.getVisibleEntities(user));
             return resources;
         }
+        finally
+        {
+            readLock.unlock();
+        }
     }
     
    
@@ -122,6 +133,12 @@ public class RemoteStorageImpl  implements RemoteStorage {
         return xml;
     }
 
+    /** the waiting is done in the servlet, before the method is dispatched */
+    public String waitForUpdate(String time) throws RaplaException
+    {
+        return refresh( time );
+    }
+
 //    private long getRepositoryVersion()
 //    {
 //        return server.getRepositoryVersion();
@@ -151,22 +168,38 @@ public class RemoteStorageImpl  implements RemoteStorage {
     }
 
 	public EntityList getReservations(Date start,Date end) throws RaplaException
+    {
+        return getReservations( start, end, null );
+    }
+
+	public EntityList getReservations(Date start,Date end,String knownVersions) throws RaplaException
     {
         checkAuthentified();
         User user = null;
         this.getLogger().debug ("A RemoteServer wants to reservations from ." + start + " to " + end);
-        synchronized (operator.getLock()) 
+        Map<Integer,Long> known = parseKnownVersions( knownVersions );
+        Lock readLock = operator.getReadLock();
+        readLock.lock();
+        try
         {
         	// Reservations and appointments
             ArrayList<RefEntity<?>> completeList = new ArrayList<RefEntity<?>>();
             List<Reservation> reservations = operator.getReservations(user, start, end );
+            List<RefEntity<?>> sendList = new ArrayList<RefEntity<?>>( reservations.size());
             for (Reservation res:reservations)
             {
-            	completeList.add( (RefEntity<?>) res);
+                RefEntity<?> entity = (RefEntity<?>) res;
+                // the client has this version already, so we don't need to copy and send it
+                Long knownVersion = known.get( new Integer( ((SimpleIdentifier) entity.getId()).getKey() ));
+                if ( knownVersion != null && knownVersion.longValue() >= entity.getVersion())
+                {
+                    continue;
+                }
+                sendList.add( entity );
+            	completeList.add( entity );
             }
-            Iterator<Reservation> it = reservations.iterator();
-            while (it.hasNext()) {
-                Iterator<RefEntity<?>> it2 = ((RefEntity<?>)it.next()).getSubEntities();
+            for (RefEntity<?> entity:sendList) {
+                Iterator<RefEntity<?>> it2 = entity.getSubEntities();
                 while (it2.hasNext()) {
                     completeList.add( it2.next() );
                 }
@@ -176,9 +209,53 @@ public class RemoteStorageImpl  implements RemoteStorage {
                                + reservations.size() + "," + list.size());
             return list;
         }
+        finally
+        {
+            readLock.unlock();
+        }
+    }
+
+    /** returns the keys and versions of the reservations in the form <code>key:version,key:version</code>. */
+    public static String formatKnownVersions(Collection<Reservation> reservations)
+    {
+        StringBuffer buf = new StringBuffer();
+        for (Reservation res:reservations)
+        {
+            RefEntity<?> entity = (RefEntity<?>) res;
+            if ( buf.length() > 0)
+            {
+                buf.append( ',' );
+            }
+            buf.append( ((SimpleIdentifier) entity.getId()).getKey() );
+            buf.append( ':' );
+            buf.append( entity.getVersion() );
+        }
+        return buf.toString();
+    }
+
+    /** parses the result of {@link #formatKnownVersions(Collection)}, null is treated as empty. */
+    public static Map<Integer,Long> parseKnownVersions(String knownVersions) throws RaplaException
+    {
+        Map<Integer,Long> result = new HashMap<Integer,Long>();
+        if ( knownVersions == null || knownVersions.length() == 0)
+        {
+            return result;
+        }
+        try
+        {
+            for (String entry:knownVersions.split(","))
+            {
+                int separator = entry.indexOf( ':' );
+                result.put( Integer.valueOf( entry.substring( 0, separator )), Long.valueOf( entry.substring( separator + 1 )));
+            }
+        }
+        catch (RuntimeException ex)
+        {
+            throw new RaplaException( "Invalid known versions " + knownVersions, ex );
+        }
+        return result;
     }
 
-   
 
     public void restartServer() throws RaplaException {
         checkAuthentified();
@@ -213,7 +290,9 @@ public class RemoteStorageImpl  implements RemoteStorage {
             {
                 user = getSession().getUser();
             }
-            synchronized (operator.getLock()) 
+            Lock writeLock = operator.getWriteLock();
+            writeLock.lock();
+            try
             {
                 List<RefEntity<?>> storeObjects = evt.getStoreObjects();
 				EntityResolver resolver = operator.createEntityResolver(storeObjects
@@ -252,6 +331,10 @@ public class RemoteStorageImpl  implements RemoteStorage {
                 if (this.getLogger().isDebugEnabled())
                     this.getLogger().debug("Changes dispatched returning result.");
             }
+            finally
+            {
+                writeLock.unlock();
+            }
         } catch (DependencyException ex) {
             throw ex;
         } catch (RaplaException ex) {
@@ -268,7 +351,9 @@ public class RemoteStorageImpl  implements RemoteStorage {
 
     public String createIdentifier(RaplaType raplaType) throws RaplaException {
         checkAuthentified();
-        synchronized (operator.getLock()) 
+        Lock writeLock = operator.getWriteLock();
+        writeLock.lock();
+        try
         {
             //User user =
             getSessionUser(); //check if authenified
@@ -276,24 +361,40 @@ public class RemoteStorageImpl  implements RemoteStorage {
 			String string = simpleIdentifier.toString();
 			return string;
         }
+        finally
+        {
+            writeLock.unlock();
+        }
     }
 
     public void authenticate(String username,
                                     String password) throws RaplaException
     {
-        synchronized (operator.getLock()) 
+        Lock readLock = operator.getReadLock();
+        readLock.lock();
+        try
         {
             getSessionUser(); //check if authenified
             server.authenticate( username, password );
         }
+        finally
+        {
+            readLock.unlock();
+        }
     }
 
     public boolean canChangePassword() throws RaplaException {
         checkAuthentified();
-        synchronized (operator.getLock()) 
+        Lock readLock = operator.getReadLock();
+        readLock.lock();
+        try
         {
             return !authenticationStore  && operator.canChangePassword();
-       }
+        }
+        finally
+        {
+            readLock.unlock();
+        }
     }
 
     public void changePassword(String username
@@ -306,7 +407,9 @@ public class RemoteStorageImpl  implements RemoteStorage {
             throw new RaplaException("Rapla can't change your password. "
                                      + "Authentication is done via plugin." );
         }
-        synchronized (operator.getLock()) {
+        Lock writeLock = operator.getWriteLock();
+        writeLock.lock();
+        try {
             User sessionUser = getSessionUser();
             if (!sessionUser.isAdmin()) {
                 operator.authenticate(username,new String(oldPassword));
@@ -314,6 +417,8 @@ public class RemoteStorageImpl  implements RemoteStorage {
             @SuppressWarnings("unchecked")
 			RefEntity<User> user = (RefEntity<User>)operator.getUser(username);
             operator.changePassword(user,oldPassword.toCharArray(),newPassword.toCharArray());
+        } finally {
+            writeLock.unlock();
         }
     }
 
@@ -365,13 +470,18 @@ public class RemoteStorageImpl  implements RemoteStorage {
         return xml;
     }
 
+    /** copies the entities, so that they can be written after the read lock is released.
+     * The list is tagged with the current repository version, so the client can ask
+     * for the changes after that version.*/
     @SuppressWarnings("unchecked")
-	private static EntityList makeTransactionSafe(List<? extends RefEntity<?>> objectList) {
-        EntityList saveList = new EntityList(objectList);
+	private EntityList makeTransactionSafe(List<? extends RefEntity<?>> objectList) {
+        EntityList saveList = new EntityList(Collections.<RefEntity<?>>emptyList());
+        saveList.ensureCapacity( objectList.size());
         Iterator<? extends RefEntity<?>> it = objectList.iterator();
         while (it.hasNext()) {
             saveList.add((((Mementable<RefEntity<?>>)it.next()).clone()));
         }
+        saveList.setRepositoryVersion( operator.getCache().getRepositoryVersion());
         return saveList;
     }
 
@@ -13,25 +13,29 @@
 package org.rapla.server.internal;
 
 import java.io.BufferedWriter;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
 
 import org.apache.avalon.framework.configuration.Configuration;
 import org.apache.avalon.framework.configuration.DefaultConfiguration;
 import org.rapla.MainServlet;
 import org.rapla.components.util.DateTools;
+import org.rapla.components.util.xml.BinaryXMLWriter;
 import org.rapla.components.xmlbundle.I18nBundle;
 import org.rapla.entities.RaplaObject;
 import org.rapla.entities.User;
@@ -71,7 +75,7 @@ import org.rapla.storage.UpdateEvent;
 import org.rapla.storage.UpdateResult;
 import org.rapla.storage.dbrm.EntityList;
 import org.rapla.storage.dbrm.RaplaStorePage;
-import org.rapla.storage.dbrm.RemoteOperator;
+import org.rapla.storage.dbrm.RemoteMethodRegistry;
 import org.rapla.storage.xml.RaplaMainWriter;
 
 /** Default implementation of StorageService.
@@ -113,11 +117,26 @@ public class ServerServiceImpl extends ContainerImpl implements StorageUpdateLis
 
     ClientFacade facade;
 
-    private Map<RefEntity<?>,Long> updateMap = new HashMap<RefEntity<?>,Long>();
-    private Map<RefEntity<?>,Long> removeMap = new HashMap<RefEntity<?>,Long>();
+    private ChangeJournal changeJournal = new ChangeJournal();
+    // the update xml for the current repository version, by client version
+    private Map<Long,String> updateXMLCache = new LinkedHashMap<Long,String>( 16, 0.75f, true )
+    {
+        private static final long serialVersionUID = 1L;
+
+        protected boolean removeEldestEntry( Map.Entry<Long,String> eldest )
+        {
+            return size() > 20;
+        }
+    };
+
+    // the parked long polls, that are resumed with the next change
+    private Set<Runnable> updateWaiters = new LinkedHashSet<Runnable>();
 
     long repositoryVersion = 0;
     long cleanupPointVersion = 0;
+
+    private final RemoteMethodRegistry methodRegistry = new RemoteMethodRegistry();
+    private final Map<Class<?>,Object> remoteServices = new ConcurrentHashMap<Class<?>,Object>();
         
     public ServerServiceImpl( RaplaContext parentContext, Configuration config ) throws RaplaException
     {
@@ -189,6 +208,8 @@ public class ServerServiceImpl extends ContainerImpl implements StorageUpdateLis
             }
         }
         initEventCleanup();
+        // the first conflict query needs not to wait for the conflicts of all allocatables
+        ((FacadeImpl) facade).initConflictsInBackground();
     }
 
     /**
@@ -245,6 +266,8 @@ public class ServerServiceImpl extends ContainerImpl implements StorageUpdateLis
     public void stop() throws Exception
     {
         operator.removeStorageUpdateListener( this );
+        // release the parked long polls
+        notifyUpdateWaiters();
         try
         {
             operator.disconnect();
@@ -261,110 +284,134 @@ public class ServerServiceImpl extends ContainerImpl implements StorageUpdateLis
     }
 
     
-    public Method findMethod( String role,String methodName,Map<String,String> args) throws ClassNotFoundException
+    public Method findMethod( String role,String methodName,Map<String,String> args) throws RaplaException
     {
-    	Class<?> inter = Class.forName( role);
-        Method[] methods = inter.getMethods();
-    	for ( Method method: methods)
-    	{
-    		Class<?>[] parameterTypes = method.getParameterTypes();
-			if ( method.getName().equals( methodName) && parameterTypes.length == args.size())
-    		{
-				return method;
-    		}
-    	}
-    	return null;
+        RemoteMethodRegistry.Invoker invoker = findInvoker( role + "/" + methodName, args.size());
+        return invoker != null ? invoker.getMethod() : null;
     }
 
-    public byte[] dispatch( RemoteSession session, String methodName, Map<String,String> args ) throws Exception
+    /** returns the invoker for the method or null. The interface of a method is registered, when it is first called.
+     * Only the interfaces of the services in the context are registered, so a client can't load any other class. */
+    private RemoteMethodRegistry.Invoker findInvoker( String methodName, int arity ) throws RaplaException
     {
-            ByteArrayOutputStream out = new ByteArrayOutputStream();
-            int indexRole = methodName.indexOf( "/" );
-            String interfaceName = RemoteStorage.class.getName();
-            if ( indexRole > 0 )
-            {
-                interfaceName = methodName.substring( 0, indexRole );
-                methodName = methodName.substring( indexRole + 1 );
+        RemoteMethodRegistry.Invoker invoker = methodRegistry.find( methodName, arity);
+        if ( invoker != null)
+        {
+            return invoker;
+        }
+        String role = RemoteMethodRegistry.getServiceName( methodName);
+        RaplaContext context = getContext();
+        if ( methodRegistry.isRegistered( role) || !context.has( role))
+        {
+            return null;
+        }
+        Object service = context.lookup( role);
+        if ( !methodRegistry.register( role, service))
+        {
+            return null;
+        }
+        return methodRegistry.find( methodName, arity);
+    }
 
-            }
-            try
+    /** the remote methods with the statistics of their calls */
+    public RemoteMethodRegistry getMethodRegistry()
+    {
+        return methodRegistry;
+    }
+
+    /** invokes the method and writes the result to the passed stream. The method is invoked before
+     * the first byte is written, so the stream stays untouched if the invocation fails.
+     * The stream is flushed but not closed.
+     * <p>Only the serialization is streamed. An {@link EntityList} result is still complete in memory: the remote storage
+     * copies the entities under the read lock, so the lock is not held while the result is written to a slow client.</p>*/
+    public void dispatch( RemoteSession session, String methodName, Map<String,String> args, OutputStream out ) throws Exception
+    {
+        dispatch( session, methodName, args, out, false);
+    }
+
+    /** same as above, but if binary is set, an {@link EntityList} is written in the compact form of the
+     * {@link BinaryXMLWriter}. Other results are written as utf-8 text in both cases.*/
+    public void dispatch( RemoteSession session, String methodName, Map<String,String> args, OutputStream out, boolean binary ) throws Exception
+    {
+        RemoteMethodRegistry.Invoker invoker = findInvoker( methodName, args.size());
+        if ( invoker == null)
+        {
+            throw new RaplaException("Can't find method with name " + methodName);
+        }
+        long start = System.nanoTime();
+        boolean failed = true;
+        try
+        {
+            RaplaContext context = getContext();
+            Object service = getRemoteService( invoker.getService());
+            Object[] convertedArgs = invoker.convertArguments( args.values());
+            Object result = invoker.invoke( service, convertedArgs);
+            if ( result != null)
             {
-            	final Object serviceUncasted;
-            	RaplaContext context = getContext();
-				serviceUncasted = context.lookup( interfaceName);
-            	//if ( serviceUncasted instanceof RemoteService)
+                if ( invoker.returnsEntityList() && binary)
                 {
-                    
-                	Method method = findMethod( interfaceName, methodName, args);
-                	if ( method == null)
-                	{
-                		throw new RaplaException("Can't find method with name " + methodName);
-                	}
-            		Class<?>[] parameterTypes = method.getParameterTypes();
-					if ( method.getName().equals( methodName) && parameterTypes.length == args.size())
-            		{
-
-            			Object[] convertedArgs = new Object[ args.size()];
-            			int i=0;
-            			for (Object arg: args.values())
-            			{
-            				Class<?> type = parameterTypes[i];
-            				convertedArgs[i++] = RemoteOperator.convertFromString(type,(String)arg);
-            			}
-            			Class<?> returnType = method.getReturnType();
-            			Object result = null;
-            			try
-            			{
-            				result = method.invoke( serviceUncasted, convertedArgs);
-            			}
-            			catch (InvocationTargetException ex)
-            			{
-            				Throwable cause = ex.getCause();
-							if (cause instanceof RaplaException)
-            				{
-            					throw (RaplaException)cause;
-            				}
-            				else
-            				{
-            					throw new RaplaException( cause.getMessage(), cause );
-            				} 
-            					
-						}
-            			
-            			if ( result != null)
-            			{
-            				BufferedWriter outWriter = new BufferedWriter( new OutputStreamWriter( out,"utf-8"));
-                        	if ( returnType.equals( EntityList.class))
-                        	{
-                        		RaplaDefaultContext ioContext = new IOContext().createOutputContext( context, operator.getCache(), true, true);
-                            	RaplaMainWriter writer = new RaplaMainWriter(ioContext);
-                            	writer.setWriter( outWriter);
-                        		EntityList resources = (EntityList) result;
-								List<RaplaObject> removeList = Collections.emptyList();
-								writer.printList( resources, removeList, repositoryVersion );
-                        	}
-                        	else
-                        	{
-                        		String resultString = RemoteOperator.convertToString(result);
-                        		outWriter.write( resultString );
-                        	}
-                        	outWriter.flush();
-                        	out.flush();
-            			}
-            		}
-            	}
-            }
-            catch ( RaplaException ex )
-            {
-                getLogger().error( ex.getMessage(), ex );
-                throw ex;
+                    BinaryXMLWriter binaryWriter = new BinaryXMLWriter( out);
+                    BufferedWriter outWriter = new BufferedWriter( binaryWriter);
+                    RaplaMainWriter writer = createListWriter( context, outWriter);
+                    EntityList resources = (EntityList) result;
+                    List<RaplaObject> removeList = Collections.emptyList();
+                    writer.printList( resources, removeList, resources.getRepositoryVersion() );
+                    outWriter.flush();
+                    binaryWriter.finish();
+                    out.flush();
+                }
+                else
+                {
+                    BufferedWriter outWriter = new BufferedWriter( new OutputStreamWriter( out,"utf-8"));
+                    if ( invoker.returnsEntityList())
+                    {
+                        RaplaMainWriter writer = createListWriter( context, outWriter);
+                        EntityList resources = (EntityList) result;
+                        List<RaplaObject> removeList = Collections.emptyList();
+                        writer.printList( resources, removeList, resources.getRepositoryVersion() );
+                    }
+                    else
+                    {
+                        outWriter.write( invoker.convertResultToString( result ) );
+                    }
+                    outWriter.flush();
+                    out.flush();
+                }
             }
-            out.close();
-            return out.toByteArray();
-        
+            failed = false;
+        }
+        catch ( RaplaException ex )
+        {
+            getLogger().error( ex.getMessage(), ex );
+            throw ex;
+        }
+        finally
+        {
+            invoker.record( System.nanoTime() - start, failed);
+        }
+    }
+
+    /** the services are looked up once, the container returns the same instance for every lookup */
+    private Object getRemoteService( Class<?> service ) throws RaplaContextException
+    {
+        Object instance = remoteServices.get( service);
+        if ( instance == null)
+        {
+            instance = getContext().lookup( service.getName());
+            remoteServices.put( service, instance);
+        }
+        return instance;
     }
 
 
+    private RaplaMainWriter createListWriter( RaplaContext context, BufferedWriter outWriter ) throws RaplaException
+    {
+        RaplaDefaultContext ioContext = new IOContext().createOutputContext( context, operator.getCache(), true, true);
+        RaplaMainWriter writer = new RaplaMainWriter(ioContext);
+        writer.setWriter( outWriter);
+        return writer;
+    }
+
 	public StorageOperator getOperator()
     {
         return operator;
@@ -406,22 +453,72 @@ public class ServerServiceImpl extends ContainerImpl implements StorageUpdateLis
     synchronized public void objectsUpdated( UpdateResult evt )
     {
         // notify the client for changes
-        repositoryVersion++;
+        repositoryVersion = evt.getRepositoryVersion();
         UpdateEvent safeResultEvent = createTransactionSafeUpdateEvent( evt );
         if ( getLogger().isDebugEnabled() )
             getLogger().debug( "Storage was modified. Calling notify." );
         for ( Iterator<RefEntity<?>> it = safeResultEvent.getStoreObjects().iterator(); it.hasNext(); )
         {
-        	RefEntity<?> obj = it.next();
-            updateMap.remove( obj );
-            updateMap.put( obj, new Long( repositoryVersion ) );
+            changeJournal.add( repositoryVersion, it.next(), false );
         }
         for ( Iterator<RefEntity<?>> it = safeResultEvent.getRemoveObjects().iterator(); it.hasNext(); )
         {
-        	RefEntity<?> obj =  it.next();
-            updateMap.remove( obj );
-            removeMap.remove( obj );
-            removeMap.put( obj, new Long( repositoryVersion ) );
+            changeJournal.add( repositoryVersion, it.next(), true );
+        }
+        updateXMLCache.clear();
+        notifyUpdateWaiters();
+    }
+
+    /** registers a waiter that is run once with the next change of the repository.
+     * The waiter must not block, because it is called while the repository is locked.
+     * @return false if the repository is already newer than the client version. The waiter is not registered in that case.*/
+    public synchronized boolean addUpdateWaiter( long clientRepositoryVersion, Runnable waiter )
+    {
+        if ( repositoryVersion > clientRepositoryVersion )
+        {
+            return false;
+        }
+        updateWaiters.add( waiter );
+        return true;
+    }
+
+    public synchronized void removeUpdateWaiter( Runnable waiter )
+    {
+        updateWaiters.remove( waiter );
+    }
+
+    /** blocks the calling thread until the repository is newer than the client version or the timeout elapsed.
+     * Used if the servlet container can't park requests. */
+    public synchronized void waitForUpdate( long clientRepositoryVersion, long timeout ) throws InterruptedException
+    {
+        long end = System.currentTimeMillis() + timeout;
+        long remaining = timeout;
+        while ( repositoryVersion <= clientRepositoryVersion && remaining > 0 )
+        {
+            wait( remaining );
+            remaining = end - System.currentTimeMillis();
+        }
+    }
+
+    private synchronized void notifyUpdateWaiters()
+    {
+        notifyAll();
+        if ( updateWaiters.isEmpty() )
+        {
+            return;
+        }
+        Runnable[] waiters = updateWaiters.toArray( new Runnable[updateWaiters.size()] );
+        updateWaiters.clear();
+        for ( Runnable waiter : waiters )
+        {
+            try
+            {
+                waiter.run();
+            }
+            catch ( RuntimeException ex )
+            {
+                getLogger().warn( "Can't notify waiting client: " + ex.getMessage() );
+            }
         }
     }
 
@@ -435,36 +532,19 @@ public class ServerServiceImpl extends ContainerImpl implements StorageUpdateLis
                 initEventCleanup();
             }
         };
-        synchronized ( operator.getLock() )
+        Lock writeLock = operator.getWriteLock();
+        writeLock.lock();
+        try
         {
             Timer timer = new Timer( true ); // Start timer as daemon-thread
             int delay = 10000;
             
+            synchronized ( this )
             {
-                RefEntity<?>[] keys = updateMap.keySet().toArray(new RefEntity[] {});
-                for ( int i=0;i<keys.length;i++)
-                {
-                    RefEntity<?> key = keys[i];
-                    Long lastVersion =  updateMap.get( key );
-                    if ( lastVersion.longValue() <= cleanupPointVersion )
-                    {
-                        updateMap.remove( key );
-                    }
-                }
+                changeJournal.trim( cleanupPointVersion );
+                updateXMLCache.clear();
+                cleanupPointVersion = repositoryVersion;
             }
-            {
-                RefEntity<?>[] keys = removeMap.keySet().toArray(new RefEntity[] {});
-                for ( int i=0;i<keys.length;i++)
-                {
-                    RefEntity<?> key = keys[i];
-                    Long lastVersion = (Long) removeMap.get( key );
-                    if ( lastVersion.longValue() <= cleanupPointVersion )
-                    {
-                        removeMap.remove( key );
-                    }
-                }
-            }
-            cleanupPointVersion = repositoryVersion;
 
             if ( operator.isConnected() )
             {
@@ -482,38 +562,50 @@ public class ServerServiceImpl extends ContainerImpl implements StorageUpdateLis
             //scheduleDelay = 30000;
             timer.schedule( cleanupTask,  scheduleDelay);
         }
+        finally
+        {
+            writeLock.unlock();
+        }
     }
 
-    synchronized public String createUpdateXML( long clientRepositoryVersion ) throws RaplaException, IOException
+    public String createUpdateXML( long clientRepositoryVersion ) throws RaplaException, IOException
     {
-        long currentVersion = this.repositoryVersion;
-        if ( clientRepositoryVersion < currentVersion )
+        // The journal only changes under the write lock, so all readers can collect the changes
+        // in parallel. The read lock must be acquired before the monitor, because objectsUpdated
+        // is called with the write lock.
+        Lock readLock = operator.getReadLock();
+        readLock.lock();
+        try
         {
-            UpdateEvent safeResultEvent = new UpdateEvent();
-            safeResultEvent.setRepositoryVersion( currentVersion );
-            for ( Iterator<RefEntity<?>> it = updateMap.keySet().iterator(); it.hasNext(); )
+            long currentVersion = this.repositoryVersion;
+            if ( clientRepositoryVersion >= currentVersion )
             {
-                RefEntity<?> key = it.next();
-                Long lastVersion = updateMap.get( key );
-                if ( lastVersion.longValue() > clientRepositoryVersion )
-                {
-                    safeResultEvent.putStore( key );
-                }
+                // Empty String if nothing is expected
+                return "<uptodate/>";
             }
-            for ( Iterator<RefEntity<?>> it = removeMap.keySet().iterator(); it.hasNext(); )
+            Long key = new Long( clientRepositoryVersion );
+            synchronized ( this )
             {
-                RefEntity<?> key =  it.next();
-                Long lastVersion = removeMap.get( key );
-                if ( lastVersion.longValue() > clientRepositoryVersion )
+                String xml = updateXMLCache.get( key );
+                if ( xml != null )
                 {
-                    safeResultEvent.putRemove( key );
+                    return xml;
                 }
             }
+            UpdateEvent safeResultEvent = new UpdateEvent();
+            safeResultEvent.setRepositoryVersion( currentVersion );
+            changeJournal.collectChanges( clientRepositoryVersion, safeResultEvent );
             String xml = RemoteStorageImpl.createUpdateEvent( getContext(), operator.getCache(), safeResultEvent );
+            synchronized ( this )
+            {
+                updateXMLCache.put( key, xml );
+            }
             return xml;
         }
-        // Empty String if nothing is expected
-        return "<uptodate/>";
+        finally
+        {
+            readLock.unlock();
+        }
     }
 
     public void updateError( RaplaException ex )
@@ -547,6 +639,11 @@ public class ServerServiceImpl extends ContainerImpl implements StorageUpdateLis
         }
     }
 
+    public void pushingUpdatesChanged()
+    {
+        // the server operator isn't polled
+    }
+
     public void checkServerVersion( String clientVersion ) throws RaplaException
     {
     	if ( clientVersion.equals("@doc.version@"))
@@ -569,34 +666,15 @@ public class ServerServiceImpl extends ContainerImpl implements StorageUpdateLis
         this.getLogger().debug( "User '" + username + "' is requesting login " );
         if ( authenticationStore != null && authenticationStore.authenticate( username, password ))
         {
-            @SuppressWarnings("unchecked")
-			RefEntity<User> user = (RefEntity<User>)this.operator.getUser( username );
-            if ( user == null )
-            {
-                user = new UserImpl();
-                user.setId( this.operator.createIdentifier( User.TYPE ) );
-            }
-            else
-            {
-                user = this.operator.editObject( user, null );
-            }
-            
-            boolean initUser ;
+            Lock writeLock = this.operator.getWriteLock();
+            writeLock.lock();
             try
             {
-                initUser = authenticationStore.initUser( user.cast(), username, password,
-                                               this.operator.getSuperCategory()
-                                                            .getCategory( Permission.GROUP_CATEGORY_KEY ) );
-            } catch (RaplaSecurityException ex){
-                throw new RaplaSecurityException(i18n.getString("error.login"));
+                initExternalUser( username, password );
             }
-            if ( initUser )
+            finally
             {
-            	List<RefEntity<?>> storeList = new ArrayList<RefEntity<?>>(1);
-            	storeList.add( user);
-            	List<RefEntity<?>> removeList = Collections.emptyList();
-                
-            	this.operator.storeAndRemove( storeList, removeList, null );
+                writeLock.unlock();
             }
         }
         else
@@ -606,6 +684,40 @@ public class ServerServiceImpl extends ContainerImpl implements StorageUpdateLis
     
     }
 
+    /** creates or updates the user with the data of the authentication store */
+    private void initExternalUser( String username, String password ) throws RaplaException
+    {
+        @SuppressWarnings("unchecked")
+        RefEntity<User> user = (RefEntity<User>)this.operator.getUser( username );
+        if ( user == null )
+        {
+            user = new UserImpl();
+            user.setId( this.operator.createIdentifier( User.TYPE ) );
+        }
+        else
+        {
+            user = this.operator.editObject( user, null );
+        }
+        
+        boolean initUser ;
+        try
+        {
+            initUser = authenticationStore.initUser( user.cast(), username, password,
+                                           this.operator.getSuperCategory()
+                                                        .getCategory( Permission.GROUP_CATEGORY_KEY ) );
+        } catch (RaplaSecurityException ex){
+            throw new RaplaSecurityException(i18n.getString("error.login"));
+        }
+        if ( initUser )
+        {
+        	List<RefEntity<?>> storeList = new ArrayList<RefEntity<?>>(1);
+        	storeList.add( user);
+        	List<RefEntity<?>> removeList = Collections.emptyList();
+            
+        	this.operator.storeAndRemove( storeList, removeList, null );
+        }
+    }
+
     /** @Override
     */
 	public void logout() throws RaplaException {
@@ -628,7 +740,9 @@ public class ServerServiceImpl extends ContainerImpl implements StorageUpdateLis
     
     public void authenticate( String username, String password ) throws RaplaException
     {
-        synchronized ( this.operator.getLock() )
+        Lock readLock = this.operator.getReadLock();
+        readLock.lock();
+        try
         {
             if ( authenticationStore != null && authenticationStore.authenticate( username, password ) )
             {
@@ -639,6 +753,10 @@ public class ServerServiceImpl extends ContainerImpl implements StorageUpdateLis
                 this.operator.authenticate( username, password );
             }
         }
+        finally
+        {
+            readLock.unlock();
+        }
     }
 
 	public long getRepositoryVersion() 
@@ -4,19 +4,31 @@
 package org.rapla.servletpages;
 
 import java.io.IOException;
+import java.util.List;
 
 import javax.servlet.ServletContext;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.rapla.components.util.MeasuredReadWriteLock;
 import org.rapla.components.xmlbundle.I18nBundle;
+import org.rapla.facade.ClientFacade;
 import org.rapla.facade.RaplaComponent;
+import org.rapla.facade.internal.FacadeImpl;
 import org.rapla.framework.RaplaContext;
 import org.rapla.framework.RaplaContextException;
+import org.rapla.server.RemoteServer;
+import org.rapla.server.internal.ServerServiceImpl;
+import org.rapla.storage.CachableStorageOperator;
+import org.rapla.storage.dbfile.FileOperator;
+import org.rapla.storage.dbrm.RemoteMethodRegistry;
+import org.rapla.storage.dbsql.DBOperator;
 
 public class RaplaStatusPageGenerator implements RaplaPageGenerator{
     I18nBundle m_i18n;
+    RaplaContext m_context;
     public RaplaStatusPageGenerator(RaplaContext context) throws RaplaContextException {
+        m_context = context;
         m_i18n = (I18nBundle) context.lookup(I18nBundle.ROLE + "/org.rapla.RaplaResources");
     }
 
@@ -35,6 +47,65 @@ public class RaplaStatusPageGenerator implements RaplaPageGenerator{
         
         String javaversion = System.getProperty("java.version");
      	out.println( "<p>Server running </p>" +  m_i18n.format("info.text", signed, javaversion));
+        if ( m_context.has( CachableStorageOperator.ROLE ))
+        {
+            try
+            {
+                CachableStorageOperator operator = (CachableStorageOperator) m_context.lookup( CachableStorageOperator.ROLE );
+                MeasuredReadWriteLock lock = operator.getReadWriteLock();
+                out.println( "<p>Storage " + lock.getReadStatistics() + "<br>" );
+                out.println( "Storage " + lock.getWriteStatistics() + "<br>" );
+                out.println( operator.getCache().getAppointmentBlockCache().getStatistics() + "</p>" );
+                if ( operator instanceof FileOperator )
+                {
+                    out.println( "<p>Storage " + ((FileOperator) operator).getSnapshotStatistics() + "</p>" );
+                }
+                if ( operator instanceof DBOperator && ((DBOperator) operator).getConnectionPool() != null )
+                {
+                    out.println( "<p>Storage " + ((DBOperator) operator).getConnectionPool() + "</p>" );
+                }
+            }
+            catch ( RaplaContextException ex )
+            {
+                // no statistics then
+            }
+        }
+        if ( m_context.has( RemoteServer.ROLE ))
+        {
+            try
+            {
+                Object server = m_context.lookup( RemoteServer.ROLE );
+                if ( server instanceof ServerServiceImpl )
+                {
+                    List<RemoteMethodRegistry.Statistics> statistics = ((ServerServiceImpl) server).getMethodRegistry().getStatistics();
+                    out.println( "<p>" );
+                    for ( RemoteMethodRegistry.Statistics methodStatistics : statistics )
+                    {
+                        out.println( "Remote " + methodStatistics + "<br>" );
+                    }
+                    out.println( "</p>" );
+                }
+            }
+            catch ( RaplaContextException ex )
+            {
+                // no statistics then
+            }
+        }
+        if ( m_context.has( ClientFacade.ROLE ))
+        {
+            try
+            {
+                Object facade = m_context.lookup( ClientFacade.ROLE );
+                if ( facade instanceof FacadeImpl )
+                {
+                    out.println( "<p>" + ((FacadeImpl) facade).getConflictInitStatistics() + "</p>" );
+                }
+            }
+            catch ( RaplaContextException ex )
+            {
+                // no statistics then
+            }
+        }
         out.println( "<hr>" );
         out.println( "</body>" );
         out.println( "</html>" );
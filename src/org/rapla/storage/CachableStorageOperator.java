@@ -16,6 +16,7 @@ package org.rapla.storage;
 
 import java.util.Collection;
 
+import org.rapla.components.util.MeasuredReadWriteLock;
 import org.rapla.entities.EntityNotFoundException;
 import org.rapla.entities.storage.EntityResolver;
 import org.rapla.entities.storage.RefEntity;
@@ -30,6 +31,8 @@ public interface CachableStorageOperator extends StorageOperator {
     void saveData(LocalCache cache) throws RaplaException;
     RefEntity<?> resolveId(Object id) throws EntityNotFoundException;
     EntityResolver createEntityResolver(Collection<RefEntity<?>> entities,LocalCache parent);
+    /** the lock behind {@link #getReadLock()} and {@link #getWriteLock()}, with its wait and hold times.*/
+    MeasuredReadWriteLock getReadWriteLock();
 }
 
 
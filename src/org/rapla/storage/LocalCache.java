@@ -15,11 +15,13 @@ package org.rapla.storage;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -28,6 +30,7 @@ import java.util.SortedSet;
 import java.util.TreeSet;
 
 import org.rapla.components.util.Assert;
+import org.rapla.components.util.IntervalIndex;
 import org.rapla.components.util.iterator.NestedIterator;
 import org.rapla.entities.Category;
 import org.rapla.entities.EntityNotFoundException;
@@ -42,6 +45,7 @@ import org.rapla.entities.domain.AppointmentStartComparator;
 import org.rapla.entities.domain.Period;
 import org.rapla.entities.domain.Reservation;
 import org.rapla.entities.domain.internal.AllocatableImpl;
+import org.rapla.entities.domain.internal.AppointmentBlockCache;
 import org.rapla.entities.domain.internal.AppointmentImpl;
 import org.rapla.entities.domain.internal.PeriodImpl;
 import org.rapla.entities.domain.internal.ReservationImpl;
@@ -78,7 +82,102 @@ public class LocalCache implements EntityResolver
     Locale locale;
 
     // Index for start and end dates
-    TreeSet<Appointment> appointmentsStart;
+    IntervalIndex<Appointment> appointmentIndex;
+
+    // Index for the appointments of each allocatable. It is updated lazily,
+    // because the references of stored reservations may not be resolved yet.
+    // All appointments of a reservation are indexed for all its allocatables,
+    // even if the allocation is restricted to some appointments.
+    Map<Object,IntervalIndex<Appointment>> allocatableIndex;
+    Map<Appointment,Object[]> indexedAllocatables;
+    Set<Reservation> dirtyReservations;
+
+    // Reverse index of the references: id of the referenced entity -> ids of the referers.
+    // Like the allocatable index it is updated lazily.
+    Map<Object,Set<Object>> referers;
+    Map<Object,Object[]> references;
+    Map<Object,RefEntity<?>> dirtyReferers;
+
+    // Hash indexes for the lookups by name
+    SecondaryIndex usernameIndex;
+    SecondaryIndex preferencesIndex;
+    SecondaryIndex elementKeyIndex;
+    SecondaryIndex emailIndex;
+    static final Object NO_OWNER = new Object();
+
+    // Copy on write: readonly copies of the entity sets. A copy stays valid until an
+    // entity of that type is put or removed, so readers can keep it after releasing the lock.
+    Map<RaplaType,Collection<? extends RefEntity<?>>> snapshots;
+    // increased by each update of the storage
+    volatile long repositoryVersion;
+
+    // the expanded blocks of the repeating appointments in this cache
+    AppointmentBlockCache appointmentBlocks = new AppointmentBlockCache();
+
+    /** Maps a key computed from an entity to the ids of all entities with that key.
+     * Changed entities are reindexed on the next lookup, because their references
+     * may not be resolved when they are put in the cache. */
+    abstract static class SecondaryIndex {
+        private final Map<Object,Set<Object>> idsByKey = new HashMap<Object,Set<Object>>();
+        private final Map<Object,Object> keyById = new HashMap<Object,Object>();
+        private final Map<Object,RefEntity<?>> dirty = new HashMap<Object,RefEntity<?>>();
+
+        /** @return the key for the entity or null if the entity should not be indexed. */
+        abstract protected Object getKey(RefEntity<?> entity);
+
+        synchronized void put(RefEntity<?> entity) {
+            dirty.put( entity.getId(), entity );
+        }
+
+        synchronized void remove(Object id) {
+            dirty.remove( id );
+            removeKey( id );
+        }
+
+        synchronized void clear() {
+            idsByKey.clear();
+            keyById.clear();
+            dirty.clear();
+        }
+
+        /** returns the ids of the entities with the passed key.*/
+        synchronized Object[] get(Object key) {
+            if ( !dirty.isEmpty()) {
+                for (RefEntity<?> entity:dirty.values()) {
+                    Object id = entity.getId();
+                    removeKey( id );
+                    Object newKey = getKey( entity );
+                    if ( newKey == null)
+                        continue;
+                    Set<Object> ids = idsByKey.get( newKey );
+                    if ( ids == null) {
+                        ids = new LinkedHashSet<Object>(1);
+                        idsByKey.put( newKey, ids );
+                    }
+                    ids.add( id );
+                    keyById.put( id, newKey );
+                }
+                dirty.clear();
+            }
+            Set<Object> ids = idsByKey.get( key );
+            if ( ids == null)
+                return EMPTY_IDS;
+            return ids.toArray();
+        }
+
+        private void removeKey(Object id) {
+            Object oldKey = keyById.remove( id );
+            if ( oldKey == null)
+                return;
+            Set<Object> ids = idsByKey.get( oldKey );
+            if ( ids != null) {
+                ids.remove( id );
+                if ( ids.isEmpty())
+                    idsByKey.remove( oldKey );
+            }
+        }
+    }
+    static final Object[] EMPTY_IDS = new Object[] {};
     
     class IdComparator implements Comparator<RefEntity<?>> {
         public int compare(RefEntity<?> o1,RefEntity<?> o2) {
@@ -125,7 +224,43 @@ public class LocalCache implements EntityResolver
         entityMap.put(Preferences.TYPE, preferences);
 
 
-        appointmentsStart = new TreeSet<Appointment>(new AppointmentStartComparator());
+        appointmentIndex = new IntervalIndex<Appointment>();
+        allocatableIndex = new HashMap<Object,IntervalIndex<Appointment>>();
+        indexedAllocatables = new HashMap<Appointment,Object[]>();
+        dirtyReservations = new HashSet<Reservation>();
+        referers = new HashMap<Object,Set<Object>>();
+        references = new HashMap<Object,Object[]>();
+        dirtyReferers = new HashMap<Object,RefEntity<?>>();
+        snapshots = new HashMap<RaplaType,Collection<? extends RefEntity<?>>>();
+
+        usernameIndex = new SecondaryIndex() {
+            protected Object getKey(RefEntity<?> entity) {
+                String username = ((User) entity).getUsername();
+                return (username != null) ? username.toLowerCase( LocalCache.this.locale ) : null;
+            }
+        };
+        preferencesIndex = new SecondaryIndex() {
+            protected Object getKey(RefEntity<?> entity) {
+                User owner = ((Preferences) entity).getOwner();
+                return (owner != null) ? ((RefEntity<?>) owner).getId() : NO_OWNER;
+            }
+        };
+        elementKeyIndex = new SecondaryIndex() {
+            protected Object getKey(RefEntity<?> entity) {
+                return ((DynamicType) entity).getElementKey();
+            }
+        };
+        emailIndex = new SecondaryIndex() {
+            protected Object getKey(RefEntity<?> entity) {
+                Classification classification = ((Allocatable) entity).getClassification();
+                if ( classification == null)
+                    return null;
+                Attribute attribute = classification.getAttribute("email");
+                if ( attribute == null)
+                    return null;
+                return classification.getValue( attribute );
+            }
+        };
         initSuperCategory();
     }
 
@@ -144,9 +279,28 @@ public class LocalCache implements EntityResolver
             if ( Appointment.TYPE.equals( raplaType )) {
                 removeAppointment(entity);
             }
+            if ( Reservation.TYPE.equals( raplaType )) {
+                removeReservation( (Reservation) entity );
+            }
+            if ( Allocatable.TYPE.equals( raplaType )) {
+                synchronized ( allocatableIndex ) {
+                    allocatableIndex.remove( entity.getId() );
+                }
+            }
+            if ( isIndexedReferer( raplaType )) {
+                synchronized ( referers ) {
+                    dirtyReferers.remove( entity.getId() );
+                    removeReferences( entity.getId() );
+                }
+            }
+            SecondaryIndex secondaryIndex = getSecondaryIndex( raplaType );
+            if ( secondaryIndex != null) {
+                secondaryIndex.remove( entity.getId() );
+            }
 
             entities.remove(entity.getId());
             entitySet.remove( entity );
+            invalidateSnapshot( raplaType );
         } else {
             throw new RuntimeException("UNKNOWN TYPE. Can't remove object:" + entity.getRaplaType());
         }
@@ -165,13 +319,32 @@ public class LocalCache implements EntityResolver
         if (entitySet != null) {
 
             if (Appointment.TYPE.equals( raplaType )) {
-                removeAppointment(entity);
                 Appointment appointment = (Appointment)entity;
-				appointmentsStart.add(appointment);
+                removeBlockCache( id );
+                ((AppointmentImpl) appointment).setBlockCache( appointmentBlocks );
+                // replaces the old interval, even if the start date has been changed
+                appointmentIndex.add(appointment, appointment.getStart().getTime(), getMaxEnd( appointment ));
+                Reservation reservation = appointment.getReservation();
+                if ( reservation != null ) {
+                    markDirty( reservation );
+                }
 	        }
+            if (Reservation.TYPE.equals( raplaType )) {
+                markDirty( (Reservation) entity );
+            }
+            if ( isIndexedReferer( raplaType )) {
+                synchronized ( referers ) {
+                    dirtyReferers.put( id, entity );
+                }
+            }
+            SecondaryIndex secondaryIndex = getSecondaryIndex( raplaType );
+            if ( secondaryIndex != null) {
+                secondaryIndex.put( entity );
+            }
             entities.put(id,entity);
             entitySet.remove( entity );
 			entitySet.add( entity );
+            invalidateSnapshot( raplaType );
         } 
         else 
         {
@@ -187,17 +360,169 @@ public class LocalCache implements EntityResolver
     }
 
     private void removeAppointment(RefEntity<?> entity) {
+        removeBlockCache(entity.getId());
         if (appointments.remove(entity)) {
-            // start date could have been changed, so we probably won't find it with a binary search
-            if (!appointmentsStart.remove(entity)) {
-                Iterator<Appointment> it = appointmentsStart.iterator();
-                while (it.hasNext())
-                    if (entity.equals(it.next())) {
-                        it.remove();
-                        break;
+            // the index remembers the interval, so a changed start date doesn't matter
+            appointmentIndex.remove((Appointment) entity);
+        }
+        synchronized ( allocatableIndex ) {
+            removeFromAllocatableIndex( (Appointment) entity );
+        }
+    }
+
+    /** the blocks of a changed or removed appointment are not needed anymore. The replaced instance doesn't use the cache. */
+    private void removeBlockCache(Object id) {
+        appointmentBlocks.remove( id );
+        RefEntity<?> old = entities.get( id );
+        if ( old instanceof AppointmentImpl) {
+            ((AppointmentImpl) old).setBlockCache( null );
+        }
+    }
+
+    /** returns the cache for the blocks of the repeating appointments, that is cleared with the entities. */
+    public AppointmentBlockCache getAppointmentBlockCache() {
+        return appointmentBlocks;
+    }
+
+    private void removeReservation(Reservation reservation) {
+        synchronized ( allocatableIndex ) {
+            dirtyReservations.remove( reservation );
+            Appointment[] appointments = reservation.getAppointments();
+            for (int i=0;i<appointments.length;i++) {
+                removeFromAllocatableIndex( appointments[i] );
+            }
+        }
+    }
+
+    private void markDirty(Reservation reservation) {
+        synchronized ( allocatableIndex ) {
+            dirtyReservations.add( reservation );
+        }
+    }
+
+    private void removeFromAllocatableIndex(Appointment appointment) {
+        Object[] allocatableIds = indexedAllocatables.remove( appointment );
+        if ( allocatableIds == null)
+            return;
+        for (int i=0;i<allocatableIds.length;i++) {
+            IntervalIndex<Appointment> index = allocatableIndex.get( allocatableIds[i] );
+            if ( index != null ) {
+                index.remove( appointment );
+            }
+        }
+    }
+
+    private SecondaryIndex getSecondaryIndex(RaplaType raplaType) {
+        if ( User.TYPE.equals( raplaType ))
+            return usernameIndex;
+        if ( Preferences.TYPE.equals( raplaType ))
+            return preferencesIndex;
+        if ( DynamicType.TYPE.equals( raplaType ))
+            return elementKeyIndex;
+        if ( Allocatable.TYPE.equals( raplaType ))
+            return emailIndex;
+        return null;
+    }
+
+    /** the types that are searched for referers in {@link #getReferers(RaplaType, RefEntity)}.*/
+    private static boolean isIndexedReferer(RaplaType raplaType) {
+        return Reservation.TYPE.equals( raplaType )
+            || Allocatable.TYPE.equals( raplaType )
+            || Preferences.TYPE.equals( raplaType )
+            || User.TYPE.equals( raplaType )
+            || DynamicType.TYPE.equals( raplaType );
+    }
+
+    private void removeReferences(Object refererId) {
+        Object[] referencedIds = references.remove( refererId );
+        if ( referencedIds == null)
+            return;
+        for (int i=0;i<referencedIds.length;i++) {
+            Set<Object> set = referers.get( referencedIds[i] );
+            if ( set != null ) {
+                set.remove( refererId );
+                if ( set.isEmpty()) {
+                    referers.remove( referencedIds[i] );
+                }
+            }
+        }
+    }
+
+    /** indexes the references of all referers that have been changed since the last call.*/
+    private void updateReferers() {
+        if ( dirtyReferers.isEmpty())
+            return;
+        for (RefEntity<?> referer:dirtyReferers.values()) {
+            Object refererId = referer.getId();
+            removeReferences( refererId );
+            Set<Object> referencedIds = new HashSet<Object>();
+            for (Iterator<RefEntity<?>> it = referer.getReferences();it.hasNext();) {
+                referencedIds.add( it.next().getId());
+            }
+            // dynamic types also refer to the objects referenced by their attributes
+            if ( DynamicType.TYPE.equals( referer.getRaplaType())) {
+                Attribute[] attributes = ((DynamicType) referer).getAttributes();
+                for (int i=0;i<attributes.length;i++) {
+                    for (Iterator<RefEntity<?>> it = ((RefEntity<?>)attributes[i]).getReferences();it.hasNext();) {
+                        referencedIds.add( it.next().getId());
                     }
+                }
             }
+            for (Object referencedId:referencedIds) {
+                Set<Object> set = referers.get( referencedId );
+                if ( set == null ) {
+                    set = new HashSet<Object>();
+                    referers.put( referencedId, set );
+                }
+                set.add( refererId );
+            }
+            references.put( refererId, referencedIds.toArray());
+        }
+        dirtyReferers.clear();
+    }
+
+    /** indexes the appointments of all reservations that have been changed since the last call.*/
+    private void updateAllocatableIndex() {
+        if ( dirtyReservations.isEmpty())
+            return;
+        for (Reservation dirty:dirtyReservations) {
+            // use the version in the cache
+            Reservation reservation = (Reservation) entities.get( ((RefEntity<?>)dirty).getId());
+            if ( reservation == null)
+                continue;
+            Appointment[] reservationAppointments = reservation.getAppointments();
+            Allocatable[] allocatables = reservation.getAllocatables();
+            for (int i=0;i<reservationAppointments.length;i++) {
+                Appointment appointment = reservationAppointments[i];
+                removeFromAllocatableIndex( appointment );
+                if ( !appointments.contains( appointment )) {
+                    continue;
+                }
+                Object[] allocatableIds = new Object[allocatables.length];
+                long start = appointment.getStart().getTime();
+                long end = getMaxEnd( appointment );
+                for (int j=0;j<allocatables.length;j++) {
+                    Object id = ((RefEntity<?>)allocatables[j]).getId();
+                    IntervalIndex<Appointment> index = allocatableIndex.get( id );
+                    if ( index == null ) {
+                        index = new IntervalIndex<Appointment>();
+                        allocatableIndex.put( id, index );
+                    }
+                    index.add( appointment, start, end );
+                    allocatableIds[j] = id;
+                }
+                indexedAllocatables.put( appointment, allocatableIds );
+            }
+        }
+        dirtyReservations.clear();
+    }
+
+    private static long getMaxEnd(Appointment appointment) {
+        Date maxEnd = appointment.getMaxEnd();
+        if ( maxEnd == null) {
+            return IntervalIndex.OPEN_END;
         }
+        return Math.max( maxEnd.getTime(), appointment.getStart().getTime());
     }
 
     static public SortedSet<Appointment> getAppointments(SortedSet<Appointment> sortedAppointmentList,User user,Date start,Date end) {
@@ -243,22 +568,76 @@ public class LocalCache implements EntityResolver
     }
 
 
+    /** returns the reservations that allocate at least one of the passed allocatables and have an appointment
+     * in the specified period. Like {@link Reservation#hasAllocated(Allocatable)} the restrictions of the allocations
+     * are ignored, so the appointment in the period need not be the restricted one.*/
+    public List<Reservation> getReservationsForAllocatable(Allocatable[] allocatables, Date start, Date end) {
+        long startTime = (start != null) ? start.getTime() : Long.MIN_VALUE;
+        long endTime = (end != null) ? end.getTime() : Long.MAX_VALUE;
+        List<Appointment> candidates = new ArrayList<Appointment>();
+        synchronized ( allocatableIndex ) {
+            updateAllocatableIndex();
+            for (int i=0;i<allocatables.length;i++) {
+                IntervalIndex<Appointment> index = allocatableIndex.get( ((RefEntity<?>)allocatables[i]).getId());
+                if ( index != null ) {
+                    index.query( startTime, endTime, candidates );
+                }
+            }
+        }
+        Set<Reservation> reservationSet = new LinkedHashSet<Reservation>();
+        for (Appointment appointment: candidates) {
+            Reservation reservation = appointment.getReservation();
+            if ( reservation == null || reservationSet.contains( reservation ))
+                continue;
+            if ( !appointment.overlaps(start,end, false))
+                continue;
+            reservationSet.add( reservation );
+        }
+        return new ArrayList<Reservation>(reservationSet);
+    }
+
+    /** returns a readonly copy of all entities of the type. The copy is shared by all
+     * readers until the next change of that type, so it is safe to iterate it after
+     * releasing the read lock. Keep in mind that the entities themselves are
+     * still changed in place.*/
     @SuppressWarnings("unchecked")
 	public <T extends RaplaObject> Collection<T> getCollection(RaplaType type) {
-        Set<? extends RefEntity<?>> entities =  entityMap.get(type);
-
-        if ( Period.TYPE.equals( type)) {
-            entities = new TreeSet<RefEntity<?>>( entities);
+        synchronized ( snapshots ) {
+            Collection<? extends RefEntity<?>> snapshot = snapshots.get( type );
+            if ( snapshot == null ) {
+                Set<? extends RefEntity<?>> entities =  entityMap.get(type);
+                if (entities == null) {
+                    throw new RuntimeException("UNKNOWN TYPE. Can't get collection: "
+                                               +  type);
+                }
+                if ( Period.TYPE.equals( type)) {
+                    // periods are sorted by their start
+                    entities = new TreeSet<RefEntity<?>>( entities);
+                }
+                snapshot = Collections.unmodifiableList( new ArrayList<RefEntity<?>>( entities ));
+                snapshots.put( type, snapshot );
+            }
+            return (Collection<T>) snapshot;
         }
+    }
 
-        if (entities != null) {
-            return (Collection<T>) entities;
-        } else {
-            throw new RuntimeException("UNKNOWN TYPE. Can't get collection: "
-                                       +  type);
+    private void invalidateSnapshot(RaplaType type) {
+        synchronized ( snapshots ) {
+            snapshots.remove( type );
         }
     }
 
+    /** the version of the cache. It is increased after each update and
+     * matches the repository version the server sends to its clients.*/
+    public long getRepositoryVersion() {
+        return repositoryVersion;
+    }
+
+    /** increases the repository version and returns the new version.*/
+    public synchronized long increaseRepositoryVersion() {
+        return ++repositoryVersion;
+    }
+
     @SuppressWarnings("unchecked")
 	public Iterator<RefEntity<?>> getIterator(RaplaType type) throws RaplaException {
     	Set<? extends RefEntity<?>> entities =  entityMap.get(type);
@@ -277,13 +656,34 @@ public class LocalCache implements EntityResolver
 
     public void clearAll() {
         passwords.clear();
+        for (AppointmentImpl appointment: appointments) {
+            appointment.setBlockCache( null );
+        }
         Iterator<Set<? extends RefEntity<?>>> it = entityMap.values().iterator();
         while (it.hasNext()) {
             it.next().clear();
         }
-        appointmentsStart.clear();
+        appointmentIndex.clear();
+        synchronized ( allocatableIndex ) {
+            allocatableIndex.clear();
+            indexedAllocatables.clear();
+            dirtyReservations.clear();
+        }
+        synchronized ( referers ) {
+            referers.clear();
+            references.clear();
+            dirtyReferers.clear();
+        }
+        usernameIndex.clear();
+        preferencesIndex.clear();
+        elementKeyIndex.clear();
+        emailIndex.clear();
+        appointmentBlocks.clear();
         entities.clear();
         initSuperCategory();
+        synchronized ( snapshots ) {
+            snapshots.clear();
+        }
 
     }
     private void initSuperCategory() {
@@ -321,13 +721,30 @@ public class LocalCache implements EntityResolver
         return result;
     }
 
+    /** returns all reservations, allocatables, preferences, users and dynamic types that refer to the passed object.*/
+    public Collection<RefEntity<?>> getReferers(RefEntity<?> object) {
+        return getReferers( null, object );
+    }
+
+    /** returns the objects of the passed type that refer to the passed object. If type is null all referers are returned.
+     * Only reservations, allocatables, preferences, users and dynamic types are considered as referers.*/
     public Collection<RefEntity<?>> getReferers(RaplaType raplaType,RefEntity<?> object) {
         ArrayList<RefEntity<?>> result = new ArrayList<RefEntity<?>>();
-        Iterator<RaplaObject> it = getCollection(raplaType).iterator();
-        while (it.hasNext())
+        Object[] refererIds;
+        synchronized ( referers ) {
+            updateReferers();
+            Set<Object> set = referers.get( object.getId() );
+            if ( set == null ) {
+                return result;
+            }
+            refererIds = set.toArray();
+        }
+        for (int i=0;i<refererIds.length;i++)
         {
-        	RefEntity<?> referer = (RefEntity<?>) it.next();
-            if (referer != null && !referer.isIdentical(object) && referer.isRefering(object)) {
+        	RefEntity<?> referer = entities.get( refererIds[i] );
+            if ( referer == null || ( raplaType != null && !raplaType.equals( referer.getRaplaType())))
+                continue;
+            if (!referer.isIdentical(object) && referer.isRefering(object)) {
                 result.add(referer);
             }
         }
@@ -335,28 +752,28 @@ public class LocalCache implements EntityResolver
     }
 
     public UserImpl getUser(String username) {
-        Iterator<UserImpl> it = users.iterator();
-        while (it.hasNext()) {
-            UserImpl user =  it.next();
-			// allow lowercase login 
-            if (user.getUsername().equals(username)
-            	|| (user.getUsername()).toLowerCase(locale).equals(username.toLowerCase(locale)))
+        Object[] ids = usernameIndex.get( username.toLowerCase( locale ));
+        UserImpl result = null;
+        for (int i=0;i<ids.length;i++) {
+            UserImpl user = (UserImpl) entities.get( ids[i] );
+            if ( user == null)
+                continue;
+            // allow lowercase login, but prefer the exact match
+            if ( user.getUsername().equals( username ))
                 return user;
+            if ( result == null)
+                result = user;
         }
-        return null;
+        return result;
     }
 
     public PreferencesImpl getPreferences(User user) {
-        Iterator<PreferencesImpl> it = preferences.iterator();
-        while (it.hasNext()) {
-            PreferencesImpl pref =  it.next();
-            if ( user == null && pref.getOwner() == null ) {
+        Object key = (user != null) ? ((RefEntity<?>) user).getId() : NO_OWNER;
+        Object[] ids = preferencesIndex.get( key );
+        for (int i=0;i<ids.length;i++) {
+            PreferencesImpl pref = (PreferencesImpl) entities.get( ids[i] );
+            if ( pref != null)
                 return pref;
-            }
-            if (user!= null && pref.getOwner() != null && user.equals(pref.getOwner())) {
-                return pref;
-            }
-
         }
         return null;
     }
@@ -384,10 +801,10 @@ public class LocalCache implements EntityResolver
     }
 
     public DynamicTypeImpl getDynamicType(String elementKey) {
-        Iterator<DynamicTypeImpl> it = dynamicTypes.iterator();
-        while (it.hasNext()) {
-            DynamicTypeImpl dt =  it.next();
-            if (dt.getElementKey().equals(elementKey))
+        Object[] ids = elementKeyIndex.get( elementKey );
+        for (int i=0;i<ids.length;i++) {
+            DynamicTypeImpl dt = (DynamicTypeImpl) entities.get( ids[i] );
+            if ( dt != null)
                 return dt;
         }
         return null;
@@ -455,24 +872,32 @@ public class LocalCache implements EntityResolver
 
 	public SortedSet<Appointment> getAppointments(User user, Date start,
 			Date end) {
-		return getAppointments(appointmentsStart,user,start,end);
+        long startTime = (start != null) ? start.getTime() : Long.MIN_VALUE;
+        long endTime = (end != null) ? end.getTime() : Long.MAX_VALUE;
+        List<Appointment> candidates = new ArrayList<Appointment>();
+        appointmentIndex.query( startTime, endTime, candidates);
+        SortedSet<Appointment> appointmentSet = new TreeSet<Appointment>(new AppointmentStartComparator());
+        for (Appointment appointment: candidates) {
+            // Ignore appointments without a reservation
+            if ( appointment.getReservation() == null)
+                continue;
+            // the index only knows the bounds of repeating appointments
+            if ( !appointment.overlaps(start,end, false))
+                continue;
+            if (user == null || user.equals(appointment.getOwner()) ) {
+                appointmentSet.add(appointment);
+            }
+        }
+        return appointmentSet;
 	}
 
 	public RefEntity<?> resolveEmail(final String emailArg) throws EntityNotFoundException
     {
-		Set<? extends RefEntity<?>> entities = entityMap.get(Allocatable.TYPE);
-    	for (RefEntity<?> entity: entities)
-    	{
-    		final Classification classification = ((Allocatable) entity).getClassification();
-    		final Attribute attribute = classification.getAttribute("email");
-    		if ( attribute != null)
-    		{
-    			final String email = (String)classification.getValue(attribute);
-    			if ( email != null && email.equals( emailArg))
-    			{
-    				return entity;
-    			}
-    		}
+        Object[] ids = emailIndex.get( emailArg );
+        for (int i=0;i<ids.length;i++) {
+            RefEntity<?> entity = entities.get( ids[i] );
+            if ( entity != null)
+                return entity;
         }
     	throw new EntityNotFoundException("Object for email " + emailArg + " not found");
     }
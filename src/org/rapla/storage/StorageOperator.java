@@ -27,6 +27,7 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.SortedSet;
+import java.util.concurrent.locks.Lock;
 
 import org.rapla.entities.Category;
 import org.rapla.entities.EntityNotFoundException;
@@ -34,6 +35,7 @@ import org.rapla.entities.RaplaObject;
 import org.rapla.entities.RaplaType;
 import org.rapla.entities.User;
 import org.rapla.entities.configuration.Preferences;
+import org.rapla.entities.domain.Allocatable;
 import org.rapla.entities.domain.Appointment;
 import org.rapla.entities.domain.Reservation;
 import org.rapla.entities.storage.RefEntity;
@@ -76,6 +78,10 @@ public interface StorageOperator {
     /** returns the reservations of the specified user, sorted by name.*/
     List<Reservation> getReservations(User user,Date start,Date end) throws RaplaException;
 
+    /** returns the reservations that allocate at least one of the passed allocatables and have an appointment in the specified period.
+     * The restrictions of the allocations to single appointments are ignored. */
+    List<Reservation> getReservationsForAllocatable(Allocatable[] allocatables,Date start,Date end) throws RaplaException;
+
     /** returns the appointments of the specified user in the specified period, sorted by start-date */
     SortedSet<Appointment> getAppointments(User user,Date start,Date end) throws RaplaException;
 
@@ -89,10 +95,19 @@ public interface StorageOperator {
     void addStorageUpdateListener(StorageUpdateListener updateListener);
     void removeStorageUpdateListener(StorageUpdateListener updateListener);
 
-    Object getLock();
+    /** the lock that must be held while reading from the storage. Many readers can hold it at the same time.*/
+    Lock getReadLock();
+
+    /** the lock that must be held while changing the storage. It excludes all readers and other writers.
+     * A thread that holds the write lock can also acquire the read lock, but a reader can't acquire the write lock.*/
+    Lock getWriteLock();
 
     Date today();
 
     boolean supportsActiveMonitoring();
 
+    /** returns true while the changes are pushed to this operator, so there is no need to poll them with {@link #refresh()}.
+     * The listeners are notified with {@link StorageUpdateListener#pushingUpdatesChanged()} when this changes.*/
+    boolean isPushingUpdates();
+
 }
\ No newline at end of file
@@ -19,4 +19,6 @@ public interface StorageUpdateListener
     public void objectsUpdated(UpdateResult evt);
     public void updateError(RaplaException ex);
     public void storageDisconnected();
+    /** called when {@link StorageOperator#isPushingUpdates()} changes */
+    public void pushingUpdatesChanged();
 }
@@ -25,11 +25,22 @@ public class UpdateResult
 {
     User user;
     List<UpdateOperation> operations = new ArrayList<UpdateOperation>();
+    long repositoryVersion;
     
     public UpdateResult(User user) {
         this.user = user;
     }
     
+    /** the version of the cache after the update.
+     * @see LocalCache#getRepositoryVersion() */
+    public long getRepositoryVersion() {
+        return repositoryVersion;
+    }
+    
+    public void setRepositoryVersion(long repositoryVersion) {
+        this.repositoryVersion = repositoryVersion;
+    }
+    
     public void addOperation(final UpdateOperation operation) {
         if ( operation == null)
             throw new IllegalStateException( "Operation can't be null" );
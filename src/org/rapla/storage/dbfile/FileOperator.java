@@ -12,20 +12,29 @@
  *--------------------------------------------------------------------------*/
 package org.rapla.storage.dbfile;
 
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
 
 import org.apache.avalon.framework.configuration.Configuration;
 import org.rapla.components.util.IOUtil;
 import org.rapla.entities.RaplaType;
 import org.rapla.entities.User;
 import org.rapla.entities.storage.RefEntity;
+import org.rapla.entities.storage.internal.SimpleIdentifier;
 import org.rapla.framework.RaplaContext;
 import org.rapla.framework.RaplaException;
 import org.rapla.framework.StartupEnvironment;
@@ -46,6 +55,9 @@ import org.rapla.storage.xml.RaplaMainWriter;
  &lt;file>data.xml&lt;/file>
  &lt;encoding>utf-8&lt;/encoding>
  &lt;validate>no&lt;/validate>
+ &lt;journal>no&lt;/journal>
+ &lt;journal-limit>1048576&lt;/journal-limit>
+ &lt;write-delay>0&lt;/write-delay>
  &lt;/facade>
  </pre>
  * <ul>
@@ -60,7 +72,20 @@ import org.rapla.storage.xml.RaplaMainWriter;
  *    against a schema-file that is located under org/rapla/storage/xml/rapla.rng
  *    (Default is no)
  *   </li>
+ *   <li>If journal is set, a change is only appended to the file data.xml.journal
+ *   instead of rewriting the whole data file. The data file is rewritten when the journal
+ *   grows beyond journal-limit bytes (Default is 1 MB) and on disconnect. On startup
+ *   the journal is applied to the data file. Ids are always written to the data file in this mode.
+ *   (Default is no)
+ *   </li>
+ *   <li>If write-delay is greater than 0, the data file is written in a background thread.
+ *   All changes made within write-delay milliseconds after the first unsaved change are
+ *   written with a single snapshot. Without a journal, a change is lost if the server stops
+ *   before its snapshot was written. (Default is 0, which writes the data file for each change)
+ *   </li>
  * </ul>
+ * <p>The data file is written to data.xml.tmp first and then renamed, so the data file
+ * is never left half written. data.xml.bak contains the previous version of the data file.</p>
  * </p>
  * <p>Note: The xmloperator doesn't check passwords.</p>
 
@@ -78,6 +103,10 @@ final public class FileOperator extends AbstractCachableOperator
     final boolean includeIds ;
 
     private final boolean validate;
+    private final UpdateJournal journal;
+    private final long journalLimit;
+    private final SnapshotWriter snapshotWriter;
+    private final SnapshotStatistics snapshotStatistics = new SnapshotStatistics();
 
     public FileOperator( RaplaContext context, Configuration config ) throws RaplaException
     {
@@ -121,7 +150,26 @@ final public class FileOperator extends AbstractCachableOperator
         }
         encoding = config.getChild( "encoding" ).getValue( "utf-8" );
         validate = config.getChild( "validate" ).getValueAsBoolean( false );
-        includeIds = config.getChild( "includeIds" ).getValueAsBoolean( false );
+        boolean useJournal = config.getChild( "journal" ).getValueAsBoolean( false ) && storageFile != null;
+        journal = useJournal ? new UpdateJournal( new File( storageFile.getPath() + ".journal" ) ) : null;
+        journalLimit = config.getChild( "journal-limit" ).getValueAsLong( 1024 * 1024 );
+        // the journal references categories and types by id, so the ids must survive a reload
+        includeIds = config.getChild( "includeIds" ).getValueAsBoolean( false ) || useJournal;
+        long writeDelay = config.getChild( "write-delay" ).getValueAsLong( 0 );
+        if ( writeDelay > 0 && storageFile != null )
+        {
+            snapshotWriter = new SnapshotWriter( getLogger(), writeDelay )
+            {
+                protected void write( int changes ) throws Exception
+                {
+                    writeSnapshot( changes );
+                }
+            };
+        }
+        else
+        {
+            snapshotWriter = null;
+        }
     }
 
     public boolean supportsActiveMonitoring()
@@ -129,6 +177,11 @@ final public class FileOperator extends AbstractCachableOperator
         return false;
     }
 
+    public boolean isPushingUpdates()
+    {
+        return false;
+    }
+
     /** just calls connect. Username and password will be ignored.*/
     final public void connect( String username, char[] password ) throws RaplaException
     {
@@ -142,6 +195,10 @@ final public class FileOperator extends AbstractCachableOperator
             return;
         loadData();
         isConnected = true;
+        if ( snapshotWriter != null )
+        {
+            snapshotWriter.start( "Rapla snapshot writer" );
+        }
     }
 
     final public boolean isConnected()
@@ -149,9 +206,41 @@ final public class FileOperator extends AbstractCachableOperator
         return isConnected;
     }
 
-    /** this implementation does nothing. Once connected isConnected will always return true.*/
+    /** writes the pending changes to the data file.*/
     final public void disconnect() throws RaplaException
     {
+        if ( snapshotWriter != null )
+        {
+            try
+            {
+                snapshotWriter.stop();
+            }
+            catch ( InterruptedException ex )
+            {
+                throw new RaplaException( "Interrupted while writing " + storageFile );
+            }
+        }
+        if ( journal != null )
+        {
+            Lock writeLock = getWriteLock();
+            writeLock.lock();
+            try
+            {
+                if ( isConnected && journal.length() > 0 )
+                {
+                    saveData( cache );
+                }
+                journal.close();
+            }
+            catch ( IOException ex )
+            {
+                throw new RaplaException( "Can't close journal " + journal.getFile() + ": " + ex.getMessage() );
+            }
+            finally
+            {
+                writeLock.unlock();
+            }
+        }
         isConnected = false;
         fireStorageDisconnected();
     }
@@ -204,6 +293,10 @@ final public class FileOperator extends AbstractCachableOperator
                 //System.out.println("Storing password in cache" + password);
                 cache.putPassword( user.getId(), password );
             }
+            if ( journal != null )
+            {
+                replayJournal();
+            }
             // contextualize all Entities
             if ( getLogger().isDebugEnabled() )
                 getLogger().debug( "Entities contextualized" );
@@ -233,15 +326,173 @@ final public class FileOperator extends AbstractCachableOperator
     
     public void dispatch( UpdateEvent evt ) throws RaplaException
     {
-        evt = createClosure( evt );
-        check( evt );
-        // call of update must be first to update the cache.
-        // then saveData() saves all the data in the cache
-        UpdateResult result = update( evt, true );
-        saveData(cache);
+        UpdateResult result;
+        // the snapshot writer must not see a half applied change
+        Lock writeLock = getWriteLock();
+        writeLock.lock();
+        try
+        {
+            evt = createClosure( evt );
+            check( evt );
+            // call of update must be first to update the cache.
+            // then the snapshot saves all the data in the cache
+            result = update( evt, true );
+            if ( journal != null )
+            {
+                appendToJournal( evt );
+            }
+            else
+            {
+                scheduleSnapshot();
+            }
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
         fireStorageUpdated( result );
     }
 
+    /** writes the data file now or, if a write-delay is configured, in the snapshot writer thread.*/
+    private void scheduleSnapshot() throws RaplaException
+    {
+        if ( snapshotWriter != null )
+        {
+            snapshotWriter.changed();
+        }
+        else
+        {
+            writeSnapshot( 1 );
+        }
+    }
+
+    /** writes the data file while holding the read lock, so the cache can't change during the snapshot.*/
+    private void writeSnapshot( int changes ) throws RaplaException
+    {
+        Lock readLock = getReadLock();
+        readLock.lock();
+        try
+        {
+            saveData( cache, changes );
+        }
+        finally
+        {
+            readLock.unlock();
+        }
+    }
+
+    /** the number and duration of the written data files.*/
+    public SnapshotStatistics getSnapshotStatistics()
+    {
+        return snapshotStatistics;
+    }
+
+    private void appendToJournal( UpdateEvent evt ) throws RaplaException
+    {
+        try
+        {
+            synchronized ( journal )
+            {
+                journal.append( createJournalRecord( evt ) );
+            }
+        }
+        catch ( IOException e )
+        {
+            throw new RaplaException( "Can't write journal " + journal.getFile() + ": " + e.getMessage() );
+        }
+        if ( journal.length() > journalLimit )
+        {
+            scheduleSnapshot();
+        }
+    }
+
+    /** A journal record contains the changes as update xml followed by the passwords of the stored users.*/
+    private byte[] createJournalRecord( UpdateEvent evt ) throws IOException, RaplaException
+    {
+        RaplaContext outputContext = new IOContext().createOutputContext( serviceManager, cache, true, true );
+        RaplaMainWriter writer = new RaplaMainWriter( outputContext );
+        writer.setEncoding( "utf-8" );
+        ByteArrayOutputStream xml = new ByteArrayOutputStream();
+        BufferedWriter out = new BufferedWriter( new OutputStreamWriter( xml, "utf-8" ) );
+        writer.setWriter( out );
+        writer.printList( evt.getStoreObjects(), evt.getRemoveObjects(), cache.getRepositoryVersion() );
+        out.close();
+
+        List<RefEntity<?>> users = new ArrayList<RefEntity<?>>();
+        for ( RefEntity<?> entity : evt.getStoreObjects() )
+        {
+            if ( entity.getRaplaType() == User.TYPE && cache.getPassword( entity.getId() ) != null )
+            {
+                users.add( entity );
+            }
+        }
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream( buffer );
+        data.writeInt( xml.size() );
+        xml.writeTo( data );
+        data.writeInt( users.size() );
+        for ( RefEntity<?> user : users )
+        {
+            data.writeInt( ( (SimpleIdentifier) user.getId() ).getKey() );
+            data.writeUTF( cache.getPassword( user.getId() ) );
+        }
+        data.close();
+        return buffer.toByteArray();
+    }
+
+    /** applies the changes stored in the journal to the cache.*/
+    private void replayJournal() throws IOException, RaplaException
+    {
+        List<byte[]> records;
+        synchronized ( journal )
+        {
+            journal.close();
+            records = journal.read();
+        }
+        if ( records.size() == 0 )
+        {
+            return;
+        }
+        getLogger().info( "Applying " + records.size() + " changes from journal " + journal.getFile() );
+        RaplaInput xmlAdapter = new RaplaInput( getLogger().getChildLogger( "reading" ) );
+        for ( byte[] record : records )
+        {
+            DataInputStream data = new DataInputStream( new ByteArrayInputStream( record ) );
+            byte[] xml = new byte[data.readInt()];
+            data.readFully( xml );
+
+            EntityStore store = new EntityStore( cache, cache.getSuperCategory() );
+            RaplaContext inputContext = new IOContext().createInputContext( serviceManager, store, idTable );
+            RaplaMainReader contentHandler = new RaplaMainReader( inputContext );
+            xmlAdapter.read( new ByteArrayInputStream( xml ), "UTF-8", contentHandler, false );
+            UpdateEvent evt = new UpdateEvent();
+            for ( RefEntity<?> entity : store.getList() )
+            {
+                evt.putStore( entity );
+            }
+            for ( Object id : store.getRemoveIds() )
+            {
+                RefEntity<?> entity = cache.get( id );
+                if ( entity != null )
+                {
+                    evt.putRemove( entity );
+                }
+            }
+            resolveEntities( evt.getStoreObjects().iterator(), createEntityResolver( evt.getStoreObjects(), cache ) );
+            resolveEntities( evt.getRemoveObjects().iterator(), createEntityResolver( evt.getStoreObjects(), cache ) );
+            update( evt, false );
+
+            int passwordCount = data.readInt();
+            for ( int i = 0; i < passwordCount; i++ )
+            {
+                SimpleIdentifier userId = new SimpleIdentifier( User.TYPE, data.readInt() );
+                cache.putPassword( userId, data.readUTF() );
+            }
+        }
+        // the journal may contain new ids
+        idTable.setCache( cache );
+    }
+
     final public Object createIdentifier( RaplaType raplaType ) throws RaplaException
     {
         return idTable.createId( raplaType );
@@ -267,6 +518,11 @@ final public class FileOperator extends AbstractCachableOperator
     }
 
     final public void saveData(LocalCache cache) throws RaplaException
+    {
+        saveData( cache, 1 );
+    }
+
+    private void saveData( LocalCache cache, int changes ) throws RaplaException
     {
         try
         {
@@ -275,15 +531,22 @@ final public class FileOperator extends AbstractCachableOperator
                 showReadOnlyWarning();
                 return;
             }
+            long start = System.nanoTime();
             ByteArrayOutputStream buffer = new ByteArrayOutputStream();
             writeData( buffer,cache );
             byte[] data = buffer.toByteArray();
             buffer.close();
 
-            moveFile( storageFile, storageFile.getPath() + ".bak" );
-            OutputStream out = new FileOutputStream( storageFile );
-            out.write( data );
-            out.close();
+            writeFile( data );
+            snapshotStatistics.snapshotWritten( changes, data.length, System.nanoTime() - start );
+            if ( journal != null )
+            {
+                // the changes in the journal are now part of the data file
+                synchronized ( journal )
+                {
+                    journal.clear();
+                }
+            }
         }
         catch ( IOException e )
         {
@@ -300,6 +563,37 @@ final public class FileOperator extends AbstractCachableOperator
         writer.write( out );
     }
 
+    /** writes the data to a temporary file and renames it to the data file. The previous data file is kept as backup.*/
+    synchronized private void writeFile( byte[] data ) throws IOException
+    {
+        if ( storageFile.exists() )
+        {
+            IOUtil.copy( storageFile, new File( storageFile.getPath() + ".bak" ), false );
+        }
+        File tempFile = new File( storageFile.getPath() + ".tmp" );
+        FileOutputStream out = new FileOutputStream( tempFile );
+        try
+        {
+            out.write( data );
+            out.flush();
+            out.getFD().sync();
+        }
+        finally
+        {
+            out.close();
+        }
+        if ( !tempFile.renameTo( storageFile ) )
+        {
+            // some platforms can't rename onto an existing file
+            moveFile( storageFile, storageFile.getPath() + ".old" );
+            if ( !tempFile.renameTo( storageFile ) )
+            {
+                throw new IOException( "Can't rename " + tempFile + " to " + storageFile );
+            }
+            new File( storageFile.getPath() + ".old" ).delete();
+        }
+    }
+
     private void moveFile( File file, String newPath ) throws IOException
     {
         File backupFile = new File( newPath );
@@ -0,0 +1,77 @@
+/*--------------------------------------------------------------------------*
+ | Copyright (C) 2006 Christopher Kohlhaas                                  |
+ |                                                                          |
+ | This program is free software; you can redistribute it and/or modify     |
+ | it under the terms of the GNU General Public License as published by the |
+ | Free Software Foundation. A copy of the license has been included with   |
+ | these distribution in the COPYING file, if not go to www.fsf.org .       |
+ |                                                                          |
+ | As a special exception, you are granted the permissions to link this     |
+ | program with every library, which license fulfills the Open Source       |
+ | Definition as published by the Open Source Initiative (OSI).             |
+ *--------------------------------------------------------------------------*/
+package org.rapla.storage.dbfile;
+
+
+/** Counts the snapshots of the data file, their size and how long they took. All times are in milliseconds.*/
+public class SnapshotStatistics
+{
+    private long count;
+    private long changes;
+    private long lastBytes;
+    private long totalBytes;
+    private long totalTime;
+    private long maxTime;
+
+    synchronized void snapshotWritten( int changes, long bytes, long nanos )
+    {
+        count++;
+        this.changes += changes;
+        lastBytes = bytes;
+        totalBytes += bytes;
+        totalTime += nanos;
+        if ( nanos > maxTime )
+            maxTime = nanos;
+    }
+
+    /** the number of snapshots written.*/
+    public synchronized long getCount()
+    {
+        return count;
+    }
+
+    /** the number of changes written with the snapshots.*/
+    public synchronized long getChanges()
+    {
+        return changes;
+    }
+
+    /** the size of the last snapshot in bytes.*/
+    public synchronized long getLastBytes()
+    {
+        return lastBytes;
+    }
+
+    public synchronized long getTotalBytes()
+    {
+        return totalBytes;
+    }
+
+    public synchronized long getTotalTime()
+    {
+        return totalTime / 1000000;
+    }
+
+    public synchronized long getMaxTime()
+    {
+        return maxTime / 1000000;
+    }
+
+    public synchronized String toString()
+    {
+        long avgTime = count > 0 ? totalTime / count / 1000000 : 0;
+        return "snapshots: " + count + " times for " + changes + " changes"
+            + ", last " + lastBytes + " bytes"
+            + ", time avg " + avgTime + "ms max " + getMaxTime() + "ms";
+    }
+}
@@ -0,0 +1,134 @@
+/*--------------------------------------------------------------------------*
+ | Copyright (C) 2006 Christopher Kohlhaas                                  |
+ |                                                                          |
+ | This program is free software; you can redistribute it and/or modify     |
+ | it under the terms of the GNU General Public License as published by the |
+ | Free Software Foundation. A copy of the license has been included with   |
+ | these distribution in the COPYING file, if not go to www.fsf.org .       |
+ |                                                                          |
+ | As a special exception, you are granted the permissions to link this     |
+ | program with every library, which license fulfills the Open Source       |
+ | Definition as published by the Open Source Initiative (OSI).             |
+ *--------------------------------------------------------------------------*/
+package org.rapla.storage.dbfile;
+
+
+import org.apache.avalon.framework.logger.Logger;
+
+/** <p>Writes the data file in a background thread. Changes that arrive within
+ * the delay after the first unsaved change are written with a single snapshot,
+ * so a change is on disk at the latest delay milliseconds after it was made
+ * (plus the time for writing).</p>
+ * <p>If a snapshot fails, it is retried after the delay. Stopping the writer
+ * writes the pending changes before the thread ends.</p>
+ */
+abstract class SnapshotWriter implements Runnable
+{
+    private final Logger logger;
+    private final long delay;
+    private Thread thread;
+    // time of the first change that is not in a snapshot, -1 if there is none
+    private long dirtySince = -1;
+    private int pendingChanges;
+    private boolean stopped;
+
+    SnapshotWriter( Logger logger, long delay )
+    {
+        this.logger = logger;
+        this.delay = delay;
+    }
+
+    /** writes the snapshot. Called from the writer thread.
+     * @param changes the number of changes that are written with this snapshot*/
+    abstract protected void write( int changes ) throws Exception;
+
+    synchronized void start( String name )
+    {
+        if ( thread != null )
+        {
+            return;
+        }
+        stopped = false;
+        thread = new Thread( this, name );
+        thread.setDaemon( true );
+        thread.start();
+    }
+
+    /** schedules a snapshot for a change.*/
+    synchronized void changed()
+    {
+        if ( dirtySince < 0 )
+        {
+            dirtySince = System.currentTimeMillis();
+            notifyAll();
+        }
+        pendingChanges++;
+    }
+
+    /** writes the pending changes and waits until the thread is finished.*/
+    void stop() throws InterruptedException
+    {
+        Thread oldThread;
+        synchronized ( this )
+        {
+            stopped = true;
+            notifyAll();
+            oldThread = thread;
+            thread = null;
+        }
+        if ( oldThread != null )
+        {
+            oldThread.join();
+        }
+    }
+
+    public void run()
+    {
+        while ( true )
+        {
+            int changes;
+            synchronized ( this )
+            {
+                try
+                {
+                    while ( !stopped && ( dirtySince < 0 || System.currentTimeMillis() < dirtySince + delay ) )
+                    {
+                        long waitTime = dirtySince < 0 ? 0 : Math.max( 1, dirtySince + delay - System.currentTimeMillis() );
+                        wait( waitTime );
+                    }
+                }
+                catch ( InterruptedException ex )
+                {
+                    stopped = true;
+                }
+                if ( dirtySince < 0 )
+                {
+                    return;
+                }
+                changes = pendingChanges;
+                dirtySince = -1;
+                pendingChanges = 0;
+            }
+            try
+            {
+                write( changes );
+            }
+            catch ( Exception ex )
+            {
+                logger.error( "Can't write snapshot: " + ex.getMessage(), ex );
+                synchronized ( this )
+                {
+                    if ( stopped )
+                    {
+                        return;
+                    }
+                    if ( dirtySince < 0 )
+                    {
+                        dirtySince = System.currentTimeMillis();
+                    }
+                    pendingChanges += changes;
+                }
+            }
+        }
+    }
+}
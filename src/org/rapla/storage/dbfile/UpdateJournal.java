@@ -0,0 +1,171 @@
+/*--------------------------------------------------------------------------*
+ | Copyright (C) 2006 Christopher Kohlhaas                                  |
+ |                                                                          |
+ | This program is free software; you can redistribute it and/or modify     |
+ | it under the terms of the GNU General Public License as published by the |
+ | Free Software Foundation. A copy of the license has been included with   |
+ | these distribution in the COPYING file, if not go to www.fsf.org         |
+ |                                                                          |
+ | As a special exception, you are granted the permissions to link this     |
+ | program with every library, which license fulfills the Open Source       |
+ | Definition as published by the Open Source Initiative (OSI).             |
+ *--------------------------------------------------------------------------*/
+package org.rapla.storage.dbfile;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/** <p>Append-only log of the changes since the last snapshot of the data file.
+ * Every record is written with its length and a checksum and is synced to disk
+ * before append returns.</p>
+ * <p>A record that was not written completely, because the process died while
+ * appending, is detected by its checksum and cut off when the journal is read.</p>
+ * <p>This class is not thread-safe.</p>
+ */
+final class UpdateJournal
+{
+    private final File file;
+    private FileOutputStream out;
+    private long length;
+
+    UpdateJournal( File file )
+    {
+        this.file = file;
+        length = file.length();
+    }
+
+    File getFile()
+    {
+        return file;
+    }
+
+    /** @return the size of the journal in bytes.*/
+    long length()
+    {
+        return length;
+    }
+
+    /** appends the record and syncs it to disk.*/
+    void append( byte[] record ) throws IOException
+    {
+        if ( out == null )
+        {
+            out = new FileOutputStream( file, true );
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update( record );
+        // the record is written with a single write, so a failure can't mix it with the next one
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream( record.length + 12 );
+        DataOutputStream data = new DataOutputStream( buffer );
+        data.writeInt( record.length );
+        data.write( record );
+        data.writeLong( checksum.getValue() );
+        data.flush();
+        out.write( buffer.toByteArray() );
+        out.flush();
+        out.getFD().sync();
+        length += buffer.size();
+    }
+
+    /** reads all complete records. An incomplete or corrupted record at the end is removed from the file.*/
+    List<byte[]> read() throws IOException
+    {
+        List<byte[]> records = new ArrayList<byte[]>();
+        if ( !file.exists() )
+        {
+            return records;
+        }
+        long validLength = 0;
+        DataInputStream in = new DataInputStream( new BufferedInputStream( new FileInputStream( file ) ) );
+        try
+        {
+            while ( true )
+            {
+                byte[] record;
+                try
+                {
+                    int size = in.readInt();
+                    if ( size < 0 || validLength + size + 12 > file.length() )
+                    {
+                        break;
+                    }
+                    record = new byte[size];
+                    in.readFully( record );
+                    CRC32 checksum = new CRC32();
+                    checksum.update( record );
+                    if ( in.readLong() != checksum.getValue() )
+                    {
+                        break;
+                    }
+                }
+                catch ( EOFException ex )
+                {
+                    break;
+                }
+                records.add( record );
+                validLength += record.length + 12;
+            }
+        }
+        finally
+        {
+            in.close();
+        }
+        if ( validLength < file.length() )
+        {
+            truncate( validLength );
+        }
+        length = validLength;
+        return records;
+    }
+
+    /** removes all records, after they have been written to a snapshot.*/
+    void clear() throws IOException
+    {
+        close();
+        if ( file.exists() )
+        {
+            truncate( 0 );
+        }
+        length = 0;
+    }
+
+    void close() throws IOException
+    {
+        if ( out != null )
+        {
+            try
+            {
+                out.close();
+            }
+            finally
+            {
+                out = null;
+            }
+        }
+    }
+
+    private void truncate( long newLength ) throws IOException
+    {
+        RandomAccessFile raf = new RandomAccessFile( file, "rw" );
+        try
+        {
+            raf.setLength( newLength );
+            raf.getFD().sync();
+        }
+        finally
+        {
+            raf.close();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package org.rapla.storage.dbrm;
+
+import org.rapla.framework.RaplaException;
+
+/** thrown by {@link Connector#callBatch} if the server doesn't know batch requests.
+ * The calls must then be sent one by one. */
+public class BatchNotSupportedException extends RaplaException
+{
+    private static final long serialVersionUID = 1L;
+
+    public BatchNotSupportedException( String text, Throwable cause )
+    {
+        super( text, cause );
+    }
+
+}
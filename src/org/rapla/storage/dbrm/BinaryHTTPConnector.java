@@ -0,0 +1,125 @@
+/*--------------------------------------------------------------------------*
+ | Copyright (C) 2006 Christopher Kohlhaas                                  |
+ |                                                                          |
+ | This program is free software; you can redistribute it and/or modify     |
+ | it under the terms of the GNU General Public License as published by the |
+ | Free Software Foundation. A copy of the license has been included with   |
+ | these distribution in the COPYING file, if not go to www.fsf.org         |
+ |                                                                          |
+ | As a special exception, you are granted the permissions to link this     |
+ | program with every library, which license fulfills the Open Source       |
+ | Definition as published by the Open Source Initiative (OSI).             |
+ *--------------------------------------------------------------------------*/
+package org.rapla.storage.dbrm;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.avalon.framework.configuration.Configuration;
+import org.rapla.components.util.xml.BinaryXMLReader;
+import org.rapla.components.util.xml.BinaryXMLWriter;
+import org.rapla.framework.RaplaContext;
+import org.rapla.framework.RaplaException;
+
+/** Connector that requests the binary protocol. The server answers calls that return an
+ * {@link EntityList} with the binary form of the xml written by a {@link BinaryXMLWriter}, other results are
+ * utf-8 text as with the xml protocol. A server that doesn't know the binary protocol answers with xml,
+ * the {@link RemoteOperator} detects the format of the result.
+ * The arguments are sent form encoded until the server answered with {@link #CONTENT_TYPE}, then
+ * they are sent length prefixed as well.
+ */
+public class BinaryHTTPConnector extends HTTPConnector
+{
+    public static final String CONTENT_TYPE = "application/x-rapla-binary";
+    /** the maximum number of arguments of a call */
+    public static final int MAX_ARGUMENTS = 64;
+
+    private volatile boolean serverSupportsBinary;
+
+    public BinaryHTTPConnector( RaplaContext context, Configuration config ) throws RaplaException
+    {
+        super( context, config );
+    }
+
+    protected void prepareRequest( HttpURLConnection conn )
+    {
+        if ( serverSupportsBinary )
+        {
+            conn.setRequestProperty( "Content-Type", CONTENT_TYPE );
+        }
+        else
+        {
+            super.prepareRequest( conn );
+        }
+    }
+
+    protected String getAcceptedTypes()
+    {
+        return CONTENT_TYPE + ", " + super.getAcceptedTypes();
+    }
+
+    protected void writeArguments( OutputStream out, Map<String,String> args ) throws IOException
+    {
+        if ( serverSupportsBinary )
+        {
+            writeArgumentMap( out, args );
+        }
+        else
+        {
+            super.writeArguments( out, args );
+        }
+    }
+
+    protected void processResponse( HttpURLConnection conn )
+    {
+        String contentType = conn.getContentType();
+        if ( contentType != null && contentType.startsWith( CONTENT_TYPE ) )
+        {
+            serverSupportsBinary = true;
+        }
+    }
+
+    /** writes the number of arguments followed by the name and the value of each argument.
+     * The value is preceded by 0 if it is null and by 1 otherwise.*/
+    public static void writeArgumentMap( OutputStream out, Map<String,String> args ) throws IOException
+    {
+        BinaryXMLWriter.writeNumber( out, args.size() );
+        for ( Map.Entry<String,String> entry : args.entrySet() )
+        {
+            BinaryXMLWriter.writeString( out, entry.getKey() );
+            String value = entry.getValue();
+            if ( value == null )
+            {
+                out.write( 0 );
+            }
+            else
+            {
+                out.write( 1 );
+                BinaryXMLWriter.writeString( out, value );
+            }
+        }
+    }
+
+    /** reads the arguments written by {@link #writeArgumentMap(OutputStream, Map)}.
+     * @throws IOException if the stream is truncated or has more than {@link #MAX_ARGUMENTS} arguments */
+    public static Map<String,String> readArgumentMap( InputStream in ) throws IOException
+    {
+        Map<String,String> args = new TreeMap<String,String>();
+        int count = BinaryXMLReader.readLength( in, MAX_ARGUMENTS );
+        for ( int i = 0; i < count; i++ )
+        {
+            String name = BinaryXMLReader.readString( in );
+            int flag = in.read();
+            if ( flag < 0 )
+            {
+                throw new IOException( "Unexpected end of arguments" );
+            }
+            args.put( name, flag == 0 ? null : BinaryXMLReader.readString( in ) );
+        }
+        return args;
+    }
+}
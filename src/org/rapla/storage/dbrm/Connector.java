@@ -2,6 +2,7 @@ package org.rapla.storage.dbrm;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
 import java.util.Map;
 
 import org.rapla.framework.RaplaException;
@@ -15,6 +16,12 @@ public interface Connector
 
     InputStream call( String methodName, Map<String,String> args) throws IOException, RaplaException;
 
+    /** calls the methods in one request and returns their results in the same order.
+     * The calls after a failed call are not executed.
+     * @throws BatchNotSupportedException if the server doesn't know batch requests
+     * @throws RaplaException the exception of the call that failed*/
+    InputStream[] callBatch( List<String> methodNames, List<Map<String,String>> args) throws IOException, RaplaException;
+
     void stop();
     
 }
@@ -8,9 +8,19 @@ import org.rapla.entities.storage.RefEntity;
 public class EntityList extends ArrayList<RefEntity<?>>  {
 
 	private static final long serialVersionUID = 1L;
+	private long repositoryVersion;
 
 	public EntityList(Collection<? extends RefEntity<?>> list) {
 		super(list);
 	}
 
+	/** the version of the repository the entities were read from.*/
+	public long getRepositoryVersion() {
+		return repositoryVersion;
+	}
+
+	public void setRepositoryVersion(long repositoryVersion) {
+		this.repositoryVersion = repositoryVersion;
+	}
+
 }
@@ -1,9 +1,14 @@
 package org.rapla.storage.dbrm;
 
 import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.net.ConnectException;
@@ -14,11 +19,16 @@ import java.net.URLConnection;
 import java.net.URLEncoder;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
 import org.apache.avalon.framework.configuration.Configuration;
 import org.apache.avalon.framework.configuration.ConfigurationException;
+import org.rapla.components.util.IOUtil;
 import org.rapla.components.util.Tools;
+import org.rapla.components.util.xml.BinaryXMLReader;
+import org.rapla.components.util.xml.BinaryXMLWriter;
 import org.rapla.components.xmlbundle.I18nBundle;
 import org.rapla.facade.RaplaComponent;
 import org.rapla.framework.RaplaContext;
@@ -27,6 +37,11 @@ import org.rapla.framework.internal.ConfigTools;
 
 public class HTTPConnector extends RaplaComponent implements Connector
 {
+    /** the content type of a serialized exception in the response of a failed call */
+    public static final String ERROR_CONTENT_TYPE = "application/x-java-serialized-object";
+    /** the method name of a request that contains several calls */
+    public static final String BATCH_METHOD = "batch";
+
     String sessionId;
     URL server;
     
@@ -49,20 +64,123 @@ public class HTTPConnector extends RaplaComponent implements Connector
     }
     
     public InputStream call(String methodName, Map<String,String> args) throws IOException, RaplaException
+    {
+        HttpURLConnection conn = openConnection( methodName );
+        prepareRequest( conn );
+        connect( conn );
+        OutputStream out = conn.getOutputStream();
+        writeArguments( out, args);
+        out.flush();
+        return getResult( conn );
+    }
+
+    /** calls the methods in one request. The server executes the calls one after another and stops
+     * at the first call that fails. The arguments are sent in the binary form of the {@link BinaryHTTPConnector}.
+     * @return the results of the calls in the same order
+     * @throws BatchNotSupportedException if the server doesn't know batch requests
+     * @throws RaplaException the exception of the call that failed*/
+    public InputStream[] callBatch(List<String> methodNames, List<Map<String,String>> args) throws IOException, RaplaException
+    {
+        HttpURLConnection conn = openConnection( BATCH_METHOD );
+        conn.setRequestProperty("Content-Type", BinaryHTTPConnector.CONTENT_TYPE);
+        connect( conn );
+        OutputStream out = new BufferedOutputStream( conn.getOutputStream());
+        BinaryXMLWriter.writeNumber( out, methodNames.size());
+        for ( int i=0;i<methodNames.size();i++)
+        {
+            BinaryXMLWriter.writeString( out, methodNames.get( i ));
+            BinaryHTTPConnector.writeArgumentMap( out, args.get( i ));
+        }
+        out.flush();
+        InputStream in;
+        try
+        {
+            in = getResult( conn );
+        }
+        catch (IOException ex)
+        {
+            if ( conn.getResponseCode() == HttpURLConnection.HTTP_NOT_FOUND)
+            {
+                throw new BatchNotSupportedException( "Server doesn't support batch requests", ex);
+            }
+            throw ex;
+        }
+        catch (RaplaException ex)
+        {
+            // older servers look for a method with the name batch
+            String message = ex.getMessage();
+            if ( message != null && message.indexOf( "method with name " + BATCH_METHOD) >= 0)
+            {
+                throw new BatchNotSupportedException( "Server doesn't support batch requests", ex);
+            }
+            throw ex;
+        }
+        try
+        {
+            InputStream[] results = new InputStream[methodNames.size()];
+            for ( int i=0;i<results.length;i++)
+            {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                byte[] buffer = new byte[8192];
+                int length;
+                try
+                {
+                    // the server writes the result in chunks, a chunk with length 0 ends it
+                    while ( (length = (int) BinaryXMLReader.readNumber( in )) > 0)
+                    {
+                        while ( length > 0)
+                        {
+                            int read = in.read( buffer, 0, Math.min( length, buffer.length));
+                            if ( read < 0)
+                            {
+                                throw new EOFException();
+                            }
+                            bytes.write( buffer, 0, read);
+                            length -= read;
+                        }
+                    }
+                }
+                catch (EOFException ex)
+                {
+                    throw new IOException("Batch response contains only " + i + " of " + results.length + " results");
+                }
+                int status = in.read();
+                if ( status < 0)
+                {
+                    throw new IOException("Batch response contains only " + i + " of " + results.length + " results");
+                }
+                if ( status != 0)
+                {
+                    byte[] exception = BinaryXMLReader.readBytes( in );
+                    throw toRaplaException( readException( new ByteArrayInputStream( exception)));
+                }
+                results[i] = new ByteArrayInputStream( bytes.toByteArray());
+            }
+            return results;
+        }
+        finally
+        {
+            in.close();
+        }
+    }
+
+    /** creates a connection for the method. The connections to the server are kept alive by the
+     * HttpURLConnection, as long as the results are read completely and closed.*/
+    private HttpURLConnection openConnection( String methodName ) throws IOException
     {
         URL methodURL = new URL(server,"rapla/rpc/" + methodName );
-        //URL server = new URL("http://127.0.0.1:8080/vorsorge-optimierer/start");
-        
-        //System.err.println("Calling " + methodURL.toExternalForm() );
-        
         HttpURLConnection conn = (HttpURLConnection)methodURL.openConnection();
         conn.setRequestMethod("POST");
         conn.setUseCaches( false );
-        conn.setRequestProperty("Content-Type", "application/x-www-form-urlencoded;charset=utf-8");
-        conn.setRequestProperty("Cookie","JSESSIONID=" + sessionId);
+        conn.setRequestProperty("Accept", getAcceptedTypes());
+        conn.setRequestProperty("Accept-Encoding", "gzip");
         setSessionForRequest( conn );
         conn.setDoOutput(true);
-        
+        return conn;
+    }
+
+    private void connect( HttpURLConnection conn ) throws IOException, RaplaException
+    {
         try
         {
             conn.connect();
@@ -71,15 +189,16 @@ public class HTTPConnector extends RaplaComponent implements Connector
         {   
             throw new RaplaException(getConnectError(ex));
         }
-         
-        Writer wr = new OutputStreamWriter(conn.getOutputStream(),"UTF-8");
-        addParams( wr, args);
-        wr.flush();
-        
+    }
+
+    private InputStream getResult( HttpURLConnection conn ) throws IOException, RaplaException
+    {
         try
         {
             updateSession ( conn );
-            return new BufferedInputStream(conn.getInputStream());
+            InputStream result = getInputStream( conn, conn.getInputStream());
+            processResponse( conn );
+            return result;
         } 
         catch (ConnectException ex)
         {   
@@ -87,22 +206,73 @@ public class HTTPConnector extends RaplaComponent implements Connector
         }
         catch (IOException ex)
         {
+            String contentType = conn.getContentType();
+            InputStream errorStream = conn.getErrorStream();
+            if ( contentType != null && contentType.startsWith( ERROR_CONTENT_TYPE) && errorStream != null)
+            {
+                throw toRaplaException( readException( getInputStream( conn, errorStream)));
+            }
+            if ( errorStream != null)
+            {
+                // read the error page, so the connection can be reused
+                IOUtil.copyStreams( errorStream, new ByteArrayOutputStream());
+                errorStream.close();
+            }
             String entry = conn.getHeaderField("X-Error-Stacktrace");
             if ( entry != null)
             {
-                Throwable e = getServerException( server);
-                if ( e instanceof  RaplaException)
-                {
-                    throw (RaplaException) e;
-                }
-                throw new RaplaException( e);
+                throw toRaplaException( getServerException( server));
             }
             else
             {
                 throw ex;
             }
         }
-   }
+    }
+
+    private InputStream getInputStream( HttpURLConnection conn, InputStream in ) throws IOException
+    {
+        if ( "gzip".equals( conn.getContentEncoding()))
+        {
+            in = new GZIPInputStream( in);
+        }
+        return new BufferedInputStream( in);
+    }
+
+    private RaplaException toRaplaException( Throwable e )
+    {
+        if ( e instanceof  RaplaException)
+        {
+            return (RaplaException) e;
+        }
+        return new RaplaException( e);
+    }
+
+    /** returns the content types the client accepts for the result. The server sends exceptions
+     * serialized in the response, if the client accepts {@link #ERROR_CONTENT_TYPE}.*/
+    protected String getAcceptedTypes()
+    {
+        return ERROR_CONTENT_TYPE;
+    }
+
+    /** sets the content type of the request. Subclasses can set additional headers.*/
+    protected void prepareRequest( HttpURLConnection conn )
+    {
+        conn.setRequestProperty("Content-Type", "application/x-www-form-urlencoded;charset=utf-8");
+    }
+
+    /** writes the arguments of the call in the body of the request.*/
+    protected void writeArguments( OutputStream out, Map<String,String> args ) throws IOException
+    {
+        Writer wr = new OutputStreamWriter(out,"UTF-8");
+        addParams( wr, args);
+        wr.flush();
+    }
+
+    /** is called after a successful call, before the result is read.*/
+    protected void processResponse( HttpURLConnection conn )
+    {
+    }
 
 	protected String getConnectError(ConnectException ex2) {
 		try
@@ -131,17 +301,24 @@ public class HTTPConnector extends RaplaComponent implements Connector
         
         //ByteArrayOutputStream output = new ByteArrayOutputStream();
 
-        ObjectInputStream in = new ObjectInputStream( connection.getInputStream());
-        Throwable e;
+        return readException( connection.getInputStream());
+    }
+
+    private Throwable readException( InputStream stream ) throws IOException, RaplaException
+    {
+        ObjectInputStream in = new ObjectInputStream( stream);
         try
         {
-            e = (Throwable)in.readObject();
+            return (Throwable)in.readObject();
         }
-        catch (Exception e1)
+        catch (ClassNotFoundException e1)
         {
             throw new RaplaException( e1);
         }
-        return e;
+        finally
+        {
+            in.close();
+        }
     }
 
     private void addParams(Writer writer, Map<String,String> args ) throws IOException
@@ -0,0 +1,117 @@
+/*--------------------------------------------------------------------------*
+ | Copyright (C) 2006 Christopher Kohlhaas                                  |
+ |                                                                          |
+ | This program is free software; you can redistribute it and/or modify     |
+ | it under the terms of the GNU General Public License as published by the |
+ | Free Software Foundation. A copy of the license has been included with   |
+ | these distribution in the COPYING file, if not go to www.fsf.org         |
+ |                                                                          |
+ | As a special exception, you are granted the permissions to link this     |
+ | program with every library, which license fulfills the Open Source       |
+ | Definition as published by the Open Source Initiative (OSI).             |
+ *--------------------------------------------------------------------------*/
+package org.rapla.storage.dbrm;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.rapla.components.util.TimeInterval;
+
+/** The time intervals for which the reservations are already loaded. Adjacent and overlapping
+ * intervals are merged. A null start or end stands for an unbounded interval, as in
+ * the getReservations methods.
+ * <p>This class is not thread-safe.</p>
+ */
+final class LoadedIntervals
+{
+    // sorted and disjoint, each entry is {start, end}
+    private final List<long[]> intervals = new ArrayList<long[]>();
+
+    /** returns the parts of the interval that are not loaded yet, in ascending order. */
+    List<TimeInterval> getMissing( Date start, Date end )
+    {
+        long from = toStart( start );
+        long to = toEnd( end );
+        List<TimeInterval> missing = new ArrayList<TimeInterval>();
+        for ( long[] interval : intervals )
+        {
+            if ( from >= to || interval[0] >= to )
+            {
+                break;
+            }
+            if ( interval[1] <= from )
+            {
+                continue;
+            }
+            if ( interval[0] > from )
+            {
+                missing.add( createInterval( from, interval[0] ) );
+            }
+            from = Math.max( from, interval[1] );
+        }
+        if ( from < to )
+        {
+            missing.add( createInterval( from, to ) );
+        }
+        return missing;
+    }
+
+    /** marks the interval as loaded */
+    void add( Date start, Date end )
+    {
+        long from = toStart( start );
+        long to = toEnd( end );
+        if ( from >= to )
+        {
+            return;
+        }
+        int i = 0;
+        while ( i < intervals.size() && intervals.get( i )[1] < from )
+        {
+            i++;
+        }
+        // merge all intervals that overlap or touch the new one
+        while ( i < intervals.size() && intervals.get( i )[0] <= to )
+        {
+            long[] interval = intervals.remove( i );
+            from = Math.min( from, interval[0] );
+            to = Math.max( to, interval[1] );
+        }
+        intervals.add( i, new long[] { from, to } );
+    }
+
+    void clear()
+    {
+        intervals.clear();
+    }
+
+    private static long toStart( Date start )
+    {
+        return start == null ? Long.MIN_VALUE : start.getTime();
+    }
+
+    private static long toEnd( Date end )
+    {
+        return end == null ? Long.MAX_VALUE : end.getTime();
+    }
+
+    private static TimeInterval createInterval( long start, long end )
+    {
+        return new TimeInterval( start == Long.MIN_VALUE ? null : new Date( start ), end == Long.MAX_VALUE ? null : new Date( end ) );
+    }
+
+    public String toString()
+    {
+        StringBuffer buf = new StringBuffer();
+        for ( long[] interval : intervals )
+        {
+            if ( buf.length() > 0 )
+            {
+                buf.append( ", " );
+            }
+            buf.append( createInterval( interval[0], interval[1] ) );
+        }
+        return buf.toString();
+    }
+}
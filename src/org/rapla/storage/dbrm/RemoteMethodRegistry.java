@@ -0,0 +1,527 @@
+/*--------------------------------------------------------------------------*
+ | Copyright (C) 2006 Christopher Kohlhaas                                  |
+ |                                                                          |
+ | This program is free software; you can redistribute it and/or modify     |
+ | it under the terms of the GNU General Public License as published by the |
+ | Free Software Foundation. A copy of the license has been included with   |
+ | these distribution in the COPYING file, if not go to www.fsf.org         |
+ |                                                                          |
+ | As a special exception, you are granted the permissions to link this     |
+ | program with every library, which license fulfills the Open Source       |
+ | Definition as published by the Open Source Initiative (OSI).             |
+ *--------------------------------------------------------------------------*/
+package org.rapla.storage.dbrm;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.rapla.components.util.SerializableDateTimeFormat;
+import org.rapla.entities.RaplaType;
+import org.rapla.framework.RaplaException;
+import org.rapla.server.RemoteServer;
+import org.rapla.server.RemoteStorage;
+
+/** <p>Resolves the methods of the remote interfaces once. An {@link Invoker} is found by
+ * interface, method name and number of arguments on the server and by the {@link Method} of the
+ * proxy on the client. It knows the name of the method on the wire and the converters for its
+ * arguments and its result, so a call needs no further reflection.</p>
+ * <p>The interfaces of the server are registered when the registry is created. Other
+ * interfaces, e.g. of plugins, are registered with the service that implements them, so a method
+ * name sent by a client never loads a class.</p>
+ */
+public class RemoteMethodRegistry
+{
+    /** the upper bounds of the latency histogram in milliseconds, the last bucket is unbounded. */
+    static final long[] HISTOGRAM_BOUNDS = new long[] { 1, 10, 100, 1000, 10000 };
+
+    private final Map<String,Invoker[]> invokersByName = new ConcurrentHashMap<String,Invoker[]>();
+    private final Map<Method,Invoker> invokersByMethod = new ConcurrentHashMap<Method,Invoker>();
+    private final List<Invoker> invokers = new ArrayList<Invoker>();
+    private final Set<Class<?>> services = new HashSet<Class<?>>();
+
+    public RemoteMethodRegistry()
+    {
+        register( RemoteStorage.class );
+        register( RemoteServer.class );
+    }
+
+    /** registers the methods of the interface, if not already done. */
+    public synchronized void register( Class<?> service )
+    {
+        if ( !services.add( service ) )
+        {
+            return;
+        }
+        for ( Method method : service.getMethods() )
+        {
+            Invoker invoker = new Invoker( service, method );
+            String name = invoker.getName();
+            Invoker[] byArity = invokersByName.get( name );
+            int arity = invoker.getArgumentCount();
+            // the first method with the same name and arity is called on the server
+            if ( byArity == null || byArity.length <= arity || byArity[arity] == null )
+            {
+                // the arrays are read without lock, so they are copied and not changed
+                Invoker[] newByArity = new Invoker[Math.max( arity + 1, byArity == null ? 0 : byArity.length )];
+                if ( byArity != null )
+                {
+                    System.arraycopy( byArity, 0, newByArity, 0, byArity.length );
+                }
+                newByArity[arity] = invoker;
+                invokersByName.put( name, newByArity );
+                invokers.add( invoker );
+            }
+            if ( !invokersByMethod.containsKey( method ) )
+            {
+                invokersByMethod.put( method, invoker );
+            }
+        }
+    }
+
+    /** registers the interface with the passed name, if the service implements it.
+     * @return false if the service doesn't implement an interface with that name */
+    public boolean register( String serviceName, Object service )
+    {
+        Class<?> serviceInterface = findInterface( service.getClass(), serviceName );
+        if ( serviceInterface == null )
+        {
+            return false;
+        }
+        register( serviceInterface );
+        return true;
+    }
+
+    private static Class<?> findInterface( Class<?> type, String name )
+    {
+        if ( type.isInterface() && type.getName().equals( name ) )
+        {
+            return type;
+        }
+        for ( Class<?> implemented : type.getInterfaces() )
+        {
+            Class<?> result = findInterface( implemented, name );
+            if ( result != null )
+            {
+                return result;
+            }
+        }
+        Class<?> superclass = type.getSuperclass();
+        return superclass != null ? findInterface( superclass, name ) : null;
+    }
+
+    /** returns true if an interface with the name is registered. */
+    public synchronized boolean isRegistered( String serviceName )
+    {
+        for ( Class<?> service : services )
+        {
+            if ( service.getName().equals( serviceName ) )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** returns the interface name of a method name of the form <code>interface/method</code>. A name without
+     * interface refers to {@link RemoteStorage}. */
+    public static String getServiceName( String methodName )
+    {
+        int index = methodName.indexOf( '/' );
+        return index >= 0 ? methodName.substring( 0, index ) : RemoteStorage.class.getName();
+    }
+
+    /** returns the invoker for a method name of the form <code>interface/method</code>, or null if
+     * the interface is not registered or has no such method with the number of arguments. A name without
+     * interface refers to {@link RemoteStorage}. */
+    public Invoker find( String methodName, int arity )
+    {
+        if ( methodName.indexOf( '/' ) < 0 )
+        {
+            methodName = RemoteStorage.class.getName() + "/" + methodName;
+        }
+        Invoker[] byArity = invokersByName.get( methodName );
+        if ( byArity == null || arity >= byArity.length )
+        {
+            return null;
+        }
+        return byArity[arity];
+    }
+
+    /** returns the invoker for a method of the passed interface. */
+    public Invoker getInvoker( Class<?> service, Method method )
+    {
+        Invoker invoker = invokersByMethod.get( method );
+        if ( invoker == null )
+        {
+            register( service );
+            invoker = invokersByMethod.get( method );
+        }
+        return invoker;
+    }
+
+    /** returns the statistics of the methods that were invoked at least once. */
+    public List<Statistics> getStatistics()
+    {
+        List<Statistics> result = new ArrayList<Statistics>();
+        synchronized ( this )
+        {
+            for ( Invoker invoker : invokers )
+            {
+                Statistics statistics = invoker.getStatistics();
+                if ( statistics.getCount() > 0 )
+                {
+                    result.add( statistics );
+                }
+            }
+        }
+        return result;
+    }
+
+    public String toString()
+    {
+        StringBuffer buf = new StringBuffer();
+        for ( Iterator<Statistics> it = getStatistics().iterator(); it.hasNext(); )
+        {
+            buf.append( it.next() );
+            if ( it.hasNext() )
+            {
+                buf.append( "\n" );
+            }
+        }
+        return buf.toString();
+    }
+
+    /** a method of a remote interface with the converters for its arguments and its result. */
+    public static final class Invoker
+    {
+        private final Class<?> service;
+        private final Method method;
+        private final String name;
+        private final String[] argumentNames;
+        private final Converter[] argumentConverters;
+        private final Converter resultConverter;
+        private final boolean entityListResult;
+
+        private long count;
+        private long errors;
+        private long totalTime;
+        private long maxTime;
+        private final long[] histogram = new long[HISTOGRAM_BOUNDS.length + 1];
+
+        Invoker( Class<?> service, Method method )
+        {
+            this.service = service;
+            this.method = method;
+            this.name = service.getName() + "/" + method.getName();
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            argumentNames = new String[parameterTypes.length];
+            argumentConverters = new Converter[parameterTypes.length];
+            for ( int i = 0; i < parameterTypes.length; i++ )
+            {
+                argumentNames[i] = String.valueOf( i );
+                argumentConverters[i] = getConverter( parameterTypes[i] );
+            }
+            Class<?> returnType = method.getReturnType();
+            resultConverter = getConverter( returnType );
+            entityListResult = returnType.equals( EntityList.class );
+        }
+
+        public Class<?> getService()
+        {
+            return service;
+        }
+
+        public Method getMethod()
+        {
+            return method;
+        }
+
+        /** the name of the method on the wire, <code>interface/method</code>. */
+        public String getName()
+        {
+            return name;
+        }
+
+        public int getArgumentCount()
+        {
+            return argumentNames.length;
+        }
+
+        public boolean returnsEntityList()
+        {
+            return entityListResult;
+        }
+
+        /** converts the arguments of a call into the map that is sent to the server. */
+        public Map<String,String> createArgumentMap( Object[] args ) throws RaplaException
+        {
+            int length = args == null ? 0 : args.length;
+            if ( length != argumentNames.length )
+            {
+                throw new RaplaException( "Paramter list don't match Expected " + argumentNames.length + " but was " + length );
+            }
+            Map<String,String> argMap = new LinkedHashMap<String,String>( length * 2 + 1 );
+            for ( int i = 0; i < length; i++ )
+            {
+                argMap.put( argumentNames[i], argumentConverters[i].toString( args[i] ) );
+            }
+            return argMap;
+        }
+
+        /** converts the argument values in the order of the parameters. */
+        public Object[] convertArguments( Collection<String> values ) throws ParseException, RaplaException
+        {
+            Object[] convertedArgs = new Object[argumentConverters.length];
+            int i = 0;
+            for ( String value : values )
+            {
+                convertedArgs[i] = argumentConverters[i].fromString( value );
+                i++;
+            }
+            return convertedArgs;
+        }
+
+        public Object convertResult( String value ) throws ParseException, RaplaException
+        {
+            return resultConverter.fromString( value );
+        }
+
+        public String convertResultToString( Object value )
+        {
+            return resultConverter.toString( value );
+        }
+
+        /** invokes the method. An exception thrown by the method is rethrown as RaplaException. */
+        public Object invoke( Object target, Object[] args ) throws Exception
+        {
+            try
+            {
+                return method.invoke( target, args );
+            }
+            catch ( InvocationTargetException ex )
+            {
+                Throwable cause = ex.getCause();
+                if ( cause instanceof RaplaException )
+                {
+                    throw (RaplaException) cause;
+                }
+                else
+                {
+                    throw new RaplaException( cause.getMessage(), cause );
+                }
+            }
+        }
+
+        /** records a call that took the passed nanoseconds. */
+        public synchronized void record( long nanos, boolean failed )
+        {
+            count++;
+            if ( failed )
+            {
+                errors++;
+            }
+            totalTime += nanos;
+            if ( nanos > maxTime )
+            {
+                maxTime = nanos;
+            }
+            long millis = nanos / 1000000;
+            int bucket = 0;
+            while ( bucket < HISTOGRAM_BOUNDS.length && millis >= HISTOGRAM_BOUNDS[bucket] )
+            {
+                bucket++;
+            }
+            histogram[bucket]++;
+        }
+
+        public synchronized Statistics getStatistics()
+        {
+            return new Statistics( name, count, errors, totalTime, maxTime, histogram.clone() );
+        }
+    }
+
+    public static class Statistics
+    {
+        private final String name;
+        private final long count;
+        private final long errors;
+        private final long totalTime;
+        private final long maxTime;
+        private final long[] histogram;
+
+        Statistics( String name, long count, long errors, long totalTime, long maxTime, long[] histogram )
+        {
+            this.name = name;
+            this.count = count;
+            this.errors = errors;
+            this.totalTime = totalTime;
+            this.maxTime = maxTime;
+            this.histogram = histogram;
+        }
+
+        /** the method name in the form <code>interface/method</code>.*/
+        public String getName()
+        {
+            return name;
+        }
+
+        /** the number of calls.*/
+        public long getCount()
+        {
+            return count;
+        }
+
+        /** the number of calls that failed.*/
+        public long getErrors()
+        {
+            return errors;
+        }
+
+        public long getTotalTime()
+        {
+            return totalTime / 1000000;
+        }
+
+        public long getMaxTime()
+        {
+            return maxTime / 1000000;
+        }
+
+        /** the number of calls below 1, 10, 100, 1000 and 10000 ms and the number of longer calls.*/
+        public long[] getHistogram()
+        {
+            return histogram.clone();
+        }
+
+        public String toString()
+        {
+            long avg = count > 0 ? totalTime / count / 1000 : 0;
+            StringBuffer buf = new StringBuffer();
+            buf.append( name.substring( name.lastIndexOf( '.' ) + 1 ) );
+            buf.append( ": " + count + " calls, " + errors + " errors" );
+            buf.append( ", avg " + avg + "us max " + getMaxTime() + "ms," );
+            for ( int i = 0; i < histogram.length; i++ )
+            {
+                buf.append( i < HISTOGRAM_BOUNDS.length ? " <" + HISTOGRAM_BOUNDS[i] : " >=" + HISTOGRAM_BOUNDS[i - 1] );
+                buf.append( "ms:" + histogram[i] );
+            }
+            return buf.toString();
+        }
+    }
+
+    /** converts arguments and results to and from their string form on the wire. */
+    static abstract class Converter
+    {
+        abstract Object fromString( String value ) throws ParseException, RaplaException;
+
+        String toString( Object value )
+        {
+            if ( value == null )
+            {
+                return null;
+            }
+            if ( value instanceof Date )
+            {
+                SerializableDateTimeFormat format = new SerializableDateTimeFormat();
+                return format.formatDate( (Date) value );
+            }
+            return value.toString();
+        }
+    }
+
+    static final Converter LONG = new Converter() {
+        Object fromString( String value )
+        {
+            return value == null ? null : new Long( Long.parseLong( value ) );
+        }
+    };
+
+    static final Converter INTEGER = new Converter() {
+        Object fromString( String value )
+        {
+            return value == null ? null : new Integer( Integer.parseInt( value ) );
+        }
+    };
+
+    static final Converter DOUBLE = new Converter() {
+        Object fromString( String value )
+        {
+            return value == null ? null : new Double( Double.parseDouble( value ) );
+        }
+    };
+
+    static final Converter DATE = new Converter() {
+        Object fromString( String value ) throws ParseException, RaplaException
+        {
+            if ( value == null || value.trim().length() == 0 )
+            {
+                return null;
+            }
+            SerializableDateTimeFormat format = new SerializableDateTimeFormat();
+            boolean fillDate = false;
+            return format.parseDate( value, fillDate );
+        }
+    };
+
+    static final Converter RAPLA_TYPE = new Converter() {
+        Object fromString( String value ) throws ParseException, RaplaException
+        {
+            return value == null ? null : RaplaType.find( value );
+        }
+    };
+
+    static final Converter BOOLEAN = new Converter() {
+        Object fromString( String value )
+        {
+            return value == null ? null : Boolean.valueOf( value );
+        }
+    };
+
+    static final Converter STRING = new Converter() {
+        Object fromString( String value )
+        {
+            return value;
+        }
+    };
+
+    /** returns the converter for the type, with the same precedence as {@link RemoteOperator#convertFromString(Class, String)}. */
+    static Converter getConverter( Class<?> type )
+    {
+        if ( type.isAssignableFrom( Long.class ) || type.isAssignableFrom( long.class ) )
+        {
+            return LONG;
+        }
+        if ( type.isAssignableFrom( Integer.class ) || type.isAssignableFrom( int.class ) )
+        {
+            return INTEGER;
+        }
+        if ( type.isAssignableFrom( Double.class ) || type.isAssignableFrom( double.class ) )
+        {
+            return DOUBLE;
+        }
+        if ( type.isAssignableFrom( Date.class ) )
+        {
+            return DATE;
+        }
+        if ( type.isAssignableFrom( RaplaType.class ) )
+        {
+            return RAPLA_TYPE;
+        }
+        if ( type.isAssignableFrom( Boolean.class ) || type.isAssignableFrom( boolean.class ) )
+        {
+            return BOOLEAN;
+        }
+        return STRING;
+    }
+}
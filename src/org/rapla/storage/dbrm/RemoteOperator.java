@@ -13,35 +13,40 @@
 
 package org.rapla.storage.dbrm;
 
-import java.io.BufferedReader;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
-import java.io.PipedInputStream;
-import java.io.PipedOutputStream;
-import java.io.Writer;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
 
 import org.apache.avalon.framework.configuration.Configuration;
+import org.apache.avalon.framework.logger.Logger;
 import org.rapla.components.util.Command;
 import org.rapla.components.util.CommandQueue;
-import org.rapla.components.util.SerializableDateTimeFormat;
+import org.rapla.components.util.IOUtil;
+import org.rapla.components.util.MeasuredReadWriteLock;
+import org.rapla.components.util.TimeInterval;
+import org.rapla.components.util.xml.BinaryXMLReader;
 import org.rapla.entities.EntityNotFoundException;
 import org.rapla.entities.RaplaType;
 import org.rapla.entities.User;
+import org.rapla.entities.domain.Allocatable;
 import org.rapla.entities.domain.Appointment;
 import org.rapla.entities.domain.Reservation;
 import org.rapla.entities.dynamictype.DynamicType;
@@ -75,8 +80,13 @@ import org.rapla.storage.xml.RaplaMainReader;
  * <p>Sample configuration:
   <pre>
    &lt;remote-storage id="web">
+     &lt;server>http://localhost:8051/&lt;/server>
+     &lt;protocol>binary&lt;/protocol>
    &lt;/remote-storate>
   </pre>
+ * The protocol is <code>binary</code> (default) or <code>xml</code>. With binary the entities
+ * are transfered in the compact form of the {@link BinaryHTTPConnector}, if the server supports it.
+ * Otherwise xml is used.
  * The messaging-client value contains the id of a
  * messaging-client-component which handles the
  * communication with the server.
@@ -93,14 +103,27 @@ public class RemoteOperator
     String username;
     String password;
     protected CommandQueue notifyQueue;
+    private volatile Thread longPollThread;
+    // true while the long poll works, the facade polls with refresh otherwise
+    private volatile boolean pushingUpdates;
     private boolean bSessionActive = false;
     Connector connector;
-    private boolean bReservationsFetched;
-    private Date firstCachedDate = null;
-    private Date lastCachedDate = null;
+    // the time intervals for which the reservations are in the cache
+    private final LoadedIntervals loadedIntervals = new LoadedIntervals();
     private boolean isRestarting;
+    private static final long ERROR_RETRY_DELAY = 10000;
+    private static final int MAX_UPDATE_RETRIES = 3;
+    // counts the changes stored by this client, to detect long poll answers that overlap them
+    private volatile long dispatchCount;
+    // the parser is reused for all calls
+    private RaplaInput xmlInput;
+    // the remote methods with their converters, shared by all proxies
+    private final RemoteMethodRegistry registry = new RemoteMethodRegistry();
+    private final Map<Class<?>,Object> remoteMethods = new ConcurrentHashMap<Class<?>,Object>();
     public RemoteOperator(RaplaContext context, Configuration config) throws RaplaException {
         super( context );
+        // the client fills its cache while reading reservations, so readers can't run in parallel
+        lock = new MeasuredReadWriteLock( true );
         
         Container raplaMainContainer = ((Container)context.lookup( Container.class.getName())); 
         raplaMainContainer.addContainerProvidedComponent( RaplaExtensionPoints.SERVLET_PAGE_EXTENSION, RaplaStorePage.class.getName(), "store", null);
@@ -108,7 +131,15 @@ public class RemoteOperator
          
         ((Container)context.lookup( Container.class.getName())).addContainerProvidedComponentInstance(RemoteServiceCaller.ROLE, this);
         
-        connector = new HTTPConnector(context,config);
+        if ( config.getChild("protocol").getValue("binary").equals("xml"))
+        {
+            connector = new HTTPConnector(context,config);
+        }
+        else
+        {
+            connector = new BinaryHTTPConnector(context,config);
+        }
+        xmlInput = new RaplaInput( getLogger().getChildLogger("reading"));
     }
 
     public void connect() throws RaplaException {
@@ -122,10 +153,11 @@ public class RemoteOperator
             return;
         getLogger().info("Connecting to server and starting login..");
         doConnect();
+        EntityList resources;
         try {
             String clientVersion= i18n.getString("rapla.version") ;
-            serv.checkServerVersion( clientVersion);
-            serv.login(this.username,this.password);
+            // the version check, the login and the resources are requested at once
+            resources = serv.login( clientVersion, this.username,this.password);
             bSessionActive = true;
             updateToday();
             getLogger().info("login successfull");
@@ -133,8 +165,12 @@ public class RemoteOperator
             disconnect();
             throw ex;
         }
-        loadData();
+        loadData( resources );
         notifyQueue = org.rapla.components.util.CommandQueue.createCommandQueue();
+        // the server pushes the changes as answer of the long poll
+        pushingUpdates = true;
+        longPollThread = new LongPollThread();
+        longPollThread.start();
     }
 
     public void saveData(LocalCache cache) throws RaplaException {
@@ -182,6 +218,17 @@ public class RemoteOperator
         return true;
     }
 
+    public boolean isPushingUpdates() {
+        return pushingUpdates;
+    }
+
+    private void setPushingUpdates(boolean pushingUpdates) {
+        if ( this.pushingUpdates == pushingUpdates)
+            return;
+        this.pushingUpdates = pushingUpdates;
+        firePushingUpdatesChanged();
+    }
+
     public void refresh() throws RaplaException {
         serv.refresh();
     }
@@ -199,13 +246,21 @@ public class RemoteOperator
     	getLogger().info("Disconnecting from server");
         try {
             bSessionActive = false;
+            pushingUpdates = false;
+            Thread pollThread = longPollThread;
+            longPollThread = null;
+            if ( pollThread != null)
+            {
+                // ends a pending retry delay, a waiting call ends with the timeout of the server
+                pollThread.interrupt();
+            }
             if ( notifyQueue != null)
             {
                 notifyQueue.dequeueAll(); // Execute all update Commands.
             }
-            firstCachedDate = null;
-            lastCachedDate = null;
-            bReservationsFetched = false;
+            synchronized (loadedIntervals) {
+                loadedIntervals.clear();
+            }
             connector.stop();
             cache.clearAll();
         } catch (Exception e) {
@@ -229,12 +284,14 @@ public class RemoteOperator
         }
     }
 
-    private void loadData() throws RaplaException {
+    private void loadData( EntityList resources ) throws RaplaException {
         checkConnected();
         cache.clearAll();
         getLogger().debug("Getting Data..");
         // recontextualize Entities
-        addToCache(serv.getResources(), false );
+        addToCache(resources, false );
+        // the resources are consistent with that version, so we only need the changes after it
+        clientRepositoryVerion = resources.getRepositoryVersion();
         getLogger().debug("Data flushed");
     }
 
@@ -254,6 +311,7 @@ public class RemoteOperator
     }
     
     
+    // The client only has the reservations of the loaded periods in the cache, so the server checks the dependencies on dispatch
     @Override
     protected void checkNoDependencies(Collection<RefEntity<?>> entities, Set<RefEntity<?>> storeObjects)
     {
@@ -286,6 +344,8 @@ public class RemoteOperator
                 getLogger().debug("dispatching remove for: " + entity);
             }
         }
+        // counted before the call, so a long poll answer that arrives during the call is not applied
+        dispatchCount++;
         serv.dispatch( closure );
         // Store in cache
         UpdateResult result = update( closure, true );
@@ -330,25 +390,20 @@ public class RemoteOperator
         }
     }
 
+    /** loads the reservations of the parts of the interval that are not in the cache yet.
+     * The cached reservations are passed with their versions, so the server only sends the new and changed ones.
+     * Changes of loaded reservations are received with the updates of the server.*/
     private void updateReservations(User user,Date start,Date end) throws RaplaException {
-        if ( !bReservationsFetched  ) {
-            bReservationsFetched = true;
-            firstCachedDate = start;
-        	lastCachedDate = end;
-        	addToCache(serv.getReservations(firstCachedDate, lastCachedDate), true );
-        	return;
-        }
-
-        if ( firstCachedDate != null) {
-            if (start == null || start.before(firstCachedDate)) {
-                addToCache(serv.getReservations( start, firstCachedDate), true );
-                firstCachedDate = start;
-            }
-        }
-        if ( lastCachedDate != null) {
-            if (end == null || end.after(lastCachedDate)) {
-                addToCache(serv.getReservations( lastCachedDate, end), true );
-                lastCachedDate = end;
+        synchronized (loadedIntervals) {
+            for (TimeInterval interval: loadedIntervals.getMissing( start, end)) {
+                Date missingStart = interval.getStart();
+                Date missingEnd = interval.getEnd();
+                String knownVersions;
+                synchronized (cache) {
+                    knownVersions = RemoteStorageImpl.formatKnownVersions( cache.getReservations( null, missingStart, missingEnd));
+                }
+                addToCache(serv.getReservations( missingStart, missingEnd, knownVersions), true );
+                loadedIntervals.add( missingStart, missingEnd);
             }
         }
     }
@@ -378,6 +433,12 @@ public class RemoteOperator
         updateReservations( user, start, end );
         return super.getReservations( user, start, end);
     }
+
+    public List<Reservation> getReservationsForAllocatable(Allocatable[] allocatables,Date start,Date end) throws RaplaException {
+        checkConnected();
+        updateReservations( null, start, end );
+        return super.getReservationsForAllocatable( allocatables, start, end);
+    }
    
     private String readResultToString( InputStream input) throws IOException
     {
@@ -394,6 +455,8 @@ public class RemoteOperator
             buffer.append( buf, 0,len );
             //buf.
         }
+        // close the stream, so the connection can be reused
+        in.close();
         String result = buffer.toString();
         return result;
     }
@@ -403,33 +466,60 @@ public class RemoteOperator
     public class ServerStub  {
         
        
-        Object call( Class<?> service, Method method,Object[] args) throws RaplaException {
+        Object call( RemoteMethodRegistry.Invoker invoker,Object[] args) throws RaplaException {
             try {
-                if ( args == null)
+            	InputStream stream = callInput( invoker,args);
+                return readResult( invoker, stream);
+            } catch (IOException ex) {
+                throw new RaplaException(ex);
+            } catch (ParseException ex) {
+            	throw new RaplaException(ex);
+            }
+         
+        }
+
+        /** calls the methods in one request.
+         * @return the results of the calls in the same order
+         * @throws RaplaException the exception of the call that failed */
+        Object[] callBatch( RemoteMethodRegistry.Invoker[] invokers, Object[][] args) throws RaplaException {
+            try {
+                List<String> methodNames = new ArrayList<String>();
+                List<Map<String,String>> argMaps = new ArrayList<Map<String,String>>();
+                for ( int i=0;i<invokers.length;i++)
                 {
-                	args = new Object[]{};
+                    methodNames.add( invokers[i].getName());
+                    argMaps.add( invokers[i].createArgumentMap( args[i]));
                 }
-                	
-            	InputStream stream = callInput( service,method,args);
-                Class<?> returnType = method.getReturnType();
-                if ( returnType.isAssignableFrom( EntityList.class))
+                InputStream[] streams = connector.callBatch( methodNames, argMaps);
+                Object[] results = new Object[invokers.length];
+                for ( int i=0;i<invokers.length;i++)
                 {
-                    LocalCache cacheProx = cache;
-                    if ( method.getName().equals("getResources"))
-                    {
-                    	cacheProx = null;
-                    }
-                    EntityStore store = new EntityStore( cacheProx, cache.getSuperCategory());
-                    return readIntoStore( stream, store );
+                    results[i] = readResult( invokers[i], streams[i]);
                 }
-                String resultString = readResultToString( stream);
-                return convertFromString(returnType, resultString);
+                return results;
+            } catch (SessionExpiredException ex) {
+                disconnect();
+                throw ex;
             } catch (IOException ex) {
                 throw new RaplaException(ex);
             } catch (ParseException ex) {
-            	throw new RaplaException(ex);
+                throw new RaplaException(ex);
             }
-         
+        }
+
+        private Object readResult( RemoteMethodRegistry.Invoker invoker, InputStream stream) throws IOException, ParseException, RaplaException {
+            if ( invoker.returnsEntityList())
+            {
+                LocalCache cacheProx = cache;
+                if ( invoker.getMethod().getName().equals("getResources"))
+                {
+                	cacheProx = null;
+                }
+                EntityStore store = new EntityStore( cacheProx, cache.getSuperCategory());
+                return readIntoStore( stream, store );
+            }
+            String resultString = readResultToString( stream);
+            return invoker.convertResult( resultString);
         }
 
 		
@@ -460,15 +550,10 @@ public class RemoteOperator
             }
         }
         
-        InputStream callInput( Class<?> service,Method method,Object[] args) throws RaplaException {
+        InputStream callInput( RemoteMethodRegistry.Invoker invoker,Object[] args) throws RaplaException {
             try {
-                String methodName = method.getName();
-                Map<String,String> argMap = createArgumentMap( method, args);
-                if ( service != null)
-                {
-                    methodName = service.getName() +"/" + methodName; 
-                }
-                return connector.call( methodName, argMap );
+                Map<String,String> argMap = invoker.createArgumentMap( args);
+                return connector.call( invoker.getName(), argMap );
             } catch (SessionExpiredException ex) {
                 disconnect();
                 throw ex;
@@ -493,36 +578,28 @@ public class RemoteOperator
         }
         
         
-        private Map<String,String> createArgumentMap( Method method, Object[] args ) throws RaplaException
-        {
-            LinkedHashMap<String,String> argMap = new LinkedHashMap<String,String>();
-            
-            Class<?>[] parameterTypes = method.getParameterTypes();
-            int length = parameterTypes.length;
-			if ( args.length != length)
-            {
-                throw new RaplaException("Paramter list don't match Expected " + length +" but was " + args.length);
-            }
-            for ( int i=0;i<args.length;i++)
-            {
-                //Class<?> type = parameterTypes[i];
-                method.toString();
-            	String argName = "" +i;
-                Object value = args[i];
-                String stringValue = convertToString(value);
-				argMap.put(argName, stringValue);
-            }
-            return argMap;
-        }
-       
-
-     
-
 		public void login(String username,String password) throws RaplaException {
 			RemoteServer remoteMethod = getRemoteMethod(RemoteServer.class);
             remoteMethod.login(username, password);
         }
 
+        /** checks the version, logs in and returns the resources in one request */
+        public EntityList login(String clientVersion, String username,String password) throws RaplaException {
+            try {
+                RemoteMethodRegistry.Invoker checkVersion = registry.find(RemoteServer.ROLE + "/checkServerVersion", 1);
+                RemoteMethodRegistry.Invoker login = registry.find(RemoteServer.ROLE + "/login", 2);
+                RemoteMethodRegistry.Invoker getResources = registry.find(RemoteStorage.class.getName() + "/getResources", 0);
+                Object[] results = callBatch( new RemoteMethodRegistry.Invoker[] {checkVersion, login, getResources}
+                    ,new Object[][] { {clientVersion}, {username, password}, {}});
+                return (EntityList) results[2];
+            } catch (BatchNotSupportedException ex) {
+                getLogger().info("Server doesn't support batch requests. Logging in with single calls.");
+                checkServerVersion( clientVersion);
+                login( username, password);
+                return getResources();
+            }
+        }
+
         public void checkServerVersion(String clientVersion) throws RaplaException {
 			RemoteServer remoteMethod = getRemoteMethod(RemoteServer.class);
             remoteMethod.checkServerVersion(clientVersion);
@@ -545,55 +622,60 @@ public class RemoteOperator
             return remoteMethod.getReservations(start, end);
         }
 
+        public EntityList getReservations(Date start,Date end,String knownVersions) throws RaplaException {
+            RemoteStorage remoteMethod = getRemoteMethod(RemoteStorage.class);
+            return remoteMethod.getReservations(start, end, knownVersions);
+        }
+
         private EntityList readIntoStore( InputStream stream, EntityStore store ) throws RaplaException
         {
             RaplaContext inputContext = new IOContext().createInputContext(serviceManager,store,idTable);
-            RaplaInput xmlAdapter = new RaplaInput( getLogger().getChildLogger("reading"));
             RaplaMainReader contentHandler = new RaplaMainReader( inputContext);
             try
             { 
-                
-            	InputStreamReader in = new InputStreamReader( stream,"UTF-8");
-            	PipedOutputStream out = new PipedOutputStream();
-            	final BufferedReader bufin = new BufferedReader( in);
-            	final Writer bufout = new OutputStreamWriter(  out,"UTF-8");
-            	new Thread()
-            	{
-            		public void run() {
-                		try
-                		{
-	            			//int i=0;
-	                    	while (true  )
-	                    	{
-		                    		String line = bufin.readLine() ; 
-		                    		if ( line == null)
-		                    			break;
-		                    		bufout.write( line);
-		                    		// Comment in for debugging of xml transfer
-		                    		//System.out.println( (10000 + i)+ ":" + line);
-		                    	//	i++;
-	                    	}
-		                    bufout.flush();
-	                    	bufout.close();
-	            		}
-                		catch ( IOException ex)
-                		{
-                			
-                		}
-
-            			
-            		};
-            	}.start();
-            	{
-            		PipedInputStream inPipe= new PipedInputStream( out );
-            		xmlAdapter.read( new InputStreamReader(inPipe, "UTF-8"), contentHandler, false);
-            	}
+                if ( !stream.markSupported())
+                {
+                    stream = new BufferedInputStream( stream);
+                }
+                boolean binary = BinaryXMLReader.isBinary( stream);
+                Logger xmlLogger = getLogger().getChildLogger("xml");
+                if ( !binary && xmlLogger.isDebugEnabled())
+                {
+                    // tee the payload into the log for debugging of the xml transfer
+                    ByteArrayOutputStream payload = new ByteArrayOutputStream();
+                    IOUtil.copyStreams( stream, payload);
+                    xmlLogger.debug( new String( payload.toByteArray(), "UTF-8"));
+                    stream = new ByteArrayInputStream( payload.toByteArray());
+                }
+                synchronized ( xmlInput)
+                {
+                    if ( binary)
+                    {
+                        xmlInput.readBinary( stream, contentHandler);
+                    }
+                    else
+                    {
+                        xmlInput.read( stream, "UTF-8", contentHandler, false);
+                    }
+                }
             }
             catch (IOException e)
             {
                 throw new RaplaException( "Error retrieving Data ", e);
             }
-            return new EntityList(store.getList());
+            finally
+            {
+                try
+                {
+                    stream.close();
+                }
+                catch (IOException e)
+                {
+                }
+            }
+            EntityList list = new EntityList(store.getList());
+            list.setRepositoryVersion( store.getRepositoryVersion());
+            return list;
         }
 
         public Object createIdentifier(RaplaType raplaType) throws RaplaException 
@@ -632,7 +714,39 @@ public class RemoteOperator
             RemoteStorage remoteMethod = getRemoteMethod(RemoteStorage.class);
             String clientRepoVersion = String.valueOf(clientRepositoryVerion);
             String xml = remoteMethod.refresh( clientRepoVersion);
+            applyUpdate( xml );
+        }
 
+        /** waits until the server has changes or the server timeout elapses and applies the changes */
+        public void waitForUpdate() throws RaplaException {
+            RemoteStorage remoteMethod = getRemoteMethod(RemoteStorage.class);
+            long dispatchCount = RemoteOperator.this.dispatchCount;
+            String xml = remoteMethod.waitForUpdate( String.valueOf(clientRepositoryVerion));
+            for ( int i = 0; i < MAX_UPDATE_RETRIES; i++)
+            {
+                // the answer is fetched without the lock, the readers only wait while it is applied
+                Lock writeLock = getWriteLock();
+                writeLock.lock();
+                try
+                {
+                    if ( dispatchCount == RemoteOperator.this.dispatchCount)
+                    {
+                        applyUpdate( xml );
+                        return;
+                    }
+                }
+                finally
+                {
+                    writeLock.unlock();
+                }
+                // the client stored changes while waiting, so the answer can be older than the cache
+                dispatchCount = RemoteOperator.this.dispatchCount;
+                xml = remoteMethod.refresh( String.valueOf(clientRepositoryVerion));
+            }
+            // the client keeps storing, the next poll gets the changes
+        }
+
+        private void applyUpdate(String xml) throws RaplaException {
 			if ( xml.length() < 50 && xml.indexOf( "<uptodate/>")>=0)
             {
             }
@@ -654,7 +768,9 @@ public class RemoteOperator
 
     private void refresh(String xml) throws RaplaException
     {
-        synchronized (getLock()) 
+        Lock writeLock = getWriteLock();
+        writeLock.lock();
+        try
         {
             UpdateEvent evt = RemoteStorageImpl.createUpdateEvent( serviceManager,xml, cache );
             Iterator<RefEntity<?>> it = evt.getStoreObjects().iterator();
@@ -712,7 +828,10 @@ public class RemoteOperator
             }
             clientRepositoryVerion = evt.getRepositoryVersion();
         }
-       
+        finally
+        {
+            writeLock.unlock();
+        }
     }
     public void serverDisconnected()  {
         bSessionActive = false;
@@ -739,84 +858,76 @@ public class RemoteOperator
         }
     }
 
+    /** Long poll for changes. It has its own thread, because each call waits up to the timeout of the server
+     * and would hold back the other commands of the notify queue. The thread ends with the session. */
+    class LongPollThread extends Thread {
+        LongPollThread() {
+            super("rapla-long-poll");
+            setDaemon(true);
+        }
+
+        public void run() {
+            while ( bSessionActive && longPollThread == this) {
+                try {
+                    serv.waitForUpdate();
+                    setPushingUpdates(true);
+                } catch (Exception ex) {
+                    if ( !bSessionActive || longPollThread != this)
+                        return;
+                    getLogger().warn("Waiting for updates failed: " + ex.getMessage());
+                    // e.g. an older server without long poll, the facade falls back to the regular refresh
+                    setPushingUpdates(false);
+                    try {
+                        // don't flood the server
+                        Thread.sleep(ERROR_RETRY_DELAY);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
 	@SuppressWarnings("unchecked")
 	public <T> T getRemoteMethod(final Class<T> a) 
 	{
+		Object proxyInstance = remoteMethods.get( a);
+		if ( proxyInstance != null)
+		{
+			return (T) proxyInstance;
+		}
+		registry.register( a);
 		InvocationHandler proxy = new InvocationHandler() {
 			
 			public Object invoke(Object proxy, Method method, Object[] args)
 					throws Throwable 
 			{
-				Object result = serv.call(a, method, args);
+				RemoteMethodRegistry.Invoker invoker = registry.getInvoker(a, method);
+				if ( invoker == null)
+				{
+					throw new RaplaException("Can't find method with name " + method.getName());
+				}
+				Object result = serv.call(invoker, args);
 				return result;
 			}
 		};
 		ClassLoader classLoader = getClass().getClassLoader();
 		Class<T>[] interfaces = new Class[] {a};
-		Object proxyInstance = Proxy.newProxyInstance(classLoader, interfaces, proxy);
+		proxyInstance = Proxy.newProxyInstance(classLoader, interfaces, proxy);
+		remoteMethods.put( a, proxyInstance);
 		return (T) proxyInstance;
 	}
 
 		
 	static public Object convertFromString(Class<?> returnType, String resultString)
 				throws ParseException, RaplaException {
-		
-			if ( resultString == null)
-			{
-				return null;
-			}
-			
-		  	if ( returnType.isAssignableFrom( Long.class)  ||  returnType.isAssignableFrom( long.class)  )
-			{
-		  		return Long.parseLong( resultString);
-			}
-		  	if ( returnType.isAssignableFrom( Integer.class)  ||  returnType.isAssignableFrom( int.class)  )
-			{
-		  		return Integer.parseInt( resultString);
-			}
-		  	if ( returnType.isAssignableFrom( Double.class)  ||  returnType.isAssignableFrom( double.class)  )
-			{
-		  		return Double.parseDouble( resultString);
-			}
-
-			if ( returnType.isAssignableFrom( Date.class))
-			{
-			    if ( resultString.trim().length() == 0)
-			    {
-			    	return null;
-			    }
-				SerializableDateTimeFormat format = new SerializableDateTimeFormat();
-			    boolean fillDate = false;
-				Date result = format.parseDate(resultString, fillDate);
-				return result;
-			}
-			if ( returnType.isAssignableFrom( RaplaType.class))
-			{
-				return RaplaType.find( resultString);
-			}
-			if ( returnType.isAssignableFrom( Boolean.class)  ||  returnType.isAssignableFrom( boolean.class))
-			{
-				return Boolean.parseBoolean( resultString);
-			}
-
-			return resultString;
-		}
+		return RemoteMethodRegistry.getConverter( returnType).fromString( resultString);
+	}
 
 	public static String convertToString(Object value) 
-       {
-       	if ( value == null)
-       	{
-       		return null;
-       	}
-       	if ( value instanceof Date)
-       	{
-               SerializableDateTimeFormat format = new SerializableDateTimeFormat();
-               return format.formatDate( (Date)value);
-       	}
-		
-       	return value.toString();
-			
-		}  
+	{
+		return RemoteMethodRegistry.STRING.toString( value);
+	}
 
 }
 
@@ -0,0 +1,221 @@
+/*--------------------------------------------------------------------------*
+ | Copyright (C) 2006 Christopher Kohlhaas                                  |
+ |                                                                          |
+ | This program is free software; you can redistribute it and/or modify     |
+ | it under the terms of the GNU General Public License as published by the |
+ | Free Software Foundation. A copy of the license has been included with   |
+ | these distribution in the COPYING file, if not go to www.fsf.org         |
+ |                                                                          |
+ | As a special exception, you are granted the permissions to link this     |
+ | program with every library, which license fulfills the Open Source       |
+ | Definition as published by the Open Source Initiative (OSI).             |
+ *--------------------------------------------------------------------------*/
+package org.rapla.storage.dbsql;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import org.rapla.entities.RaplaType;
+import org.rapla.entities.dynamictype.Attribute;
+import org.rapla.entities.storage.RefEntity;
+import org.rapla.entities.storage.internal.SimpleIdentifier;
+import org.rapla.framework.RaplaException;
+
+/** Reads and writes the table RAPLA_CHANGE. For every stored or removed entity
+ * a row with the id, the type and the new version of the entity is written in the
+ * same transaction as the entity itself. Other servers that use the same database
+ * read the rows with a higher sequence number to find the entities they have to reload.
+ */
+final class ChangeLog
+{
+    static final String TABLE = "RAPLA_CHANGE";
+    static final String STORE = "store";
+    static final String REMOVE = "remove";
+
+    private static final String COLUMNS = "SEQUENCE_NR,ENTITY_ID,TYPE_KEY,ENTITY_VERSION,CHANGE_TYPE,CHANGE_TIME";
+
+    private ChangeLog()
+    {
+    }
+
+    /** returns if the table exists. If not, the transaction is rolled back, because some databases
+     * don't accept further statements after an error.*/
+    static boolean exists( Connection con ) throws SQLException
+    {
+        Statement stmt = con.createStatement();
+        try
+        {
+            stmt.executeQuery( "select " + COLUMNS + " from " + TABLE + " where SEQUENCE_NR < 0" ).close();
+            return true;
+        }
+        catch ( SQLException ex )
+        {
+            if ( !con.getAutoCommit() )
+            {
+                con.rollback();
+            }
+            return false;
+        }
+        finally
+        {
+            stmt.close();
+        }
+    }
+
+    static void create( Connection con, String timestampType ) throws SQLException
+    {
+        EntityStorage.executeBatchedStatement( con, "CREATE TABLE " + TABLE + " (SEQUENCE_NR INTEGER NOT NULL, ENTITY_ID INTEGER NOT NULL, TYPE_KEY VARCHAR(100) NOT NULL, ENTITY_VERSION INTEGER NOT NULL, CHANGE_TYPE VARCHAR(10) NOT NULL, CHANGE_TIME " + timestampType + " NOT NULL, PRIMARY KEY (SEQUENCE_NR))" );
+    }
+
+    /** returns the highest sequence number in the table or 0 if it is empty.*/
+    static int getLastSequenceNr( Connection con ) throws SQLException
+    {
+        Statement stmt = con.createStatement();
+        try
+        {
+            ResultSet rset = stmt.executeQuery( "select max(SEQUENCE_NR) from " + TABLE );
+            try
+            {
+                return rset.next() ? rset.getInt( 1 ) : 0;
+            }
+            finally
+            {
+                rset.close();
+            }
+        }
+        finally
+        {
+            stmt.close();
+        }
+    }
+
+    /** writes a row for every entity. The stored entities get the version they will have after the update.
+     * Two servers that write at the same time can get the same sequence number, then the insert of the second
+     * fails because of the primary key and its transaction is rolled back.
+     * @return the sequence numbers of the new rows */
+    static List<Integer> write( Connection con, Collection<RefEntity<?>> storeObjects, Collection<RefEntity<?>> removeObjects, Date time ) throws SQLException
+    {
+        List<Integer> sequenceNrs = new ArrayList<Integer>();
+        if ( storeObjects.isEmpty() && removeObjects.isEmpty() )
+        {
+            return sequenceNrs;
+        }
+        int sequenceNr = getLastSequenceNr( con );
+        Timestamp timestamp = new Timestamp( time.getTime() );
+        PreparedStatement stmt = con.prepareStatement( "insert into " + TABLE + " (" + COLUMNS + ") values (?,?,?,?,?,?)" );
+        try
+        {
+            for ( RefEntity<?> entity : storeObjects )
+            {
+                if ( Attribute.TYPE.equals( entity.getRaplaType() ) )
+                {
+                    continue;
+                }
+                addRow( stmt, ++sequenceNr, entity, STORE, timestamp );
+                sequenceNrs.add( new Integer( sequenceNr ) );
+            }
+            for ( RefEntity<?> entity : removeObjects )
+            {
+                if ( Attribute.TYPE.equals( entity.getRaplaType() ) )
+                {
+                    continue;
+                }
+                addRow( stmt, ++sequenceNr, entity, REMOVE, timestamp );
+                sequenceNrs.add( new Integer( sequenceNr ) );
+            }
+            stmt.executeBatch();
+        }
+        finally
+        {
+            stmt.close();
+        }
+        return sequenceNrs;
+    }
+
+    private static void addRow( PreparedStatement stmt, int sequenceNr, RefEntity<?> entity, String changeType, Timestamp timestamp ) throws SQLException
+    {
+        stmt.setInt( 1, sequenceNr );
+        stmt.setInt( 2, EntityStorage.getId( entity ) );
+        stmt.setString( 3, entity.getRaplaType().toString() );
+        stmt.setInt( 4, (int) entity.getVersion() + 1 );
+        stmt.setString( 5, changeType );
+        stmt.setTimestamp( 6, timestamp );
+        stmt.addBatch();
+    }
+
+    /** returns the changes with a higher sequence number, ordered by the sequence number.*/
+    static List<Change> read( Connection con, int lastSequenceNr ) throws SQLException, RaplaException
+    {
+        List<Change> changes = new ArrayList<Change>();
+        PreparedStatement stmt = con.prepareStatement( "select " + COLUMNS + " from " + TABLE + " where SEQUENCE_NR > ? order by SEQUENCE_NR" );
+        try
+        {
+            stmt.setInt( 1, lastSequenceNr );
+            ResultSet rset = stmt.executeQuery();
+            try
+            {
+                while ( rset.next() )
+                {
+                    RaplaType type = RaplaType.find( rset.getString( 3 ) );
+                    Object id = new SimpleIdentifier( type, rset.getInt( 2 ) );
+                    changes.add( new Change( rset.getInt( 1 ), type, id, rset.getInt( 4 ), REMOVE.equals( rset.getString( 5 ) ) ) );
+                }
+            }
+            finally
+            {
+                rset.close();
+            }
+        }
+        finally
+        {
+            stmt.close();
+        }
+        return changes;
+    }
+
+    /** deletes the rows that are older than the passed time.*/
+    static int removeOlderThan( Connection con, Date time ) throws SQLException
+    {
+        PreparedStatement stmt = con.prepareStatement( "delete from " + TABLE + " where CHANGE_TIME < ?" );
+        try
+        {
+            stmt.setTimestamp( 1, new Timestamp( time.getTime() ) );
+            return stmt.executeUpdate();
+        }
+        finally
+        {
+            stmt.close();
+        }
+    }
+
+    static final class Change
+    {
+        final int sequenceNr;
+        final RaplaType raplaType;
+        final Object id;
+        final int version;
+        final boolean remove;
+
+        Change( int sequenceNr, RaplaType raplaType, Object id, int version, boolean remove )
+        {
+            this.sequenceNr = sequenceNr;
+            this.raplaType = raplaType;
+            this.id = id;
+            this.version = version;
+            this.remove = remove;
+        }
+
+        public String toString()
+        {
+            return sequenceNr + " " + ( remove ? REMOVE : STORE ) + " " + id + " version " + version;
+        }
+    }
+}
@@ -0,0 +1,481 @@
+/*--------------------------------------------------------------------------*
+ | Copyright (C) 2006 Christopher Kohlhaas                                  |
+ |                                                                          |
+ | This program is free software; you can redistribute it and/or modify     |
+ | it under the terms of the GNU General Public License as published by the |
+ | Free Software Foundation. A copy of the license has been included with   |
+ | these distribution in the COPYING file, if not go to www.fsf.org         |
+ |                                                                          |
+ | As a special exception, you are granted the permissions to link this     |
+ | program with every library, which license fulfills the Open Source       |
+ | Definition as published by the Open Source Initiative (OSI).             |
+ *--------------------------------------------------------------------------*/
+package org.rapla.storage.dbsql;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.avalon.framework.logger.Logger;
+
+/** <p>A bounded pool of JDBC connections. It is used by the DBOperator
+ * if no datasource of the servlet container is configured.</p>
+ * <p>Closing a connection from the pool returns it to the pool. The statements that
+ * were opened with it are closed, uncommitted changes are rolled back and autoCommit,
+ * readOnly and the transaction isolation are set back to the values of the new
+ * connection before the connection is reused. A connection is closed
+ * for real if it is older than the max lifetime or fails the validation.</p>
+ * <p>A connection that is not returned within the leak threshold is reported
+ * once with the stack trace of the caller that took it.</p>
+ */
+public abstract class ConnectionPool
+{
+    /** connections that were idle for a shorter time are not validated */
+    static final long VALIDATION_INTERVAL = 5000;
+
+    private final Logger logger;
+    private final int maxSize;
+    private final long maxLifetime;
+    private final long timeout;
+    private final long leakThreshold;
+    private final String validationQuery;
+
+    private final LinkedList<PooledConnection> idle = new LinkedList<PooledConnection>();
+    private final Set<PooledConnection> active = new HashSet<PooledConnection>();
+    private int opening;
+    // connections of an older generation are closed when they are returned
+    private int generation;
+
+    private long createdCount;
+    private long closedCount;
+    private long borrowCount;
+    private long leakCount;
+    private long totalWait;
+    private long maxWait;
+
+    /**
+     * @param maxSize the maximum number of open connections
+     * @param maxLifetime connections older than this are closed (ms)
+     * @param timeout how long to wait for a free connection (ms)
+     * @param leakThreshold connections in use for a longer time are reported (ms), 0 disables the check
+     * @param validationQuery the query that checks an idle connection, if null only isClosed is checked
+     */
+    public ConnectionPool( Logger logger, int maxSize, long maxLifetime, long timeout, long leakThreshold, String validationQuery )
+    {
+        this.logger = logger;
+        this.maxSize = maxSize;
+        this.maxLifetime = maxLifetime;
+        this.timeout = timeout;
+        this.leakThreshold = leakThreshold;
+        this.validationQuery = validationQuery;
+    }
+
+    /** opens a new connection to the database.*/
+    abstract protected Connection connect() throws SQLException;
+
+    /** returns a connection from the pool or opens a new one. Waits if maxSize connections are in use.*/
+    public Connection getConnection() throws SQLException
+    {
+        long start = System.currentTimeMillis();
+        PooledConnection pooled = null;
+        while ( pooled == null )
+        {
+            boolean open = false;
+            synchronized ( this )
+            {
+                reportLeaks();
+                while ( idle.isEmpty() && active.size() + opening >= maxSize )
+                {
+                    long remaining = start + timeout - System.currentTimeMillis();
+                    if ( remaining <= 0 )
+                    {
+                        throw new SQLException( "No database connection available after " + timeout + " ms. "
+                                                + active.size() + " connections are in use." );
+                    }
+                    try
+                    {
+                        wait( remaining );
+                    }
+                    catch ( InterruptedException ex )
+                    {
+                        throw new SQLException( "Interrupted while waiting for a database connection" );
+                    }
+                }
+                if ( !idle.isEmpty() )
+                {
+                    // the most recently used connection is the least likely to be stale
+                    pooled = idle.removeLast();
+                }
+                else
+                {
+                    opening++;
+                    open = true;
+                }
+            }
+            if ( open )
+            {
+                pooled = open();
+            }
+            else if ( !isUsable( pooled ) )
+            {
+                closePhysical( pooled );
+                pooled = null;
+            }
+        }
+        long waitTime = System.currentTimeMillis() - start;
+        synchronized ( this )
+        {
+            active.add( pooled );
+            borrowCount++;
+            totalWait += waitTime;
+            if ( waitTime > maxWait )
+                maxWait = waitTime;
+            return pooled.borrow( leakThreshold > 0 );
+        }
+    }
+
+    private PooledConnection open() throws SQLException
+    {
+        PooledConnection pooled = null;
+        try
+        {
+            Connection connection = connect();
+            boolean autoCommit = connection.getAutoCommit();
+            boolean readOnly = connection.isReadOnly();
+            int isolation = connection.getTransactionIsolation();
+            synchronized ( this )
+            {
+                pooled = new PooledConnection( connection, generation, autoCommit, readOnly, isolation );
+                createdCount++;
+            }
+            return pooled;
+        }
+        finally
+        {
+            synchronized ( this )
+            {
+                opening--;
+                if ( pooled == null )
+                {
+                    notifyAll();
+                }
+            }
+        }
+    }
+
+    private boolean isUsable( PooledConnection pooled )
+    {
+        long now = System.currentTimeMillis();
+        if ( now - pooled.created > maxLifetime )
+        {
+            return false;
+        }
+        try
+        {
+            if ( pooled.connection.isClosed() )
+            {
+                return false;
+            }
+            if ( validationQuery != null && now - pooled.lastUsed > VALIDATION_INTERVAL )
+            {
+                Statement stmt = pooled.connection.createStatement();
+                try
+                {
+                    stmt.execute( validationQuery );
+                }
+                finally
+                {
+                    stmt.close();
+                }
+            }
+            return true;
+        }
+        catch ( SQLException ex )
+        {
+            logger.warn( "Discarding invalid database connection: " + ex.getMessage() );
+            return false;
+        }
+    }
+
+    void release( PooledConnection pooled )
+    {
+        boolean discard;
+        synchronized ( this )
+        {
+            discard = pooled.generation != generation;
+        }
+        if ( System.currentTimeMillis() - pooled.created > maxLifetime )
+        {
+            discard = true;
+        }
+        if ( !discard )
+        {
+            try
+            {
+                Connection connection = pooled.connection;
+                if ( !connection.getAutoCommit() )
+                {
+                    connection.rollback();
+                }
+                if ( connection.getAutoCommit() != pooled.autoCommit )
+                {
+                    connection.setAutoCommit( pooled.autoCommit );
+                }
+                if ( connection.isReadOnly() != pooled.readOnly )
+                {
+                    connection.setReadOnly( pooled.readOnly );
+                }
+                if ( connection.getTransactionIsolation() != pooled.isolation )
+                {
+                    connection.setTransactionIsolation( pooled.isolation );
+                }
+            }
+            catch ( SQLException ex )
+            {
+                discard = true;
+            }
+        }
+        synchronized ( this )
+        {
+            active.remove( pooled );
+            if ( !discard )
+            {
+                pooled.lastUsed = System.currentTimeMillis();
+                idle.addLast( pooled );
+            }
+            notifyAll();
+        }
+        if ( discard )
+        {
+            closePhysical( pooled );
+        }
+    }
+
+    private void closePhysical( PooledConnection pooled )
+    {
+        synchronized ( this )
+        {
+            closedCount++;
+        }
+        try
+        {
+            pooled.connection.close();
+        }
+        catch ( SQLException ex )
+        {
+            logger.warn( "Can't close database connection: " + ex.getMessage() );
+        }
+    }
+
+    private void reportLeaks()
+    {
+        if ( leakThreshold <= 0 )
+        {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for ( PooledConnection pooled : active )
+        {
+            if ( !pooled.leakReported && now - pooled.borrowed > leakThreshold )
+            {
+                pooled.leakReported = true;
+                leakCount++;
+                logger.warn( "Database connection not returned for " + ( now - pooled.borrowed ) + " ms", pooled.borrowStack );
+            }
+        }
+    }
+
+    /** closes the idle connections. Connections in use are closed when they are returned.*/
+    public void clear()
+    {
+        List<PooledConnection> toClose;
+        synchronized ( this )
+        {
+            generation++;
+            toClose = new ArrayList<PooledConnection>( idle );
+            idle.clear();
+        }
+        for ( Iterator<PooledConnection> it = toClose.iterator(); it.hasNext(); )
+        {
+            closePhysical( it.next() );
+        }
+    }
+
+    public synchronized int getActiveCount()
+    {
+        return active.size();
+    }
+
+    public synchronized int getIdleCount()
+    {
+        return idle.size();
+    }
+
+    /** the number of connections opened to the database.*/
+    public synchronized long getCreatedCount()
+    {
+        return createdCount;
+    }
+
+    public synchronized long getClosedCount()
+    {
+        return closedCount;
+    }
+
+    /** the number of times a connection was taken from the pool.*/
+    public synchronized long getBorrowCount()
+    {
+        return borrowCount;
+    }
+
+    /** the number of connections that were reported as not returned.*/
+    public synchronized long getLeakCount()
+    {
+        reportLeaks();
+        return leakCount;
+    }
+
+    public synchronized String toString()
+    {
+        long avgWait = borrowCount > 0 ? totalWait / borrowCount : 0;
+        return "connection pool: " + active.size() + " in use, " + idle.size() + " idle"
+            + ", " + createdCount + " opened, " + closedCount + " closed"
+            + ", " + borrowCount + " times used, wait avg " + avgWait + "ms max " + maxWait + "ms"
+            + ", " + leakCount + " leaks";
+    }
+
+    final class PooledConnection
+    {
+        final Connection connection;
+        final int generation;
+        final long created;
+        // the state of the new connection, that is restored when it is returned
+        final boolean autoCommit;
+        final boolean readOnly;
+        final int isolation;
+        long lastUsed;
+        long borrowed;
+        Throwable borrowStack;
+        boolean leakReported;
+
+        PooledConnection( Connection connection, int generation, boolean autoCommit, boolean readOnly, int isolation )
+        {
+            this.connection = connection;
+            this.generation = generation;
+            this.autoCommit = autoCommit;
+            this.readOnly = readOnly;
+            this.isolation = isolation;
+            created = System.currentTimeMillis();
+            lastUsed = created;
+        }
+
+        /** returns a proxy of the connection that puts it back into the pool when it is closed.*/
+        Connection borrow( boolean recordStack )
+        {
+            borrowed = System.currentTimeMillis();
+            borrowStack = recordStack ? new Throwable( "Connection taken here" ) : null;
+            leakReported = false;
+            return (Connection) Proxy.newProxyInstance( Connection.class.getClassLoader(),
+                                                        new Class<?>[] { Connection.class },
+                                                        new Handle( this ) );
+        }
+    }
+
+    /** The connection handed out to one caller. It can't be used after close.
+     * The statements created with it are closed, when it is closed.*/
+    final class Handle implements InvocationHandler
+    {
+        private PooledConnection pooled;
+        private final List<Statement> statements = new ArrayList<Statement>();
+
+        Handle( PooledConnection pooled )
+        {
+            this.pooled = pooled;
+        }
+
+        public Object invoke( Object proxy, Method method, Object[] args ) throws Throwable
+        {
+            String name = method.getName();
+            PooledConnection current;
+            synchronized ( this )
+            {
+                if ( name.equals( "close" ) )
+                {
+                    if ( pooled != null )
+                    {
+                        PooledConnection returned = pooled;
+                        pooled = null;
+                        closeStatements();
+                        release( returned );
+                    }
+                    return null;
+                }
+                if ( name.equals( "isClosed" ) )
+                {
+                    return Boolean.valueOf( pooled == null || pooled.connection.isClosed() );
+                }
+                if ( name.equals( "equals" ) )
+                {
+                    return Boolean.valueOf( proxy == args[0] );
+                }
+                if ( name.equals( "hashCode" ) )
+                {
+                    return new Integer( System.identityHashCode( proxy ) );
+                }
+                if ( name.equals( "toString" ) )
+                {
+                    return "Pooled " + ( pooled != null ? pooled.connection.toString() : "closed connection" );
+                }
+                if ( pooled == null )
+                {
+                    throw new SQLException( "Connection is closed" );
+                }
+                current = pooled;
+            }
+            Object result;
+            try
+            {
+                result = method.invoke( current.connection, args );
+            }
+            catch ( InvocationTargetException ex )
+            {
+                throw ex.getTargetException();
+            }
+            if ( result instanceof Statement )
+            {
+                synchronized ( this )
+                {
+                    statements.add( (Statement) result );
+                }
+            }
+            return result;
+        }
+
+        /** closes the statements and with them their result sets */
+        private void closeStatements()
+        {
+            for ( Statement statement : statements )
+            {
+                try
+                {
+                    statement.close();
+                }
+                catch ( SQLException ex )
+                {
+                    logger.warn( "Can't close statement: " + ex.getMessage() );
+                }
+            }
+            statements.clear();
+        }
+    }
+}
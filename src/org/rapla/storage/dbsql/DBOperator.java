@@ -21,8 +21,21 @@ import java.sql.Driver;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.locks.Lock;
 
 import javax.naming.Context;
 import javax.naming.InitialContext;
@@ -31,9 +44,13 @@ import javax.sql.DataSource;
 import org.apache.avalon.framework.activity.Disposable;
 import org.apache.avalon.framework.configuration.Configuration;
 import org.apache.avalon.framework.configuration.ConfigurationException;
+import org.rapla.components.util.DateTools;
+import org.rapla.entities.Category;
 import org.rapla.entities.RaplaType;
 import org.rapla.entities.User;
+import org.rapla.entities.dynamictype.DynamicType;
 import org.rapla.entities.storage.RefEntity;
+import org.rapla.entities.storage.internal.SimpleIdentifier;
 import org.rapla.framework.RaplaContext;
 import org.rapla.framework.RaplaDefaultContext;
 import org.rapla.framework.RaplaException;
@@ -48,7 +65,45 @@ import org.rapla.storage.impl.EntityStore;
 import org.rapla.storage.xml.RaplaInput;
 import org.rapla.storage.xml.RaplaMainWriter;
 
-/** This Operator is used to store the data in a SQL-DBMS.*/
+/** This Operator is used to store the data in a SQL-DBMS.
+ * <p>If no datasource is configured, the connections to the database are kept in a pool:</p>
+ <pre>
+ &lt;pool-size>5&lt;/pool-size>
+ &lt;pool-max-lifetime>1800000&lt;/pool-max-lifetime>
+ &lt;pool-timeout>30000&lt;/pool-timeout>
+ &lt;pool-leak-threshold>60000&lt;/pool-leak-threshold>
+ &lt;pool-validation-query>SELECT 1&lt;/pool-validation-query>
+ </pre>
+ * <ul>
+ *   <li>pool-size is the maximum number of connections. 0 opens a new connection for each request. (Default is 5)</li>
+ *   <li>Connections older than pool-max-lifetime milliseconds are closed. (Default is 30 minutes)</li>
+ *   <li>If all connections are in use, a request waits pool-timeout milliseconds for a free connection. (Default is 30 seconds)</li>
+ *   <li>A connection that is not returned to the pool within pool-leak-threshold milliseconds is logged. (Default is 60 seconds)</li>
+ *   <li>The pool-validation-query checks idle connections before they are reused. (Default is none)</li>
+ * </ul>
+ * <p>At startup the tables are read on separate connections:</p>
+ <pre>
+ &lt;load-threads>4&lt;/load-threads>
+ &lt;load-fetch-size>1000&lt;/load-fetch-size>
+ </pre>
+ * <ul>
+ *   <li>load-threads is the number of tables that are read at the same time. 0 reads all tables on one connection. (Default is 4, but at most pool-size - 1)</li>
+ *   <li>load-fetch-size is the number of rows that are fetched from the database at once. (Default is 1000)</li>
+ * </ul>
+ * <p>Every change is also written to the table RAPLA_CHANGE. A server that shares the database
+ * with other servers or import tools loads their changes with {@link #refresh()}:</p>
+ <pre>
+ &lt;refresh-interval>60000&lt;/refresh-interval>
+ &lt;change-retention>30&lt;/change-retention>
+ </pre>
+ * <ul>
+ *   <li>refresh-interval is the time in milliseconds between two refreshs. (Default is 0, no automatic refresh)</li>
+ *   <li>Rows of the RAPLA_CHANGE table that are older than change-retention days are deleted at startup. (Default is 30, 0 keeps all rows)</li>
+ * </ul>
+ @see ConnectionPool
+ @see TableLoader
+ @see ChangeLog
+ */
 public class DBOperator extends AbstractCachableOperator
 implements
 Disposable
@@ -68,6 +123,17 @@ Disposable
 
     private String backupEncoding;
     private String backupFileName;
+    private ConnectionPool connectionPool;
+    private int loadThreads;
+    private int loadFetchSize;
+    // true if the table of the change log exists
+    private boolean changeLog;
+    private int lastChangeNr;
+    // the changes written by this operator are already in the cache and skipped in the next refresh
+    private final Set<Integer> ownChanges = Collections.synchronizedSet( new HashSet<Integer>());
+    private long refreshInterval;
+    private int changeRetention;
+    private volatile Timer refreshTimer;
 
     
     public DBOperator(RaplaContext context, Configuration config) throws RaplaException,ConfigurationException {
@@ -81,6 +147,10 @@ Disposable
         backupEncoding = config.getChild( "encoding" ).getValue( "utf-8" );
  
         datasourceName = config.getChild("datasource").getValue(null);
+        loadThreads = config.getChild("load-threads").getValueAsInteger( 4 );
+        loadFetchSize = config.getChild("load-fetch-size").getValueAsInteger( 1000 );
+        refreshInterval = config.getChild("refresh-interval").getValueAsLong( 0 );
+        changeRetention = config.getChild("change-retention").getValueAsInteger( 30 );
         // dont use datasource (we have to configure a driver )
         if ( datasourceName == null)
         {
@@ -110,16 +180,44 @@ Disposable
 	        {
 	            throw new RaplaException("Could not instantiate DB-Driver: " + driverClassname, e);
 	        }
+	        int poolSize = config.getChild("pool-size").getValueAsInteger( 5 );
+	        if ( poolSize > 0 )
+	        {
+	            connectionPool = new ConnectionPool( getLogger().getChildLogger("pool")
+	                                                 , poolSize
+	                                                 , config.getChild("pool-max-lifetime").getValueAsLong( 30 * 60 * 1000 )
+	                                                 , config.getChild("pool-timeout").getValueAsLong( 30 * 1000 )
+	                                                 , config.getChild("pool-leak-threshold").getValueAsLong( 60 * 1000 )
+	                                                 , config.getChild("pool-validation-query").getValue( null )
+	                                                 )
+	            {
+	                protected Connection connect() throws SQLException
+	                {
+	                    return openConnection();
+	                }
+	            };
+	            // the connection that processes the rows is taken from the pool too
+	            loadThreads = Math.min( loadThreads, poolSize - 1);
+	        }
         }
     }
 
+    /** returns the pool of the database connections or null if no pool is used.*/
+    public ConnectionPool getConnectionPool() {
+        return connectionPool;
+    }
+
     public boolean supportsActiveMonitoring() {
         return false;
     }
 
+    public boolean isPushingUpdates() {
+        return false;
+    }
+
+    /** returns a connection to the database. Close the connection after use, this puts it back in the pool.*/
     public Connection createConnection() throws RaplaException {
         try {
-        	 Connection connection;
         	 //datasource lookup 
         	 if ( datasourceName != null)
         	 {
@@ -129,28 +227,18 @@ Disposable
         		 {
         			 throw new RaplaDBException("Datasource not found"); 
         		 }
-        		 connection = ds.getConnection();
+        		 return initConnection( ds.getConnection() );
+        	 }
+        	 // the pool opens and initializes the connection only once 
+        	 else if ( connectionPool != null )
+        	 {
+        	     return connectionPool.getConnection();
         	 }
         	 // or driver initialization
         	 else
         	 {
-        		 connection = dbDriver.connect(dbURL, dbProperties);
-                 if (connection == null)
-                 {
-                     throw new RaplaDBException("No driver found for: " + dbURL + "\nCheck url!");
-                 }
+        	     return openConnection();
         	 }
-             
-             bSupportsTransactions = connection.getMetaData().supportsTransactions();
-             if (bSupportsTransactions)
-             {
-                 connection.setAutoCommit( false );
-             }
-             else
-             {
-                 getLogger().warn("No Transaction support");
-             }
-             return connection;
         } catch (Throwable ex) {
              if ( ex instanceof RaplaDBException)
              {
@@ -161,6 +249,28 @@ Disposable
         }
     }
 
+    private Connection openConnection() throws SQLException {
+        Connection connection = dbDriver.connect(dbURL, dbProperties);
+        if (connection == null)
+        {
+            throw new SQLException("No driver found for: " + dbURL + "\nCheck url!");
+        }
+        return initConnection( connection );
+    }
+
+    private Connection initConnection(Connection connection) throws SQLException {
+        bSupportsTransactions = connection.getMetaData().supportsTransactions();
+        if (bSupportsTransactions)
+        {
+            connection.setAutoCommit( false );
+        }
+        else
+        {
+            getLogger().warn("No Transaction support");
+        }
+        return connection;
+    }
+
     public void connect() throws RaplaException {
         if (isConnected())
         {
@@ -168,6 +278,24 @@ Disposable
         }
         loadData();
         isConnected = true;
+        if ( refreshInterval > 0 && changeLog )
+        {
+            refreshTimer = new Timer( true ); // Start timer as daemon-thread
+            refreshTimer.schedule( new TimerTask()
+            {
+                public void run()
+                {
+                    try
+                    {
+                        refresh();
+                    }
+                    catch ( RaplaException ex )
+                    {
+                        getLogger().error( "Refresh failed: " + ex.getMessage(), ex );
+                    }
+                }
+            }, refreshInterval, refreshInterval );
+        }
     }
 
     public void connect(String username,char[] password) throws RaplaException {
@@ -178,8 +306,135 @@ Disposable
         return isConnected;
     }
     
+    /** loads the entities that other servers have changed since the last refresh and
+     * passes them to the update listeners. If categories or dynamic types were changed,
+     * everything is loaded again with {@link #refreshFull()}.*/
     final public void refresh() throws RaplaException {
-        getLogger().warn("Incremental refreshs are not supported");
+        if ( !changeLog )
+        {
+            getLogger().warn("Incremental refreshs are not supported without the table " + ChangeLog.TABLE);
+            return;
+        }
+        Lock writeLock = getWriteLock();
+        writeLock.lock();
+        try
+        {
+            if ( !isConnected())
+            {
+                return;
+            }
+            EntityStore entityStore = new EntityStore(cache, cache.getSuperCategory());
+            boolean loadAll = false;
+            Map<Object,ChangeLog.Change> changes = new LinkedHashMap<Object,ChangeLog.Change>();
+            Connection connection = createConnection();
+            try 
+            {
+                for ( ChangeLog.Change change: ChangeLog.read( connection, lastChangeNr))
+                {
+                    lastChangeNr = change.sequenceNr;
+                    if ( ownChanges.remove( new Integer( change.sequenceNr)))
+                    {
+                        // our own change overwrote the earlier ones in the database
+                        changes.remove( change.id );
+                    }
+                    else
+                    {
+                        changes.put( change.id, change );
+                    }
+                }
+                removeOwnChangesUpTo( lastChangeNr );
+                if ( changes.isEmpty())
+                {
+                    return;
+                }
+                Map<RaplaType,Collection<Integer>> changedIds = new HashMap<RaplaType,Collection<Integer>>();
+                for ( ChangeLog.Change change: changes.values())
+                {
+                    if ( change.raplaType.equals( Category.TYPE) || change.raplaType.equals( DynamicType.TYPE))
+                    {
+                        loadAll = true;
+                        break;
+                    }
+                    if ( change.remove )
+                    {
+                        continue;
+                    }
+                    Collection<Integer> ids = changedIds.get( change.raplaType );
+                    if ( ids == null)
+                    {
+                        ids = new ArrayList<Integer>();
+                        changedIds.put( change.raplaType, ids);
+                    }
+                    ids.add( new Integer( ((SimpleIdentifier)change.id).getKey()));
+                }
+                if ( !loadAll )
+                {
+                    RaplaSQL raplaSQL = new RaplaSQL(createInputContext(entityStore), oldResourceTableName, newResourceSchema);
+                    raplaSQL.loadChanged( connection, changedIds );
+                }
+            }
+            catch (SQLException ex)
+            {
+                throw new RaplaDBException("Can't load changes: " + ex.getMessage(), ex);
+            }
+            finally
+            {
+                close( connection );
+            }
+            if ( loadAll )
+            {
+                getLogger().info("Categories or dynamic types were changed in the database. Loading all data.");
+                refreshFull();
+                return;
+            }
+            applyChanges( entityStore, changes );
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
+    }
+
+    private void applyChanges( EntityStore entityStore, Map<Object,ChangeLog.Change> changes ) throws RaplaException
+    {
+        UpdateEvent evt = new UpdateEvent();
+        for ( RefEntity<?> entity: entityStore.getList())
+        {
+            ChangeLog.Change change = changes.get( entity.getId());
+            RefEntity<?> cachedVersion = cache.get( entity.getId());
+            if ( change != null )
+            {
+                entity.setVersion( change.version );
+            }
+            else if ( cachedVersion != null )
+            {
+                entity.setVersion( cachedVersion.getVersion());
+            }
+            evt.putStore( entity );
+        }
+        for ( ChangeLog.Change change: changes.values())
+        {
+            RefEntity<?> cachedVersion = cache.get( change.id );
+            if ( change.remove && cachedVersion != null )
+            {
+                evt.putRemove( cachedVersion );
+            }
+        }
+        resolveEntities( evt.getStoreObjects().iterator(), entityStore );
+        for ( RefEntity<?> entity: evt.getStoreObjects())
+        {
+            if ( User.TYPE.equals( entity.getRaplaType()))
+            {
+                cache.putPassword( entity.getId(), entityStore.getPassword( entity.getId()));
+            }
+        }
+        if ( evt.getStoreObjects().isEmpty() && evt.getRemoveObjects().isEmpty())
+        {
+            return;
+        }
+        getLogger().info( changes.size() + " changes loaded from the database");
+        UpdateResult result = update( evt, false );
+        fireStorageUpdated( result );
     }
 
     public void refreshFull() throws RaplaException {
@@ -218,6 +473,12 @@ Disposable
 
     	if (!isConnected())
     		return;
+        if ( refreshTimer != null )
+        {
+            refreshTimer.cancel();
+            refreshTimer = null;
+        }
+        ownChanges.clear();
         backupData();
 
         cache.clearAll();
@@ -229,14 +490,25 @@ Disposable
             try 
             {
                 Connection connection = createConnection();
-                Statement statement = connection.createStatement();
-                statement.executeQuery(sql);
+                try
+                {
+                    Statement statement = connection.createStatement();
+                    statement.executeQuery(sql);
+                }
+                finally
+                {
+                    connection.close();
+                }
             } 
             catch (SQLException ex) 
             {
                  throw new RaplaException( ex);
             }
         }
+        if ( connectionPool != null )
+        {
+            connectionPool.clear();
+        }
         isConnected = false;
         fireStorageDisconnected();
     }
@@ -279,7 +551,7 @@ Disposable
                     getLogger().warn("EVENT patched");
 	            }
                 checkForOldResourceTable( connection );
-                
+                checkForChangeLog( connection );
         	}
         	ResultSet set = connection.prepareStatement("select * from DYNAMIC_TYPE").executeQuery();
   	        if ( !set.next() ) {
@@ -289,6 +561,12 @@ Disposable
                 saveData(sourceOperator.getCache());
                 getLogger().warn("Database created!");
             } 
+	         if ( changeLog )
+	         {
+	             // changes that are written during the load are loaded again with the next refresh
+	             lastChangeNr = ChangeLog.getLastSequenceNr( connection );
+	             ownChanges.clear();
+	         }
 	         cache.clearAll();
 	         idTable.setCache(cache);
 	         readEverythingIntoCache( connection );
@@ -365,6 +643,83 @@ Disposable
             }
         }
     }
+    private void checkForChangeLog( Connection connection ) throws SQLException
+    {
+        changeLog = ChangeLog.exists( connection );
+        if ( !changeLog )
+        {
+            getLogger().warn("Creating table " + ChangeLog.TABLE);
+            try
+            {
+                try
+                {
+                    ChangeLog.create( connection, "TIMESTAMP" );
+                }
+                catch (SQLException ex)
+                {
+                    getLogger().warn("Creation failed. Trying DATETIME instead of TIMESTAMP");
+                    rollback( connection );
+                    ChangeLog.create( connection, "DATETIME" );
+                }
+                connection.commit();
+                changeLog = true;
+                getLogger().warn(ChangeLog.TABLE + " created!");
+            }
+            catch (SQLException ex)
+            {
+                rollback( connection );
+                getLogger().warn("Can't create table " + ChangeLog.TABLE + ". Changes of other servers are only loaded with a full refresh. " + ex.getMessage());
+            }
+        }
+        if ( changeLog && changeRetention > 0 )
+        {
+            Date oldest = new Date( System.currentTimeMillis() - changeRetention * DateTools.MILLISECONDS_PER_DAY );
+            int count = ChangeLog.removeOlderThan( connection, oldest );
+            connection.commit();
+            if ( count > 0 )
+            {
+                getLogger().info( count + " rows removed from " + ChangeLog.TABLE );
+            }
+        }
+    }
+
+    private void rollback( Connection connection ) throws SQLException
+    {
+        if ( !connection.getAutoCommit() )
+        {
+            connection.rollback();
+        }
+    }
+
+    /** the rows of the own changes can be missing, e.g. if they are older than the retention time */
+    private void removeOwnChangesUpTo( int sequenceNr )
+    {
+        synchronized ( ownChanges )
+        {
+            for ( Iterator<Integer> it = ownChanges.iterator(); it.hasNext(); )
+            {
+                if ( it.next().intValue() <= sequenceNr )
+                {
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    /** if no other server has written a change since the last refresh, the own changes are the next ones
+     * in the change log. They don't need to be read again, so they aren't kept until the next refresh.*/
+    private void advanceOverOwnChanges()
+    {
+        synchronized ( ownChanges )
+        {
+            while ( ownChanges.contains( new Integer( lastChangeNr + 1)) )
+            {
+                lastChangeNr++;
+            }
+            removeOwnChangesUpTo( lastChangeNr );
+        }
+    }
+
     public Object createIdentifier(RaplaType raplaType) throws RaplaException {
         return idTable.createId(raplaType);
     }
@@ -374,11 +729,17 @@ Disposable
         check(evt);
         Connection connection = createConnection();
         try {
-             executeEvent(connection,evt);
+             List<Integer> changes = executeEvent(connection,evt);
              if (bSupportsTransactions) {
                  getLogger().debug("Commiting");
                  connection.commit();
              }
+             if ( changeLog )
+             {
+                 // skipped by the next refresh, also by a refresh that isn't started by the timer
+                 ownChanges.addAll( changes );
+                 advanceOverOwnChanges();
+             }
          } catch (Exception ex) {
              try {
                  if (bSupportsTransactions) {
@@ -405,29 +766,33 @@ Disposable
         
     }
 
-    /**
+    /** writes the changes to the database. The stored and removed entities are also written to the change log.
     * @param evt
+    * @return the sequence numbers of the rows in the change log
     * @throws RaplaException
     */
-    protected void executeEvent(Connection connection,UpdateEvent evt) throws RaplaException, SQLException {
+    protected List<Integer> executeEvent(Connection connection,UpdateEvent evt) throws RaplaException, SQLException {
         // create the writer
         RaplaSQL raplaSQL =  new RaplaSQL(createOutputContext(cache), oldResourceTableName, newResourceSchema);
         // execute updates
-        Iterator<RefEntity<?>> it = evt.getStoreObjects().iterator();
-        while (it.hasNext()) {
-            RefEntity<?> entity =  it.next();
-            raplaSQL.store( connection, entity);
-        }
+        raplaSQL.store( connection, evt.getStoreObjects());
 
         // execute removes
-        it = evt.getRemoveObjects().iterator();
+        List<RefEntity<?>> removeObjects = new ArrayList<RefEntity<?>>();
+        Iterator<RefEntity<?>> it = evt.getRemoveObjects().iterator();
         while (it.hasNext()) {
              Object id = it.next().getId();
              RefEntity<?> entity = cache.get(id);
              if (entity != null)
-                 raplaSQL.remove( connection, entity);
+                 removeObjects.add( entity);
         }
+        raplaSQL.remove( connection, removeObjects);
 
+        if ( changeLog )
+        {
+            return ChangeLog.write( connection, evt.getStoreObjects(), removeObjects, new Date( getCurrentTime()));
+        }
+        return Collections.emptyList();
     }
 
     public void removeAll() throws RaplaException {
@@ -435,9 +800,6 @@ Disposable
         try {
             checkForOldResourceTable( connection );
             RaplaSQL raplaSQL =  new RaplaSQL(createOutputContext(cache), oldResourceTableName, newResourceSchema);
-             if (!isConnected())
-                 createConnection();
-
              raplaSQL.removeAll( connection );
              connection.commit();
              // do something here
@@ -464,9 +826,6 @@ Disposable
             checkForOldResourceTable( connection );
             RaplaSQL raplaSQL =  new RaplaSQL(createOutputContext(cache), oldResourceTableName, newResourceSchema);
             getLogger().info("Creation of DB started");
-             if (!isConnected())
-                 createConnection();
-
              raplaSQL.removeAll( connection );
              raplaSQL.createAll( connection );
              connection.commit();
@@ -499,7 +858,30 @@ Disposable
         EntityStore entityStore = new EntityStore(null, cache.getSuperCategory());
         
 	    RaplaSQL raplaSQL = new RaplaSQL(createInputContext(entityStore), oldResourceTableName, newResourceSchema);
-	    raplaSQL.loadAll( connection );
+	    TableLoader loader = null;
+	    if ( loadThreads > 0)
+	    {
+	        loader = new TableLoader( getLogger().getChildLogger("load"), loadThreads, loadFetchSize)
+	        {
+	            protected Connection connect() throws RaplaException
+	            {
+	                return createConnection();
+	            }
+	        };
+	    }
+	    try
+	    {
+	        long start = System.currentTimeMillis();
+	        raplaSQL.loadAll( connection, loader );
+	        getLogger().info("Tables loaded in " + (System.currentTimeMillis() - start) + " ms");
+	    }
+	    finally
+	    {
+	        if ( loader != null)
+	        {
+	            loader.close();
+	        }
+	    }
         resolveEntities( entityStore.getList().iterator(), entityStore );
         cache.putAll( entityStore.getList());
         for (Iterator<RefEntity<?>> it = cache.getIterator(User.TYPE);it.hasNext();)
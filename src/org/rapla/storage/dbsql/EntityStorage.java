@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Random;
@@ -55,17 +56,23 @@ abstract class EntityStorage implements Storage {
     String deleteSql;
     String selectSql;
     String deleteAllSql;
-    String searchForIdSql;
 
     RaplaContext sm;
     LocalCache cache;
     private EntityStore entityStore;
     private RaplaLocale raplaLocale;
 
-    Collection<Storage> subStores = new ArrayList<Storage>();
+    Collection<EntityStorage> subStores = new ArrayList<EntityStorage>();
     Connection con;
+    // the statements are reused for all entities until the batch is executed
+    private final Map<String,PreparedStatement> deleteStatements = new LinkedHashMap<String,PreparedStatement>();
+    private final Map<String,PreparedStatement> writeStatements = new LinkedHashMap<String,PreparedStatement>();
+    // the rows of the next loadAll, if they are read by a TableLoader
+    private ResultSet prefetched;
     int lastParameterIndex; /** first paramter is 1 */
     final String tableName;
+    // the first column, the id of the entity or of the parent entity in a sub table
+    final String idColumn;
 
     Logger logger;
 
@@ -83,6 +90,7 @@ abstract class EntityStorage implements Storage {
         logger = (Logger) context.lookup( Logger.class.getName());
         lastParameterIndex = entries.length;
         tableName = table;
+        idColumn = entries[0];
     	createSQL(table,entries);
         if (getLogger().isDebugEnabled()) {
             getLogger().debug(insertSql);
@@ -105,21 +113,98 @@ abstract class EntityStorage implements Storage {
 		insertSql = "insert into " + table + " (" + getEntryList(entries) + ") values (" + getMarkerList(entries.length) + ")";
 		updateSql = "update " + table + " set " + getUpdateList(entries) + " where " + idString + "= ?";
 		deleteAllSql = "delete from " + table;
-		searchForIdSql = "select id from " + table + " where id = ?";
 	}
 
-    protected void addSubStorage(Storage subStore) {
+    protected void addSubStorage(EntityStorage subStore) {
     	subStores.add(subStore);
     }
 
     public void setConnection(Connection con) {
 		this.con= con;
-		Iterator<Storage> it = subStores.iterator();
+		Iterator<EntityStorage> it = subStores.iterator();
 		while (it.hasNext()) {
 		    (it.next()).setConnection(con);
 		}
     }
 
+    /** returns the statement for an insert or update. Call addBatch on the statement
+     * for each row. The rows are written with executeBatch.*/
+    protected PreparedStatement prepareBatch(String sql) throws SQLException {
+        return prepareBatch( writeStatements, sql );
+    }
+
+    /** returns the statement for a delete. Call addBatch on the statement
+     * for each row. The deletes are executed before the inserts and updates.*/
+    protected PreparedStatement prepareDeleteBatch(String sql) throws SQLException {
+        return prepareBatch( deleteStatements, sql );
+    }
+
+    private PreparedStatement prepareBatch(Map<String,PreparedStatement> statements, String sql) throws SQLException {
+        PreparedStatement stmt = statements.get( sql );
+        if ( stmt == null ) {
+            stmt = con.prepareStatement( sql );
+            statements.put( sql, stmt );
+        }
+        return stmt;
+    }
+
+    /** executes the batched deletes, inserts and updates of this table and its sub tables.*/
+    public void executeBatch() throws SQLException {
+        try {
+            executeDeletes();
+            executeWrites();
+        } finally {
+            closeStatements();
+        }
+    }
+
+    /** executes the batched deletes. The rows of the sub tables are deleted first.*/
+    void executeDeletes() throws SQLException {
+        Iterator<EntityStorage> it = subStores.iterator();
+        while (it.hasNext()) {
+            (it.next()).executeDeletes();
+        }
+        executeBatches( deleteStatements );
+    }
+
+    /** executes the batched inserts and updates. The rows of the sub tables are written last.*/
+    void executeWrites() throws SQLException {
+        executeBatches( writeStatements );
+        Iterator<EntityStorage> it = subStores.iterator();
+        while (it.hasNext()) {
+            (it.next()).executeWrites();
+        }
+    }
+
+    private void executeBatches(Map<String,PreparedStatement> statements) throws SQLException {
+        Iterator<PreparedStatement> it = statements.values().iterator();
+        while (it.hasNext()) {
+            PreparedStatement stmt = it.next();
+            stmt.executeBatch();
+        }
+    }
+
+    void closeStatements() {
+        closeStatements( deleteStatements );
+        closeStatements( writeStatements );
+        Iterator<EntityStorage> it = subStores.iterator();
+        while (it.hasNext()) {
+            (it.next()).closeStatements();
+        }
+    }
+
+    private void closeStatements(Map<String,PreparedStatement> statements) {
+        Iterator<PreparedStatement> it = statements.values().iterator();
+        while (it.hasNext()) {
+            try {
+                it.next().close();
+            } catch (SQLException ex) {
+                getLogger().warn( "Can't close statement: " + ex.getMessage());
+            }
+        }
+        statements.clear();
+    }
+
     public Locale getLocale() {
     	return raplaLocale.getLocale();
     }
@@ -182,19 +267,19 @@ abstract class EntityStorage implements Storage {
     	return ((SimpleIdentifier) entity.getId()).getKey();
     }
 
-    private boolean isInDatabase(RefEntity<?> entity) throws SQLException {
-        ResultSet rset = null;
-        PreparedStatement stmt = null;
-        try {
-            stmt = con.prepareStatement(searchForIdSql);
-            stmt.setInt(1, getId(entity));
-            rset = stmt.executeQuery();
-            return rset.next();
-        } finally {
-            if (rset!=null)
-                rset.close();
-            if (stmt!=null)
-                stmt.close();
+    /** the cache contains the entities as they are stored in the database,
+     * because it is updated after the changes are written.*/
+    private boolean isInDatabase(RefEntity<?> entity) {
+        return cache.get( entity.getId() ) != null;
+    }
+
+    /** starts the select queries of this table and the sub tables in the loader.
+     * The next loadAll reads the rows from the loader instead of the connection.*/
+    public void prefetch(TableLoader loader) {
+        prefetched = loader.query(selectSql);
+        Iterator<EntityStorage> it = subStores.iterator();
+        while (it.hasNext()) {
+            ( it.next()).prefetch(loader);
         }
     }
 
@@ -202,8 +287,13 @@ abstract class EntityStorage implements Storage {
 	    Statement stmt = null;
         ResultSet rset = null;
         try {
-            stmt = con.createStatement();
-            rset = stmt.executeQuery(selectSql);
+            if ( prefetched != null) {
+                rset = prefetched;
+                prefetched = null;
+            } else {
+                stmt = con.createStatement();
+                rset = stmt.executeQuery(selectSql);
+            }
             while (rset.next ()) {
             	load(rset);
             }
@@ -213,12 +303,35 @@ abstract class EntityStorage implements Storage {
             if (stmt!=null)
                 stmt.close();
         }
-        Iterator<Storage> it = subStores.iterator();
+        Iterator<EntityStorage> it = subStores.iterator();
         while (it.hasNext()) {
         	( it.next()).loadAll();
         }
     }
 
+    /** loads only the rows in which the column matches the condition, e.g. <code>in (1,2)</code>.
+     * The rows of the sub tables are loaded for the same entities.*/
+    public void loadWhere(String column, String condition) throws SQLException,RaplaException {
+        Statement stmt = con.createStatement();
+        try {
+            ResultSet rset = stmt.executeQuery(selectSql + " where " + column + " " + condition);
+            try {
+                while (rset.next ()) {
+                    load(rset);
+                }
+            } finally {
+                rset.close();
+            }
+        } finally {
+            stmt.close();
+        }
+        String subCondition = column.equals( idColumn ) ? condition : "in (select " + idColumn + " from " + tableName + " where " + column + " " + condition + ")";
+        Iterator<EntityStorage> it = subStores.iterator();
+        while (it.hasNext()) {
+            EntityStorage subStore = it.next();
+            subStore.loadWhere(subStore.idColumn, subCondition);
+        }
+    }
 
     public void insert(Collection<? extends RaplaObject> entities) throws SQLException,RaplaException {
         Iterator<? extends RaplaObject> it2 = entities.iterator();
@@ -229,37 +342,25 @@ abstract class EntityStorage implements Storage {
     }
 
     public void insert(RefEntity<?> entity ) throws SQLException,RaplaException {
-        Iterator<Storage> it = subStores.iterator();
+        Iterator<EntityStorage> it = subStores.iterator();
 		while (it.hasNext()) {
 		    ( it.next()).insert( entity);
 		}
-		PreparedStatement stmt = null;
-    	try {
-    	    stmt = con.prepareStatement(insertSql);
-    	    write(stmt, entity);
-    	} finally {
-    		if (stmt!=null)
-    			stmt.close();
-    	}
+	    PreparedStatement stmt = prepareBatch(insertSql);
+	    write(stmt, entity);
     }
 
     public void update(RefEntity<?> entity ) throws SQLException,RaplaException {
-        Iterator<Storage> it = subStores.iterator();
+        Iterator<EntityStorage> it = subStores.iterator();
 		while (it.hasNext()) {
             Storage storage = it.next();
             storage.delete( entity );
 		    storage.insert( entity);
 		}
-		PreparedStatement stmt = null;
-        try {
-    	    stmt = con.prepareStatement( updateSql);
-    	    int id = getId( entity );
-    	    stmt.setInt( lastParameterIndex + 1,id );
-    		write(stmt, entity);
-    	} finally {
-    		if (stmt!=null)
-    			stmt.close();
-    	}
+	    PreparedStatement stmt = prepareBatch( updateSql);
+	    int id = getId( entity );
+	    stmt.setInt( lastParameterIndex + 1,id );
+		write(stmt, entity);
     }
 
     public void save(RefEntity<?> entity) throws SQLException,RaplaException {
@@ -272,29 +373,24 @@ abstract class EntityStorage implements Storage {
 
 
 	public void delete(RefEntity<?> entity) throws SQLException, RaplaException {
-    	Iterator<Storage> it = subStores.iterator();
+    	Iterator<EntityStorage> it = subStores.iterator();
 		while (it.hasNext()) {
-		    ((Storage) it.next()).delete( entity);
+		    (it.next()).delete( entity);
 		}
 
-        PreparedStatement stmt = null;
-        try {
-	        stmt = con.prepareStatement(deleteSql);
-	        stmt.setInt(1,getId( entity));
-	        stmt.executeUpdate();
-        } finally {
-            if (stmt!=null)
-                stmt.close();
-        }
+        PreparedStatement stmt = prepareDeleteBatch(deleteSql);
+        stmt.setInt(1,getId( entity));
+        stmt.addBatch();
     }
 
     public void deleteAll() throws SQLException {
-		Iterator<Storage> it = subStores.iterator();
+		Iterator<EntityStorage> it = subStores.iterator();
 		while (it.hasNext()) {
 		    ( it.next()).deleteAll();
 		}
 		executeBatchedStatement(con,deleteAllSql);
     }
+    /** sets the parameters of the statement and calls addBatch for each row of the entity.*/
     abstract protected void write(PreparedStatement stmt,RefEntity<?> entity) throws SQLException,RaplaException;
     abstract protected void load(ResultSet rs) throws SQLException,RaplaException;
 
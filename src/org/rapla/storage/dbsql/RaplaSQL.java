@@ -22,6 +22,7 @@ import java.sql.Timestamp;
 import java.sql.Types;
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
@@ -71,7 +72,7 @@ import org.rapla.storage.xml.RaplaXMLWriter;
 import org.xml.sax.SAXException;
 
 class RaplaSQL {
-    private final List<Storage> stores = new ArrayList<Storage>();
+    private final List<RaplaTypeStorage> stores = new ArrayList<RaplaTypeStorage>();
     private final Logger logger;
     
     RaplaSQL( RaplaContext context, boolean oldResourceTable, boolean newResourceSchema) throws RaplaException{
@@ -99,11 +100,12 @@ class RaplaSQL {
         throws SQLException,RaplaException
     {
 		getLogger().info("Inserting Data in Database");
-		Iterator<Storage> it = stores.iterator();
+		Iterator<RaplaTypeStorage> it = stores.iterator();
 		while (it.hasNext()) {
-		    Storage storage =  it.next();
+		    RaplaTypeStorage storage =  it.next();
 		    storage.setConnection(con);
-		    ((RaplaTypeStorage) storage).insertAll();
+		    storage.insertAll();
+		    storage.executeBatch();
 		}
     }
 
@@ -111,7 +113,7 @@ class RaplaSQL {
     throws SQLException,RaplaException
     {
         getLogger().info("Deleting all Data in Database");
-        ListIterator<Storage> listIt = stores.listIterator(stores.size());
+        ListIterator<RaplaTypeStorage> listIt = stores.listIterator(stores.size());
         while (listIt.hasPrevious()) {
             Storage storage =  listIt.previous();
             storage.setConnection(con);
@@ -120,7 +122,19 @@ class RaplaSQL {
     }
 
     synchronized public void loadAll(Connection con) throws SQLException,RaplaException {
-		Iterator<Storage> it = stores.iterator();
+        loadAll( con, null );
+    }
+
+    /** loads the tables in the order of the stores. If a loader is passed, all tables are
+     * read by the loader in the background, while the rows are processed one table after the other.*/
+    synchronized public void loadAll(Connection con, TableLoader loader) throws SQLException,RaplaException {
+        if ( loader != null) {
+            Iterator<RaplaTypeStorage> it = stores.iterator();
+            while (it.hasNext()) {
+                it.next().prefetch( loader );
+            }
+        }
+		Iterator<RaplaTypeStorage> it = stores.iterator();
 		while (it.hasNext()) {
 		    Storage storage = it.next();
 		    storage.setConnection(con);
@@ -128,34 +142,83 @@ class RaplaSQL {
 		}
     }
 
-    synchronized public void remove(Connection con,RefEntity<?> entity) throws SQLException,RaplaException {
-    	if ( Attribute.TYPE.equals(  entity.getRaplaType() ))
-			return;
-    	Iterator<Storage> it = stores.iterator();
-		while (it.hasNext()) {
-		    Storage storage = it.next();
-		    if (((RaplaTypeStorage)storage).canStore(entity)) {
-		    	storage.setConnection(con);
-		    	storage.delete(entity);
-		    	return;
-		    }
-		}
-		throw new RaplaException("No Storage-Sublass matches this object: " + entity.getClass());
+    /** loads the entities with the passed ids and their sub entities. The appointments are
+     * loaded with their reservations. Categories and dynamic types can't be loaded this way,
+     * because they change the category tree and the classifications of other entities.*/
+    synchronized public void loadChanged(Connection con, Map<RaplaType,Collection<Integer>> ids) throws SQLException,RaplaException {
+        Iterator<RaplaTypeStorage> it = stores.iterator();
+        while (it.hasNext()) {
+            RaplaTypeStorage storage = it.next();
+            storage.setConnection(con);
+            storage.loadChanged(ids);
+        }
     }
 
-    synchronized public void store(Connection con, RaplaObject entity) throws SQLException,RaplaException {
-        if ( Attribute.TYPE.equals(  entity.getRaplaType() ))
-            return;
-    	Iterator<Storage> it = stores.iterator();
-		while (it.hasNext()) {
-		    Storage storage = it.next();
-		    if (((RaplaTypeStorage)storage).canStore(entity)) {
-		    	storage.setConnection(con);
-		    	storage.save((RefEntity<?>)entity);
-		    	return;
-		    }
-		}
-		throw new RaplaException("No Storage-Sublass matches this object: " + entity.getClass());
+    /** deletes the entities. All rows of a table are deleted with one batch.*/
+    synchronized public void remove(Connection con,Collection<RefEntity<?>> entities) throws SQLException,RaplaException {
+        setConnection( con );
+        try {
+            for (RefEntity<?> entity: entities) {
+                if ( Attribute.TYPE.equals(  entity.getRaplaType() ))
+                    continue;
+                getStorage( entity ).delete( entity );
+            }
+            executeBatch();
+        } finally {
+            closeStatements();
+        }
+    }
+
+    /** inserts new entities and updates the existing ones. All rows of a table are written with one batch.*/
+    synchronized public void store(Connection con, Collection<RefEntity<?>> entities) throws SQLException,RaplaException {
+        setConnection( con );
+        try {
+            for (RefEntity<?> entity: entities) {
+                if ( Attribute.TYPE.equals(  entity.getRaplaType() ))
+                    continue;
+                getStorage( entity ).save( entity );
+            }
+            executeBatch();
+        } finally {
+            closeStatements();
+        }
+    }
+
+    private RaplaTypeStorage getStorage(RaplaObject entity) throws RaplaException {
+        Iterator<RaplaTypeStorage> it = stores.iterator();
+        while (it.hasNext()) {
+            RaplaTypeStorage storage = it.next();
+            if (storage.canStore(entity)) {
+                return storage;
+            }
+        }
+        throw new RaplaException("No Storage-Sublass matches this object: " + entity.getClass());
+    }
+
+    private void setConnection(Connection con) {
+        Iterator<RaplaTypeStorage> it = stores.iterator();
+        while (it.hasNext()) {
+            it.next().setConnection( con );
+        }
+    }
+
+    /** executes the deletes in reverse order of the tables and then the inserts and updates.*/
+    private void executeBatch() throws SQLException {
+        ListIterator<RaplaTypeStorage> listIt = stores.listIterator(stores.size());
+        while (listIt.hasPrevious()) {
+            listIt.previous().executeDeletes();
+        }
+        Iterator<RaplaTypeStorage> it = stores.iterator();
+        while (it.hasNext()) {
+            it.next().executeWrites();
+        }
+    }
+
+    private void closeStatements() {
+        Iterator<RaplaTypeStorage> it = stores.iterator();
+        while (it.hasNext()) {
+            it.next().closeStatements();
+        }
     }
 }
 
@@ -173,6 +236,26 @@ abstract class RaplaTypeStorage extends EntityStorage {
         insert(cache.getCollection( raplaType ));
     }
 
+    /** loads the entities of the type that have one of the passed ids.*/
+    void loadChanged(Map<RaplaType,Collection<Integer>> ids) throws SQLException,RaplaException {
+        Collection<Integer> changed = ids.get( raplaType );
+        if ( changed != null && !changed.isEmpty()) {
+            loadWhere( idColumn, getInCondition( changed ) );
+        }
+    }
+
+    static String getInCondition(Collection<Integer> ids) {
+        StringBuffer buf = new StringBuffer("in (");
+        Iterator<Integer> it = ids.iterator();
+        while (it.hasNext()) {
+            buf.append( it.next() );
+            if (it.hasNext())
+                buf.append(",");
+        }
+        buf.append(")");
+        return buf.toString();
+    }
+
     protected String getXML(RaplaObject type) throws RaplaException {
 		RaplaXMLWriter dynamicTypeWriter = getWriterFor( type.getRaplaType());
 		StringWriter stringWriter = new StringWriter();
@@ -218,7 +301,7 @@ class PeriodStorage extends RaplaTypeStorage {
 		stmt.setString(2,s.getName());
 		stmt.setTimestamp(3,new java.sql.Timestamp(s.getStart().getTime()));
 		stmt.setTimestamp(4,new java.sql.Timestamp(s.getEnd().getTime()));
-		stmt.executeUpdate();
+		stmt.addBatch();
     }
 
     protected void load(ResultSet rset) throws SQLException {
@@ -275,6 +358,12 @@ class CategoryStorage extends RaplaTypeStorage {
     	super(context,Category.TYPE, "CATEGORY",new String[] {"ID","PARENT_ID","CATEGORY_KEY","LABEL","DEFINITION", "PARENT_ORDER"});
     }
 
+    void loadChanged(Map<RaplaType,Collection<Integer>> ids) throws RaplaException {
+        if ( ids.containsKey( raplaType )) {
+            throw new RaplaException("Changed categories can only be loaded with all other entities.");
+        }
+    }
+
     protected void write(PreparedStatement stmt,RefEntity<?> entity) throws SQLException, RaplaException {
         Category root = getSuperCategory();
         if ( entity.equals( root ))
@@ -300,7 +389,7 @@ class CategoryStorage extends RaplaTypeStorage {
 		stmt.setString(4, name );
 		stmt.setString(5, xml);
         stmt.setInt( 6, order);
-		stmt.executeUpdate();
+		stmt.addBatch();
     }
 
     
@@ -472,7 +561,7 @@ class AllocatableStorage extends RaplaTypeStorage {
             
       	}
         
-      	stmt.executeUpdate();
+      	stmt.addBatch();
     }
 
     protected void load(ResultSet rset) throws SQLException {
@@ -583,7 +672,7 @@ class ReservationStorage extends RaplaTypeStorage {
         } else {
 			stmt.setObject(6, null, Types.INTEGER);
         }
-        stmt.executeUpdate();
+        stmt.addBatch();
     }
 
     protected void load(ResultSet rset) throws SQLException {
@@ -629,12 +718,10 @@ class ReservationStorage extends RaplaTypeStorage {
 /** This class should only be used within the ResourceStorage class*/
 class AttributeValueStorage extends EntityStorage {
     Map<Integer,Classification> classificationMap;
-    final String foreignKeyName;
     public AttributeValueStorage(RaplaContext context,String tablename, String foreignKeyName, Map<Integer,Classification> classificationMap) throws RaplaException {
 	// FIXME: DB field with name 'VALUE' is not allowed in MS-Access.
 	// But rename of field makes old versions incompatible
     	super(context, tablename, new String[]{foreignKeyName, "ATTRIBUTE_KEY", "VALUE"});
-        this.foreignKeyName = foreignKeyName;
         this.classificationMap = classificationMap;
     }
 
@@ -658,7 +745,7 @@ class AttributeValueStorage extends EntityStorage {
             stmt.setInt(1, id);
             stmt.setString(2, attribute.getKey());
          	stmt.setString(3, valueAsString);
-         	stmt.execute();
+         	stmt.addBatch();
         }
     }
 
@@ -694,10 +781,6 @@ class AttributeValueStorage extends EntityStorage {
 
  
 
-    public void delete( RefEntity<?> entity) throws SQLException {
-        int classifiableId = getId( entity );
-        executeBatchedStatement(con, "DELETE FROM " + tableName + " WHERE " + foreignKeyName + " = " + classifiableId);
-    }
 }
 
 class PermissionStorage extends EntityStorage  {
@@ -709,7 +792,6 @@ class PermissionStorage extends EntityStorage  {
 
     protected void write(PreparedStatement stmt, RefEntity<?> allocatable) throws SQLException, RaplaException {
         int resourceId = getId(  allocatable);
-        delete( allocatable );
         Permission[] permissions = ((Allocatable)allocatable).getPermissions();
         for (int i=0;i<permissions.length;i++) {
             Permission s = permissions[i];
@@ -754,7 +836,7 @@ class PermissionStorage extends EntityStorage  {
 			} else {
 				stmt.setObject(8, null, Types.TIMESTAMP);
 			}
-			stmt.executeUpdate();
+			stmt.addBatch();
 		}
     }
 
@@ -796,10 +878,6 @@ class PermissionStorage extends EntityStorage  {
         }
     }
 
-    public void delete( RefEntity<?> entity) throws SQLException {
-        int resourceId = getId( entity ) ;
-        executeBatchedStatement(con, "DELETE FROM " + tableName + " WHERE RESOURCE_ID = " + resourceId);
-    }
 
 }
 
@@ -815,6 +893,14 @@ class AppointmentStorage extends RaplaTypeStorage {
         addSubStorage(allocationStorage);
     }
 
+    /** the appointments are always loaded with their reservation.*/
+    void loadChanged(Map<RaplaType,Collection<Integer>> ids) throws SQLException,RaplaException {
+        Collection<Integer> changed = ids.get( Reservation.TYPE );
+        if ( changed != null && !changed.isEmpty()) {
+            loadWhere( "EVENT_ID", getInCondition( changed ) );
+        }
+    }
+
     protected void write(PreparedStatement stmt,RefEntity<?> entity) throws SQLException,RaplaException {
         Appointment appointment = (Appointment) entity;
       	int id = getId( entity );
@@ -849,7 +935,7 @@ class AppointmentStorage extends RaplaTypeStorage {
       	    int interval = repeating.getInterval();
       	    stmt.setInt(8, interval);
       	}
-      	stmt.executeUpdate();
+      	stmt.addBatch();
     }
 
     protected void load(ResultSet rset) throws SQLException, EntityNotFoundException {
@@ -917,7 +1003,7 @@ class AllocationStorage extends EntityStorage  {
             int allocatableId = getId( (RefEntity<?>)allocatable);
     		stmt.setInt(1, appointmentId);
             stmt.setInt(2, allocatableId);
-    		stmt.executeUpdate();
+    		stmt.addBatch();
         }
     }
     public void save( RefEntity<?> entity ) throws RaplaException, SQLException{
@@ -953,10 +1039,6 @@ class AllocationStorage extends EntityStorage  {
         }
     }
 
-    public void delete( RefEntity<?> entity) throws SQLException {
-        int appointmentId =  getId( entity ) ;
-        executeBatchedStatement(con, "DELETE FROM " + tableName + " WHERE APPOINTMENT_ID = " + appointmentId);
-    }
 
 
  }
@@ -979,7 +1061,7 @@ class AppointmentExceptionStorage extends EntityStorage  {
 	        java.sql.Timestamp exception = new java.sql.Timestamp( exceptions[i].getTime());
 	        stmt.setInt( 1, appointmentId );
 	        stmt.setTimestamp( 2, exception );
-	        stmt.executeUpdate();
+	        stmt.addBatch();
 	    }
 	}
 
@@ -1004,10 +1086,6 @@ class AppointmentExceptionStorage extends EntityStorage  {
 
     
 
-    public void delete( RefEntity<?> entity) throws SQLException {
-        int appointmentId = getId( entity);
-        executeBatchedStatement(con, "DELETE FROM " + tableName + " WHERE APPOINTMENT_ID = " + appointmentId);
-    }
 
 }
 
@@ -1018,12 +1096,18 @@ class DynamicTypeStorage extends RaplaTypeStorage {
                 new String [] {"ID","TYPE_KEY","DEFINITION"});
     }
 
+    void loadChanged(Map<RaplaType,Collection<Integer>> ids) throws RaplaException {
+        if ( ids.containsKey( raplaType )) {
+            throw new RaplaException("Changed dynamic types can only be loaded with all other entities.");
+        }
+    }
+
 	protected void write(PreparedStatement stmt,RefEntity<?> entity) throws SQLException, RaplaException {
         stmt.setInt(1,getId(entity));
         DynamicType type = (DynamicType) entity;
         stmt.setString(2, type.getElementKey());
         stmt.setString(3,  getXML( type) );
-        stmt.executeUpdate();
+        stmt.addBatch();
     }
 
 	protected void load(ResultSet rset) throws SQLException,RaplaException {
@@ -1035,12 +1119,33 @@ class DynamicTypeStorage extends RaplaTypeStorage {
 
 
 class PreferenceStorage extends RaplaTypeStorage {
+    Map<Object,PreferencesImpl> preferencesMap = new HashMap<Object,PreferencesImpl>();
 
     public PreferenceStorage(RaplaContext context) throws RaplaException {
         super(context,Preferences.TYPE,"PREFERENCE",
 	    new String [] {"USER_ID","ROLE","STRING_VALUE","XML_VALUE"});
     }
 
+    /** the preferences without owner have the id 0*/
+    void loadChanged(Map<RaplaType,Collection<Integer>> ids) throws SQLException,RaplaException {
+        Collection<Integer> changed = ids.get( Preferences.TYPE );
+        if ( changed == null || changed.isEmpty()) {
+            return;
+        }
+        Collection<Integer> userIds = new ArrayList<Integer>( changed );
+        if ( userIds.remove( new Integer( 0 ))) {
+            loadWhere( idColumn, "IS NULL" );
+        }
+        if ( !userIds.isEmpty()) {
+            loadWhere( idColumn, getInCondition( userIds ) );
+        }
+    }
+
+    public void loadAll() throws RaplaException, SQLException {
+        preferencesMap.clear();
+        super.loadAll();
+    }
+
     protected void write(PreparedStatement stmt, RefEntity<?> entity) throws SQLException, RaplaException {
         PreferencesImpl preferences = (PreferencesImpl) entity;
         User user = preferences.getOwner();
@@ -1063,7 +1168,7 @@ class PreferenceStorage extends RaplaTypeStorage {
             	stmt.setString( 3, null);
             	stmt.setString( 4, xml);
             }
-            stmt.executeUpdate();
+            stmt.addBatch();
         }
     }
 
@@ -1088,11 +1193,13 @@ class PreferenceStorage extends RaplaTypeStorage {
         } else {
         	preferenceId = new SimpleIdentifier( Preferences.TYPE, 0 );
         }
-        PreferencesImpl preferences = (PreferencesImpl) get( preferenceId );
+        // not looked up with get, which also finds the preferences in the cache when only changes are loaded
+        PreferencesImpl preferences = preferencesMap.get( preferenceId );
         if ( preferences == null) {
         	preferences = new PreferencesImpl();
         	preferences.setId(preferenceId);
         	preferences.setOwner(owner);
+        	preferencesMap.put( preferenceId, preferences );
         	put( preferences );
         }
         String configRole = getString( rset, 2);
@@ -1118,10 +1225,11 @@ class PreferenceStorage extends RaplaTypeStorage {
         PreferencesImpl preferences = (PreferencesImpl) entity;
         User user = preferences.getOwner();
         if ( user != null) {
-        	int userId = getId( (RefEntity<?>) user ) ;
-        	executeBatchedStatement(con, "DELETE FROM " + tableName + " WHERE USER_ID = " + userId);
+        	PreparedStatement stmt = prepareDeleteBatch( deleteSql );
+        	stmt.setInt( 1, getId( (RefEntity<?>) user ) );
+        	stmt.addBatch();
         } else {
-        	executeBatchedStatement(con, "DELETE FROM " + tableName + " WHERE USER_ID = null");
+        	prepareDeleteBatch( "DELETE FROM " + tableName + " WHERE USER_ID IS NULL" ).addBatch();
         }
     }
 
@@ -1147,7 +1255,7 @@ class UserStorage extends RaplaTypeStorage {
        stmt.setString(4,user.getName());
        stmt.setString(5,user.getEmail());
        stmt.setInt(6,user.isAdmin()?1:0);
-       stmt.executeUpdate();
+       stmt.addBatch();
     }
 
     protected void load(ResultSet rset) throws SQLException, RaplaException {
@@ -1190,7 +1298,7 @@ class UserGroupStorage extends EntityStorage {
         Category[] categories = user.getGroups();
         for (int i=0;i<categories.length;i++) {
             stmt.setInt( 2, getId( (RefEntity<?>)categories[i]));
-            stmt.executeUpdate();
+            stmt.addBatch();
 	    }
     }
 
@@ -1202,10 +1310,6 @@ class UserGroupStorage extends EntityStorage {
         user.addGroup( category);
     }
 
-    public void delete( RefEntity<?> entity) throws SQLException {
-    	int userId =  getId( entity ) ;
-    	executeBatchedStatement(con, "DELETE FROM " + tableName + " WHERE USER_ID = " + userId);
-    }
 }
 
 
@@ -0,0 +1,377 @@
+/*--------------------------------------------------------------------------*
+ | Copyright (C) 2006 Christopher Kohlhaas                                  |
+ |                                                                          |
+ | This program is free software; you can redistribute it and/or modify     |
+ | it under the terms of the GNU General Public License as published by the |
+ | Free Software Foundation. A copy of the license has been included with   |
+ | these distribution in the COPYING file, if not go to www.fsf.org         |
+ |                                                                          |
+ | As a special exception, you are granted the permissions to link this     |
+ | program with every library, which license fulfills the Open Source       |
+ | Definition as published by the Open Source Initiative (OSI).             |
+ *--------------------------------------------------------------------------*/
+package org.rapla.storage.dbsql;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.apache.avalon.framework.logger.Logger;
+import org.rapla.framework.RaplaException;
+
+/** <p>Runs select queries in a thread pool, each on its own connection.
+ * The rows are passed in chunks of the fetch size to the thread that reads the
+ * returned ResultSet, so the rows of a table can be processed while the table
+ * and the following tables are still read from the database.</p>
+ * <p>The returned ResultSet only supports next, wasNull, close and the getters for a column index.
+ * Queries are started in the order they are submitted.</p>
+ * <p>Only a few chunks of a query are buffered. A query waits until its rows are read, so
+ * the ResultSets must be read in the order of the queries or closed.</p>
+ */
+public abstract class TableLoader
+{
+    private static final Object[][] END = new Object[0][];
+    /** the number of chunks of a query that are buffered until they are read */
+    private static final int BUFFERED_CHUNKS = 4;
+
+    private final Logger logger;
+    private final int fetchSize;
+    private final ExecutorService executor;
+
+    /**
+     * @param threads the number of queries that run at the same time
+     * @param fetchSize the number of rows that are fetched from the database and passed to the reader at once
+     */
+    public TableLoader( Logger logger, int threads, int fetchSize )
+    {
+        this.logger = logger;
+        this.fetchSize = fetchSize;
+        executor = Executors.newFixedThreadPool( threads, new ThreadFactory()
+        {
+            int count;
+            public Thread newThread( Runnable runnable )
+            {
+                Thread thread = new Thread( runnable, "rapla-table-loader-" + (++count) );
+                thread.setDaemon( true );
+                return thread;
+            }
+        } );
+    }
+
+    /** returns a new connection for a query. It is closed after the query.*/
+    abstract protected Connection connect() throws SQLException, RaplaException;
+
+    /** starts the query and returns the ResultSet that reads its rows. */
+    public ResultSet query( String sql )
+    {
+        RowStream rows = new RowStream( sql );
+        executor.execute( rows );
+        return (ResultSet) Proxy.newProxyInstance( ResultSet.class.getClassLoader(), new Class<?>[] { ResultSet.class }, rows );
+    }
+
+    /** stops the threads. Queries that are still running are interrupted.*/
+    public void close()
+    {
+        executor.shutdownNow();
+    }
+
+    class RowStream implements Runnable, InvocationHandler
+    {
+        private final String sql;
+        private final BlockingQueue<Object[][]> chunks = new ArrayBlockingQueue<Object[][]>( BUFFERED_CHUNKS );
+        private volatile Throwable error;
+        private volatile boolean closed;
+
+        private Object[][] chunk = new Object[0][];
+        private int index;
+        private boolean wasNull;
+        private boolean finished;
+
+        RowStream( String sql )
+        {
+            this.sql = sql;
+        }
+
+        public void run()
+        {
+            long start = System.currentTimeMillis();
+            int count = 0;
+            try
+            {
+                Connection con = connect();
+                try
+                {
+                    Statement stmt = con.createStatement();
+                    try
+                    {
+                        stmt.setFetchSize( fetchSize );
+                        ResultSet rset = stmt.executeQuery( sql );
+                        try
+                        {
+                            count = read( rset );
+                        }
+                        finally
+                        {
+                            rset.close();
+                        }
+                    }
+                    finally
+                    {
+                        stmt.close();
+                    }
+                }
+                finally
+                {
+                    con.close();
+                }
+                if ( logger.isDebugEnabled() )
+                {
+                    logger.debug( count + " rows in " + ( System.currentTimeMillis() - start ) + " ms: " + sql );
+                }
+            }
+            catch ( Throwable ex )
+            {
+                error = ex;
+            }
+            finally
+            {
+                try
+                {
+                    // the reader removes the chunks or the queue is cleared on close, so there is space left
+                    chunks.put( END );
+                }
+                catch ( InterruptedException ex )
+                {
+                    // the loader is closed and nobody waits for the rows
+                }
+            }
+        }
+
+        private int read( ResultSet rset ) throws SQLException
+        {
+            ResultSetMetaData metaData = rset.getMetaData();
+            int[] types = new int[metaData.getColumnCount()];
+            for ( int i = 0; i < types.length; i++ )
+            {
+                types[i] = metaData.getColumnType( i + 1 );
+            }
+            int count = 0;
+            Object[][] rows = new Object[fetchSize][];
+            int size = 0;
+            while ( rset.next() )
+            {
+                if ( closed )
+                {
+                    break;
+                }
+                if ( Thread.currentThread().isInterrupted() )
+                {
+                    throw new SQLException( "Loading interrupted" );
+                }
+                Object[] row = new Object[types.length];
+                for ( int i = 0; i < types.length; i++ )
+                {
+                    row[i] = getValue( rset, i + 1, types[i] );
+                }
+                rows[size++] = row;
+                count++;
+                if ( size == rows.length )
+                {
+                    put( rows );
+                    rows = new Object[fetchSize][];
+                    size = 0;
+                }
+            }
+            if ( size > 0 )
+            {
+                Object[][] last = new Object[size][];
+                System.arraycopy( rows, 0, last, 0, size );
+                put( last );
+            }
+            return count;
+        }
+
+        private void put( Object[][] rows ) throws SQLException
+        {
+            try
+            {
+                chunks.put( rows );
+            }
+            catch ( InterruptedException ex )
+            {
+                throw new SQLException( "Loading interrupted" );
+            }
+        }
+
+        private Object getValue( ResultSet rset, int column, int type ) throws SQLException
+        {
+            switch ( type )
+            {
+                case Types.DATE:
+                case Types.TIME:
+                case Types.TIMESTAMP:
+                    return rset.getTimestamp( column );
+                case Types.CHAR:
+                case Types.VARCHAR:
+                case Types.LONGVARCHAR:
+                case Types.CLOB:
+                    return rset.getString( column );
+                default:
+                    return rset.getObject( column );
+            }
+        }
+
+        public Object invoke( Object proxy, Method method, Object[] args ) throws Throwable
+        {
+            String name = method.getName();
+            if ( name.equals( "next" ) )
+            {
+                return Boolean.valueOf( next() );
+            }
+            if ( name.equals( "wasNull" ) )
+            {
+                return Boolean.valueOf( wasNull );
+            }
+            if ( name.equals( "close" ) )
+            {
+                // stops the query, if it is still running
+                closed = true;
+                finished = true;
+                chunks.clear();
+                return null;
+            }
+            if ( name.equals( "equals" ) )
+            {
+                return Boolean.valueOf( proxy == args[0] );
+            }
+            if ( name.equals( "hashCode" ) )
+            {
+                return new Integer( System.identityHashCode( proxy ) );
+            }
+            if ( name.equals( "toString" ) )
+            {
+                return "ResultSet for " + sql;
+            }
+            if ( args != null && args.length == 1 && args[0] instanceof Integer && name.startsWith( "get" ) )
+            {
+                Object value = getColumn( ( (Integer) args[0] ).intValue() );
+                Class<?> returnType = method.getReturnType();
+                if ( returnType == Integer.TYPE )
+                {
+                    return new Integer( value != null ? toNumber( value ).intValue() : 0 );
+                }
+                if ( returnType == Long.TYPE )
+                {
+                    return new Long( value != null ? toNumber( value ).longValue() : 0 );
+                }
+                if ( returnType == String.class )
+                {
+                    return value != null ? value.toString() : null;
+                }
+                if ( returnType == Timestamp.class )
+                {
+                    return toTimestamp( value );
+                }
+                if ( returnType == Object.class )
+                {
+                    return value;
+                }
+            }
+            throw new SQLException( "Method " + name + " is not supported by the ResultSet of the TableLoader" );
+        }
+
+        private boolean next() throws SQLException
+        {
+            if ( finished )
+            {
+                return false;
+            }
+            index++;
+            while ( index >= chunk.length )
+            {
+                try
+                {
+                    chunk = chunks.take();
+                }
+                catch ( InterruptedException ex )
+                {
+                    throw new SQLException( "Interrupted while waiting for " + sql );
+                }
+                index = 0;
+                if ( chunk == END )
+                {
+                    finished = true;
+                    if ( error != null )
+                    {
+                        SQLException ex = new SQLException( "Can't read " + sql + ": " + error.getMessage() );
+                        ex.initCause( error );
+                        throw ex;
+                    }
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private Object getColumn( int column ) throws SQLException
+        {
+            if ( finished || index >= chunk.length )
+            {
+                throw new SQLException( "No current row" );
+            }
+            Object[] row = chunk[index];
+            if ( column < 1 || column > row.length )
+            {
+                throw new SQLException( "Invalid column index " + column );
+            }
+            Object value = row[column - 1];
+            wasNull = value == null;
+            return value;
+        }
+
+        private Number toNumber( Object value ) throws SQLException
+        {
+            if ( value instanceof Number )
+            {
+                return (Number) value;
+            }
+            if ( value instanceof Boolean )
+            {
+                return new Integer( ( (Boolean) value ).booleanValue() ? 1 : 0 );
+            }
+            try
+            {
+                return new Long( value.toString().trim() );
+            }
+            catch ( NumberFormatException ex )
+            {
+                throw new SQLException( "Not a number: " + value );
+            }
+        }
+
+        private Timestamp toTimestamp( Object value )
+        {
+            if ( value == null || value instanceof Timestamp )
+            {
+                return (Timestamp) value;
+            }
+            if ( value instanceof java.util.Date )
+            {
+                return new Timestamp( ( (java.util.Date) value ).getTime() );
+            }
+            return Timestamp.valueOf( value.toString() );
+        }
+    }
+}
@@ -29,10 +29,12 @@ import java.util.Set;
 import java.util.SortedSet;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.locks.Lock;
 
 import org.apache.avalon.framework.logger.Logger;
 import org.rapla.components.util.Assert;
 import org.rapla.components.util.DateTools;
+import org.rapla.components.util.MeasuredReadWriteLock;
 import org.rapla.components.util.Tools;
 import org.rapla.components.xmlbundle.I18nBundle;
 import org.rapla.entities.Category;
@@ -87,7 +89,8 @@ public abstract class AbstractCachableOperator
     private RaplaLocale raplaLocale;
 
     private ArrayList<StorageUpdateListener> storageUpdateListeners = new ArrayList<StorageUpdateListener>();
-    private Object lock = new Object();
+    /** readers can run in parallel, dispatches are exclusive. */
+    protected MeasuredReadWriteLock lock = new MeasuredReadWriteLock();
     private MessageDigest md;
     protected LocalCache cache;
     /** set encryption if you want to enable password encryption. Possible values
@@ -281,6 +284,10 @@ public abstract class AbstractCachableOperator
         return cache.getReservations(user,start,end);
     }
 
+    public List<Reservation> getReservationsForAllocatable(final Allocatable[] allocatables,final Date start,final Date end) throws RaplaException {
+        return cache.getReservationsForAllocatable(allocatables,start,end);
+    }
+
     public Category getSuperCategory() {
         return cache.getSuperCategory();
     }
@@ -322,6 +329,15 @@ public abstract class AbstractCachableOperator
         }
     }
 
+    protected void firePushingUpdatesChanged() {
+        if (storageUpdateListeners.size() == 0)
+            return;
+        StorageUpdateListener[] listeners = getStorageUpdateListeners();
+        for (int i = 0;i<listeners.length; i++) {
+            listeners[i].pushingUpdatesChanged();
+        }
+    }
+
 
 
     public Date today() {
@@ -457,6 +473,7 @@ public abstract class AbstractCachableOperator
                 result.addOperation( new UpdateResult.Remove( persistantVersion));
             }
         }
+        result.setRepositoryVersion( cache.increaseRepositoryVersion() );
         return result;
     }
 
@@ -767,25 +784,22 @@ public abstract class AbstractCachableOperator
         return dependencyList;
     }
 
+    /** returns the reservations in the cache that refer to the entity. Only the local operators have all reservations in the cache,
+     * so the RemoteOperator skips the checks that use this method and the server performs them, when the changes are dispatched.*/
     protected List<RefEntity<Reservation>> getReferencingReservations( RefEntity<?> entity )  throws RaplaException {
         ArrayList<RefEntity<Reservation>> result = new ArrayList<RefEntity<Reservation>>();
-        Iterator<Reservation> it = this.getReservations(null,null,null).iterator();
-        while (it.hasNext())
+        for (RefEntity<?> referer: cache.getReferers(Reservation.TYPE, entity))
         {
             @SuppressWarnings("unchecked")
-			RefEntity<Reservation> referer = (RefEntity<Reservation>)it.next();
-            if (referer != null && referer.isRefering(entity)) {
-                result.add(referer);
-            }
+			RefEntity<Reservation> reservation = (RefEntity<Reservation>)referer;
+            result.add(reservation);
         }
         return result;
     }
 
     protected List<RefEntity<?>> getReferencingEntities(RefEntity<?> entity) throws RaplaException{
         ArrayList<RefEntity<?>> list = new ArrayList<RefEntity<?>>();
-        // Important to use getReferncingReservations here, because the method getReservations could be overidden in the subclass,
-        // to avoid loading unneccessary Reservations in client/server mode.
-
+        // The cache keeps a reverse index of the references, so we only touch the referers here.
         list.addAll(getReferencingReservations( entity ));
         list.addAll(cache.getReferers(Allocatable.TYPE, entity));
         list.addAll(cache.getReferers(Preferences.TYPE, entity));
@@ -988,7 +1002,15 @@ public abstract class AbstractCachableOperator
 		storeAndRemove( editList, removeList, user);
     }
 
-    public Object getLock() {
+    public Lock getReadLock() {
+        return lock.readLock();
+    }
+
+    public Lock getWriteLock() {
+        return lock.writeLock();
+    }
+
+    public MeasuredReadWriteLock getReadWriteLock() {
         return lock;
     }
 
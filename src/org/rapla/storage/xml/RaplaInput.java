@@ -13,6 +13,7 @@
 package org.rapla.storage.xml;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.lang.reflect.Constructor;
@@ -21,20 +22,29 @@ import java.lang.reflect.Method;
 import java.net.URL;
 
 import org.apache.avalon.framework.logger.Logger;
+import org.rapla.components.util.xml.BinaryXMLReader;
+import org.rapla.components.util.xml.XMLReaderAdapter;
 import org.rapla.framework.RaplaException;
 import org.xml.sax.ContentHandler;
 import org.xml.sax.ErrorHandler;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
+import org.xml.sax.XMLReader;
 
 /** Reads the data in xml format from an InputSource into the
     LocalCache and converts it to a newer version if necessary.
+    The xml parser is created with the first read and reused for the following reads,
+    so an instance must not be used by more than one thread at the same time.
  */
 public final class RaplaInput {
     private Logger logger;
     private URL fileSource;
     private Reader reader;
+    private InputStream stream;
+    private String encoding;
+    private XMLReader xmlReader;
+    private BinaryXMLReader binaryReader;
     
     private boolean wasConverted;
 
@@ -55,24 +65,60 @@ public final class RaplaInput {
         getLogger().debug("Parsing " + file.toString());
         fileSource = file;
         reader = null;
+        stream = null;
         parseData( handler , validate);
     }
 
     public boolean read(Reader xml, ContentHandler handler, boolean validate) throws RaplaException,IOException {
         fileSource = null;
         reader = xml;
+        stream = null;
         parseData( handler, validate);
         return wasConverted;
     }
 
     public boolean read(Reader xml, ContentHandler handler) throws RaplaException,IOException {
+        return read( xml, handler, false);
+    }
+
+    /** parses the bytes of the stream directly, so no reader is needed in between.
+     * The stream must be buffered.*/
+    public boolean read(InputStream xml, String encoding, ContentHandler handler, boolean validate) throws RaplaException,IOException {
         fileSource = null;
-        reader = xml;
-        parseData( handler, false);
+        reader = null;
+        stream = xml;
+        this.encoding = encoding;
+        parseData( handler, validate);
         return wasConverted;
     }
     
+    /** reads the binary form of the data that was written with a {@link org.rapla.components.util.xml.BinaryXMLWriter}.
+     * Data of older versions is not converted.*/
+    public void readBinary(InputStream in, ContentHandler handler) throws RaplaException,IOException {
+        if ( binaryReader == null ) {
+            binaryReader = new BinaryXMLReader();
+        }
+        try {
+            binaryReader.parse( in, handler );
+        } catch (SAXException ex) {
+            Throwable cause = ex.getException();
+            if (cause instanceof RaplaException)
+                throw (RaplaException) cause;
+            else
+                throw new RaplaException( cause != null ? cause : ex );
+        }
+    }
+
+    /** parses a fragment of a data file, e.g. the definition of a dynamic type that is stored in a database.*/
     public boolean readWithNamespaces(String xml, ContentHandler handler) throws RaplaException,IOException {
+        String xmlWithNamespaces = DATA_ELEMENT + xml + "</rapla:data>"; 
+        return read(new StringReader(xmlWithNamespaces), handler);
+    }
+
+    // the start tag of the data element with the declarations of all rapla namespaces
+    private static final String DATA_ELEMENT = createDataElement();
+
+    private static String createDataElement() {
         StringBuffer dataElement = new StringBuffer();
         dataElement.append("<rapla:data ");
         for (int i=0;i<RaplaXMLWriter.NAMESPACE_ARRAY.length;i++) {
@@ -88,20 +134,28 @@ public final class RaplaInput {
             dataElement.append("\" ");
         }
         dataElement.append(">");
-        String xmlWithNamespaces = dataElement.toString() + xml + "</rapla:data>"; 
-        return read(new StringReader(xmlWithNamespaces), handler);
+        return dataElement.toString();
     }
 
-    
-
     private InputSource getNewSource() {
         if ( fileSource != null ) {
             return new InputSource( fileSource.toString() );
         } else if ( reader != null ) {
             return new InputSource( reader  );
+        } else if ( stream != null ) {
+            InputSource source = new InputSource( stream );
+            source.setEncoding( encoding );
+            return source;
         } else {
-            throw new IllegalStateException("fileSource or reader can't be null");
+            throw new IllegalStateException("fileSource, reader or stream can't be null");
+        }
+    }
+
+    private XMLReader getXMLReader() throws SAXException {
+        if ( xmlReader == null ) {
+            xmlReader = XMLReaderAdapter.createXMLReader( false );
         }
+        return xmlReader;
     }
     
     private void parseData( ContentHandler contentHandler,boolean validate)
@@ -110,6 +164,7 @@ public final class RaplaInput {
         try {
             RaplaSAXPipeline pipeline = new RaplaSAXPipeline();
             pipeline.enableLogging(getLogger());
+            pipeline.setXMLReader( getXMLReader() );
             if (validate) {
                 validate( getNewSource(), "org/rapla/storage/xml/rapla.rng"); 
             } 
@@ -210,6 +265,7 @@ public final class RaplaInput {
         try {
             RaplaSAXPipeline pipeline = new RaplaSAXPipeline();
             pipeline.enableLogging(getLogger());
+            pipeline.setXMLReader( getXMLReader() );
             if (version < 0.4) {
                 throw new RaplaException("Rapla 0.7, 0.6 or rapla 0.5 files are not supported in this version\n"
                                          + " Please use rapla version 0.8.2 to convert this file: Load file, edit and save something!");
@@ -49,6 +49,7 @@ class RaplaSAXPipeline implements LogEnabled {
 
     SAXTransformerFactory stf;
     XMLReader stylesheetReader;
+    XMLReader xmlReader;
 
     Logger logger = null;
 
@@ -57,6 +58,11 @@ class RaplaSAXPipeline implements LogEnabled {
         errorHandler = new RaplaErrorHandler();
     }
 
+    /** sets the parser for the documents. If no parser is set, a new one is created for every parse.*/
+    public void setXMLReader(XMLReader xmlReader) {
+        this.xmlReader = xmlReader;
+    }
+
     public void enableLogging(Logger logger) {
         this.logger = logger;
         errorHandler.enableLogging(logger);
@@ -104,7 +110,10 @@ class RaplaSAXPipeline implements LogEnabled {
                ,IOException
                ,SAXException
     {
-        XMLReader reader = XMLReaderAdapter.createXMLReader(false);
+        XMLReader reader = xmlReader;
+        if (reader == null) {
+            reader = XMLReaderAdapter.createXMLReader(false);
+        }
         Iterator<XMLFilter> it = filters.iterator();
 
         // filter1 will use the SAX parser as it's reader.
@@ -0,0 +1,515 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class RaplaResources extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "abort","Abort"}
+   , { "add","Add"}
+   , { "add_to","Add to"}
+   , { "additional-view","Additional Information"}
+   , { "admin","Administrator"}
+   , { "admin.login","You have adminstrator privileges!"}
+   , { "administration","Administration"}
+   , { "all-day","all-day"}
+   , { "all_filtered","All filtered objects."}
+   , { "all_users","All users"}
+   , { "allocatable_in_timeframe","Allocatable in the given timeframe"}
+   , { "allocation_view","Allocation of {0}"}
+   , { "alteration","Alteration"}
+   , { "and","and"}
+   , { "apply","Apply"}
+   , { "appointment","Appointment"}
+   , { "appointment.convert","Convert to single events"}
+   , { "appointment.day_x","on day x"}
+   , { "appointment.days","Day(s)"}
+   , { "appointment.exception.days","Exception days:"}
+   , { "appointment.exception.general","Exceptions:"}
+   , { "appointment.exceptions","Exceptions"}
+   , { "appointment.format.exceptions","{0} Exceptions:"}
+   , { "appointment.hours","Hour(s)"}
+   , { "appointment.minutes","Min."}
+   , { "appointment.next_day","Next day"}
+   , { "appointment.no_exceptions","No exceptions:"}
+   , { "appointment.rule","Rule:"}
+   , { "appointment.same_day","Same day"}
+   , { "appointment_list","Appointment List"}
+   , { "appointments","Appointments"}
+   , { "attribute","Attribute"}
+   , { "attribute_color_dialog","You need a color attribute for this setting. Do you want to create it?"}
+   , { "attributes","Attributes"}
+   , { "available","Available"}
+   , { "back","Go back"}
+   , { "bind_with_person","bind with person"}
+   , { "calendar","Calendar"}
+   , { "calendar_settings","Calendar settings"}
+   , { "calendarname","Calendar name: "}
+   , { "calendarweek.abbreviation","cw {0,date,w}"}
+   , { "cancel","Cancel"}
+   , { "categories","Categories"}
+   , { "category","Category"}
+   , { "change","Change"}
+   , { "change.format","Change {0}"}
+   , { "change_appointment","Change appointment"}
+   , { "changes","Changes"}
+   , { "choose_language","Choose your language:"}
+   , { "choose_root_category","Choose root category:"}
+   , { "class","Class"}
+   , { "classification","Classification"}
+   , { "close","Close"}
+   , { "color","Color"}
+   , { "color.automated","autoselect color"}
+   , { "complete_time","Complete time"}
+   , { "confirm","Confirm"}
+   , { "confirm-close.ok","Discard changes"}
+   , { "confirm-close.question","You have not saved your changes."}
+   , { "confirm-close.title","Changes not saved!"}
+   , { "confirm.dialog.question","Save this Information?"}
+   , { "confirm.dialog.title","Confirm {0}"}
+   , { "conflict.appointment1","When?"}
+   , { "conflict.appointment2","conflicting allocation"}
+   , { "conflict.reservation1","Which event?"}
+   , { "conflict.reservation2","Other event?"}
+   , { "conflict.resource","What/who?"}
+   , { "conflict.user","User?"}
+   , { "conflictUC","Conflicts ({0})"}
+   , { "conflicts","Conflicts"}
+   , { "connection","Connection with server"}
+   , { "constraints","Constraints"}
+   , { "continue","Continue"}
+   , { "copy","Copy"}
+   , { "copy_appointment.format","What do you want to copy?"}
+   , { "copy_to_clipboard","Copy to Clipboard"}
+   , { "create","Create"}
+   , { "created_at","Created at"}
+   , { "customized","Customized"}
+   , { "daily","Daily"}
+   , { "database","Database"}
+   , { "date","Date"}
+   , { "day","Day"}
+   , { "day1week","Day 1 of the week"}
+   , { "day_resource","Day/Resource"}
+   , { "day_timeslot","Day program"}
+   , { "days","Days"}
+   , { "daysInWeekview","Days in Weekview"}
+   , { "default","Default"}
+   , { "defaultselection","Default Selection"}
+   , { "delete","Delete"}
+   , { "delete.abort","No, don't delete it!"}
+   , { "delete.format","Delete {0}"}
+   , { "delete.ok","Yes, delete it!"}
+   , { "delete.question","You will delete the following objects: "}
+   , { "delete.title","Delete?"}
+   , { "delete_appointment.format","What do you want to delete?"}
+   , { "delete_selection","Delete Selection"}
+   , { "destination","Destination"}
+   , { "disabled","disabled"}
+   , { "display_exceptions","Display exceptions in calendar"}
+   , { "duration","Duration"}
+   , { "dynamictype","Type"}
+   , { "dynamictype.annotation.nameformat","Displayed name format"}
+   , { "dynamictype.annotation.nameformat.description","Enclose the key names in {} to insert attributes, e.g. {myKey}"}
+   , { "dynamictype.name","Type name"}
+   , { "edit","Edit"}
+   , { "edit-view","Edit View"}
+   , { "edit.format","Edit {0}"}
+   , { "edit_advanced","Show advanced settings"}
+   , { "edit_reservation.format","Edit event: {0}"}
+   , { "edit_reservations","Edit own"}
+   , { "elementkey","Element key"}
+   , { "email","Email"}
+   , { "end_date","End date"}
+   , { "end_time","End time"}
+   , { "error","Error"}
+   , { "error.cant_delete_your_account","You can''t delete [{0}], because you are currently using this account!"}
+   , { "error.connect","Connection to [{0}] failed! Maybe the host is down and you could try later!"}
+   , { "error.connection_closed","No or closed connection to [{0}]. Please restart Rapla."}
+   , { "error.dependencies","Dependencies exist for these objects"}
+   , { "error.invalid_key","\"{0}\" is not a valid key!" 
+      +  " Note: You can only use a combination of max. 50 letters, digits or one of the" 
+      +  " following characters {1}. The key must start with {2} or a letter! Example: room_size" 
+      +  " "}
+   , { "error.login","Login failed!"}
+   , { "error.new_version","The object {0} couldn''t be modified. It was recently modified by someone else." 
+      +  " There was a newer version in the storage."}
+   , { "error.no_appointment","An event has to consist of at least one appointment!"}
+   , { "error.no_entry_for","You need to provide an entry for: {0}"}
+   , { "error.no_key","You need to provide a key: {0}"}
+   , { "error.no_name","Je moet een naam opgeven!"}
+   , { "error.no_reservation_name","You have to enter a title for your event!"}
+   , { "error.no_rollback","Error! Database update failed. Because" 
+      +  " your database doesn't support transactions, that could lead to" 
+      +  " serious failures. Please contact your administrator" 
+      +  " immediately!"}
+   , { "error.not_unique","The name \"{0}\" is already" 
+      +  " taken. Please choose a different name!"}
+   , { "error.one_type_requiered","At least one type is requiered."}
+   , { "error.passwords_dont_match","The passwords don't match!"}
+   , { "error.reference_not_stored","Error! Referenced object [{0}] not found in store. It was probably recently removed."}
+   , { "error.rollback","Database update failed. All changes were canceled."}
+   , { "error.wrong_password","Wrong password!"}
+   , { "every_appointment","Every appointment"}
+   , { "everytime","Every time"}
+   , { "exception","Exception"}
+   , { "exchange_allocatables","Change allocation"}
+   , { "exchange_allocatables_appointment.format","For what do you want to change the allocation"}
+   , { "exclamation.format","{0} !"}
+   , { "exclude_days","Exclude days"}
+   , { "exit","Exit"}
+   , { "exit.abort","Continue Rapla >>"}
+   , { "exit.ok","Quit Rapla"}
+   , { "exit.question","Do you really want to quit Rapla?"}
+   , { "exit.title","Quit Rapla?"}
+   , { "expected_columns","Expected columns"}
+   , { "expected_rows","Expected rows"}
+   , { "export","Export"}
+   , { "file","File"}
+   , { "file.enter_name","Name for the view"}
+   , { "file_saved","File saved"}
+   , { "filter","Filter"}
+   , { "filter.contains","contains"}
+   , { "filter.earlier_than","is earlier than"}
+   , { "filter.equals","equals"}
+   , { "filter.greater_or_equals","greater than or equal"}
+   , { "filter.is_greater_than","is greater than"}
+   , { "filter.is_smaller_than","is smaller than"}
+   , { "filter.later_than","is later than"}
+   , { "filter.not_equals","is not equal to"}
+   , { "filter.smaller_or_equals","smaller than or equal"}
+   , { "filter.starts","starts with"}
+   , { "filter_allocatable","Resources and persons"}
+   , { "filter_reservation.all","From all users"}
+   , { "filter_reservation.own","Own events"}
+   , { "filter_restrictions","Restrict view of {0}"}
+   , { "filtername","Filter name"}
+   , { "fixed_date","Fixed Date"}
+   , { "for","for"}
+   , { "forename","First name"}
+   , { "format.repeat_from","from {0}"}
+   , { "format.repeat_n_times","Repeat {0} times"}
+   , { "format.repeat_until","until {0}"}
+   , { "goto_date","Go to Date"}
+   , { "group","Group"}
+   , { "groups","Groups"}
+   , { "help","Help"}
+   , { "hierarchy","Hierarchy"}
+   , { "holdbackconflicts","Hold back conflicts"}
+   , { "hour","Hour"}
+   , { "hours","Hours"}
+   , { "icon.abort","gui/images/choice_no.png"}
+   , { "icon.allocatable_available","gui/images/eclipse-icons/green.gif"}
+   , { "icon.allocatable_not_always_available","gui/images/eclipse-icons/yellow.gif"}
+   , { "icon.allocatable_taken","gui/images/eclipse-icons/conflict.gif"}
+   , { "icon.arrow_left","gui/images/eclipse-icons/arrow_left.gif"}
+   , { "icon.arrow_right","gui/images/eclipse-icons/arrow_right.gif"}
+   , { "icon.big_folder","gui/images/eclipse-icons/big_folder.gif"}
+   , { "icon.big_folder_categories","gui/images/eclipse-icons/big_folder_categories.gif"}
+   , { "icon.big_folder_conflicts","gui/images/eclipse-icons/big_folder_conflicts.gif"}
+   , { "icon.big_folder_events","gui/images/eclipse-icons/big_folder_events.gif"}
+   , { "icon.big_folder_events_filtered","gui/images/eclipse-icons/big_folder_events_filtered.gif"}
+   , { "icon.big_folder_filtered","gui/images/eclipse-icons/big_folder_filtered.gif"}
+   , { "icon.big_folder_periods","gui/images/eclipse-icons/big_folder_periods.gif"}
+   , { "icon.big_folder_resources","gui/images/eclipse-icons/big_folder_resources.gif"}
+   , { "icon.big_folder_resources_filtered","gui/images/eclipse-icons/big_folder_resources_filtered.gif"}
+   , { "icon.big_folder_users","gui/images/eclipse-icons/big_folder_users.gif"}
+   , { "icon.calendar","gui/images/calendar_small.png"}
+   , { "icon.cancel","gui/images/choice_no.png"}
+   , { "icon.category","gui/images/categories.png"}
+   , { "icon.checked","gui/images/eclipse-icons/checked.gif"}
+   , { "icon.clock","gui/images/eclipse-icons/clock.gif"}
+   , { "icon.close","gui/images/choice_no.png"}
+   , { "icon.confirm","gui/images/choice_yes.png"}
+   , { "icon.copy","gui/images/eclipse-icons/copy.gif"}
+   , { "icon.delete","gui/images/eclipse-icons/trash.gif"}
+   , { "icon.edit","gui/images/eclipse-icons/edit.gif"}
+   , { "icon.edit_window_small","gui/images/edit_window_small.png"}
+   , { "icon.empty","gui/images/eclipse-icons/blank.gif"}
+   , { "icon.error","gui/images/error.png"}
+   , { "icon.exceptionBackground","gui/images/exception.png"}
+   , { "icon.export","gui/images/eclipse-icons/export.gif"}
+   , { "icon.filter","gui/images/eclipse-icons/filter.gif"}
+   , { "icon.folder","gui/images/eclipse-icons/folder_open.gif"}
+   , { "icon.help","gui/images/eclipse-icons/help.gif"}
+   , { "icon.import","gui/images/eclipse-icons/import.gif"}
+   , { "icon.info","gui/images/info.png"}
+   , { "icon.info_small","gui/images/eclipse-icons/info.gif"}
+   , { "icon.language-select","gui/images/un_flag.png"}
+   , { "icon.list","gui/images/list.png"}
+   , { "icon.mail","gui/images/mail.png"}
+   , { "icon.new","gui/images/eclipse-icons/new.gif"}
+   , { "icon.new_repeating","gui/images/new_repeating.gif"}
+   , { "icon.no_perm","gui/images/eclipse-icons/no_perm.gif"}
+   , { "icon.options","gui/images/option_small.png"}
+   , { "icon.paste","gui/images/eclipse-icons/paste.gif"}
+   , { "icon.paste_new","gui/images/paste_new.gif"}
+   , { "icon.pdf","gui/images/pdf.gif"}
+   , { "icon.period","gui/images/period.png"}
+   , { "icon.print","gui/images/eclipse-icons/print.gif"}
+   , { "icon.question","gui/images/info.png"}
+   , { "icon.radio","gui/images/eclipse-icons/radio.gif"}
+   , { "icon.rapla","gui/images/tafel.png"}
+   , { "icon.rapla_small","gui/images/rapla_small.png"}
+   , { "icon.refresh","gui/images/refresh.png"}
+   , { "icon.remove","gui/images/eclipse-icons/trash.gif"}
+   , { "icon.repeating","gui/images/eclipse-icons/refresh.gif"}
+   , { "icon.restart","gui/images/eclipse-icons/update.gif"}
+   , { "icon.save","gui/images/eclipse-icons/save.gif"}
+   , { "icon.single","gui/images/single.png"}
+   , { "icon.tree","gui/images/tree.png"}
+   , { "icon.tree.default","gui/images/eclipse-icons/green.gif"}
+   , { "icon.tree.minus","gui/images/eclipse-icons/tree_minus.gif"}
+   , { "icon.tree.person_not_always_available","gui/images/persons_yellow.png"}
+   , { "icon.tree.persons","gui/images/persons.png"}
+   , { "icon.tree.plus","gui/images/eclipse-icons/tree_plus.gif"}
+   , { "icon.unchecked","gui/images/eclipse-icons/unchecked.gif"}
+   , { "icon.user","gui/images/users.png"}
+   , { "icon.warning","gui/images/error.png"}
+   , { "import","Import"}
+   , { "in_period.format","in period {0}"}
+   , { "including_date","Include date: {0}"}
+   , { "info","About Rapla..."}
+   , { "info.text","" 
+      +  " <strong>Rapla version @doc.version@</strong>" 
+      +  " <br/>" 
+      +  " (C) Copyright @doc.year@ @doc.copyright@" 
+      +  " <p>Rapla homepage: <strong>@doc.homepage@</strong>" 
+      +  " </p>" 
+      +  " <p>Post your feature requests, questions or bug reports" 
+      +  " to our developers mailing list:<br/>" 
+      +  " <strong>@doc.developer-list@</strong>" 
+      +  " </p>" 
+      +  " <p>Build-Time: @doc.buildtime@</p>" 
+      +  " <p>Signature: {0}</p>" 
+      +  " <p>Java version {1}</p>" 
+      +  " "}
+   , { "info.title","" 
+      +  " Rapla version @doc.version@" 
+      +  " "}
+   , { "insert","Insert"}
+   , { "interval","Interval"}
+   , { "interval.format","Every {0} {1}"}
+   , { "keep","Keep"}
+   , { "key","Key"}
+   , { "language","Language"}
+   , { "last_changed","Last changed"}
+   , { "last_changed_by","Last changed by"}
+   , { "legend","Legend"}
+   , { "level","Level"}
+   , { "license.text","" 
+      +  " <strong>Rapla</strong> version @doc.version@ (C) Copyright @doc.year@ @doc.copyright@" 
+      +  " <p>" 
+      +  " <strong>Rapla</strong> comes with <a href=\"warranty\">NO\u00a0WARRANTY</a>!!" 
+      +  " This is free software, you are welcome to redistribute it under certain" 
+      +  " <a href=\"license\">conditions</a>.</p>" 
+      +  " "}
+   , { "licensedialog.title","The GNU-license"}
+   , { "list.format","{0}: {1}"}
+   , { "load","Load"}
+   , { "login","Login"}
+   , { "logindialog.title","Rapla Login"}
+   , { "logout","Logout"}
+   , { "main-view","Main View"}
+   , { "minute","Minute"}
+   , { "minutes","Minutes"}
+   , { "month","Month"}
+   , { "monthly","Monthly"}
+   , { "months","Months"}
+   , { "move","Move"}
+   , { "move_appointment.format","What do you want to move?"}
+   , { "name","Name"}
+   , { "never","Never"}
+   , { "new","New"}
+   , { "new_appointment","New appointment"}
+   , { "new_category","New category"}
+   , { "new_password","New password"}
+   , { "new_reservation","New Event..."}
+   , { "new_reservation.format","New Event: {0}"}
+   , { "new_rule","New rule for"}
+   , { "new_sub-category","New sub-category"}
+   , { "no","No"}
+   , { "no-view","invisible"}
+   , { "no_classification","No classification"}
+   , { "no_repeating","No repeating"}
+   , { "not_selected.help","Not currently selected. <br/>Unselect \"Only Own Reservations\" or change your filter settings. "}
+   , { "not_visible","Not visible"}
+   , { "not_visible.help","Not visible. <br/>Access to the reservation info is restricted."}
+   , { "nothing_selected","Nothing selected"}
+   , { "occupation","Occupation"}
+   , { "ok","OK"}
+   , { "old_password","Old password"}
+   , { "only_own_reservations","Only Own Reservations"}
+   , { "open","Open"}
+   , { "options","Options"}
+   , { "or","or"}
+   , { "password","Password"}
+   , { "password_verification","Password verification"}
+   , { "paste","Paste"}
+   , { "paste_as","Paste As"}
+   , { "period","Period"}
+   , { "period.format.end","End of {0}"}
+   , { "period.format.start","Start of {0}"}
+   , { "period.format.week","{0}.week {1}"}
+   , { "period.not_set","Select period"}
+   , { "period_view","Period"}
+   , { "periods","Periods"}
+   , { "permission.access","Access"}
+   , { "permission.admin","administrator rights"}
+   , { "permission.allocate","can allocate"}
+   , { "permission.allocate-conflicts","can allocate & create conflicts"}
+   , { "permission.denied","Denied"}
+   , { "permission.read","can read"}
+   , { "permissions","Permissions"}
+   , { "person","Person"}
+   , { "person_type","Person type"}
+   , { "person_types","Person Types"}
+   , { "persons","Persons"}
+   , { "preferences","Preferences"}
+   , { "print","Print"}
+   , { "print_to_file","Print to File"}
+   , { "publish","Publish"}
+   , { "question","Question"}
+   , { "rapla.build","@doc.buildtime@"}
+   , { "rapla.name","Rapla"}
+   , { "rapla.title","Rapla, smart resource and event planning"}
+   , { "rapla.version","@doc.version@"}
+   , { "rapla.welcome","Hello {0}, enjoy planning!"}
+   , { "refresh","Refresh"}
+   , { "reload_data","Load data"}
+   , { "remove","Remove"}
+   , { "repeat","Repeat"}
+   , { "repeating","Repeating"}
+   , { "repeating.end_date","until"}
+   , { "repeating.forever","Repeats forever"}
+   , { "repeating.interval.post","."}
+   , { "repeating.interval.pre","every"}
+   , { "repeating.n_times","x times"}
+   , { "repeating.start_date","from the"}
+   , { "report","Report"}
+   , { "reservation","Event"}
+   , { "reservation.allocations","Allocations:"}
+   , { "reservation.appointments","Appointments:"}
+   , { "reservation.create_without_wizard","Event"}
+   , { "reservation.name","Event name"}
+   , { "reservation.owner","Reserved by"}
+   , { "reservation_type","Event Type:"}
+   , { "reservations","Events"}
+   , { "reservations_and_resources","Events and resources"}
+   , { "reservations_from_all_users","Events from all users"}
+   , { "reset","Reset"}
+   , { "resource","Resource"}
+   , { "resource.owner","Registered by"}
+   , { "resource_type","Resource type"}
+   , { "resource_types","Resource types"}
+   , { "resources","Resources"}
+   , { "resources_persons","Resources and persons"}
+   , { "restart_client","Restart Rapla client"}
+   , { "restart_options","You need to restart Rapla/Rapla-server when you change the options!"}
+   , { "restart_server","Restart Server"}
+   , { "root","Root"}
+   , { "rows_per_hour","Rows per hour"}
+   , { "save","Save"}
+   , { "saved","saved"}
+   , { "search","Search"}
+   , { "second","Second"}
+   , { "seconds","Seconds"}
+   , { "select","Select"}
+   , { "selectable","Selectable"}
+   , { "selectable_on","Selectable on"}
+   , { "selected","Selected"}
+   , { "selected_on","Selected on"}
+   , { "selection","Selection"}
+   , { "selection_resource","Resource selection"}
+   , { "serie","Series"}
+   , { "server","Server"}
+   , { "server_status","" 
+      +  "	 Server Status" 
+      +  " "}
+   , { "show_as","Show As"}
+   , { "show_conflicts","Display conflicts"}
+   , { "show_resource_selection","Display resource selection"}
+   , { "show_tips","Display mouse-over tips"}
+   , { "single_appointment.format","appointment on {0}"}
+   , { "source","Source"}
+   , { "start_date","Start"}
+   , { "start_rapla_with_applet","" 
+      +  " Start Rapla (with Java Plugin)" 
+      +  " "}
+   , { "start_rapla_with_webstart","" 
+      +  " Start Rapla (with java webstart)" 
+      +  " "}
+   , { "start_time","Start time"}
+   , { "surname","Name"}
+   , { "switch_back","switch back"}
+   , { "switch_to","Switch to"}
+   , { "table","Table"}
+   , { "time_at","at"}
+   , { "time_until","until"}
+   , { "today","Today"}
+   , { "total_occurances","Total occurances"}
+   , { "translation","Translation"}
+   , { "translation.format","Translations for \"{0}\":"}
+   , { "type","Type"}
+   , { "type.boolean","Yes|No"}
+   , { "type.date","Date"}
+   , { "type.int","Integer"}
+   , { "type.rapla:category","Category"}
+   , { "type.string","Text"}
+   , { "types","Types"}
+   , { "user","User"}
+   , { "username","Username"}
+   , { "users","Users"}
+   , { "view","View"}
+   , { "warning","Warning"}
+   , { "warning.conflict","WARNING: Conflicts found!"}
+   , { "warning.duplicated_appointments","WARNING: The same appointment exists multiple times [{0}]!"}
+   , { "warning.experienced_users_only","These settings should only be changed by experienced users!"}
+   , { "warning.max-one-eventtype","Only <strong>1</strong> event type is allowed. Adjust the filter!"}
+   , { "warning.no_allocatables_selected","You have not selected any resources/persons!"}
+   , { "warning.no_conflict_permission","You have no permissions to create conflicts for [{0}]!"}
+   , { "warning.no_reserve_permission","You have no permissions to reserve/change [{0}] an appointment [{1}]!"}
+   , { "warning.period_shorter_than_week","Period is shorter than 1 week!"}
+   , { "warning.readonly_storage","Data is only modified in memory. Changes will be lost for future sessions."}
+   , { "warning.reservation.delete","The event you are editing has been deleted."}
+   , { "warning.reservation.update","The event you are editing has been changed." 
+      +  " The data displayed in this window will be refreshed."}
+   , { "warning.update","The object \"{0}\" you are editing has been changed outside the window." 
+      +  " The current editing will be aborted."}
+   , { "webinfo.text","" 
+      +  " <h3>More information:</h3>" 
+      +  " <p>" 
+      +  " Java-Webstart is included in all Java versions since 1.4.0." 
+      +  " To run Rapla, you need Java 1.5 or above, which you can download from" 
+      +  " <a href=\"http://www.oracle.com/technetwork/java/javase/downloads/index.html\">www.oracle.com/technetwork/java</a>" 
+      +  " </p>" 
+      +  " <p>" 
+      +  " Check out <a href=\"http://code.google.com/p/rapla\">Rapla @ Google Project</a> for more information." 
+      +  " </p>" 
+      +  " "}
+   , { "week","Week"}
+   , { "week_compact","Week/Resource"}
+   , { "week_timeslot","Week program"}
+   , { "weekday","Day of week"}
+   , { "weekly","Weekly"}
+   , { "weeks","Weeks"}
+   , { "weekview.print.choose_export","Choose your save method!"}
+   , { "weekview.print.dialog_title","Print Preview"}
+   , { "weekview.print.format_button","Printer Preferences"}
+   , { "weekview.print.postscript","Postscript"}
+   , { "weekview.print.title_textfield","Title"}
+   , { "width","Width"}
+   , { "with","with"}
+   , { "x_days_advance","x Days in advance"}
+   , { "year","Year"}
+   , { "yearly","Yearly"}
+   , { "years","Years"}
+   , { "yes","Yes"}
+   , { "zero_appointment","No appointment"}
+  };
+}
@@ -0,0 +1,380 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class RaplaResources_cs extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "abort","Ukon\u010dit"}
+   , { "add","P\u0159idat"}
+   , { "add_to","P\u0159idat do"}
+   , { "additional-view","Dopl\u0148uj\u00edc\u00ed informace"}
+   , { "admin","Administr\u00e1tor"}
+   , { "admin.login","M\u00e1te administr\u00e1torsk\u00e1 pr\u00e1va!"}
+   , { "administration","Administrace"}
+   , { "all-day","24h"}
+   , { "all_filtered","V\u0161echny filtrovan\u00e9 objekty."}
+   , { "all_users","V\u0161ichni u\u017eivatel\u00e9"}
+   , { "allocatable_in_timeframe","V\u00fdb\u011br dan\u00fd do \u010dasov\u00e9ho r\u00e1mce"}
+   , { "allocation_view","Um\u00edst\u011bn\u00ed {0}"}
+   , { "alteration","Zm\u011bna"}
+   , { "and","a"}
+   , { "apply","Pou\u017e\u00edt"}
+   , { "appointment","Rezervace"}
+   , { "appointment.convert","Prev\u00e9st na jednor\u00e1zov\u00e9 akce"}
+   , { "appointment.day_x","Za den x"}
+   , { "appointment.days","Den"}
+   , { "appointment.exception.days","Vyj\u00edme\u010dn\u00e9 dny:"}
+   , { "appointment.exception.general","Vyj\u00edmka:"}
+   , { "appointment.exceptions","Vyj\u00edmka"}
+   , { "appointment.format.exceptions","{0} Vyj\u00edmka:"}
+   , { "appointment.hours","Hodina"}
+   , { "appointment.minutes","Min."}
+   , { "appointment.next_day","Dal\u0161\u00ed den"}
+   , { "appointment.no_exceptions","Bez vyj\u00edmky"}
+   , { "appointment.rule","Pravidlo:"}
+   , { "appointment.same_day","Stejn\u00fd den"}
+   , { "appointment_list","Seznam rezervac\u00ed"}
+   , { "appointments","Rezervace"}
+   , { "attribute","Vlastnost"}
+   , { "attributes","Potvrdit"}
+   , { "available","Dostupn\u00fd"}
+   , { "back","Zp\u011bt"}
+   , { "calendar","Kalend\u00e1\u0159"}
+   , { "calendar_settings","nastaven\u00ed pohledu"}
+   , { "calendarname","N\u00e1zev kalend\u00e1\u0159e: "}
+   , { "calendarweek.abbreviation","T{0,date,w}"}
+   , { "cancel","Zru\u0161it"}
+   , { "categories","Seznam kategori\u00ed"}
+   , { "category","Kategorie"}
+   , { "change","Zm\u011bnit"}
+   , { "change.format","Zm\u011bnit {0}"}
+   , { "change_appointment","Zm\u011bna rezervace"}
+   , { "changes","Zm\u011bny"}
+   , { "choose_language","Zvolte v\u00e1\u0161 jazyk:"}
+   , { "choose_root_category","Vyber hlavn\u00ed kategorii:"}
+   , { "class","T\u0159\u00edda"}
+   , { "classification","Hodnocen\u00ed"}
+   , { "close","Zav\u0159\u00edt"}
+   , { "color","Barva"}
+   , { "complete_time","Celkov\u00fd \u010das"}
+   , { "confirm","Potvrdit"}
+   , { "confirm-close.ok","Ignoruj zm\u011bny"}
+   , { "confirm-close.question","Neulo\u017eil(a) jste zm\u011bny!"}
+   , { "confirm-close.title","Zm\u011bny neulo\u017eeny!"}
+   , { "confirm.dialog.question","Ulo\u017eit tyto informace?"}
+   , { "confirm.dialog.title","Potvrdit"}
+   , { "conflict.appointment1","Kdy\u017e"}
+   , { "conflict.appointment2","Konfiktn\u00ed rozvrh"}
+   , { "conflict.reservation1","\u010c\u00ed je to ud\u00e1lost?"}
+   , { "conflict.reservation2","Dal\u0161\u00ed ud\u00e1lost?"}
+   , { "conflict.resource","U\u017eivatel?"}
+   , { "conflict.user","U\u017eivatel?"}
+   , { "conflictUC","Konflikt ({0})"}
+   , { "conflicts","Konflikt"}
+   , { "constraints","Omezen\u00ed"}
+   , { "continue","Pokra\u010dovat"}
+   , { "copy","Kopie"}
+   , { "copy_appointment.format","Co chcete kop\u00edrovat?"}
+   , { "copy_to_clipboard","Kop\u00edrovat do schr\u00e1nky"}
+   , { "create","Vytvo\u0159it"}
+   , { "created_at","Vytvo\u0159eno"}
+   , { "customized","P\u0159izp\u016fsoben\u00fd"}
+   , { "daily","Po dnech"}
+   , { "database","Datab\u00e1ze"}
+   , { "date","Datum"}
+   , { "day","Den"}
+   , { "day1week","1. den v t\u00fddnu"}
+   , { "day_resource","Den/Prost\u0159edek"}
+   , { "day_timeslot","denn\u00ed program"}
+   , { "days","Dny"}
+   , { "daysInWeekview","Dny v t\u00fddnu zobrazen\u00ed"}
+   , { "default","V\u00fdchoz\u00ed"}
+   , { "defaultselection","V\u00fdb\u011br v\u00fdchoz\u00ed"}
+   , { "delete","Smazat"}
+   , { "delete.abort","Ne, ned\u011blej to!!"}
+   , { "delete.format","Odstranit {0}"}
+   , { "delete.ok","Ano, sma\u017e to!!"}
+   , { "delete.question","Bude\u0161 mazat n\u00e1sleduj\u00edc\u00ed objekt"}
+   , { "delete.title","Smazat?"}
+   , { "delete_appointment.format","Co chcete smazat?"}
+   , { "delete_selection","Smazat v\u00fdb\u011br"}
+   , { "destination","C\u00edl"}
+   , { "display_exceptions","Zobrazit vyj\u00edmky v kalend\u00e1\u0159i"}
+   , { "duration","Trv\u00e1n\u00ed"}
+   , { "dynamictype","Typ"}
+   , { "dynamictype.annotation.nameformat","Zobrazovan\u00fd form\u00e1t jm\u00e9na"}
+   , { "dynamictype.annotation.nameformat.description","Uzav\u0159en\u00e9 kl\u00ed\u010dov\u00e9 jm\u00e9no v {} k vlo\u017een\u00ed vlastnosti, nap\u0159. {jm\u00e9no}"}
+   , { "dynamictype.name","Jm\u00e9no typu"}
+   , { "edit","Upravit"}
+   , { "edit-view","Upravit pohled"}
+   , { "edit.format","Upravit {0}"}
+   , { "edit_advanced","Zobraz pokro\u010dil\u00e9 nastaven\u00ed"}
+   , { "edit_reservation.format","Upravit ud\u00e1lost: {0}"}
+   , { "edit_reservations","Zm\u011b\u0148 majitele"}
+   , { "elementkey","Kl\u00ed\u010d elementu"}
+   , { "email","e-mail"}
+   , { "end_date","Konec"}
+   , { "end_time","\u010cas ukon\u010den\u00ed"}
+   , { "error","Chyba"}
+   , { "error.cant_delete_your_account","Nem\u016f\u017eete smazat [{0}], proto\u017ee v\u00fdb\u011br vyu\u017e\u00edv\u00e1 tento \u00fa\u010det!"}
+   , { "error.connect","P\u0159ipojen\u00ed k [{0}] je \u0161patn\u00e9! Mo\u017en\u00e1 je vypnut\u00fd server. Zkuste to pozd\u011bji."}
+   , { "error.connection_closed","Neexistuje nebo nefunguje spojen\u00ed [{0}]. Pros\u00edm restartujte rezerva\u010dn\u00ed syst\u00e9m"}
+   , { "error.dependencies","Z\u00e1vislosti existuj\u00ed pro jin\u00fd objekt"}
+   , { "error.invalid_key","\"{0}\" je neplatn\u00fd kl\u00ed\u010d! <br/>" 
+      +  " Note: M\u016f\u017eete pou\u017e\u00edt pouze v kombinaci s Max. 50 p\u00edsmen, \u010d\u00edslice nebo jeden z" 
+      +  " 		tyto znaky {1}. Kl\u00ed\u010d mus\u00ed za\u010d\u00ednat {2} nebo dopis! Nap\u0159.: mistnost_velikost" 
+      +  " "}
+   , { "error.login","\u0160patn\u00fd login!"}
+   , { "error.new_version","Objekt {0} nemohl b\u00fdt upraven. Byl upraven ned\u00e1vno n\u011bk\u00fdm ji\u00fdm."}
+   , { "error.no_entry_for","Nutn\u00e9 poskytnout p\u0159\u00edstup pro:"}
+   , { "error.no_key","Nutn\u00e9 poskytnout kl\u00ed\u010d:"}
+   , { "error.no_name","Nutn\u00e9 poskytnout jm\u00e9no"}
+   , { "error.no_reservation_name","Vlo\u017eit nadpis ud\u00e1losti!"}
+   , { "error.no_rollback","Chyba! Datab\u00e1ze se neobnovila. Proto\u017ee datab\u00e1ze nepodporuje transakci, chyba by se mohla opakovat, informujte administr\u00e1tora"}
+   , { "error.not_unique","Jm\u00e9no \"{0}\" je vyu\u017e\u00edv\u00e1no. Vyber jin\u00e9!"}
+   , { "error.one_type_requiered","Je po\u017eadov\u00e1n alespo\u0148 jeden typ."}
+   , { "error.passwords_dont_match","Heslo neodpov\u00edd\u00e1"}
+   , { "error.reference_not_stored","Chyba! Zm\u00edn\u011bn\u00fd objekt [{0}] se nenal\u00e9z\u00e1 v datab\u00e1zi. Pravd\u011bpodobn\u011b byl odstran\u011bn."}
+   , { "error.rollback","Datab\u00e1ze se neobnovila. V\u0161echny zm\u011bny zru\u0161eny."}
+   , { "error.wrong_password","\u0160patn\u00e9 heslo!"}
+   , { "every_appointment","V\u0161echny ujedn\u00e1n\u00ed"}
+   , { "everytime","poka\u017ed\u00e9"}
+   , { "exception","Vyj\u00edmka"}
+   , { "exchange_allocatables","Vym\u011bn\u011bn\u00fd rozvr\u017een\u00ed"}
+   , { "exclamation.format","{0} !"}
+   , { "exit","Odej\u00edt"}
+   , { "exit.abort","Pokra\u010duj v pl\u00e1nov\u00e1n\u00ed"}
+   , { "exit.ok","Ukon\u010dit syst\u00e9m Rapla"}
+   , { "exit.question","Opravdu chcete ukon\u010dit pl\u00e1nov\u00e1n\u00ed ?"}
+   , { "exit.title","Ukon\u010dit Rapla?"}
+   , { "expected_rows","O\u010dek\u00e1van\u00e1 \u0159adka"}
+   , { "export","Export"}
+   , { "file","Soubor"}
+   , { "file_saved","Ulo\u017eit soubor"}
+   , { "filter.contains","Obsahuje"}
+   , { "filter.earlier_than","Je d\u0159\u00edve, ne\u017e"}
+   , { "filter.equals","Je stejn\u00fd, jako"}
+   , { "filter.greater_or_equals","je v\u011bt\u0161\u00ed nebo rovno"}
+   , { "filter.is_greater_than","Je v\u011bt\u0161\u00ed, ne\u017e"}
+   , { "filter.is_smaller_than","Je men\u0161\u00ed, ne\u017e"}
+   , { "filter.later_than","Je pozd\u011bji, ne\u017e"}
+   , { "filter.not_equals","nen\u00ed rovno"}
+   , { "filter.smaller_or_equals","Je men\u0161\u00ed nebo rovno"}
+   , { "filter.starts","za\u010d\u00edn\u00e1 se"}
+   , { "filter_allocatable","Prost\u0159edky a osoby"}
+   , { "filter_reservation.all","Od ka\u017ed\u00e9ho u\u017eivatele"}
+   , { "filter_reservation.own","Moje ud\u00e1losti"}
+   , { "filter_restrictions","Pohled omezen\u00fd {0}"}
+   , { "filtername","N\u00e1zev filtru"}
+   , { "fixed_date","Pevn\u00fd datum"}
+   , { "for","Pro"}
+   , { "forename","Prvn\u00ed jm\u00e9no"}
+   , { "format.repeat_from","Z {0}"}
+   , { "format.repeat_n_times","Opakuj {0} kr\u00e1t"}
+   , { "format.repeat_until","Dokud {0}"}
+   , { "goto_date","J\u00edt na datum"}
+   , { "group","Skupina"}
+   , { "groups","Skupiny"}
+   , { "help","Pomoc"}
+   , { "hierarchy","Hierarchie"}
+   , { "holdbackconflicts","N\u00e1vrat p\u0159ed konflikt"}
+   , { "import","Import"}
+   , { "in_period.format","V period\u011b {0}"}
+   , { "including_date","v\u010detn\u011b data: {0}"}
+   , { "info","Informace"}
+   , { "insert","Vlo\u017eit"}
+   , { "interval","Interval"}
+   , { "interval.format","Ka\u017ed\u00fd {0} {1}"}
+   , { "keep","Podr\u017eet"}
+   , { "key","Kl\u00ed\u010d"}
+   , { "language","Jazyk"}
+   , { "last_changed","Naposledy zm\u011bn\u011bno"}
+   , { "last_changed_by","Naposledy zm\u011bnil u\u017eivatel: "}
+   , { "legend","Legenda"}
+   , { "level","\u00darove\u0148"}
+   , { "license.text","" 
+      +  " <strong>Rapla</strong> Verze @doc.version@ (C) Copyright @doc.year@ @doc.copyright@" 
+      +  " <p><strong>Na syst\u00e9m Rapla</strong> nen\u00ed poskytov\u00e1na <a href=\"warranty\">\u017d\u00c1DN\u00c1\u00a0Z\u00c1RUKA</a>!!" 
+      +  " <strong>Rapla</strong> Toto je voln\u00fd software a je mo\u017en\u00e9 jej roz\u0161i\u0159ovat pouze za ur\u010dit\u00fdch " 
+      +  " <a href=\"licen\u010dn\u00edch\">podm\u00ednek</a>.</p>" 
+      +  " "}
+   , { "licensedialog.title","GNU Licence"}
+   , { "list.format","{0}: {1}"}
+   , { "load","Nahr\u00e1t"}
+   , { "login","Login"}
+   , { "logindialog.title","P\u0159ihl\u00e1\u0161en\u00ed k rezerva\u010dn\u00edmu syst\u00e9mu"}
+   , { "logout","Odhl\u00e1sit"}
+   , { "main-view","Hlavn\u00ed pohled"}
+   , { "month","M\u011bs\u00edc"}
+   , { "months","M\u011bs\u00edce"}
+   , { "move","P\u0159esunout"}
+   , { "move_appointment.format","Co chcete p\u0159esunout?"}
+   , { "name","Jm\u00e9no"}
+   , { "never","Nikdy"}
+   , { "new","Nov\u00fd"}
+   , { "new_appointment","Nov\u00e1 rezervace"}
+   , { "new_category","Nov\u00e1 kategorie"}
+   , { "new_password","Nov\u00e9 heslo"}
+   , { "new_reservation","Nov\u00e1 ud\u00e1lost"}
+   , { "new_reservation.format","Nov\u00e1 ud\u00e1lost: {0}"}
+   , { "new_rule","Nov\u00e9 pravidlo pro "}
+   , { "new_sub-category","Nov\u00e1 podkategorie"}
+   , { "no","Ne"}
+   , { "no-view","Skryt\u00fd"}
+   , { "no_classification","Neklasifikov\u00e1no"}
+   , { "no_repeating","Bez opakov\u00e1n\u00ed"}
+   , { "not_selected.help","Polo\u017eka nen\u00ed v t\u00e9to chv\u00edli vybr\u00e1na. <br/>Odstra\u0148te volbu \"Moje rezervace\", nebo zm\u011b\u0148te nastaven\u00ed va\u0161eho filtru."}
+   , { "not_visible","neviditen\u011b"}
+   , { "not_visible.help","Skryt\u00e1 polo\u017eka. <br/>P\u0159\u00edstup k rezerva\u010dn\u00edm informac\u00edm je zak\u00e1z\u00e1n."}
+   , { "nothing_selected","Nen\u00ed vybr\u00e1na \u017e\u00e1dn\u00e1 polo\u017eka"}
+   , { "occupation","Obsazenost"}
+   , { "ok","Budi\u017e"}
+   , { "old_password","Star\u00e9 heslo"}
+   , { "only_own_reservations","Moje rezervace"}
+   , { "open","Otev\u0159\u00edt"}
+   , { "options","Volby"}
+   , { "or","nebo"}
+   , { "password","Heslo"}
+   , { "password_verification","Heslo ov\u011b\u0159eno"}
+   , { "paste","Vlo\u017eit"}
+   , { "paste_as","Vlo\u017eit v\u0161e"}
+   , { "period","Perioda"}
+   , { "period.format.end","Konec {0}"}
+   , { "period.format.start","Za\u010d\u00e1tek {0}"}
+   , { "period.format.week","{0}.t\u00fdden {1}"}
+   , { "period.not_set","Ozna\u010d periodu"}
+   , { "period_view","Perioda"}
+   , { "periods","Periody"}
+   , { "permission.access","P\u0159\u00edstupn\u00fd"}
+   , { "permission.admin","Administr\u00e1torsk\u00e9 pr\u00e1va"}
+   , { "permission.allocate","m\u016f\u017ee alokovat"}
+   , { "permission.allocate-conflicts","m\u016f\u017ee alokovat & vytv\u00e1\u0159et konflikty"}
+   , { "permission.denied","Zam\u00edtnuto"}
+   , { "permission.read","m\u016f\u017ee \u010d\u00edst"}
+   , { "permissions","P\u0159\u00edstupov\u00e1 pr\u00e1va"}
+   , { "person","Osoba"}
+   , { "person_type","Druh osoby"}
+   , { "person_types","Druh osob"}
+   , { "persons","Osoby"}
+   , { "preferences","P\u0159edvolby"}
+   , { "print","Tisknout"}
+   , { "print_to_file","Tisk do souboru"}
+   , { "publish","publikovat"}
+   , { "question","Ot\u00e1zka"}
+   , { "rapla.name","Rapla"}
+   , { "rapla.title","Rapla, chytr\u00e9 pl\u00e1nov\u00e1n\u00ed prost\u0159edk\u016f a ud\u00e1lost\u00ed"}
+   , { "rapla.welcome","Dobr\u00fd den, p\u0159ejeme p\u0159\u00edjemn\u00e9 pl\u00e1nov\u00e1n\u00ed! P\u0159ihl\u00e1\u0161en u\u017eivatel: {0}"}
+   , { "refresh","Obnovit"}
+   , { "reload_data","Znovu na\u010d\u00edst data"}
+   , { "remove","Odstranit"}
+   , { "repeat","Opakuj"}
+   , { "repeating","Opakov\u00e1n\u00ed"}
+   , { "repeating.end_date","Dokud"}
+   , { "repeating.forever","Nem\u00e1 konec"}
+   , { "repeating.interval.post","."}
+   , { "repeating.interval.pre","Poka\u017ed\u00e9"}
+   , { "repeating.n_times","x kr\u00e1t"}
+   , { "repeating.start_date","z"}
+   , { "report","Report"}
+   , { "reservation","Ud\u00e1lost"}
+   , { "reservation.allocations","Rozvr\u017een\u00ed:"}
+   , { "reservation.appointments","Sjednan\u00fd:"}
+   , { "reservation.create_without_wizard","Ud\u00e1lost"}
+   , { "reservation.name","N\u00e1zev ud\u00e1losti"}
+   , { "reservation.owner","Rezervace od"}
+   , { "reservation_type","Druh ud\u00e1losti"}
+   , { "reservations","Ud\u00e1losti"}
+   , { "reservations_and_resources","Ud\u00e1losti/Prost\u0159edky"}
+   , { "reservations_from_all_users","Rezervace v\u0161ech u\u017eivatel\u016f"}
+   , { "reset","Reset"}
+   , { "resource","Prost\u0159edek"}
+   , { "resource.owner","Registrovan\u00fd od"}
+   , { "resource_type","Typ prost\u0159edku"}
+   , { "resource_types","Typy prost\u0159edk\u016f"}
+   , { "resources","Prost\u0159edky"}
+   , { "resources_persons","Prost\u0159edky a osoby"}
+   , { "restart_client","Restart klienta"}
+   , { "restart_server","Restart serveru"}
+   , { "root","root"}
+   , { "rows_per_hour","Po\u010det \u0159\u00e1dk\u016f na hodinu"}
+   , { "save","Ulo\u017eit"}
+   , { "saved","Ulo\u017eit"}
+   , { "search","Hledat"}
+   , { "select","Vybrat"}
+   , { "selectable","Ozna\u010diteln\u00fd"}
+   , { "selectable_on","Ozna\u010diteln\u00fd v"}
+   , { "selected","Vybr\u00e1no"}
+   , { "selected_on","Ozna\u010den\u00fd v"}
+   , { "selection","V\u00fdb\u011br"}
+   , { "selection_resource","Ozna\u010den\u00e9 prost\u0159edky"}
+   , { "serie","S\u00e9rie"}
+   , { "server","Server"}
+   , { "show_as","Uka\u017e v\u0161e"}
+   , { "show_conflicts","Zobrazit vyj\u00edmky"}
+   , { "show_resource_selection","Zobrazit prost\u0159edky"}
+   , { "show_tips","Zobrazit vyj\u00edmky v mouse-over"}
+   , { "single_appointment.format","term\u00edn {0}"}
+   , { "source","Zdroj"}
+   , { "start_date","Po\u010d\u00e1te\u010dn\u00ed datum"}
+   , { "start_time","Po\u010d\u00e1te\u010dn\u00ed \u010das"}
+   , { "surname","Jm\u00e9no"}
+   , { "switch_back","P\u0159epni zp\u011bt"}
+   , { "switch_to","P\u0159epni k"}
+   , { "table","tabule"}
+   , { "time_at","v"}
+   , { "time_until","do"}
+   , { "today","Dnes"}
+   , { "total_occurances","celkem z\u00e1znam\u016f"}
+   , { "translation","p\u0159eklad"}
+   , { "translation.format","P\u0159eklady pro \"{0}\":"}
+   , { "type","Typ"}
+   , { "type.boolean","Ano|Ne"}
+   , { "type.date","Datum"}
+   , { "type.int","\u010c\u00edslo"}
+   , { "type.rapla:category","Kategorie"}
+   , { "type.string","Text"}
+   , { "types","Typy"}
+   , { "user","U\u017eivatel"}
+   , { "username","U\u017eivatelsk\u00e9 jm\u00e9no"}
+   , { "users","U\u017eivatel\u00e9"}
+   , { "view","Pohled"}
+   , { "warning","Varov\u00e1n\u00ed!"}
+   , { "warning.conflict","POZOR: Nalezen konflikt !"}
+   , { "warning.duplicated_appointments","POZOR: Stejn\u00e9 ujedn\u00e1n\u00ed existuje ve v\u00edce \u010dasech [{0}]!"}
+   , { "warning.experienced_users_only","Tato nastaven\u00ed by m\u011bla b\u00fdt m\u011bn\u011bna zku\u0161en\u00fdmi u\u017eivateli!"}
+   , { "warning.max-one-eventtype","Pouze 1 typ ud\u00e1losti je povoleno. Nastavte. filtr!"}
+   , { "warning.no_allocatables_selected","Nejsou ozna\u010deny \u017e\u00e1dn\u00e9 prost\u0159edky/osoby!"}
+   , { "warning.no_conflict_permission","Nem\u00e1te pov\u011b\u0159en\u00ed vytvo\u0159it konflikt pro [{0}] !"}
+   , { "warning.no_reserve_permission","Nem\u00e1te pov\u011b\u0159en\u00ed rezervovat/m\u011bnit [{0}] v ujedn\u00e1n\u00ed vaci [{1}]!"}
+   , { "warning.period_shorter_than_week","Nem\u00e1te pov\u011b\u0159en\u00ed rezervovat/m\u011bnit [{0}] v ujedn\u00e1n\u00ed vaci [{1}]! "}
+   , { "warning.readonly_storage","Data jsou zm\u011bn\u011bny pouze v pam\u011bti. Zm\u011bny budou ztraceny pro dal\u0161\u00ed pou\u017eit\u00ed."}
+   , { "warning.reservation.delete","Editovan\u00e1 polo\u017eka bude smaz\u00e1na."}
+   , { "warning.reservation.update","Editovan\u00e1 polo\u017eka bude zm\u011bn\u011bna. Zobrazen\u00e9 informace budou obnoveny."}
+   , { "warning.update","Objekt \"{0}\" kter\u00fd je editov\u00e1n bude zm\u011bn\u011bn mimo okno. Sou\u010dasn\u00e1 editace bude p\u0159eru\u0161ena."}
+   , { "week","T\u00fdden"}
+   , { "week_compact","Cel\u00fd/Prost\u0159edek"}
+   , { "week_timeslot","t\u00fddenn\u00ed program"}
+   , { "weekday","Den v t\u00fddnu"}
+   , { "weekly","T\u00fddn\u011b"}
+   , { "weeks","T\u00fddny"}
+   , { "weekview.print.choose_export","Vyberte zp\u016fsob ukl\u00e1d\u00e1n\u00ed!"}
+   , { "weekview.print.dialog_title","N\u00e1hled p\u0159ed tiskem"}
+   , { "weekview.print.format_button","Vlastnosti tisk\u00e1rny"}
+   , { "weekview.print.postscript","Postscript"}
+   , { "weekview.print.title_textfield","Titul"}
+   , { "width","\u0161\u00ed\u0159ka"}
+   , { "with","s"}
+   , { "x_days_advance","x dn\u00ed p\u0159edem"}
+   , { "year",".."}
+   , { "years",".."}
+   , { "yes","ano"}
+   , { "zero_appointment","Nesjedn\u00e1no"}
+  };
+}
@@ -0,0 +1,451 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class RaplaResources_de extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "abort","Abbrechen"}
+   , { "add","Hinzuf\u00fcgen"}
+   , { "add_to","Hinzuf\u00fcgen zu"}
+   , { "additional-view","zus\u00e4tzliche Informationen"}
+   , { "admin","Administrator"}
+   , { "admin.login","Sie haben Administrationsrechte!"}
+   , { "administration","Administration"}
+   , { "all-day","ganzt\u00e4gig"}
+   , { "all_filtered","Alle gefilterten Objekte."}
+   , { "all_users","alle Benutzer"}
+   , { "allocatable_in_timeframe","Belegbar in folgendem Zeitraum"}
+   , { "allocation_view","Belegungen von {0}"}
+   , { "alteration","\u00c4nderung"}
+   , { "and","und"}
+   , { "apply","\u00dcbernehmen"}
+   , { "appointment","Termin"}
+   , { "appointment.convert","In Einzeltermine umwandeln"}
+   , { "appointment.day_x","am Tag x"}
+   , { "appointment.days","Tag(e)"}
+   , { "appointment.exception.days","Ausgenommene Tage:"}
+   , { "appointment.exception.general","Ausnahmen:"}
+   , { "appointment.exceptions","Ausnahmen"}
+   , { "appointment.format.exceptions","{0} Exceptions:"}
+   , { "appointment.hours","Std."}
+   , { "appointment.minutes","Min."}
+   , { "appointment.next_day","am n\u00e4chsten Tag"}
+   , { "appointment.no_exceptions","Keine Ausnahmen:"}
+   , { "appointment.rule","Regel:"}
+   , { "appointment.same_day","am selben Tag"}
+   , { "appointment_list","Terminliste"}
+   , { "appointments","Termine"}
+   , { "attribute","Attribut"}
+   , { "attribute_color_dialog","Sie brauchen ein Farbattribute f\u00fcr diese Einstellung. Wollen Sie es erzeugen?"}
+   , { "attributes","Attribute"}
+   , { "available","vorhanden"}
+   , { "back","Zur\u00fcck"}
+   , { "bind_with_person","Mit Person verbinden"}
+   , { "calendar","Kalender"}
+   , { "calendar_settings","Kalendareinstellungen"}
+   , { "calendarname","Kalender Namen: "}
+   , { "calendarweek.abbreviation","KW {0,date,w}"}
+   , { "cancel","Abbrechen"}
+   , { "categories","Kategorien"}
+   , { "category","Kategorie"}
+   , { "change","\u00c4ndern"}
+   , { "change.format","{0} \u00e4ndern"}
+   , { "change_appointment","Termin \u00e4ndern"}
+   , { "changes","\u00c4nderungen"}
+   , { "choose_language","W\u00e4hlen Sie Ihre Sprache:"}
+   , { "choose_root_category","Wurzelkategorie ausw\u00e4hlen"}
+   , { "class","Klasse"}
+   , { "classification","Klassifizierung"}
+   , { "close","Schlie\u00dfen"}
+   , { "color","Farbe"}
+   , { "color.automated","Automatische Farbwahl"}
+   , { "complete_time","gesamte Zeit"}
+   , { "confirm","Best\u00e4tigen"}
+   , { "confirm-close.ok","\u00c4nderungen verwerfen"}
+   , { "confirm-close.question","Sie haben die vorgenommenen \u00c4nderungen noch" 
+      +  " nicht gespeichert."}
+   , { "confirm-close.title","\u00c4nderungen noch nicht gespeichert!"}
+   , { "confirm.dialog.question","Diese Informationen speichern?"}
+   , { "confirm.dialog.title","{0} best\u00e4tigen"}
+   , { "conflict.appointment1","Wann?"}
+   , { "conflict.appointment2","Konflikt-Termin"}
+   , { "conflict.reservation1","Welche Veranstaltung?"}
+   , { "conflict.reservation2","Andere Veranstaltung?"}
+   , { "conflict.resource","Was/Wer?"}
+   , { "conflict.user","Besitzer?"}
+   , { "conflictUC","Konflikte ({0})"}
+   , { "conflicts","Konflikte"}
+   , { "connection","Verbindung mit dem Server"}
+   , { "constraints","Einschr\u00e4nkungen"}
+   , { "continue","Weiter"}
+   , { "copy","Kopieren"}
+   , { "copy_appointment.format","Was wollen Sie kopieren?"}
+   , { "copy_to_clipboard","In die Zwischenablage"}
+   , { "create","Erstellen"}
+   , { "created_at","erstellt am"}
+   , { "customized","benutzerdefiniert"}
+   , { "daily","t\u00e4glich"}
+   , { "database","Datenbasis"}
+   , { "date","Datum"}
+   , { "day","Tag"}
+   , { "day1week","Tag 1 der Woche"}
+   , { "day_resource","Tag/Ressource"}
+   , { "day_timeslot","Tagesprogramm"}
+   , { "days","Tage"}
+   , { "daysInWeekview","Tage in der Wochenansicht"}
+   , { "default","Standard"}
+   , { "defaultselection","Standardauswahl"}
+   , { "delete","L\u00f6schen"}
+   , { "delete.abort","NICHT ausf\u00fchren!!"}
+   , { "delete.format","{0} l\u00f6schen"}
+   , { "delete.ok","L\u00f6schen!!"}
+   , { "delete.question","Sie l\u00f6schen die folgenden Objekte: "}
+   , { "delete.title","L\u00f6schen?"}
+   , { "delete_appointment.format","Was wollen Sie l\u00f6schen?"}
+   , { "delete_selection","Auswahl l\u00f6schen"}
+   , { "destination","Ziel"}
+   , { "disabled","ausgeschaltet"}
+   , { "display_exceptions","Zeige Ausnahmen im Kalender"}
+   , { "duration","Zeitdauer"}
+   , { "dynamictype","Typ"}
+   , { "dynamictype.annotation.nameformat","Anzeigeformatierung"}
+   , { "dynamictype.annotation.nameformat.description","Umklammern sie die Schl\u00fcsselnamen mit {} um Attribute einzuf\u00fcgen, Bsp. {name}"}
+   , { "dynamictype.name","Name des Typs"}
+   , { "edit","Bearbeiten"}
+   , { "edit-view","Bearbeitungsansicht"}
+   , { "edit.format","{0} bearbeiten"}
+   , { "edit_advanced","zeige Profi-Einstellungen"}
+   , { "edit_reservation.format","Veranstaltung bearbeiten: {0}"}
+   , { "edit_reservations","eigene bearbeiten"}
+   , { "elementkey","Elementschl\u00fcssel"}
+   , { "email","Email"}
+   , { "end_date","Ende"}
+   , { "end_time","Endzeit"}
+   , { "error","Fehler"}
+   , { "error.cant_delete_your_account","Sie k\u00f6nnen [{0}] nicht l\u00f6schen, weil Sie diesen Account benutzen!"}
+   , { "error.connect","Verbindung mit [{0}] fehlgeschlagen! Vielleicht ist der Rechner nicht erreichbar. Versuchen Sie es zu einen sp\u00e4teren Zeitpunkt erneut!"}
+   , { "error.connection_closed","Keine oder unterbrochene Verbindung zu [{0}]. Bitte starten Sie Rapla erneut."}
+   , { "error.dependencies","F\u00fcr folgende Objekte bestehen noch Abh\u00e4ngigkeiten"}
+   , { "error.invalid_key","\"{0}\" ist kein g\u00fcltiger Schl\u00fcssel!" 
+      +  " Note: Sie k\u00f6nnen nur eine Kombination von max. 50 Buchstaben, Ziffern oder einer der" 
+      +  " Folgende Zeichen {1}. Der Schl\u00fcssel muss mit {2} oder einem Buchstaben beginnen! Beispiel: Anzahl_Pl\u00e4tze" 
+      +  " "}
+   , { "error.login","Fehlerhafter Login!"}
+   , { "error.new_version","Das Objekt {0} konnte nicht ver\u00e4ndert werden. Es wurde k\u00fcrzlich ver\u00e4ndert, denn" 
+      +  " es gibt schon eine neuere Version. "}
+   , { "error.no_appointment","Eine Veranstaltung muss aus mindestens einem Termin bestehen!"}
+   , { "error.no_entry_for","Sie m\u00fcssen einen Namen angeben f\u00fcr: {0}"}
+   , { "error.no_key","Sie m\u00fcssen einen Schl\u00fcssel angeben: {0}"}
+   , { "error.no_name","Sie m\u00fcssen einen Namen angeben!"}
+   , { "error.no_reservation_name","Sie m\u00fcssen einen Titel f\u00fcr Ihre Veranstaltung angeben!"}
+   , { "error.no_rollback","Achtung! W\u00e4hrend der Speicherung in der" 
+      +  " Datenbank ist ein Fehler aufgetreten. Da die verwendete" 
+      +  " Datenbank keine Transaktionen unterst\u00fctzt kann dies zu" 
+      +  " schwerwiegenden Fehlern in der Applikation fhren. Bitte setzten" 
+      +  " Sie sich umgehend mit dem zust\u00e4ndigen Adminstrator in Verbindung!" 
+      +  " "}
+   , { "error.not_unique","Der Name \"{0}\" ist schon" 
+      +  " vergeben. Bitte w\u00e4hlen Sie einen Anderen!"}
+   , { "error.one_type_requiered","Es muss mindestens ein Typ vorhanden sein!"}
+   , { "error.passwords_dont_match","Die Passw\u00f6rter stimmen nicht \u00fcberein!"}
+   , { "error.reference_not_stored","Achtung! Referenziertes Object [{0}] konnte nicht gefunden werden. Es wurde wahrscheinlich k\u00fcrzlich von jemand gel\u00f6scht."}
+   , { "error.rollback","W\u00e4hrend der Speicherung in der Datenbank" 
+      +  " ist ein Fehler aufgetreten. Alle \u00c4nderungen wurden r\u00fcckg\u00e4ngig" 
+      +  " gemacht!"}
+   , { "error.wrong_password","Falsches Passwort!"}
+   , { "every_appointment","allen Terminen"}
+   , { "everytime","immer"}
+   , { "exception","Ausnahme-Fehler"}
+   , { "exchange_allocatables","Belegung \u00e4ndern"}
+   , { "exchange_allocatables_appointment.format","F\u00fcr was wollen Sie die Belegung \u00e4ndern?"}
+   , { "exclamation.format","{0} !"}
+   , { "exclude_days","Tage ausschlie\u00dfen"}
+   , { "exit","Beenden"}
+   , { "exit.abort","Weiter planen >>"}
+   , { "exit.ok","Rapla beenden?"}
+   , { "exit.question","Wollen Sie Rapla beenden?"}
+   , { "exit.title","Rapla beenden?"}
+   , { "expected_columns","Spaltenbreite"}
+   , { "expected_rows","Zeilenanzahl"}
+   , { "export","Export"}
+   , { "file","Datei"}
+   , { "file.enter_name","Name der Ansicht"}
+   , { "file_saved","Datei gespeichert"}
+   , { "filter","Filter"}
+   , { "filter.contains","enth\u00e4lt"}
+   , { "filter.earlier_than","ist fr\u00fcher als"}
+   , { "filter.equals","ist gleich"}
+   , { "filter.greater_or_equals","ist gr\u00f6\u00dfer gleich"}
+   , { "filter.is_greater_than","ist gr\u00f6\u00dfer als"}
+   , { "filter.is_smaller_than","ist kleiner als"}
+   , { "filter.later_than","ist sp\u00e4ter als"}
+   , { "filter.not_equals","ist ungleich"}
+   , { "filter.smaller_or_equals","ist kleiner gleich"}
+   , { "filter.starts","beginnt mit"}
+   , { "filter_allocatable","Ressourcen und Personen"}
+   , { "filter_reservation.all","Von allen Benutzern"}
+   , { "filter_reservation.own","Eigene Veranstaltungen"}
+   , { "filter_restrictions","Anzeige von {0} einschr\u00e4nken"}
+   , { "filtername","Filtername"}
+   , { "fixed_date","festes Datum"}
+   , { "for","f\u00fcr"}
+   , { "forename","Vorname"}
+   , { "format.repeat_from","ab dem {0}"}
+   , { "format.repeat_n_times","wiederhole {0} Mal"}
+   , { "format.repeat_until","bis zum {0}"}
+   , { "goto_date","Datum anzeigen"}
+   , { "group","Gruppe"}
+   , { "groups","Gruppen"}
+   , { "help","Hilfe"}
+   , { "hierarchy","Hierarchie"}
+   , { "holdbackconflicts","Unterdr\u00fccke Konflikte"}
+   , { "hour","Std."}
+   , { "hours","Std."}
+   , { "import","Import"}
+   , { "in_period.format","im Zeitraum {0}"}
+   , { "including_date","mit Datum: {0}"}
+   , { "info","Info"}
+   , { "info.text","" 
+      +  " <strong>Rapla Version @doc.version@</strong>" 
+      +  " <br/>" 
+      +  " (C) Copyright @doc.year@ @doc.copyright@" 
+      +  " <p>Rapla-Webseite: <strong>@doc.homepage@</strong>" 
+      +  " </p>" 
+      +  " <p>Schicken Sie Ihre Anfordungen, Fragen oder Fehlerreports" 
+      +  " an die englischsprachige Entwickler- Mailingliste :<br/>" 
+      +  " <strong>@doc.developer-list@</strong>" 
+      +  " </p>" 
+      +  " <p>Version vom: @doc.buildtime@</p>" 
+      +  " <p>Signatur: {0}</p>" 
+      +  " <p>Java Version {1}</p>" 
+      +  " "}
+   , { "info.title","" 
+      +  " Rapla Version @doc.version@" 
+      +  " "}
+   , { "insert","Einf\u00fcgen"}
+   , { "interval","Zeitraum"}
+   , { "interval.format","Alle {0} {1}"}
+   , { "keep","Beibehalten"}
+   , { "key","Schl\u00fcssel"}
+   , { "language","Sprache"}
+   , { "last_changed","zuletzt ge\u00e4ndert am"}
+   , { "last_changed_by","zuletzt ge\u00e4ndert von"}
+   , { "legend","Legende"}
+   , { "level","Level"}
+   , { "license.text","" 
+      +  " <strong>Rapla</strong> Version @doc.version@ (C) Copyright @doc.year@ @doc.copyright@" 
+      +  " <p>F\u00fcr <strong>Rapla</strong> besteht <a href=\"warranty\">KEINE\u00a0GARANTIE</a>!!" 
+      +  " <strong>Rapla</strong> ist freie Software, die Sie unter bestimmten" 
+      +  " <a href=\"license\">Bedingungen</a> weitergeben d\u00fcrfen.</p>" 
+      +  " "}
+   , { "licensedialog.title","Die GNU-Lizenz"}
+   , { "list.format","{0}: {1}"}
+   , { "load","Laden"}
+   , { "login","Login"}
+   , { "logindialog.title","Rapla Login"}
+   , { "logout","Logout"}
+   , { "main-view","Hauptansicht"}
+   , { "minute","Minute"}
+   , { "minutes","Minute"}
+   , { "month","Monat"}
+   , { "monthly","monatlich"}
+   , { "months","Monate"}
+   , { "move","Verschieben"}
+   , { "move_appointment.format","Was wollen Sie verschieben?"}
+   , { "name","Name"}
+   , { "never","nie"}
+   , { "new","Neu"}
+   , { "new_appointment","neuer Termin"}
+   , { "new_category","Neue Kategorie"}
+   , { "new_password","Neues Passwort"}
+   , { "new_reservation","neue Veranstaltung"}
+   , { "new_reservation.format","Neue Veranstaltung: {0}"}
+   , { "new_rule","neue Regel f\u00fcr"}
+   , { "new_sub-category","Neue Unter-Kategorie"}
+   , { "no","Nein"}
+   , { "no-view","nicht sichtbar"}
+   , { "no_classification","keine Klassifizierung"}
+   , { "no_repeating","Einzeltermin"}
+   , { "not_selected.help","Nicht ausgew\u00e4hlt. <br/>Schalten Sie \"nur eigene Reservierungen\" aus oder \u00e4ndern Sie die Filtereinstellungen. "}
+   , { "not_visible","nicht sichtbar"}
+   , { "not_visible.help","Nicht sichtbar. <br/>Der Zugriff auf die Reservierungsinformation ist eingeschr\u00e4nkt."}
+   , { "nothing_selected","Nichts ausgew\u00e4hlt"}
+   , { "occupation","Besetzung"}
+   , { "ok","OK"}
+   , { "old_password","Altes Passwort"}
+   , { "only_own_reservations","Nur eigene Reservierungen"}
+   , { "open","offen"}
+   , { "options","Einstellungen"}
+   , { "or","oder"}
+   , { "password","Passwort"}
+   , { "password_verification","Passwort Verifikation"}
+   , { "paste","Einf\u00fcgen"}
+   , { "paste_as","Einf\u00fcgen als"}
+   , { "period","Zeitraum"}
+   , { "period.format.end","Ende {0}"}
+   , { "period.format.start","Start {0}"}
+   , { "period.format.week","{0}.Wo {1}"}
+   , { "period.not_set","Zeitraum ausw\u00e4hlen"}
+   , { "period_view","Zeitraum"}
+   , { "periods","Zeitr\u00e4ume"}
+   , { "permission.access","Zugriff"}
+   , { "permission.admin","Administrationsrechte"}
+   , { "permission.allocate","darf belegen"}
+   , { "permission.allocate-conflicts","darf belegen & Konflikte erzeugen"}
+   , { "permission.denied","gesperrt"}
+   , { "permission.read","darf lesen"}
+   , { "permissions","Zugriffsrechte"}
+   , { "person","Person"}
+   , { "person_type","Personentyp"}
+   , { "person_types","Personentypen"}
+   , { "persons","Personen"}
+   , { "preferences","Einstellungen"}
+   , { "print","Drucken"}
+   , { "print_to_file","In Datei drucken"}
+   , { "publish","Ver\u00f6ffentlichen"}
+   , { "question","Frage"}
+   , { "rapla.name","Rapla"}
+   , { "rapla.title","Rapla, der clevere Ressourcen- und Veranstaltungsplaner"}
+   , { "rapla.welcome","Hallo {0}, viel Spa\u00df beim Planen!"}
+   , { "refresh","Aktualisieren"}
+   , { "reload_data","Daten neu laden"}
+   , { "remove","Entfernen"}
+   , { "repeat","wiederhole"}
+   , { "repeating","Wiederholung"}
+   , { "repeating.end_date","bis zum"}
+   , { "repeating.forever","Kein Ende"}
+   , { "repeating.interval.post","."}
+   , { "repeating.interval.pre","Jeden"}
+   , { "repeating.n_times","x Mal"}
+   , { "repeating.start_date","ab dem"}
+   , { "report","Report"}
+   , { "reservation","Veranstaltung"}
+   , { "reservation.allocations","Belegungen:"}
+   , { "reservation.appointments","Termine:"}
+   , { "reservation.create_without_wizard","Veranstaltung"}
+   , { "reservation.name","Veranstaltungsname"}
+   , { "reservation.owner","reserviert von"}
+   , { "reservation_type","Veranstaltungstyp"}
+   , { "reservations","Veranstaltungen"}
+   , { "reservations_and_resources","Veranstaltungen und Ressourcen"}
+   , { "reservations_from_all_users","Veranstaltungen von allen Benutzern"}
+   , { "reset","Reset"}
+   , { "resource","Ressource"}
+   , { "resource.owner","Eingetragen von"}
+   , { "resource_type","Ressourcentyp"}
+   , { "resource_types","Ressourcentypen"}
+   , { "resources","Ressourcen"}
+   , { "resources_persons","Ressourcen und Personen"}
+   , { "restart_client","Rapla neu starten"}
+   , { "restart_options","Starten Sie Rapla/den Rapla Server neu, damit die Ver\u00e4nderungen wirksam werden!"}
+   , { "restart_server","Server neu starten"}
+   , { "root","Wurzel"}
+   , { "rows_per_hour","Zeilen pro Stunden"}
+   , { "save","Speichern"}
+   , { "saved","gespeichert"}
+   , { "search","Suche"}
+   , { "second","Sekunde"}
+   , { "seconds","Sekunden"}
+   , { "select","ausw\u00e4hlen"}
+   , { "selectable","ausw\u00e4hlbar"}
+   , { "selectable_on","ausw\u00e4hlbar an"}
+   , { "selected","ausgew\u00e4hlt"}
+   , { "selected_on","ausgew\u00e4hlt an"}
+   , { "selection","Auswahl"}
+   , { "selection_resource","Ressourcenauswahl"}
+   , { "serie","Serie"}
+   , { "server","Server"}
+   , { "server_status","" 
+      +  "	 Status des Servers" 
+      +  " "}
+   , { "show_as","Anzeigen als"}
+   , { "show_conflicts","Zeige Konflikte"}
+   , { "show_resource_selection","Zeige Ressourcenauswahl"}
+   , { "show_tips","Zeige mouse-over"}
+   , { "single_appointment.format","Termin am {0}"}
+   , { "source","Quelle"}
+   , { "start_date","Beginn"}
+   , { "start_rapla_with_applet","" 
+      +  " Rapla starten (mit Java Plugin)" 
+      +  " "}
+   , { "start_rapla_with_webstart","" 
+      +  " Rapla starten (mit Java Webstart)" 
+      +  " "}
+   , { "start_time","Startzeit"}
+   , { "surname","Nachname"}
+   , { "switch_back","wechsle zur\u00fcck"}
+   , { "switch_to","wechsle zu"}
+   , { "table","Tabelle"}
+   , { "time_at","um"}
+   , { "time_until","bis"}
+   , { "today","Heute"}
+   , { "total_occurances","Gesamtanzahl Termine"}
+   , { "translation","\u00dcbersetzung"}
+   , { "translation.format","\u00dcbersetzungen von \"{0}\":"}
+   , { "type","Typ"}
+   , { "type.boolean","Ja|Nein"}
+   , { "type.date","Datum"}
+   , { "type.int","Ganze Zahl"}
+   , { "type.rapla:category","Kategorie"}
+   , { "type.string","Text"}
+   , { "types","Typen"}
+   , { "user","Benutzer"}
+   , { "username","Benutzername"}
+   , { "users","Benutzer"}
+   , { "view","Anzeige"}
+   , { "warning","Warnung"}
+   , { "warning.conflict","WARNUNG: Konflikte gefunden!"}
+   , { "warning.duplicated_appointments","WARNUNG: Den gleichen Termin gibt es mehrmals [{0}]!"}
+   , { "warning.experienced_users_only","Diese Einstellungen sollten nur von erfahrenen Benutzern ver\u00e4ndert werden!"}
+   , { "warning.max-one-eventtype","Nur 1 Veranstaltungstyp ist erlaubt. Passen Sie den Filter!"}
+   , { "warning.no_allocatables_selected","Sie haben keine Ressourcen/Personen ausgew\u00e4hlt!"}
+   , { "warning.no_conflict_permission","Sie haben keine Zugriffsrechte um Konflikte f\u00fcr [{0}] zu erzeugen!"}
+   , { "warning.no_reserve_permission","Sie haben keine Zugriffsrechte um [{0}] an dem Termin [{1}] zu reservieren/\u00e4ndern!"}
+   , { "warning.period_shorter_than_week","Der Zeitraum is k\u00fcrzer als eine Woche!"}
+   , { "warning.readonly_storage","Ihre \u00c4nderungen wurden nicht gesichert und gehen beim Beenden der Sitzung verloren!"}
+   , { "warning.reservation.delete","Die Veranstaltung die gerade bearbeitet" 
+      +  " wird, wurde gel\u00f6scht."}
+   , { "warning.reservation.update","Die Veranstaltung, die gerade bearbeitet" 
+      +  " wird, wurde ge\u00e4ndert. Das Bearbeitungsfenster wird aktualisiert."}
+   , { "warning.update","Das Objekt \"{0}\", das gerade bearbeitet" 
+      +  " wird, wurde ge\u00e4ndert. Der aktuelle Editiervorgang wird abgebrochen." 
+      +  " "}
+   , { "webinfo.text","" 
+      +  " <h3>Mehr Informationen:</h3>" 
+      +  " <p>" 
+      +  " 	 Java Webstart ist in allen Java Version seit 1.4.0 enthalten." 
+      +  " Um Rapla zu starten brauchen Sie Java 1.5 oder eine neuere Version. Diese k\u00f6nnen Sie herunterladen von" 
+      +  " <a href=\"http://www.oracle.com/technetwork/java/javase/downloads/index.html\">www.oracle.com/technetwork/java</a>." 
+      +  " </p>" 
+      +  " <p>" 
+      +  "	 Besuchen Sie auch <a href=\"http://code.google.com/p/rapla\">Rapla @ Google Project</a> f\u00fcr mehr Informationen \u00fcber Rapla." 
+      +  " </p>" 
+      +  " "}
+   , { "week","Woche"}
+   , { "week_compact","Woche/Ressource"}
+   , { "week_timeslot","Wochenprogramm"}
+   , { "weekday","Wochentag"}
+   , { "weekly","w\u00f6chentlich"}
+   , { "weeks","Wochen"}
+   , { "weekview.print.choose_export","W\u00e4hlen Sie die Speichermethode!"}
+   , { "weekview.print.dialog_title","Druck Voransicht"}
+   , { "weekview.print.format_button","Drucker-Einstellungen"}
+   , { "weekview.print.postscript","Postscript"}
+   , { "weekview.print.title_textfield","\u00dcberschrift"}
+   , { "width","Breite"}
+   , { "with","mit"}
+   , { "x_days_advance","x Tage im Voraus"}
+   , { "year","Jaar"}
+   , { "yearly","j\u00e4hrlich"}
+   , { "years","Jare"}
+   , { "yes","Ja"}
+   , { "zero_appointment","keinem Termin"}
+  };
+}
@@ -0,0 +1,432 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class RaplaResources_es extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "abort","Anular"}
+   , { "add","A\u00f1adir"}
+   , { "add_to","A\u00f1adir a"}
+   , { "additional-view","Informaci\u00f3n complementaria"}
+   , { "admin","Administrador"}
+   , { "admin.login","\u00a1Dispone de derechos de administrador!"}
+   , { "administration","Administraci\u00f3n"}
+   , { "all-day","24h"}
+   , { "all_filtered","Todos los objetos filtrados."}
+   , { "all_users","Todos los usuarios"}
+   , { "allocatable_in_timeframe","Puede ser asignado en el periodo"}
+   , { "allocation_view","Asignaci\u00f3n de {0}"}
+   , { "alteration","Modificaci\u00f3n"}
+   , { "and","y"}
+   , { "apply","Aplicar"}
+   , { "appointment","Reserva"}
+   , { "appointment.convert","Convertir a los eventos individuales"}
+   , { "appointment.day_x","el d\u00eda x"}
+   , { "appointment.days","D\u00eda(s)"}
+   , { "appointment.exception.days","D\u00edas de excepciones"}
+   , { "appointment.exception.general","Excepciones :"}
+   , { "appointment.exceptions","Excepciones"}
+   , { "appointment.format.exceptions","{0} Excepciones :"}
+   , { "appointment.hours","Hora(s)"}
+   , { "appointment.minutes","min."}
+   , { "appointment.next_day","d\u00eda siguiente"}
+   , { "appointment.no_exceptions","Sin excepciones"}
+   , { "appointment.rule","Regla :"}
+   , { "appointment.same_day","mismo d\u00eda"}
+   , { "appointment_list","Lista de citas"}
+   , { "appointments","Citas"}
+   , { "attribute","Atributo"}
+   , { "attributes","Atributos"}
+   , { "available","Disponible"}
+   , { "back","Volver"}
+   , { "bind_with_person","connectar con persona"}
+   , { "calendar","Calendario"}
+   , { "calendar_settings","la configuraci\u00f3n del calendario"}
+   , { "calendarname","Calendario nombre: "}
+   , { "calendarweek.abbreviation","se {0,date,w}"}
+   , { "cancel","Cancelar"}
+   , { "categories","Categor\u00edas"}
+   , { "category","Categor\u00eda"}
+   , { "change","Modificar"}
+   , { "change.format","Modificar {0}"}
+   , { "change_appointment","Modificar la reserva"}
+   , { "changes","Modificaciones"}
+   , { "choose_language","Escoja su idioma :"}
+   , { "choose_root_category","Seleccionar la categor\u00eda ra\u00edz"}
+   , { "class","Clase"}
+   , { "classification","Clasificaci\u00f3n"}
+   , { "close","Cerrar"}
+   , { "color","Color"}
+   , { "complete_time","Periodo total"}
+   , { "confirm","Confirmar"}
+   , { "confirm-close.ok","Anular las modificaciones"}
+   , { "confirm-close.question","\u00a1No ha guardado las modificaciones!"}
+   , { "confirm-close.title","\u00a1Modificaciones no guardadas!"}
+   , { "confirm.dialog.question","\u00bfGuardar esta informaci\u00f3n?"}
+   , { "confirm.dialog.title","Confirmar {0}"}
+   , { "conflict.appointment1","\u00bfCu\u00e1ndo?"}
+   , { "conflict.appointment2","Conflicto de asignaci\u00f3n"}
+   , { "conflict.reservation1","\u00bfQu\u00e9 evento?"}
+   , { "conflict.reservation2","\u00bfOtro evento?"}
+   , { "conflict.resource","\u00bfQu\u00e9/Qui\u00e9n?"}
+   , { "conflict.user","\u00bfCon qui\u00e9n?"}
+   , { "conflictUC","Conflictos ({0})"}
+   , { "conflicts","Conflictos"}
+   , { "connection","conexi\u00f3n a servidor"}
+   , { "constraints","Restricciones"}
+   , { "continue","Continuar"}
+   , { "copy","Copiar"}
+   , { "copy_appointment.format","\u00bfQu\u00e9 es lo que desea copiar?"}
+   , { "copy_to_clipboard","Copiar al portapapeles"}
+   , { "create","Crear"}
+   , { "created_at","Creado el"}
+   , { "customized","Espec\u00edfico"}
+   , { "daily","A diario"}
+   , { "database","Base de datos"}
+   , { "date","Fecha"}
+   , { "day","D\u00eda"}
+   , { "day1week","D\u00eda 1 de la semana"}
+   , { "day_resource","D\u00eda/Recurso"}
+   , { "day_timeslot","D\u00eda de programa de"}
+   , { "days","d\u00edas"}
+   , { "daysInWeekview","d\u00edas en vista de la semana"}
+   , { "default","Est\u00e1ndar"}
+   , { "defaultselection","Selecci\u00f3n por defecto"}
+   , { "delete","Borrar"}
+   , { "delete.abort","\u00a1No, no lo hagas!"}
+   , { "delete.format","Eliminar {0}"}
+   , { "delete.ok","S\u00ed, borrar"}
+   , { "delete.title","\u00bfBorrar?"}
+   , { "delete_appointment.format","\u00bfQu\u00e9 es lo que desea eliminar?"}
+   , { "delete_selection","Borrar la selecci\u00f3n"}
+   , { "destination","Destino"}
+   , { "display_exceptions","Mostrar las excepciones en el calendario"}
+   , { "duration","Duraci\u00f3n"}
+   , { "dynamictype","Tipo"}
+   , { "dynamictype.annotation.nameformat","Formato de nombre visualizado"}
+   , { "dynamictype.annotation.nameformat.description","Meta la clave entre {} para insertar los atributos, por ejemplo {miClave}"}
+   , { "dynamictype.name","Nombre de tipo"}
+   , { "edit","Editar"}
+   , { "edit-view","Vista de modificaci\u00f3n"}
+   , { "edit.format","Modificar {0}"}
+   , { "edit_advanced","Mostrar par\u00e1metros para usuarios experimentados"}
+   , { "edit_reservation.format","Modificar el evento : {0}"}
+   , { "edit_reservations","modificar las propias"}
+   , { "elementkey","Clave de elemento"}
+   , { "email","Email"}
+   , { "end_date","Fin"}
+   , { "end_time","Hora final"}
+   , { "error","Error"}
+   , { "error.cant_delete_your_account","\u00a1No puede borrar [{0}], porque est\u00e1 usando esa cuenta en estos momentos!"}
+   , { "error.connect","\u00a1La conexi\u00f3n a [{0}] ha fallado! El servidor puede no estar disponible. Int\u00e9ntelo m\u00e1s tarde."}
+   , { "error.connection_closed","Sin conexi\u00f3n a [{0}]. Por favor, reinicie Rapla."}
+   , { "error.dependencies","Existen dependencias para estos objetos"}
+   , { "error.invalid_key","\u00a1\"{0}\" no es una clave v\u00e1lida!" 
+      +  " Nota : S\u00f3lo se puede utilizar una combinaci\u00f3n de max. 50 letras, d\u00edgitos o uno de los" 
+      +  " 		siguientes caracteres {1}. La clave debe comenzar con {2} o una carta! Ejemplo: N\u00famero_de_plazas" 
+      +  " 	"}
+   , { "error.login","\u00a1Error al acceder al sistema!"}
+   , { "error.new_version","El objeto {0} no ha podido ser modificado. Ha sido modificado recientemente por otra persona." 
+      +  " Existe en memoria una versi\u00f3n m\u00e1s reciente del mismo. "}
+   , { "error.no_appointment","\u00a1Un evento ha de tener al menos una cita!"}
+   , { "error.no_entry_for","Debe dar un nombre para : {0}"}
+   , { "error.no_key","Debe dar una clave para : {0}"}
+   , { "error.no_name","\u00a1Debe dar un nombre!"}
+   , { "error.no_reservation_name","\u00a1Debe introducir un t\u00edtulo para su evento!"}
+   , { "error.no_rollback","\u00a1Atenci\u00f3n! La actualizaci\u00f3n de la base de datos ha fallado. Puesto" 
+      +  " que su base de datos no soporta transacciones, esto puedo ocasionar errores serios. Por favor, contacte" 
+      +  " con su administrador inmediatamente!"}
+   , { "error.not_unique","\u00a1El nombre \"{0}\" ya est\u00e1 en uso. Por favor, escoja un nombre diferente!"}
+   , { "error.one_type_requiered","\u00a1Al menos un tipo debe estar disponible!"}
+   , { "error.passwords_dont_match","\u00a1Las palabras de paso no coinciden!"}
+   , { "error.reference_not_stored","\u00a1Atenci\u00f3n! No se pudo encontrar el objeto referenciado [{0}]. Probablemente se elimin\u00f3 recientemente."}
+   , { "error.rollback","La actualizaci\u00f3n de la base de datos ha fallado." 
+      +  " Se han cancelado todas las modificaciones"}
+   , { "error.wrong_password","\u00a1Palabra de paso incorrecta!"}
+   , { "every_appointment","Todas las citas"}
+   , { "everytime","Siempre"}
+   , { "exception","Excepci\u00f3n"}
+   , { "exchange_allocatables","Modificar la asignaci\u00f3n"}
+   , { "exclamation.format","{0} !"}
+   , { "exit","Salir"}
+   , { "exit.abort","Continuar Rapla >>"}
+   , { "exit.ok","\u00bfAbandonar Rapla?"}
+   , { "exit.question","\u00bfDesea realmente abandonar Rapla?"}
+   , { "exit.title","\u00bfAbandonar Rapla?"}
+   , { "expected_columns","N\u00famero de columnas"}
+   , { "expected_rows","N\u00famero de l\u00edneas"}
+   , { "export","Exportar"}
+   , { "file","Fichero"}
+   , { "file.enter_name","Nombre de la vista"}
+   , { "file_saved","Fichero guardado"}
+   , { "filter","Filtro"}
+   , { "filter.contains","contiene"}
+   , { "filter.earlier_than","es anterior a las"}
+   , { "filter.equals","es igual a"}
+   , { "filter.greater_or_equals","es mayor o igual que"}
+   , { "filter.is_greater_than","es mayor que"}
+   , { "filter.is_smaller_than","es menor que"}
+   , { "filter.later_than","es posterior a las"}
+   , { "filter.not_equals","es desigual"}
+   , { "filter.smaller_or_equals","es menor o igual que"}
+   , { "filter.starts","comienza con"}
+   , { "filter_allocatable","Recursos y personas"}
+   , { "filter_reservation.all","De todos los usuarios"}
+   , { "filter_reservation.own","Sus propios eventos"}
+   , { "filter_restrictions","Limitar la vista de {0}"}
+   , { "filtername","Nombre del filtro"}
+   , { "fixed_date","Fecha fija"}
+   , { "for","para"}
+   , { "forename","Nombre"}
+   , { "format.repeat_from","a partir de {0}"}
+   , { "format.repeat_n_times","repite {0} veces"}
+   , { "format.repeat_until","hasta {0}"}
+   , { "goto_date","Ir a la fecha"}
+   , { "group","Grupo"}
+   , { "groups","Grupos"}
+   , { "help","Ayuda"}
+   , { "hierarchy","Jerarqu\u00eda"}
+   , { "holdbackconflicts","No tener en cuenta los conflictos"}
+   , { "hour","Hora"}
+   , { "hours","Horas"}
+   , { "import","Importar"}
+   , { "in_period.format","dentro del periodo {0}"}
+   , { "including_date","incluyendo la fecha: {0} "}
+   , { "info","Info"}
+   , { "info.text","" 
+      +  " <strong>Rapla Version @doc.version@</strong>" 
+      +  " <br/>" 
+      +  " (C) Copyright @doc.year@ @doc.copyright@" 
+      +  " <p>P\u00e1gina de Rapla: <strong>@doc.homepage@</strong>" 
+      +  " </p>" 
+      +  " <p>Env\u00eda tus propuestas de cambios, preguntas, o errores encontrados" 
+      +  " a la lista de correo de nuestros desarrolladores (Ingl\u00e9s de habla):<br/>" 
+      +  " <strong>@doc.developer-list@</strong>" 
+      +  " </p>" 
+      +  " <p>Version : @doc.buildtime@</p>" 
+      +  " <p>Firma: {0}</p>" 
+      +  " <p>Version Java {1}</p>" 
+      +  " "}
+   , { "info.title","" 
+      +  " Rapla Version @doc.version@" 
+      +  " "}
+   , { "insert","Insertar"}
+   , { "interval","Intervalo"}
+   , { "interval.format","Cada {0} {1}"}
+   , { "keep","Conservar"}
+   , { "key","Clave"}
+   , { "language","Idioma"}
+   , { "last_changed","\u00daltima modificaci\u00f3n el"}
+   , { "last_changed_by","\u00daltima modificaci\u00f3n"}
+   , { "legend","Leyenda"}
+   , { "level","Nivel"}
+   , { "license.text","" 
+      +  " <strong>Rapla</strong> Version @doc.version@ (C) Copyright @doc.year@ @doc.copyright@" 
+      +  " <p><strong>\u00a1\u00a1Rapla</strong> viene <a href=\"warranty\">SIN\u00a0GARANT\u00cdA</a>!!" 
+      +  " <strong>Rapla</strong> es software libre, as\u00ed que puede usarlo y distribuirlo bajo las siguientes <a href=\"license\">condiciones</a>.</p>" 
+      +  " "}
+   , { "licensedialog.title","La licencia GNU"}
+   , { "list.format","{0} : {1}"}
+   , { "load","Cargar"}
+   , { "login","Acceso"}
+   , { "logindialog.title","Acceso a Rapla"}
+   , { "logout","Salir"}
+   , { "main-view","Vista principal"}
+   , { "minute","Hora"}
+   , { "minutes","Horas"}
+   , { "month","Mes"}
+   , { "monthly","mensual"}
+   , { "months","Meses"}
+   , { "move","Mover"}
+   , { "move_appointment.format","\u00bfQu\u00e9 es lo que desea desplazar?"}
+   , { "name","Nombre"}
+   , { "never","Nunca"}
+   , { "new","Nuevo"}
+   , { "new_appointment","Nueva cita"}
+   , { "new_category","Nueva categor\u00eda"}
+   , { "new_password","Nueva palabra de paso"}
+   , { "new_reservation","nuevo evento"}
+   , { "new_reservation.format","Nuevo evento : {0}"}
+   , { "new_rule","Nueva regla para"}
+   , { "new_sub-category","Nueva sub-categor\u00eda"}
+   , { "no","No"}
+   , { "no-view","Invisible"}
+   , { "no_classification","Sin clasificaci\u00f3n"}
+   , { "no_repeating","\u00danica"}
+   , { "not_selected.help","Actualmente no seleccionado. <br/>Desmarca \"S\u00f3lo mis reservas\" o cambia las configuraciones de los filtros."}
+   , { "not_visible","no visible"}
+   , { "not_visible.help","No visible. <br/>El acceso a la informaci\u00f3n de la reserva est\u00e1 restringido."}
+   , { "nothing_selected","Nada seleccionado"}
+   , { "occupation","Ocupaci\u00f3n"}
+   , { "ok","OK"}
+   , { "old_password","Antig\u00fca palabra de paso"}
+   , { "only_own_reservations","S\u00f3lo mis reservas"}
+   , { "open","Abrir"}
+   , { "options","Opciones"}
+   , { "or","o"}
+   , { "password","Palabra de paso"}
+   , { "password_verification","Verificaci\u00f3n de palabra de paso"}
+   , { "paste","Pegar"}
+   , { "paste_as","Pegar como"}
+   , { "period","Periodo"}
+   , { "period.format.end","Fin de {0}"}
+   , { "period.format.start","Inicio de {0}"}
+   , { "period.format.week","{0}.Sem. {1}"}
+   , { "period.not_set","Seleccionar el periodo"}
+   , { "period_view","Periodo"}
+   , { "periods","Periodos"}
+   , { "permission.access","Acceso"}
+   , { "permission.admin","Derechos de administrador"}
+   , { "permission.allocate","Puede asignar"}
+   , { "permission.allocate-conflicts","Puede asignar y crear conflictos"}
+   , { "permission.denied","Denegado"}
+   , { "permission.read","Puede leer"}
+   , { "permissions","Permisos"}
+   , { "person","Persona"}
+   , { "person_type","Tipo de persona"}
+   , { "person_types","Tipos de personas"}
+   , { "persons","Personas"}
+   , { "preferences","Preferencias"}
+   , { "print","Imprimir"}
+   , { "print_to_file","Imprimir en Fichero"}
+   , { "publish","Publicar"}
+   , { "question","Pregunta"}
+   , { "rapla.name","Rapla"}
+   , { "rapla.title","Rapla, el planificador inteligente"}
+   , { "rapla.welcome","Hola {0}, \u00a1disfruta planificando!"}
+   , { "refresh","Actualizar"}
+   , { "reload_data","Recargar los datos"}
+   , { "remove","Eliminar"}
+   , { "repeat","repite"}
+   , { "repeating","Repetir"}
+   , { "repeating.end_date","hasta"}
+   , { "repeating.forever","indefinido"}
+   , { "repeating.interval.post","."}
+   , { "repeating.interval.pre","Cada"}
+   , { "repeating.n_times","x veces"}
+   , { "repeating.start_date","a partir de"}
+   , { "report","Informe"}
+   , { "reservation","Evento"}
+   , { "reservation.allocations","Asignaciones : "}
+   , { "reservation.appointments","Citas: "}
+   , { "reservation.create_without_wizard","Evento"}
+   , { "reservation.name","Nombre del evento"}
+   , { "reservation.owner","Reservado por"}
+   , { "reservation_type","Tipo de evento"}
+   , { "reservations","Eventos"}
+   , { "reservations_and_resources","Eventos/Recursos"}
+   , { "reservations_from_all_users","Eventos de todos los usuarios"}
+   , { "reset","Restablecer"}
+   , { "resource","Recurso"}
+   , { "resource.owner","Registrado por"}
+   , { "resource_type","Tipo de recurso"}
+   , { "resource_types","Tipos de recursos"}
+   , { "resources","Recursos"}
+   , { "resources_persons","Recursos y personas"}
+   , { "restart_client","Reiniciar el cliente Rapla"}
+   , { "restart_server","Reiniciar el servidor"}
+   , { "root","Ra\u00edz"}
+   , { "rows_per_hour","L\u00edneas por hora"}
+   , { "save","Guardar"}
+   , { "saved","guardado"}
+   , { "search","Buscar"}
+   , { "second","secundo"}
+   , { "seconds","secundos"}
+   , { "select","Seleccionar"}
+   , { "selectable","Seleccionable"}
+   , { "selectable_on","Seleccionable en"}
+   , { "selected","Seleccionado"}
+   , { "selected_on","Seleccionado en"}
+   , { "selection","Selecci\u00f3n"}
+   , { "selection_resource","Selecci\u00f3n de recursos"}
+   , { "serie","Serie"}
+   , { "server","Servidor"}
+   , { "show_as","Mostrar como"}
+   , { "show_conflicts","Mostrar las conflictos"}
+   , { "show_resource_selection","Mostrar los recursos"}
+   , { "show_tips","Mostrar las tips mouse-over"}
+   , { "single_appointment.format","reserva del {0}"}
+   , { "source","Fuente"}
+   , { "start_date","Inicio"}
+   , { "start_rapla_with_applet","" 
+      +  " iniciar Rapla (con Java-Plugin)" 
+      +  " "}
+   , { "start_rapla_with_webstart","" 
+      +  "	 iniciar Rapla (con java webstart)" 
+      +  " "}
+   , { "start_time","Hora de inicio"}
+   , { "surname","Apellidos"}
+   , { "switch_back","Volver a ser administrador"}
+   , { "switch_to","Cambiar a"}
+   , { "table","Tabla"}
+   , { "time_at","a las"}
+   , { "time_until","hasta"}
+   , { "today","Hoy"}
+   , { "total_occurances","N\u00famero de apariciones"}
+   , { "translation","Traducci\u00f3n"}
+   , { "translation.format","Traducci\u00f3n de \"{0}\":"}
+   , { "type","Tipo"}
+   , { "type.boolean","S\u00ed|No"}
+   , { "type.date","Fecha"}
+   , { "type.int","N\u00famero entero"}
+   , { "type.rapla:category","Categor\u00eda"}
+   , { "type.string","Texto"}
+   , { "types","Tipos"}
+   , { "user","Usuario"}
+   , { "username","Nombre de usuario"}
+   , { "users","Usuarios"}
+   , { "view","Ver"}
+   , { "warning","Atenci\u00f3n"}
+   , { "warning.conflict","\u00a1ATENCI\u00d3N : Se han encontrado conflictos!"}
+   , { "warning.duplicated_appointments","\u00a1ATENCI\u00d3N : La misma reserva existe en m\u00faltiples ocasiones [{0}]!"}
+   , { "warning.experienced_users_only","\u00a1Estos par\u00e1metros est\u00e1n reservados s\u00f3lo para usuarios experimentados!"}
+   , { "warning.max-one-eventtype","S\u00f3lo un tipo de evento se permite. Ajuste el filtro!"}
+   , { "warning.no_allocatables_selected","\u00a1No ha seleccionado ning\u00fan(a) recurso/persona"}
+   , { "warning.no_conflict_permission","\u00a1No tiene permisos suficientes para crear conflictos para [{0}]!"}
+   , { "warning.no_reserve_permission","\u00a1No tiene permisos suficientes para efectuar/modificar [{0}] la reserva [{1}]!"}
+   , { "warning.period_shorter_than_week","\u00a1El periodo es inferior a una semana!"}
+   , { "warning.readonly_storage","\u00a1Los datos se han modificado s\u00f3lo en memoria. Las modificaciones se perder\u00e1n para las sesiones siguientes!"}
+   , { "warning.reservation.delete","El evento que est\u00e1 editando ha sido eliminado"}
+   , { "warning.reservation.update","El evento que est\u00e1 editando ha sido modificado." 
+      +  " La informaci\u00f3n que aparece en esta ventana ser\u00e1 actualizada."}
+   , { "warning.update","El objeto \"{0}\" que est\u00e1 editando ha sido modificado fuera de la ventana" 
+      +  " La edici\u00f3n actual va a ser interrumpida."}
+   , { "webinfo.text","" 
+      +  " <h3>M\u00e1s informaci\u00f3n:</h3>" 
+      +  " <p>" 
+      +  " Java-Webstart se incluye en todas las versiones de Java desde la 1.4.0." 
+      +  " Para ejecutar Rapla, se necesita Java 1.5 o superior. Se lo puede descargar de" 
+      +  " <a href=\"http://www.oracle.com/technetwork/java/javase/downloads/index.html\">www.oracle.com/technetwork/java</a>." 
+      +  " </p>" 
+      +  " <p>" 
+      +  " Para m\u00e1s informaci\u00f3n, visite <a href=\"http://code.google.com/p/rapla\">Rapla @ Google Project</a>." 
+      +  " </p>" 
+      +  " "}
+   , { "week","Semana"}
+   , { "week_compact","Semana/Recurso"}
+   , { "week_timeslot","Semana del programa"}
+   , { "weekday","D\u00eda de la semana"}
+   , { "weekly","Semanal"}
+   , { "weeks","semanas"}
+   , { "weekview.print.choose_export","Escojer el m\u00e9todo de almacenamiento"}
+   , { "weekview.print.dialog_title","Imprimir la previsualizaci\u00f3n"}
+   , { "weekview.print.format_button","Preferencias de impresi\u00f3n"}
+   , { "weekview.print.postscript","Postscript"}
+   , { "weekview.print.title_textfield","T\u00edtulo"}
+   , { "width","Ancho"}
+   , { "with","con"}
+   , { "x_days_advance","x d\u00edas de antelaci\u00f3n"}
+   , { "year",".."}
+   , { "yearly","anual"}
+   , { "years",".."}
+   , { "yes","S\u00ed"}
+   , { "zero_appointment","Ninguna cita"}
+  };
+}
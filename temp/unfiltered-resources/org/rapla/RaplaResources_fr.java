@@ -0,0 +1,435 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class RaplaResources_fr extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "abort","Annuler"}
+   , { "add","Ins\u00e9rer"}
+   , { "add_to","Ins\u00e9rer \u00e0"}
+   , { "additional-view","Informations compl\u00e9mentaires"}
+   , { "admin","Administrateur"}
+   , { "admin.login","Vous disposez des droits d'administrateur !"}
+   , { "administration","Administration"}
+   , { "all-day","24h"}
+   , { "all_filtered","Tous les objets filtr\u00e9s."}
+   , { "all_users","Tous les utilisateurs"}
+   , { "allocatable_in_timeframe","Peut \u00eatre allou\u00e9 pendant la p\u00e9riode"}
+   , { "allocation_view","Allocation de {0}"}
+   , { "alteration","Modification"}
+   , { "and","et"}
+   , { "apply","Valider"}
+   , { "appointment","R\u00e9servation"}
+   , { "appointment.convert","Convertir des \u00e9v\u00e9nements uniques"}
+   , { "appointment.day_x","le jour x"}
+   , { "appointment.days","Jour(s)"}
+   , { "appointment.exception.days","Jours d'exceptions"}
+   , { "appointment.exception.general","Exceptions :"}
+   , { "appointment.exceptions","Exceptions"}
+   , { "appointment.format.exceptions","{0} Exceptions :"}
+   , { "appointment.hours","Heure(s)"}
+   , { "appointment.minutes","min."}
+   , { "appointment.next_day","jour suivant"}
+   , { "appointment.no_exceptions","Sans exception"}
+   , { "appointment.rule","R\u00e8gle :"}
+   , { "appointment.same_day","m\u00eame jour"}
+   , { "appointment_list","Liste des r\u00e9servations"}
+   , { "appointments","R\u00e9servations"}
+   , { "attribute","Attribut"}
+   , { "attributes","Attributs"}
+   , { "available","Disponible"}
+   , { "back","Retour"}
+   , { "bind_with_person","connecter personne"}
+   , { "calendar","Calendrier"}
+   , { "calendar_settings","L'Affichage"}
+   , { "calendarname","Nom du calendrier: "}
+   , { "calendarweek.abbreviation","S{0,date,w}"}
+   , { "cancel","Annuler"}
+   , { "categories","Cat\u00e9gories"}
+   , { "category","Cat\u00e9gorie"}
+   , { "change","Modifier"}
+   , { "change.format","Modifier {0}"}
+   , { "change_appointment","Modifier la r\u00e9servation"}
+   , { "changes","Modifications"}
+   , { "choose_language","Choisissez votre langue :"}
+   , { "choose_root_category","S\u00e9lectionner la cat\u00e9gorie racine"}
+   , { "class","Classe"}
+   , { "classification","Classification"}
+   , { "close","Fermer"}
+   , { "color","Couleur"}
+   , { "complete_time","P\u00e9riode totale"}
+   , { "confirm","Confirmer"}
+   , { "confirm-close.ok","Annuler les modifications"}
+   , { "confirm-close.question","Vous n'avez pas sauvegard\u00e9 les modifications!"}
+   , { "confirm-close.title","Modifications non sauvegard\u00e9es !"}
+   , { "confirm.dialog.question","Sauvegarder cette information ?"}
+   , { "confirm.dialog.title","Confirmer {0}"}
+   , { "conflict.appointment1","Quand ?"}
+   , { "conflict.appointment2","Conflit d'allocation"}
+   , { "conflict.reservation1","Quel \u00e9v\u00e8nement ?"}
+   , { "conflict.reservation2","Autre \u00e9v\u00e8nement ?"}
+   , { "conflict.resource","Quoi/Qui ?"}
+   , { "conflict.user","Avec qui ?"}
+   , { "conflictUC","Conflits ({0})"}
+   , { "conflicts","Conflits"}
+   , { "connection","connexion au serveur"}
+   , { "constraints","Contraintes"}
+   , { "continue","Suivant"}
+   , { "copy","Copier"}
+   , { "copy_appointment.format","Que voulez-vous copier?"}
+   , { "copy_to_clipboard","Copier vers le presse papier"}
+   , { "create","Fermer"}
+   , { "created_at","Cr\u00e9\u00e9 le"}
+   , { "customized","Sp\u00e9cifique"}
+   , { "daily","Quotidien"}
+   , { "database","Base de donn\u00e9es"}
+   , { "date","Date"}
+   , { "day","Jour"}
+   , { "day1week","Jour 1 de la semaine"}
+   , { "day_resource","Jour/Resource"}
+   , { "day_timeslot","Programme de la journ\u00e9e"}
+   , { "days","Jours"}
+   , { "daysInWeekview","Jours dans la vue semaine"}
+   , { "default","Standard"}
+   , { "defaultselection","S\u00e9lection par d\u00e9faut"}
+   , { "delete","Effacer"}
+   , { "delete.abort","Annuler la commande"}
+   , { "delete.format","Effacer {0}"}
+   , { "delete.ok","Oui, effacer"}
+   , { "delete.question","Vous allez effacer les objets suivants :"}
+   , { "delete.title","Effacer"}
+   , { "delete_appointment.format","Que voulez-vous supprimer?"}
+   , { "delete_selection","Effacer la s\u00e9lection"}
+   , { "destination","destination"}
+   , { "display_exceptions","Afficher les exceptions dans le calendrier"}
+   , { "duration","Dur\u00e9e"}
+   , { "dynamictype","Type"}
+   , { "dynamictype.annotation.nameformat","Mettre en forme l'affichage"}
+   , { "dynamictype.annotation.nameformat.description","Mettez la cl\u00e9 entre {} pour ins\u00e9rer des attributs, par ex. {macl\u00e9}"}
+   , { "dynamictype.name","Nom du type"}
+   , { "edit","Modifier"}
+   , { "edit-view","\u00c9cran de modification"}
+   , { "edit.format","Modifier {0}"}
+   , { "edit_advanced","Affiche param\u00e9trage pour utilisateurs exp\u00e9riment\u00e9s"}
+   , { "edit_reservation.format","Modifier l\"\u00e9v\u00e8nement: {0}"}
+   , { "edit_reservations","modifier les siennes"}
+   , { "elementkey","Cl\u00e9 d'\u00e9l\u00e9ment"}
+   , { "email","Email"}
+   , { "end_date","Fin"}
+   , { "end_time","Heure de fin"}
+   , { "error","Erreur"}
+   , { "error.cant_delete_your_account","Vous ne pouvez effacer [{0}], parce que vous utilisez actuellement ce compte !"}
+   , { "error.connect","La connexion vers [{0}] a \u00e9chou\u00e9 ! Le serveur n''est peut \u00eatre pas disponible. Essayez plus tard."}
+   , { "error.connection_closed","Pas ou plus de connexion vers [{0}]. Red\u00e9marrer Rapla."}
+   , { "error.dependencies","Des d\u00e9pendences existent pour ces objets"}
+   , { "error.invalid_key","\"{0}\" n''est pas une cl\u00e9 valide!" 
+      +  " Note: Vous ne pouvez utiliser une combinaison de max. 50 lettres, chiffres ou l'une des" 
+      +  " caract\u00e8res suivants {1}. La cl\u00e9 doit commencer par {2} ou une lettre! Exemple: Nombre_de_places" 
+      +  " "}
+   , { "error.login","Erreur dans le Login !"}
+   , { "error.new_version","L''objet {0} n''a pu \u00eatre modifi\u00e9. Il \u00e9tait en cours de modification par quelqu''un d''autre." 
+      +  " Une autre version existe. "}
+   , { "error.no_appointment","Un \u00e9v\u00e8nement est constitu\u00e9 d'au moins une r\u00e9servation !"}
+   , { "error.no_entry_for","Vous devez donner un nom pour : {0}"}
+   , { "error.no_key","Vous devez donner une cl\u00e9 pour : {0}"}
+   , { "error.no_name","Vous devez donner un nom !"}
+   , { "error.no_reservation_name","Vous devez donner un titre \u00e0 cet \u00e9v\u00e8nement !"}
+   , { "error.no_rollback","Attention ! Une erreur est survenue pendant l'actualisation de la base de donn\u00e9es. Votre base de donn\u00e9es refuse cette transaction. Pr\u00e9venez imm\u00e9diatement votre administrateur !"}
+   , { "error.not_unique","Le nom \"{0}\" est d\u00e9j\u00e0 existant. Choisissez en un autre !"}
+   , { "error.one_type_requiered","Au moins un type doit \u00eatre disponible !"}
+   , { "error.passwords_dont_match","Les mots de passe ne sont pas concordants !"}
+   , { "error.reference_not_stored","Attention! L''objet r\u00e9f\u00e9renc\u00e9 [{0}] n''a pu \u00eatre trouv\u00e9. A probablement \u00e9t\u00e9 effac\u00e9 r\u00e9cemment."}
+   , { "error.rollback","L'actualisation de la base de donn\u00e9es a \u00e9chou\u00e9." 
+      +  " Toutes les modifications sont perdues"}
+   , { "error.wrong_password","Mauvais mot de passe !"}
+   , { "every_appointment","Toutes les r\u00e9servations"}
+   , { "everytime","Toujours"}
+   , { "exception","Exception"}
+   , { "exchange_allocatables","Modifier l\"allocation"}
+   , { "exclamation.format","{0} !"}
+   , { "exclude_days","exclure les jours"}
+   , { "exit","Quitter"}
+   , { "exit.abort","Continuer Rapla >>"}
+   , { "exit.ok","Quitter Rapla ?"}
+   , { "exit.question","Souhaitez vous r\u00e9ellement quitter Rapla ?"}
+   , { "exit.title","Quitter Rapla ?"}
+   , { "expected_columns","Nombre de colonnes"}
+   , { "expected_rows","Nombre de lignes"}
+   , { "export","Export"}
+   , { "file","Fichier"}
+   , { "file.enter_name","Nom de la vue"}
+   , { "file_saved","Fichier sauvegard\u00e9"}
+   , { "filter","Filtre"}
+   , { "filter.contains","contient"}
+   , { "filter.earlier_than","est avant le"}
+   , { "filter.equals","est \u00e9gal \u00e0"}
+   , { "filter.greater_or_equals","est sup\u00e9rieur ou \u00e9gal \u00e0"}
+   , { "filter.is_greater_than","est sup\u00e9rieur \u00e0"}
+   , { "filter.is_smaller_than","est plus petit que"}
+   , { "filter.later_than","est apr\u00e8s le"}
+   , { "filter.not_equals","est in\u00e9gaux"}
+   , { "filter.smaller_or_equals","est plus petit ou \u00e9gal que"}
+   , { "filter.starts","commence par"}
+   , { "filter_allocatable","Ressources et personnes"}
+   , { "filter_reservation.all","De tous les utilisateurs"}
+   , { "filter_reservation.own","Vos propres \u00e9v\u00e8nements"}
+   , { "filter_restrictions","Limiter l''affichage de {0}"}
+   , { "filtername","Nom du filtre"}
+   , { "fixed_date","Date fixe"}
+   , { "for","pour"}
+   , { "forename","Pr\u00e9nom"}
+   , { "format.repeat_from","\u00e0 partir du {0}"}
+   , { "format.repeat_n_times","r\u00e9p\u00e8te {0} fois"}
+   , { "format.repeat_until","jusqu`\u00e0 {0}"}
+   , { "goto_date","Atteindre la date"}
+   , { "group","Groupe"}
+   , { "groups","Groupes"}
+   , { "help","Aide"}
+   , { "hierarchy","Hi\u00e9rarchie"}
+   , { "holdbackconflicts","Ne pas tenir compte des conflits"}
+   , { "hour","Heure"}
+   , { "hours","Heures"}
+   , { "import","Import"}
+   , { "in_period.format","dans la p\u00e9riode {0}"}
+   , { "including_date","y compris la date: {0}"}
+   , { "info","Information"}
+   , { "info.text","" 
+      +  " <strong>Rapla Version @doc.version@</strong>" 
+      +  " <br/>" 
+      +  " (C) Copyright @doc.year@ @doc.copyright@" 
+      +  " <p>Rapla-Webseite: <strong>@doc.homepage@</strong>" 
+      +  " </p>" 
+      +  " <p>Envoyer vos propositions d\"\u00e9volutions, questions, ou erreurs trouv\u00e9es" 
+      +  " \u00e0 la Mailingliste anglophone d\u00e9veloppeurs :<br/>" 
+      +  " <strong>@doc.developer-list@</strong>" 
+      +  " </p>" 
+      +  " <p>Version : @doc.buildtime@</p>" 
+      +  " <p>Signature: {0}</p>" 
+      +  " <p>Version Java {1}</p>" 
+      +  " "}
+   , { "info.title","" 
+      +  " Rapla Version @doc.version@" 
+      +  " "}
+   , { "insert","Ins\u00e9rer"}
+   , { "interval","Interval"}
+   , { "interval.format","Tous/toutes les {0} {1}"}
+   , { "keep","Conserver"}
+   , { "key","Cl\u00e9"}
+   , { "language","Langue"}
+   , { "last_changed","Derni\u00e8re modification le"}
+   , { "last_changed_by","Derni\u00e8re modification"}
+   , { "legend","L\u00e9gende"}
+   , { "level","Niveau"}
+   , { "license.text","" 
+      +  " <strong>Rapla</strong> Version @doc.version@ (C) Copyright @doc.year@ @doc.copyright@" 
+      +  " <p><strong>Rapla</strong> est <a href=\"warranty\">SANS\u00a0GARANTIE</a>!!" 
+      +  " <strong>Rapla</strong> est un logiciel libre, que vous pouvez utiliser et distribuer suivant ces <a href=\"license\">conditions</a>.</p>" 
+      +  " "}
+   , { "licensedialog.title","La licence GNU"}
+   , { "list.format","{0} : {1}"}
+   , { "load","Charger"}
+   , { "login","Login"}
+   , { "logindialog.title","Login Rapla"}
+   , { "logout","Quitter"}
+   , { "main-view","\u00c9cran principal"}
+   , { "minute","Minute"}
+   , { "minutes","Minutes"}
+   , { "month","Mois"}
+   , { "monthly","mensuel"}
+   , { "months","Mois"}
+   , { "move","D\u00e9placer"}
+   , { "move_appointment.format","Que voulez-vous d\u00e9placer?"}
+   , { "name","Nom"}
+   , { "never","Jamais"}
+   , { "new","Nouveau"}
+   , { "new_appointment","Nouvelle r\u00e9servation"}
+   , { "new_category","Nouvelle cat\u00e9gorie"}
+   , { "new_password","Nouveau mot de passe"}
+   , { "new_reservation","nouvel \u00e9v\u00e8nement"}
+   , { "new_reservation.format","Nouvel \u00e9v\u00e8nement : {0}"}
+   , { "new_rule","Nouvelle r\u00e8gle pour"}
+   , { "new_sub-category","Nouvelle sous-cat\u00e9gorie"}
+   , { "no","Non"}
+   , { "no-view","invisible"}
+   , { "no_classification","Pas de classification"}
+   , { "no_repeating","Unique"}
+   , { "not_selected.help","Actuellement non s\u00e9lectionn\u00e9. <br/>D\u00e9-s\u00e9lectionnez \"Seulement mes r\u00e9servations\" ou changez vos r\u00e9glages du filtre."}
+   , { "not_visible","non visible"}
+   , { "not_visible.help","Non visible. <br/>L'acc\u00e8s aux d\u00e9tails de la r\u00e9servation est restreint."}
+   , { "nothing_selected","Rien de s\u00e9lectionn\u00e9"}
+   , { "occupation","l''Occupation"}
+   , { "ok","OK"}
+   , { "old_password","Ancien mot de passe"}
+   , { "only_own_reservations","Seulement mes r\u00e9servations"}
+   , { "open","Ouvrir"}
+   , { "options","Options"}
+   , { "or","ou"}
+   , { "password","Mot de passe"}
+   , { "password_verification","V\u00e9rification du mot de passe"}
+   , { "paste","Coller"}
+   , { "paste_as","Coller"}
+   , { "period","P\u00e9riode"}
+   , { "period.format.end","Fin {0}"}
+   , { "period.format.start","D\u00e9but {0}"}
+   , { "period.format.week","{0}.Sem. {1}"}
+   , { "period.not_set","S\u00e9lectionner la p\u00e9riode"}
+   , { "period_view","P\u00e9riode"}
+   , { "periods","P\u00e9riodes"}
+   , { "permission.access","Acc\u00e8s"}
+   , { "permission.admin","Droits d'administrateur"}
+   , { "permission.allocate","peut allouer"}
+   , { "permission.allocate-conflicts","Peut allouer & Cr\u00e9er des conflits"}
+   , { "permission.denied","Interdit"}
+   , { "permission.read","peut lire"}
+   , { "permissions","Permissions"}
+   , { "person","Personne"}
+   , { "person_type","Type de personne"}
+   , { "person_types","Types de personne"}
+   , { "persons","Personnes"}
+   , { "preferences","pr\u00e9f\u00e9rence"}
+   , { "print","Imprimer"}
+   , { "print_to_file","Imprimer en Fichier"}
+   , { "publish","Publier"}
+   , { "question","Question"}
+   , { "rapla.name","Rapla"}
+   , { "rapla.title","Rapla, le planificateur intelligent"}
+   , { "rapla.welcome","Bonjour {0}, amusez vous en planifiant !"}
+   , { "refresh","Actualiser"}
+   , { "reload_data","Recharger les donn\u00e9es"}
+   , { "remove","Effacer"}
+   , { "repeat","r\u00e9p\u00e8te"}
+   , { "repeating","R\u00e9p\u00e9ter"}
+   , { "repeating.end_date","jusqu'\u00e0"}
+   , { "repeating.forever","Ind\u00e9fini"}
+   , { "repeating.interval.post","."}
+   , { "repeating.interval.pre","Chaque"}
+   , { "repeating.n_times","x fois"}
+   , { "repeating.start_date","\u00e0 partir de"}
+   , { "report","Rapport"}
+   , { "reservation","\u00c9v\u00e8nement"}
+   , { "reservation.allocations","Allocation :"}
+   , { "reservation.appointments","\u00c9v\u00e8nement :"}
+   , { "reservation.create_without_wizard","\u00c9v\u00e8nement"}
+   , { "reservation.name","Nom de l'\u00e9v\u00e8nement"}
+   , { "reservation.owner","r\u00e9serv\u00e9 par"}
+   , { "reservation_type","Type d'\u00e9v\u00e8nement"}
+   , { "reservations","\u00c9v\u00e8nements"}
+   , { "reservations_and_resources","\u00c9v\u00e8nements/Ressources"}
+   , { "reservations_from_all_users","Ev\u00e8nement de tous les utilisateurs"}
+   , { "reset","R\u00e9initialisation"}
+   , { "resource","Ressource"}
+   , { "resource.owner","Enregistr\u00e9 par"}
+   , { "resource_type","Type de ressources"}
+   , { "resource_types","Types de ressources"}
+   , { "resources","Ressources"}
+   , { "resources_persons","Ressources et Personnes"}
+   , { "restart_client","Red\u00e9marrer Rapla"}
+   , { "restart_server","Red\u00e9marrer Serveur"}
+   , { "root","Racine"}
+   , { "rows_per_hour","Lignes par heure"}
+   , { "save","Sauvegarder"}
+   , { "saved","sauvegard\u00e9"}
+   , { "search","Rechercher"}
+   , { "second","Seconde"}
+   , { "seconds","Secondes"}
+   , { "select","S\u00e9lectionner"}
+   , { "selectable","S\u00e9lectionnable le"}
+   , { "selectable_on","Possible le"}
+   , { "selected","S\u00e9lectionn\u00e9"}
+   , { "selected_on","S\u00e9lectionn\u00e9 le"}
+   , { "selection","S\u00e9lection"}
+   , { "selection_resource","S\u00e9lection des ressources"}
+   , { "serie","S\u00e9rie"}
+   , { "server","Serveur"}
+   , { "server_status","" 
+      +  "	 Etat du Serveur" 
+      +  " "}
+   , { "show_as","Afficher"}
+   , { "show_conflicts","Afficher conflits"}
+   , { "show_resource_selection","Afficher ressources"}
+   , { "show_tips","Afficher mouse-over tips dans"}
+   , { "single_appointment.format","celle-ci {0}?"}
+   , { "source","source"}
+   , { "start_date","D\u00e9but"}
+   , { "start_rapla_with_applet","" 
+      +  " D\u00e9marrer Rapla (avec le Plugin Java)" 
+      +  " "}
+   , { "start_rapla_with_webstart","" 
+      +  " D\u00e9marrer Rapla (avec java webstart)" 
+      +  " "}
+   , { "start_time","Heure de d\u00e9but"}
+   , { "surname","Nom"}
+   , { "switch_back","revenir vers"}
+   , { "switch_to","Changer pour"}
+   , { "table","Table"}
+   , { "time_at","\u00e0"}
+   , { "time_until","jusqu'\u00e0"}
+   , { "today","Aujourd'hui"}
+   , { "total_occurances","Nombre d'occurrences"}
+   , { "translation","Traduction"}
+   , { "translation.format","Traduction de \"{0}\":"}
+   , { "type","Type"}
+   , { "type.boolean","Oui|Non"}
+   , { "type.date","Date"}
+   , { "type.int","Nombre entier"}
+   , { "type.rapla:category","Cat\u00e9gorie"}
+   , { "type.string","Texte"}
+   , { "types","Types"}
+   , { "user","Utilisateur"}
+   , { "username","Profil utilisateur"}
+   , { "users","Utilisateurs"}
+   , { "view","Affichage"}
+   , { "warning","Attention"}
+   , { "warning.conflict","ATTENTION : Conflits trouv\u00e9s !"}
+   , { "warning.duplicated_appointments","ATTENTION : La m\u00eame r\u00e9servation existe plusieurs fois [{0}]!"}
+   , { "warning.experienced_users_only","Ce param\u00e9trage est r\u00e9serv\u00e9 aux utilisateurs exp\u00e9riment\u00e9s !"}
+   , { "warning.max-one-eventtype","Seulement 1 type d'\u00e9v\u00e9nement est autoris\u00e9. R\u00e9glez le filtre!"}
+   , { "warning.no_allocatables_selected","Vous n'avez pas s\u00e9lectionn\u00e9 de ressource/personne !"}
+   , { "warning.no_conflict_permission","Vous ne disposez pas des droits suffisants pour cr\u00e9er des conflits pour [{0}] !"}
+   , { "warning.no_reserve_permission","Vous ne disposez pas des droits suffisants pour effectuer/modifier [{0}] la r\u00e9servation [{1}] "}
+   , { "warning.period_shorter_than_week","La p\u00e9riode est inf\u00e9rieure \u00e0 une semaine !"}
+   , { "warning.readonly_storage","Modifi\u00e9 uniquement en m\u00e9moire. La modification sera perdue pour les sessions suivantes !"}
+   , { "warning.reservation.delete","L'\u00e9v\u00e8nement que vous \u00e9ditez vient d'\u00eatre effac\u00e9"}
+   , { "warning.reservation.update","L'\u00e9v\u00e8nement que vous \u00e9ditez a \u00e9t\u00e9 modifi\u00e9." 
+      +  " Les informations affich\u00e9es dans la fen\u00eatre vont \u00eatre rafraichies."}
+   , { "warning.update","L''objet \"{0}\" que vous \u00e9ditez a \u00e9t\u00e9 modifi\u00e9 hors de la fen\u00eatre." 
+      +  " Cette \u00e9dition va \u00eatre interrompue."}
+   , { "webinfo.text","" 
+      +  " <h3>Plus d'informations:</h3>" 
+      +  " <p>" 
+      +  " Java-Webstart est inclus dans toutes les versions de Java depuis la 1.4.0." 
+      +  " Pour lancer Rapla, vous avez besoin de Java 1.5 ou sup\u00e9rieur que vous pouvez t\u00e9l\u00e9charger depuis" 
+      +  " <a href=\"http://www.oracle.com/technetwork/java/javase/downloads/index.html\">www.oracle.com/technetwork/java</a>." 
+      +  " </p>" 
+      +  " <p>" 
+      +  " Consultez <a href=\"http://code.google.com/p/rapla\">Rapla @ Google Project</a> pour de plus amples informations." 
+      +  " </p>" 
+      +  " "}
+   , { "week","Semaines"}
+   , { "week_compact","Semaine/Resource"}
+   , { "week_timeslot","Programme de la semaine"}
+   , { "weekday","Jour de la semaine"}
+   , { "weekly","Hebdomadaire"}
+   , { "weeks","Semaines"}
+   , { "weekview.print.choose_export","Choisissez la m\u00e9thode de sauvegarde!"}
+   , { "weekview.print.dialog_title","Imprimer la pr\u00e9visualisation"}
+   , { "weekview.print.format_button","Pr\u00e9f\u00e9rence d'Impression"}
+   , { "weekview.print.postscript","Postscript"}
+   , { "weekview.print.title_textfield","Titre"}
+   , { "width","Largeur"}
+   , { "with","avec"}
+   , { "x_days_advance","x jours en avance"}
+   , { "year","Ann\u00e9e"}
+   , { "yearly","annuel"}
+   , { "years","Ann\u00e9e"}
+   , { "yes","Oui"}
+   , { "zero_appointment","Pas de r\u00e9servation"}
+  };
+}
@@ -0,0 +1,415 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class RaplaResources_nl extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "abort","Annuleren"}
+   , { "add","Toevoegen"}
+   , { "add_to","Toevoegen"}
+   , { "additional-view","Extra gegevens"}
+   , { "admin","Beheerder"}
+   , { "admin.login","Beheerder"}
+   , { "administration","Systeem beheer"}
+   , { "all-day","24u"}
+   , { "all_filtered","alle gefilterde objecten."}
+   , { "all_users","Alle gebruikers"}
+   , { "allocatable_in_timeframe","Beschikbaarheid"}
+   , { "allocation_view","Toewijzing van {0}"}
+   , { "alteration","Wijziging"}
+   , { "and","en"}
+   , { "apply","OK"}
+   , { "appointment","Reservatie"}
+   , { "appointment.convert","Converteren naar \u00e9\u00e9nmalige evenementen"}
+   , { "appointment.day_x","op dag x"}
+   , { "appointment.days","dag(en)"}
+   , { "appointment.exception.days","Uitgezonderd:"}
+   , { "appointment.exception.general","Uitgezonderd:"}
+   , { "appointment.exceptions","Uitgezonderd"}
+   , { "appointment.format.exceptions","{0} Uitgezonderd: "}
+   , { "appointment.hours","uur"}
+   , { "appointment.minutes","min."}
+   , { "appointment.next_day","volgende dag"}
+   , { "appointment.no_exceptions","Geen uitzonderingen:"}
+   , { "appointment.rule","Regel: "}
+   , { "appointment.same_day","zelfde dag"}
+   , { "appointment_list","Lijst reservaties"}
+   , { "appointments","Reservaties"}
+   , { "attribute","Kenmerk"}
+   , { "attributes","Kenmerken"}
+   , { "available","Beschikbaar"}
+   , { "back","Sluit"}
+   , { "bind_with_person","Verbinding met persoon"}
+   , { "calendar","Kalender"}
+   , { "calendar_settings","Overzicht opslaan"}
+   , { "calendarname","Kalender naam: "}
+   , { "calendarweek.abbreviation","WK{0,date,w}"}
+   , { "cancel","Annuleren"}
+   , { "categories","Klassement"}
+   , { "category","Klassement"}
+   , { "change","Wijzig"}
+   , { "change.format","Wijzig {0}"}
+   , { "change_appointment","Wijzig afspraak"}
+   , { "changes","Wijzigingen"}
+   , { "choose_language","Taalkeuze:"}
+   , { "class","Klasse"}
+   , { "classification","Klassificatie"}
+   , { "close","Sluit"}
+   , { "color","Kleur"}
+   , { "complete_time","volledige duur"}
+   , { "confirm","Bevestig"}
+   , { "confirm-close.ok","Wijzigingen negeren"}
+   , { "confirm-close.question","De wijzigingen werden niet geregisteerd!"}
+   , { "confirm-close.title","Wijzigingen"}
+   , { "confirm.dialog.question","Bevestig deze informatie?"}
+   , { "confirm.dialog.title","Bevestig {0}"}
+   , { "conflict.appointment1","Wanneer?"}
+   , { "conflict.appointment2","Toewijzings conflict"}
+   , { "conflict.reservation1","Welk evenement?"}
+   , { "conflict.reservation2","Ander evenement?"}
+   , { "conflict.resource","Wat/Wie?"}
+   , { "conflict.user","Gebruiker?"}
+   , { "conflictUC","Conflict ({0})"}
+   , { "conflicts","Conflict"}
+   , { "connection","Verbinding met de Server"}
+   , { "constraints","Beperkingen"}
+   , { "continue","Verder"}
+   , { "copy","Kopieer"}
+   , { "copy_appointment.format","Wat wil je wilt kopieren?"}
+   , { "copy_to_clipboard","Kopie\u00ebr naar plakbord"}
+   , { "create","Aanmaken"}
+   , { "created_at","Aangemaakt op"}
+   , { "customized","Aangepast door Gebruiker"}
+   , { "daily","Dagelijks"}
+   , { "database","Databank"}
+   , { "date","Datum"}
+   , { "day","Dag"}
+   , { "day1week","Dag 1 van de week"}
+   , { "day_resource","Dag/Middel"}
+   , { "day_timeslot","Dag programma"}
+   , { "days","Dagen"}
+   , { "daysInWeekview","Dagen in weekweergave"}
+   , { "default","Standaard"}
+   , { "defaultselection","Standaard Selectie"}
+   , { "delete","Verwijderen"}
+   , { "delete.abort","Annuleren"}
+   , { "delete.format","Verwijder: {0}"}
+   , { "delete.ok","OK"}
+   , { "delete.question","Volgende onderdelen worden verwijderd: "}
+   , { "delete.title","Verwijderen?"}
+   , { "delete_appointment.format","Wat wil je wilt verwijderen?"}
+   , { "delete_selection","Verwijder selectie"}
+   , { "destination","Naar"}
+   , { "display_exceptions","Uitzonderingen"}
+   , { "duration","Tijdsduur"}
+   , { "dynamictype","Folder"}
+   , { "dynamictype.annotation.nameformat","Titel formaat"}
+   , { "dynamictype.annotation.nameformat.description","Sleutels tussen {...} plaatsen; bvb. {mijnSleutel}"}
+   , { "dynamictype.name","Naam type"}
+   , { "edit","Bewerk"}
+   , { "edit-view","Toon als"}
+   , { "edit.format","Bewerk: {0}"}
+   , { "edit_advanced","Toon speciale instellingen"}
+   , { "edit_reservation.format","Bewerk evenement: {0}"}
+   , { "edit_reservations","bewerk eigen"}
+   , { "elementkey","Elementsleutel"}
+   , { "email","Email"}
+   , { "end_date","Stop datum"}
+   , { "end_time","tot"}
+   , { "error","Fout"}
+   , { "error.cant_delete_your_account","Je kan [{0}] niet verwijderen,omdat je deze momenteel in gebruik hebt!"}
+   , { "error.connect","Verbinding met [{0}] is verbroken, de server is niet beschikbaar, contacteer de Rapla beheerder of probeer later!"}
+   , { "error.connection_closed","Geen of een gesloten connectie naar [{0}]. Rapla herstarten a.u.b."}
+   , { "error.dependencies","Afhankelijk van"}
+   , { "error.invalid_key","\"{0}\" is een ongeldige sleutel!" 
+      +  " Nota: Maximaal 50 letters, cijfers of {1} beginnend met {2} of een letter!" 
+      +  " "}
+   , { "error.login","Aanmelding geweigerd!"}
+   , { "error.new_version","{0} versie {1} is recentelijk gewijzigd, versie {2} is beschikbaar. Probeer later."}
+   , { "error.no_appointment","Evenement zonder reservaties!"}
+   , { "error.no_entry_for","Je moet de gegevens opgeven voor: {0}"}
+   , { "error.no_key","Een sleutel is verplicht: {0}"}
+   , { "error.no_reservation_name","Een titel opgeven!"}
+   , { "error.no_rollback","Fout! Databank wijziging. Databank ondersteund geen transacties." 
+      +  " Dit kan tot serieuze fouten leiden.Neem onmiddelijk contact met de Rapla beheerder!"}
+   , { "error.not_unique","De naam \"{0}\" is reeds in gebruik. Kies een andere naam!"}
+   , { "error.one_type_requiered","Minimaal 1 soort is nodig."}
+   , { "error.passwords_dont_match","De paswoorden verschillen!"}
+   , { "error.reference_not_stored","Fout! Gevraagd object [{0}] niet gevonden. Waarschijnlijk recentelijk verwijderd."}
+   , { "error.rollback","Databank wijziging. Wijzigingen werden geannuleerd."}
+   , { "error.wrong_password","Verkeerd paswoord!"}
+   , { "every_appointment","Alle afspraken in lijst"}
+   , { "everytime","onbeperkt"}
+   , { "exception","Uitzondering"}
+   , { "exchange_allocatables","Wijzig toewijzing"}
+   , { "exclamation.format","{0} !"}
+   , { "exclude_days","Uitgezonderd dagen:"}
+   , { "exit","Sluiten"}
+   , { "exit.abort","Terug"}
+   , { "exit.ok","Planning be\u00ebindigen"}
+   , { "exit.question","Planning be\u00ebindigen?"}
+   , { "exit.title","Rapla be\u00ebindigen"}
+   , { "expected_columns","Aantal kolommen."}
+   , { "expected_rows","Aantal rijen"}
+   , { "export","Publiceer"}
+   , { "file","Bestand"}
+   , { "file.enter_name","Naam"}
+   , { "file_saved","Bestand geregisteerd"}
+   , { "filter","Filter"}
+   , { "filter.contains","bevat"}
+   , { "filter.earlier_than","vroeger dan"}
+   , { "filter.equals","gelijk aan"}
+   , { "filter.greater_or_equals","groter dan of gelijk"}
+   , { "filter.is_greater_than","groter dan"}
+   , { "filter.is_smaller_than","kleiner dan"}
+   , { "filter.later_than","later dan"}
+   , { "filter.not_equals","ongelijk"}
+   , { "filter.smaller_or_equals","kleiner dan of gelijk"}
+   , { "filter.starts","start met"}
+   , { "filter_allocatable","Personen & Materialen"}
+   , { "filter_reservation.all","voor alle gebruikers"}
+   , { "filter_restrictions","beperk beeld van {0}"}
+   , { "filtername","Filter naam"}
+   , { "fixed_date","Vaste datum"}
+   , { "for","voor"}
+   , { "forename","Voornaam"}
+   , { "format.repeat_from","van {0}"}
+   , { "format.repeat_n_times","{0}X"}
+   , { "format.repeat_until","tot en met {0}"}
+   , { "goto_date","Ga naar datum"}
+   , { "group","Groep"}
+   , { "groups","Groepen"}
+   , { "help","Help"}
+   , { "hierarchy","Hierarchie"}
+   , { "holdbackconflicts","Conflicten onderdrukken"}
+   , { "hour","Uur"}
+   , { "hours","Uren"}
+   , { "import","Importeer"}
+   , { "in_period.format","in periode {0}"}
+   , { "including_date","met vaste datum = {0}"}
+   , { "info","Informatie"}
+   , { "info.text","" 
+      +  " 		(C) Copyright @doc.year@ @doc.copyright@<br/>" 
+      +  " <p><strong>Rapla versie @doc.version@</strong><br/>" 
+      +  " 		Gebouwd op: @doc.buildtime@<br/>" 
+      +  " Ondertekend: {0}<br/>" 
+      +  " Java versie: {1}</p>" 
+      +  " 		<p>Rapla homepage: <strong>@doc.homepage@</strong><br/>" 
+      +  " 		Support: <strong>@doc.developer-list-link@</strong/>" 
+      +  " "}
+   , { "info.title","" 
+      +  " Rapla versie @doc.version@" 
+      +  " "}
+   , { "insert","Toevoegen"}
+   , { "interval","Interval"}
+   , { "interval.format","Elke {0} {1}"}
+   , { "keep","Bewaar"}
+   , { "key","Sleutel"}
+   , { "language","Taal"}
+   , { "last_changed","Gewijzigd op"}
+   , { "last_changed_by","Laatst gewijzigd door"}
+   , { "legend","Legende"}
+   , { "level","Niveau"}
+   , { "license.text","" 
+      +  " <strong>Rapla</strong> versie @doc.version@ : @doc.buildtime@<br/>" 
+      +  " (C) Copyright @doc.year@ @doc.copyright@" 
+      +  " <p><strong>Rapla</strong> wordt geleverd <a href=\"warranty\">ZONDER\u00a0GARANTIE</a>.</p>" 
+      +  " Deze software kan enkel onder bepaalde <a href=\"license\">voorwaarden</a> vrij worden verspreid." 
+      +  " "}
+   , { "licensedialog.title","GNU Licentie"}
+   , { "list.format","{0}: {1}"}
+   , { "load","Laad"}
+   , { "login","Aanmelden"}
+   , { "logindialog.title","Rapla Aanmelden"}
+   , { "logout","Afmelden"}
+   , { "main-view","Basis gegevens"}
+   , { "minute","Minuut"}
+   , { "minutes","Minuten"}
+   , { "month","Maand"}
+   , { "monthly","Maandelijks"}
+   , { "months","Maanden"}
+   , { "move","Verplaats"}
+   , { "move_appointment.format","Wat wil je wilt verplaatsen?"}
+   , { "name","Naam"}
+   , { "never","nooit"}
+   , { "new","Nieuw"}
+   , { "new_appointment","Nieuwe afspraak"}
+   , { "new_category","Nieuw klassement"}
+   , { "new_password","Nieuw paswoord"}
+   , { "new_reservation","Nieuw evenement"}
+   , { "new_reservation.format","Nieuw evenement {0}"}
+   , { "new_rule","Nieuwe regel"}
+   , { "new_sub-category","Nieuw onderklassement"}
+   , { "no","Nee"}
+   , { "no-view","Onzichtbaar"}
+   , { "no_classification","Geen Classificatie"}
+   , { "no_repeating","E\u00e9nmalig"}
+   , { "not_selected.help","\"\"Enkel eigen reservaties\" afvinken\" of wijzig de filter instellingen.\". "}
+   , { "not_visible","onzichtbaar"}
+   , { "not_visible.help","Gewijgerd. <br/>Toegang tot de boekings informatie is beperkt."}
+   , { "nothing_selected","Geen selectie"}
+   , { "occupation","Bezetting"}
+   , { "ok","OK"}
+   , { "old_password","Oud paswoord"}
+   , { "only_own_reservations","Enkel eigen reservaties"}
+   , { "open","Onbepaald"}
+   , { "options","Opties"}
+   , { "or","of"}
+   , { "password","Paswoord"}
+   , { "password_verification","Paswoord controle"}
+   , { "paste","Plakken"}
+   , { "paste_as","Plakken als"}
+   , { "period","Periode"}
+   , { "period.format.end","Einde van {0}"}
+   , { "period.format.start","Start van {0}"}
+   , { "period.format.week","Week {0} van {1}"}
+   , { "period.not_set","Kies periode"}
+   , { "period_view","Periode"}
+   , { "periods","Periode"}
+   , { "permission.access","Toegang"}
+   , { "permission.admin","Beheer"}
+   , { "permission.allocate","Toewijzen"}
+   , { "permission.allocate-conflicts","Toewijzen met conflicten"}
+   , { "permission.denied","Geen toegang"}
+   , { "permission.read","Lezen"}
+   , { "permissions","Toegang"}
+   , { "person","Persoon"}
+   , { "person_type","Type: Persoon"}
+   , { "person_types","Type: Personen"}
+   , { "persons","Personen"}
+   , { "preferences","Voorkeur"}
+   , { "print","Afdrukken"}
+   , { "print_to_file","Afdrukken naar Bestand"}
+   , { "publish","Publiceer"}
+   , { "question","Vraag"}
+   , { "rapla.title","Rapla, Smart Planning"}
+   , { "rapla.welcome","Online: {0}"}
+   , { "refresh","Actualiseren"}
+   , { "reload_data","herladen gegevens"}
+   , { "remove","Verwijderen"}
+   , { "repeat","herhaal"}
+   , { "repeating","Herhaling:"}
+   , { "repeating.end_date","tot en met"}
+   , { "repeating.forever","tot oneindig"}
+   , { "repeating.interval.post","-(ste/de)"}
+   , { "repeating.interval.pre","Elke"}
+   , { "repeating.n_times","x-Maal"}
+   , { "repeating.start_date","van"}
+   , { "report","Rapport"}
+   , { "reservation","Evenement"}
+   , { "reservation.allocations","Bezetting: "}
+   , { "reservation.appointments","Lijst afspraken:"}
+   , { "reservation.create_without_wizard","Evenement"}
+   , { "reservation.name","Evenement naam"}
+   , { "reservation.owner","Geregistreerd door"}
+   , { "reservation_type","Type Evenement"}
+   , { "reservations","Evenementen"}
+   , { "reservations_and_resources","Evenementen/Middelen"}
+   , { "reservations_from_all_users","Evenementen van alle gebruikers"}
+   , { "reset","Terugzetten"}
+   , { "resource","Middel"}
+   , { "resource.owner","Geregistreerd door"}
+   , { "resource_type","Type: Middel"}
+   , { "resource_types","Middel type"}
+   , { "resources","Middelen"}
+   , { "resources_persons","Middelen&Personen"}
+   , { "restart_client","Herstart gebruiker"}
+   , { "restart_options","Om de wijzigingen te activeren moet je Rapla herstarten!"}
+   , { "restart_server","Herstart Rapla server"}
+   , { "root","Oorsprong"}
+   , { "rows_per_hour","Tijdsdelen per uur:"}
+   , { "save","Opslaan"}
+   , { "saved","geregisteerd"}
+   , { "search","Opzoeken"}
+   , { "second","Seconde"}
+   , { "seconds","Seconden"}
+   , { "select","Selecteer"}
+   , { "selectable","Beschikbaarheid"}
+   , { "selectable_on","Voor:"}
+   , { "selected","Actief"}
+   , { "selected_on","Door:"}
+   , { "selection","Selecteer voorkeur"}
+   , { "selection_resource","Keuze middel"}
+   , { "serie","reeks"}
+   , { "server","Server"}
+   , { "show_as","Type"}
+   , { "show_conflicts","Conflicten"}
+   , { "show_resource_selection","Middelen"}
+   , { "show_tips","Tips"}
+   , { "single_appointment.format","boeking op {0}"}
+   , { "source","Van"}
+   , { "start_date","Start datum"}
+   , { "start_rapla_with_applet","" 
+      +  " Start Rapla planning (Applet)" 
+      +  " "}
+   , { "start_rapla_with_webstart","" 
+      +  " Rapla Smart Planning" 
+      +  " "}
+   , { "start_time","van"}
+   , { "surname","Naam"}
+   , { "switch_back","Aanmelden als vorige gebruiker"}
+   , { "switch_to","Aanmelden als"}
+   , { "table","Lijst"}
+   , { "time_at","van"}
+   , { "time_until","tot"}
+   , { "today","Vandaag"}
+   , { "total_occurances","Totaal aantal"}
+   , { "translation","Vertaling"}
+   , { "translation.format","Vertaling voor \"{0}\":"}
+   , { "type","Type"}
+   , { "type.boolean","Ja|Neen"}
+   , { "type.date","Datum"}
+   , { "type.int","Getal"}
+   , { "type.rapla:category","Klassement"}
+   , { "type.string","Tekst"}
+   , { "types","Types"}
+   , { "user","Gebruiker"}
+   , { "username","Gebruiker"}
+   , { "users","Gebruikers"}
+   , { "view","Overzicht"}
+   , { "warning","Waarschuwing"}
+   , { "warning.conflict","WAARSCHUWING: Conflict gevonden!"}
+   , { "warning.duplicated_appointments","WAARSCHUWING: Dezelfde afspraak bestaat meerdere keren: [{0}]!"}
+   , { "warning.experienced_users_only","Deze instelling kan enkel gewijzigd worden door een super gebruiker!"}
+   , { "warning.max-one-eventtype","Enkel 1 type evenement is toegestaan. Pas de filter aan!"}
+   , { "warning.no_allocatables_selected","Evenement <strong>zonder</strong> Personen & Materialen!"}
+   , { "warning.no_conflict_permission","Aanmaken van conflicten voor [{0}], is niet toegestaan!"}
+   , { "warning.no_reserve_permission","Plannen of wijzigen van [{0}] in reservatie [{1}] is niet toegestaan!"}
+   , { "warning.period_shorter_than_week","Periode minder dan 1 week!"}
+   , { "warning.readonly_storage","Wijzigingen enkel in het geheugen. Gegevens worden niet opgeslagen."}
+   , { "warning.reservation.delete","Het evenement dat je bewerkt, werd verwijderd."}
+   , { "warning.reservation.update","Het evenement dat je wil wijzigen is gewijzigd." 
+      +  " De gegevens worden terug opgehaald."}
+   , { "warning.update","Het object \"{0}\" dat je bewerkt, werd gewijzigd. Bewerken wordt onderbroken."}
+   , { "webinfo.text","" 
+      +  " <h3>Meer informatie:</h3> " 
+      +  " <a href=\"http://code.google.com/p/rapla\">Rapla @ Google Project</a>" 
+      +  " "}
+   , { "week","Week"}
+   , { "week_compact","Week/Middel"}
+   , { "week_timeslot","Week programma"}
+   , { "weekday","Weekdag"}
+   , { "weekly","Wekelijks"}
+   , { "weeks","Weken"}
+   , { "weekview.print.choose_export","Kies opslag methode!"}
+   , { "weekview.print.dialog_title","Afdrukvoorbeeld"}
+   , { "weekview.print.format_button","Printer voorkeur"}
+   , { "weekview.print.postscript","Postscript"}
+   , { "weekview.print.title_textfield","Titel"}
+   , { "width","Breedte"}
+   , { "with","met"}
+   , { "x_days_advance","x dagen op voorhand"}
+   , { "year","Jaar"}
+   , { "yearly","Jaarlijks"}
+   , { "years","Jaren"}
+   , { "yes","Ja"}
+   , { "zero_appointment","Geen afspraak"}
+  };
+}
@@ -0,0 +1,394 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class RaplaResources_pl extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "abort","Anuluj"}
+   , { "add","Dodaj"}
+   , { "add_to","doda\u0107 do"}
+   , { "additional-view","Dodatkowe informacje"}
+   , { "admin","Administrator"}
+   , { "admin.login","Masz uprawnienia administratora."}
+   , { "administration","Administracja"}
+   , { "all-day","24h"}
+   , { "all_filtered","Wszystkie filtrowane obiekty."}
+   , { "all_users","Wszyscy"}
+   , { "allocatable_in_timeframe","Dost\u0119pne w okresie"}
+   , { "allocation_view","Przyporz\u0105dkowanie {0}"}
+   , { "alteration","Zmiana"}
+   , { "and","i"}
+   , { "apply","Zastosuj"}
+   , { "appointment","Termin"}
+   , { "appointment.convert","Przekszta\u0142\u0107 w wydarzenia jednorazowe"}
+   , { "appointment.day_x","dnia x"}
+   , { "appointment.days","Dzie\u0144(dni)"}
+   , { "appointment.exception.days","Wy\u0142\u0105czone dni:"}
+   , { "appointment.exception.general","Wyj\u0105tki:"}
+   , { "appointment.exceptions","Wyj\u0105tki"}
+   , { "appointment.format.exceptions","{0} Wyj\u0105tki:"}
+   , { "appointment.hours","Godzina(-y)"}
+   , { "appointment.minutes","min."}
+   , { "appointment.next_day","Nast\u0119pny dzie\u0144"}
+   , { "appointment.no_exceptions","Bez wyj\u0105tk\u00f3w:"}
+   , { "appointment.rule","Regu\u0142a:"}
+   , { "appointment.same_day","Ten sam dzie\u0144"}
+   , { "appointment_list","Lista termin\u00f3w"}
+   , { "appointments","Terminy"}
+   , { "attribute","Atrybut"}
+   , { "attributes","Atrybuty"}
+   , { "available","Dost\u0119pne"}
+   , { "back","Wstecz"}
+   , { "calendar","Kalendarz"}
+   , { "calendar_settings","ustawienia Kalendarz"}
+   , { "calendarname","Nazwa kalendarza:"}
+   , { "calendarweek.abbreviation","T{0,date,w}"}
+   , { "cancel","Anuluj"}
+   , { "categories","Kategorie"}
+   , { "category","Kategoria"}
+   , { "change","Zmie\u0144"}
+   , { "change.format","Zmie\u0144 {0}"}
+   , { "change_appointment","Edytuj termin"}
+   , { "changes","Zmiany"}
+   , { "choose_language","Wybierz j\u0119zyk:"}
+   , { "choose_root_category","Wybierz kategori\u0119 g\u0142\u00f3wn\u0105 (root):"}
+   , { "class","Klasa"}
+   , { "classification","Klasyfikacja"}
+   , { "close","Zamknij"}
+   , { "color","Kolor"}
+   , { "complete_time","Ca\u0142kowity czas"}
+   , { "confirm","Akceptuj"}
+   , { "confirm-close.ok","Ignoruj zmiany"}
+   , { "confirm-close.question","Nie zapisano zmian."}
+   , { "confirm-close.title","Nie zapisano zmian!"}
+   , { "confirm.dialog.question","Zapisa\u0107 te informacje?"}
+   , { "confirm.dialog.title","Potwierd\u017a {0}"}
+   , { "conflict.appointment1","Kiedy?"}
+   , { "conflict.appointment2","Konflikt przydzia\u0142u"}
+   , { "conflict.reservation1","Kt\u00f3re wydarzenie?"}
+   , { "conflict.reservation2","Inne wydarzenie?"}
+   , { "conflict.resource","Kto/co?"}
+   , { "conflict.user","U\u017cytkownik?"}
+   , { "conflictUC","Konflikty ({0})"}
+   , { "conflicts","Konflikty"}
+   , { "connection","Po\u0142\u0105czenie z serwerem"}
+   , { "constraints","Ograniczenia"}
+   , { "continue","Kontynuuj"}
+   , { "copy","Kopiuj"}
+   , { "copy_appointment.format","Czego chcesz skopiowa\u0107?"}
+   , { "copy_to_clipboard","Kopiuj do schowka"}
+   , { "create","Utw\u00f3rz"}
+   , { "created_at","Stworzono"}
+   , { "customized","Dostosowany"}
+   , { "daily","Codziennie"}
+   , { "database","Baza danych"}
+   , { "date","Data"}
+   , { "day","Dzie\u0144"}
+   , { "day1week","Dzie\u0144 1 w tygodniu"}
+   , { "day_resource","Dzie\u0144/Zas\u00f3b"}
+   , { "day_timeslot","Program dnia"}
+   , { "days","Dni"}
+   , { "daysInWeekview","Dzie\u0144 w widoku tygodniowym"}
+   , { "default","Domy\u015blne"}
+   , { "delete","Usu\u0144"}
+   , { "delete.abort","Anulowa\u0107"}
+   , { "delete.format","Usu\u0144 {0}"}
+   , { "delete.ok","Tak, usu\u0144!"}
+   , { "delete.question","Nast\u0119puj\u0105ce elementy zostan\u0105 usuni\u0119te:"}
+   , { "delete.title","Usun\u0105\u0107?"}
+   , { "delete_appointment.format","Czego chcesz usun\u0105\u0107?"}
+   , { "delete_selection","Usu\u0144"}
+   , { "destination","Miejsce docelowe"}
+   , { "display_exceptions","Poka\u017c wyj\u0105tki"}
+   , { "duration","Czas trwania"}
+   , { "dynamictype","Typ"}
+   , { "dynamictype.annotation.nameformat","Format wy\u015bwietlania"}
+   , { "dynamictype.annotation.nameformat.description","Nazwy klucza powinny znajdowa\u0107 si\u0119 w {} np. {klucz}."}
+   , { "dynamictype.name","Nazwa typu"}
+   , { "edit","Edytuj"}
+   , { "edit-view","Widok edycji"}
+   , { "edit.format","Edytuj {0}"}
+   , { "edit_advanced","Poka\u017c zaawansowane ustawienia"}
+   , { "edit_reservation.format","Edytuj wydarzenie: {0}"}
+   , { "edit_reservations","Edytuj swoje"}
+   , { "elementkey","Klucz"}
+   , { "email","E-mail"}
+   , { "end_date","Data zako\u0144czenia"}
+   , { "end_time","Czas zako\u0144czenia"}
+   , { "error","B\u0142\u0105d"}
+   , { "error.cant_delete_your_account","Nie mo\u017cesz usun\u0105\u0107 [{0}], poniewa\u017c obecnie u\u017cywasz tego konta!"}
+   , { "error.connect","Nie uda\u0142o si\u0119 po\u0142\u0105czy\u0107 z {0}! By\u0107 mo\u017ce host jest wy\u0142\u0105czony. Spr\u00f3buj ponownie p\u00f3\u017aniej."}
+   , { "error.connection_closed","Brak lub utracone po\u0142\u0105czenie z {0}. Uruchom ponownie Rapla."}
+   , { "error.dependencies","Istniej\u0105 zale\u017cno\u015bci dla tego obiektu"}
+   , { "error.invalid_key","\"{0}\" jest nieprawid\u0142owym kluczem!" 
+      +  " Mo\u017cesz u\u017cy\u0107 tylko liter, cyfr oraz jednego z tych znak\u00f3w {0}. Klucz musi zaczyna\u0107 si\u0119 od litery." 
+      +  " "}
+   , { "error.login","B\u0142\u0105d logowania"}
+   , { "error.new_version","Nie mo\u017cna zmodyfikowa\u0107 {0}. Obiekt zosta\u0142 niedawno zmieniony przez inn\u0105 osob\u0119. Istnieje nowsza wersja obiektu w pami\u0119ci."}
+   , { "error.no_appointment","Wydarzenie musi mie\u0107 cho\u0107 jeden termin."}
+   , { "error.no_entry_for","Musisz co\u015b wpisa\u0107 w: {0}"}
+   , { "error.no_key","Musisz poda\u0107 klucz: {0}"}
+   , { "error.no_name","Musisz wpisa\u0107 nazw\u0119!"}
+   , { "error.no_reservation_name","Podaj nazw\u0119 dla wydarzenia!"}
+   , { "error.no_rollback","B\u0142\u0105d! Aktualizacja bazy nie powiod\u0142a si\u0119. Twoja baza nie obs\u0142uguje transakcji, co mo\u017ce prowadzi\u0107 do powa\u017cnych b\u0142\u0119d\u00f3w. Skontaktuj si\u0119 ze swoim administratorem."}
+   , { "error.not_unique","Nazwa \"{0}\" jest ju\u017c zaj\u0119ta. Wybierz inn\u0105."}
+   , { "error.one_type_requiered","Przynajmniej jeden typ jest wymagany."}
+   , { "error.passwords_dont_match","Has\u0142a nie zgadzaj\u0105 si\u0119."}
+   , { "error.reference_not_stored","Nie mo\u017cna znale\u017a\u0107 obiektu [{0}]. Prawdopodobnie zosta\u0142 niedawno usuni\u0119ty."}
+   , { "error.rollback","B\u0142\u0105d aktualizacji bazy. Wszystkie zmiany zosta\u0142y utracone."}
+   , { "error.wrong_password","B\u0142\u0119dne has\u0142o!"}
+   , { "every_appointment","Ka\u017cdy termin"}
+   , { "everytime","Zawsze"}
+   , { "exception","Wyj\u0105tek"}
+   , { "exchange_allocatables","Zmie\u0144 przydzia\u0142"}
+   , { "exclamation.format","{0} !"}
+   , { "exclude_days","Wy\u0142\u0105cz dni:"}
+   , { "exit","Wyj\u015bcie"}
+   , { "exit.abort","Wr\u00f3\u0107 do Rapla"}
+   , { "exit.ok","Wyjd\u017a"}
+   , { "exit.question","Czy na pewno chcesz zako\u0144czy\u0107 Rapla?"}
+   , { "exit.title","Zako\u0144czy\u0107 Rapla?"}
+   , { "expected_columns","Liczba kolumn"}
+   , { "expected_rows","Liczba wierszy"}
+   , { "export","Eksportuj"}
+   , { "file","Plik"}
+   , { "file_saved","Zapisano Plik"}
+   , { "filter","Filtr"}
+   , { "filter.contains","zawiera"}
+   , { "filter.earlier_than","przed"}
+   , { "filter.equals","dok\u0142adnie"}
+   , { "filter.greater_or_equals","wi\u0119ksze ni\u017c lub r\u00f3wna"}
+   , { "filter.is_greater_than","wi\u0119ksze ni\u017c"}
+   , { "filter.is_smaller_than","mniejsze ni\u017c"}
+   , { "filter.later_than","po"}
+   , { "filter.not_equals","nier\u00f3wny"}
+   , { "filter.smaller_or_equals","mniejsze ni\u017c lub r\u00f3wna"}
+   , { "filter.starts","zaczyna si\u0119"}
+   , { "filter_allocatable","Zasoby i osoby"}
+   , { "filter_reservation.all","Od wszystkich"}
+   , { "filter_reservation.own","Moje wydarzenia"}
+   , { "filter_restrictions","Ogranicz widok {0}"}
+   , { "filtername","Nazwa filtra"}
+   , { "fixed_date","Ustalona data"}
+   , { "for","dla / na"}
+   , { "forename","Imi\u0119"}
+   , { "format.repeat_from","od {0}"}
+   , { "format.repeat_n_times","Powt\u00f3rz {0} razy"}
+   , { "format.repeat_until","do {0}"}
+   , { "goto_date","Id\u017a do daty"}
+   , { "group","Grupa"}
+   , { "groups","Grupy"}
+   , { "help","Pomoc"}
+   , { "hierarchy","Hierarchia"}
+   , { "holdbackconflicts","Ignoruj konflikty"}
+   , { "hour","Godzina"}
+   , { "hours","Godziny"}
+   , { "in_period.format","w okresie {0}"}
+   , { "including_date","w tym dniu: {0}"}
+   , { "info","O Rapla"}
+   , { "info.text","" 
+      +  " <strong>Rapla - wersja @doc.version@</strong>" 
+      +  " <br/>" 
+      +  " (C) Copyright @doc.year@ @doc.copyright@" 
+      +  " <p>strona Rapla: <strong>@doc.homepage@</strong>" 
+      +  " </p>" 
+      +  " <p>Pytania, sugestie, feedback:<br/>" 
+      +  " <strong>@doc.developer-list@</strong>" 
+      +  " </p>" 
+      +  " <p>Build-Time: @doc.buildtime@</p>" 
+      +  " <p>Podpis: {0}</p>" 
+      +  " <p>Java - wersja {1}</p>" 
+      +  " "}
+   , { "insert","Wstaw"}
+   , { "interval","Interwa\u0142"}
+   , { "interval.format","Co {0} {1}"}
+   , { "keep","Zachowaj"}
+   , { "key","Klucz"}
+   , { "language","J\u0119zyk"}
+   , { "last_changed","Ostatnia zmiana"}
+   , { "last_changed_by","Zmienione przez"}
+   , { "legend","Legenda"}
+   , { "level","Poziom"}
+   , { "licensedialog.title","Licencja GNU"}
+   , { "list.format","{0}: {1}"}
+   , { "load","Wczytaj"}
+   , { "login","Logowanie"}
+   , { "logout","Wyloguj"}
+   , { "main-view","Widok g\u0142\u00f3wny"}
+   , { "month","Miesi\u0105c"}
+   , { "monthly","Co miesi\u0105c"}
+   , { "months","Miesi\u0105ce"}
+   , { "move","Przenie\u015b"}
+   , { "move_appointment.format","Czego chcesz przenie\u015b\u0107?"}
+   , { "name","Nazwa"}
+   , { "never","Nigdy"}
+   , { "new","Nowy"}
+   , { "new_appointment","Nowy termin"}
+   , { "new_category","Nowa kategoria"}
+   , { "new_password","Nowe has\u0142o"}
+   , { "new_reservation","Nowe wydarzenie"}
+   , { "new_reservation.format","Nowe wydarzenie: {0}"}
+   , { "new_rule","Nowa regu\u0142a dla"}
+   , { "new_sub-category","Nowa podkategoria"}
+   , { "no","Nie"}
+   , { "no-view","niewidoczny"}
+   , { "no_classification","Brak klasyfikacji"}
+   , { "no_repeating","Jednorazowe"}
+   , { "not_selected.help","Nie wybrano. <br/>Odznacz opcj\u0119 \"Poka\u017c tylko moje rezerwacje\" lub zmie\u0144 ustawienia filtru."}
+   , { "not_visible","Ukryty"}
+   , { "not_visible.help","Ukryty. <br/>Dost\u0119p do informacji o rezerwacji jest zastrze\u017cony."}
+   , { "nothing_selected","Nic nie wybrano"}
+   , { "occupation","Zaw\u00f3d"}
+   , { "ok","OK"}
+   , { "old_password","Stare has\u0142o"}
+   , { "only_own_reservations","Tylko moje rezerwacje"}
+   , { "open","Otw\u00f3rz"}
+   , { "options","Opcje"}
+   , { "or","lub"}
+   , { "password","Has\u0142o"}
+   , { "password_verification","Weryfikacja has\u0142a"}
+   , { "paste","Wklej"}
+   , { "paste_as","Wklej jako"}
+   , { "period","Okres"}
+   , { "period.format.end","Koniec {0}"}
+   , { "period.format.start","Pocz\u0105tek {0}"}
+   , { "period.format.week","{0} tyg. {1}"}
+   , { "period.not_set","Wybierz okres"}
+   , { "period_view","Okres"}
+   , { "periods","Okresy"}
+   , { "permission.access","Dost\u0119pne"}
+   , { "permission.admin","Uprawnienia administratora"}
+   , { "permission.allocate","mo\u017ce przydziela\u0107"}
+   , { "permission.allocate-conflicts","mo\u017ce przydziela\u0107 i tworzy\u0107 konflikty"}
+   , { "permission.denied","Zastrze\u017cone"}
+   , { "permission.read","mo\u017ce odczyta\u0107"}
+   , { "permissions","Uprawnienia"}
+   , { "person","Osoba"}
+   , { "person_type","Typ osoby"}
+   , { "person_types","Typy os\u00f3b"}
+   , { "persons","Osoby"}
+   , { "preferences","Preferencje"}
+   , { "print","Drukuj"}
+   , { "print_to_file","Drukuj do pliku"}
+   , { "publish","Publikuj"}
+   , { "question","Pytanie"}
+   , { "rapla.name","Rapla"}
+   , { "rapla.title","Rapla, inteligentne planowanie"}
+   , { "rapla.welcome","Witaj {0}."}
+   , { "refresh","Od\u015bwie\u017c"}
+   , { "reload_data","Od\u015bwie\u017c dane"}
+   , { "remove","Usu\u0144"}
+   , { "repeat","Powt\u00f3rz"}
+   , { "repeating","Powtarzaj\u0105ce si\u0119:"}
+   , { "repeating.end_date","do"}
+   , { "repeating.forever","Bez ko\u0144ca"}
+   , { "repeating.interval.post","."}
+   , { "repeating.interval.pre","Ka\u017cdy"}
+   , { "repeating.n_times","x razy"}
+   , { "repeating.start_date","od"}
+   , { "report","Raport"}
+   , { "reservation","Wydarzenie"}
+   , { "reservation.allocations","Przydzia\u0142 zasob\u00f3w:"}
+   , { "reservation.appointments","Terminy:"}
+   , { "reservation.create_without_wizard","Wydarzenie"}
+   , { "reservation.name","Nazwa wydarzenia"}
+   , { "reservation.owner","Rezerwacja przez"}
+   , { "reservation_type","Wydarzenia"}
+   , { "reservations","Wydarzenia"}
+   , { "reservations_and_resources","Wydarzenia/Zasoby"}
+   , { "reservations_from_all_users","Rezerwacje wszystkich"}
+   , { "reset","Resetuj"}
+   , { "resource","Zas\u00f3b"}
+   , { "resource.owner","Zarejestrowany przez"}
+   , { "resource_type","Rodzaj zasobu"}
+   , { "resource_types","Rodzaje zasob\u00f3w"}
+   , { "resources","Zasoby"}
+   , { "resources_persons","Zasoby i osoby"}
+   , { "restart_client","Restart Rapla"}
+   , { "restart_options","Zmiany zostan\u0105 wprowadzone po restarcie Rapla"}
+   , { "restart_server","Restart serwera"}
+   , { "rows_per_hour","Podzia\u0142ka godzin"}
+   , { "save","Zapisz"}
+   , { "saved","zapisano."}
+   , { "search","Szukaj"}
+   , { "second","Sekunda"}
+   , { "seconds","Sekundy"}
+   , { "select","Zaznacz"}
+   , { "selectable","Dost\u0119pne"}
+   , { "selectable_on","Dost\u0119pne w"}
+   , { "selected","Wybrane"}
+   , { "selected_on","Wybrane na"}
+   , { "selection","Zaznaczenie"}
+   , { "selection_resource","Zaznaczenie zasobu"}
+   , { "serie","Serie"}
+   , { "server","Serwer"}
+   , { "show_as","Wy\u015bwietlaj jako"}
+   , { "show_conflicts","Poka\u017c konflikty"}
+   , { "show_resource_selection","Poka\u017c zasoby"}
+   , { "show_tips","Pokazuj podpowiedzi"}
+   , { "single_appointment.format","termin {0}"}
+   , { "source","\u0179r\u00f3d\u0142o"}
+   , { "start_date","Data rozpocz\u0119cia"}
+   , { "start_time","Czas rozpocz\u0119cia"}
+   , { "surname","Nazwisko"}
+   , { "switch_back","Wr\u00f3\u0107"}
+   , { "switch_to","Prze\u0142\u0105cz na"}
+   , { "table","Tabela"}
+   , { "time_at","o"}
+   , { "time_until","do"}
+   , { "today","Dzi\u015b"}
+   , { "total_occurances","Suma wyst\u0105pie\u0144"}
+   , { "translation","T\u0142umaczenie"}
+   , { "translation.format","T\u0142umaczenia na \"(0)\":"}
+   , { "type","Typ"}
+   , { "type.boolean","Tak|Nie"}
+   , { "type.date","Data"}
+   , { "type.int","Liczba"}
+   , { "type.rapla:category","Kategoria"}
+   , { "type.string","Tekst"}
+   , { "types","Typy"}
+   , { "user","U\u017cytkownik"}
+   , { "username","Nazwa u\u017cytkownika"}
+   , { "users","U\u017cytkownicy"}
+   , { "view","Widok"}
+   , { "warning","Uwaga"}
+   , { "warning.conflict","UWAGA: Wykryto konflikt!"}
+   , { "warning.duplicated_appointments","UWAGA: Ten sam termin wyst\u0119puje kilkakrotnie [{0}]!"}
+   , { "warning.experienced_users_only","Nie kombinuj, chyba, \u017ce wiesz, co robisz ;)"}
+   , { "warning.max-one-eventtype","Tylko 1 zdarzenie typu jest dozwolone. Ustaw filtr!"}
+   , { "warning.no_allocatables_selected","Nie wybrano \u017cadnych zasob\u00f3w/os\u00f3b!"}
+   , { "warning.no_conflict_permission","Nie masz uprawnie\u0144 do tworzenia konflikt\u00f3w w [{0}]!"}
+   , { "warning.no_reserve_permission","Nie masz uprawnie\u0144 do zmiany/ustalenia [{0}] terminu [{1}]! "}
+   , { "warning.period_shorter_than_week","Okres kr\u00f3tszy ni\u017c tydzie\u0144."}
+   , { "warning.readonly_storage","Dane zmienione tylko w pami\u0119ci. Zmiany zostan\u0105 utracone."}
+   , { "warning.reservation.delete","Edytowane wydarzenie zosta\u0142o usuni\u0119te."}
+   , { "warning.reservation.update","Edytowane wydarzenie zosta\u0142o zmienione." 
+      +  " Dane w tym oknie zostan\u0105 zaktualizowane."}
+   , { "week","Tydzie\u0144"}
+   , { "week_compact","Tydzie\u0144/Zas\u00f3b"}
+   , { "week_timeslot","Program tydzie\u0144"}
+   , { "weekday","Dzie\u0144 tygodnia"}
+   , { "weekly","Co tydzie\u0144"}
+   , { "weeks","Tygodnie"}
+   , { "weekview.print.choose_export","Wybierz metod\u0119 zapisu!"}
+   , { "weekview.print.dialog_title","Podgl\u0105d wydruku"}
+   , { "weekview.print.format_button","Ustawienia drukarki"}
+   , { "weekview.print.postscript","Postscript"}
+   , { "weekview.print.title_textfield","Tytu\u0142"}
+   , { "width","Szeroko\u015b\u0107"}
+   , { "with","z"}
+   , { "x_days_advance","x dni wcze\u015bniej"}
+   , { "year","Rok"}
+   , { "yearly","Co rok"}
+   , { "years","Lata"}
+   , { "yes","Tak"}
+   , { "zero_appointment","Brak rezerwacji"}
+  };
+}
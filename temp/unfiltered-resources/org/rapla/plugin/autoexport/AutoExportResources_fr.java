@@ -0,0 +1,18 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.autoexport;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class AutoExportResources_fr extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "calendar_list","Calendriers Export\u00e9s"}
+   , { "show_navigation","Affiche la barre de navigation"}
+   , { "webserver","Serveur Web"}
+  };
+}
@@ -0,0 +1,18 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.autoexport;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class AutoExportResources_nl extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "calendar_list","Gepubliceerde Planningen"}
+   , { "show_navigation","Navigatie balk"}
+   , { "webserver","Web Server"}
+  };
+}
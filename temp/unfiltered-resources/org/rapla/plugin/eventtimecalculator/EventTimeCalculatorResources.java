@@ -0,0 +1,26 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.eventtimecalculator;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class EventTimeCalculatorResources extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "break_duration","break duration"}
+   , { "default_preferences","default preferences"}
+   , { "hours","h"}
+   , { "lunch_break","lunch break"}
+   , { "lunch_break_duration","lunch break duration"}
+   , { "minutes","min"}
+   , { "time_format","time format:"}
+   , { "time_till_break","time till break"}
+   , { "time_unit","time unit:"}
+   , { "total_duration","Total duration"}
+   , { "user_settings","user settings:"}
+  };
+}
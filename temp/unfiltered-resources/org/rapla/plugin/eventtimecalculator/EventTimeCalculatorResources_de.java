@@ -0,0 +1,26 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.eventtimecalculator;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class EventTimeCalculatorResources_de extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "break_duration","Pausendauer"}
+   , { "default_preferences","Standardeinstellungen"}
+   , { "hours","Std."}
+   , { "lunch_break","Mittagspause"}
+   , { "lunch_break_duration","Mittagspausendauer"}
+   , { "minutes","Min."}
+   , { "time_format","Format der Zeiteinheit ({0} = volle Zeiteinheiten, {1} = Rest)"}
+   , { "time_till_break","Zeit bis zur Pause"}
+   , { "time_unit","Minuten pro Zeiteinheit:"}
+   , { "total_duration","Dauer"}
+   , { "user_settings","Benutzerspezifische Einstellungen:"}
+  };
+}
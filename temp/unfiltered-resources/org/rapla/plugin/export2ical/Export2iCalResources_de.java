@@ -0,0 +1,32 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.export2ical;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class Export2iCalResources_de extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "available_autoexport_views_text","Verf\u00fcgbare Ansichten basierend auf HTML Export:"}
+   , { "available_ical_views_text","Verf\u00fcgbare iCal Ansichten:"}
+   , { "cancel_text","Abbrechen"}
+   , { "created_succesfully_text","Erfolgreich angelegt."}
+   , { "delete_text","L\u00f6schen"}
+   , { "export_file_succesfull_text","Die iCal Datei wurde erfolgreich erstellt."}
+   , { "export_file_text","Exportiere Ansicht in iCal File"}
+   , { "export_ical_text","Ver\u00f6ffentliche Kalender nach iCal"}
+   , { "export_text","Exportieren"}
+   , { "ical_view_name_text","Name der iCal Ansicht:"}
+   , { "no_dates_text","In der aktuellen Ansicht sind keine Termine vorhanden."}
+   , { "no_name_text","Kein Name gesetzt."}
+   , { "previous_days_text","vorhergehende Tage:"}
+   , { "save_title_text","Ansicht als iCal speichern"}
+   , { "subsequent_days_text","darauffolgende Tage:"}
+   , { "use_user_interval_setting_text","benutzerspezifische Intervalleinstellung verwenden"}
+   , { "user_interval_setting_text","Benutzerspezifische Intervalleinstellung:"}
+  };
+}
@@ -0,0 +1,16 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.importusers;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class ImportUsersResources extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "checklog","{0} of {1} errors. Consult log file"}
+  };
+}
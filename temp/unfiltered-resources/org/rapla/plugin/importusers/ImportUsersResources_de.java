@@ -0,0 +1,16 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.importusers;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class ImportUsersResources_de extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "checklog","{0} von {1} Fehler. Consult Protokolldatei."}
+  };
+}
@@ -0,0 +1,16 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.importusers;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class ImportUsersResources_fr extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "checklog","{0} sur {1} erreurs. Consultez le fichier journal."}
+  };
+}
@@ -0,0 +1,18 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.notification;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class NotificationResources_nl extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "moved_to","naar: "}
+   , { "notification.option.description","Stuur mij een E-mail bij wijziging in reservatie van volgende Personen & Middelen"}
+   , { "subscribe_notification","Selecteer middelen voor kennisgeving:"}
+  };
+}
@@ -0,0 +1,39 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.occupationview;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class OccupationResources_de extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "FirstDay","Tag 1 des Monats"}
+   , { "ToDay","Heute"}
+   , { "archive_gt","Archiv {0} >= {1} Tage inaktiv"}
+   , { "archive_yn","Archiv"}
+   , { "bestFit","...: "}
+   , { "confirm","Best\u00e4tigen. Archiv auf {0)."}
+   , { "daysin","Ein"}
+   , { "daysout","Aus"}
+   , { "event_check","..."}
+   , { "firstFit","...: "}
+   , { "forbidden","...: "}
+   , { "forcearchive_lt","Archiv {0} < {1} Tage inaktiv"}
+   , { "freeSlot","Frei: "}
+   , { "horizon","Monat +"}
+   , { "minus1month","-1 Monate"}
+   , { "noendoflife","_endoflive nicht definiert."}
+   , { "occupation","Besetzung"}
+   , { "options.timeshift","Einstellungen"}
+   , { "permission.denied","Gesperrt"}
+   , { "plus1month","+1 Monate"}
+   , { "resourcedeleted","Gel\u00f6scht"}
+   , { "resources_persons","Ressourcen/Personen"}
+   , { "slotGaps","...: "}
+   , { "startday","Ab Tag des Monats"}
+  };
+}
@@ -0,0 +1,39 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.occupationview;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class OccupationResources_nl extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "FirstDay","Dag 1 van maand"}
+   , { "ToDay","Vandaag"}
+   , { "archive_gt","Archiveer {0} >= {1} dagen inactief"}
+   , { "archive_yn","Archiveer"}
+   , { "bestFit","Beste vrij"}
+   , { "confirm","Bevestig: Archiveer op {0}."}
+   , { "daysin","In"}
+   , { "daysout","Uit"}
+   , { "event_check","Opmerking"}
+   , { "firstFit","Eerst vrij"}
+   , { "forbidden","Materiaal niet beschikbaar."}
+   , { "forcearchive_lt","Archiveer {0} < {1} dagen inactief"}
+   , { "freeSlot","Vrij: "}
+   , { "horizon","Maand +"}
+   , { "minus1month","-1 Maand"}
+   , { "noendoflife","_endoflife niet gedefinieerd."}
+   , { "occupation","Bezetting"}
+   , { "options.timeshift","Voorkeur"}
+   , { "permission.denied","Geen toegang"}
+   , { "plus1month","+1 Maand"}
+   , { "resourcedeleted","Geschrapt"}
+   , { "resources_persons","Persoon/Materiaal"}
+   , { "slotGaps","#Gaps"}
+   , { "startday","Start dag van de maand"}
+  };
+}
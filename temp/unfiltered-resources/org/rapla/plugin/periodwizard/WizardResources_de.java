@@ -0,0 +1,64 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.periodwizard;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class WizardResources_de extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "enter_appointments","Eingabe der Termine:"}
+   , { "error.no_period_found","" 
+      +  " Keine Zeitr\u00e4ume gefunden. Bitte geben Sie zuerst die Zeitr\u00e4ume ein, f\u00fcr die Sie planen m\u00f6chten. Sie m\u00fcssen sich hierf\u00fcr als admin einloggen." 
+      +  " "}
+   , { "reservation.create_with_default_wizard","W\u00f6chentliche Veranstaltung in einem Zeitraum"}
+   , { "reservation_wizard.add_appointment","Termin hinzuf\u00fcgen"}
+   , { "reservation_wizard.appointment_menu","Termineingabe"}
+   , { "reservation_wizard.panel1","" 
+      +  " <strong>Anlegen einer regelm\u00e4\u00dfigen Veranstaltung:</strong><br/>" 
+      +  " <br/>" 
+      +  " <strong>1.</strong> Zeitraum in dem die Reservierung stattfindet ausw\u00e4hlen.<br/>" 
+      +  " <br/>" 
+      +  " <strong>2.</strong> Veranstaltungstyp ausw\u00e4hlen.<br/>" 
+      +  " <br/>" 
+      +  " <strong>3.</strong> Eingabe der Veranstaltungsdaten.<br/>" 
+      +  " <br/>" 
+      +  " <strong>4.</strong> Weiter zur Termineingabe.<br/>" 
+      +  " "}
+   , { "reservation_wizard.panel2","" 
+      +  " <strong>Eingabe von bekannten Terminen:</strong><br/>" 
+      +  " Geben Sie den Wochentag und die Uhrzeit der Termine ein.<br/>" 
+      +  " <br/>" 
+      +  " <strong>Suche nach freien Terminen:</strong><br/>" 
+      +  " Markieren Sie die Ressourcen oder Personen f\u00fcr die Sie einen freien Termin suchen" 
+      +  " in der linken Tabelle und dr\u00fccken Sie auf \"Freien Termin suchen\".<br/>" 
+      +  " <br/>" 
+      +  " <strong>Ausw\u00e4hlen von Ressourcen und Personen:</strong><br/>" 
+      +  " Markieren Sie die gew\u00fcnschten Personen und Ressourcen in der linken Tabelle." 
+      +  " Mit einen Doppelklick werden die Eintr\u00e4ge in die rechte Tabelle \u00fcbernommen und" 
+      +  " allen eingegebenen Termine zugewiesen. Wenn Sie eine" 
+      +  " Ressource oder Person nur einem bestimmten Termin zuweisen wollen, klicken Sie" 
+      +  " in die rechte Spalte neben dem entsprechenden Eintrag in der rechten Tabelle." 
+      +  " "}
+   , { "reservation_wizard.panel3","" 
+      +  " <strong>Terminsuche:</strong><br/>" 
+      +  " W\u00e4hlen Sie mit der Maus ein freies Zeitfenster in der Wochenansicht aus." 
+      +  " Dr\u00fccken Sie \"Termin hinzuf\u00fcgen\", um den Termin anzulegen und zum" 
+      +  " vorherigen Men\u00fc zur\u00fcckzukehren. <br/>" 
+      +  " <br/>" 
+      +  " Sie k\u00f6nnen dort die gew\u00fcnschte Ressource oder Person dem Termin zuweisen." 
+      +  " "}
+   , { "reservation_wizard.search_free_appointment","Freien Termin suchen"}
+   , { "reservation_wizard.title","Assistent zum Anlegen einer regelm\u00e4\u00dfigen Veranstaltung"}
+   , { "reservation_wizard.weekview","{0}: {1}"}
+   , { "select_persons_and_resources","Ausw\u00e4hlen von Ressourcen und Personen:"}
+   , { "warning.need_resource_or_person","" 
+      +  " Sie m\u00fcssen mindestens eine Ressource oder Person" 
+      +  " f\u00fcr die Sie den freien Termin suchen markieren!" 
+      +  " "}
+  };
+}
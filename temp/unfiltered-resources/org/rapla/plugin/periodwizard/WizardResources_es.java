@@ -0,0 +1,63 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.periodwizard;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class WizardResources_es extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "enter_appointments","Introducci\u00f3n de citas :"}
+   , { "error.no_period_found","No existen periodos. Comience por definir los periodos del a\u00f1o que se usar\u00e1n en las planificaciones. Para ello, necesitar\u00e1 conectarse como usuario admin."}
+   , { "reservation.create_with_default_wizard","Evento semanal durante todo un periodo"}
+   , { "reservation_wizard.add_appointment","A\u00f1adir cita"}
+   , { "reservation_wizard.appointment_menu","Creaci\u00f3n de citas"}
+   , { "reservation_wizard.panel1","" 
+      +  " <strong>Creaci\u00f3n de eventos semanales:</strong><br/>" 
+      +  " <br/>" 
+      +  " <strong>1.</strong> Seleccione el periodo del a\u00f1o.<br/>" 
+      +  " <br/>" 
+      +  " <strong>2.</strong> Escoja el tipo de evento.<br/>" 
+      +  " <br/>" 
+      +  " <strong>3.</strong> Introduzca la informaci\u00f3n del evento.<br/>" 
+      +  " <br/>" 
+      +  " <strong>4.</strong> Pase a la ventana de creaci\u00f3n de citas.<br/>" 
+      +  " "}
+   , { "reservation_wizard.panel2","" 
+      +  " <strong>Introduzca las citas que conoce:</strong><br/>" 
+      +  " Indique el d\u00eda de la semana y la hora de inicio y de fin de la cita.<br/>" 
+      +  " <br/>" 
+      +  " <strong>B\u00fasqueda de citas disponibles:</strong><br/>" 
+      +  " Seleccione en la tabla de la izquierda" 
+      +  " los recursos y las personas para los cuales" 
+      +  " desee buscar una cita disponible" 
+      +  " y pulse sobre \"Buscar una cita disponible\".<br/>" 
+      +  " <br/>" 
+      +  " <strong>Seleccione los recursos y las personas:</strong><br/>" 
+      +  " Seleccione en la tabla de la izquierda" 
+      +  " los recursos y las personas y pulse el bot\u00f3n \"A\u00f1adir\"." 
+      +  " Se a\u00f1adir\u00e1n para todas las citas." 
+      +  " Para asignar un recurso o persona a una cita" 
+      +  " particular, pulse sobre el bot\u00f3n que aparece a continuaci\u00f3n" 
+      +  " del recurso o persona en la tabla de la derecha." 
+      +  " "}
+   , { "reservation_wizard.panel3","" 
+      +  " <strong>B\u00fasqueda de citas :</strong><br/>" 
+      +  " Seleccione con el rat\u00f3n una cita disponible durante la semana." 
+      +  " Pulse \"A\u00f1adir cita\" para a\u00f1adir la cita" 
+      +  " y volver a la ventana previa." 
+      +  " <br/>" 
+      +  " <br/>" 
+      +  " All\u00ed podr\u00e1 asignar recursos o personas a la cita." 
+      +  " "}
+   , { "reservation_wizard.search_free_appointment","Buscar una cita disponible"}
+   , { "reservation_wizard.title","Asistente de creaci\u00f3n de eventos semanales"}
+   , { "reservation_wizard.weekview","{0}: {1}"}
+   , { "select_persons_and_resources","Selecci\u00f3n de recursos y personas :"}
+   , { "warning.need_resource_or_person","\u00a1Debe seleccionar al menos un recurso o persona para el cual (o los cuales) desea buscar una cita disponible!"}
+  };
+}
@@ -0,0 +1,53 @@
+/*******************************************
+ * Autogenerated file. Please do not edit. *
+ * Edit the *Resources.xml file.           *
+ *******************************************/
+
+package org.rapla.plugin.periodwizard;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+public class WizardResources_nl extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  public void setParent(ResourceBundle parent) { super.setParent(parent); }
+  static final Object[][] contents = { {"",""} 
+   , { "enter_appointments","Toevoegen activiteiten:"}
+   , { "error.no_period_found","Geen periode gevonden. Eerst een periode toevoegen. Contacteer de systeem beheerder."}
+   , { "reservation.create_with_default_wizard","Activiteit (Periode wekelijks)"}
+   , { "reservation_wizard.add_appointment","Toevoegen"}
+   , { "reservation_wizard.appointment_menu","Volgende"}
+   , { "reservation_wizard.panel1","" 
+      +  " <strong>Plannen van een activiteit:</strong><br/>" 
+      +  " <br/>" 
+      +  " <strong>1.</strong> Kies een periode.<br/>" 
+      +  " <br/>" 
+      +  " <strong>2.</strong> Kies een type activiteit.<br/>" 
+      +  " <br/>" 
+      +  " <strong>3.</strong> Geef de activiteit een label.<br/>" 
+      +  " <br/>" 
+      +  " <strong>4.</strong> Volgende.<br/>" 
+      +  " "}
+   , { "reservation_wizard.panel2","" 
+      +  " <strong>1. Plan een activiteit: </strong><br/>" 
+      +  " Geef de dag van de week en tijd.<br/>" 
+      +  " <strong>of</strong><br/>" 
+      +  " zoek een vrije plaats; selecteer de middelen in de linkerlijst en <strong>Zoek</strong>.<br/>" 
+      +  "<br/><strong>2. Selecteer de middelen:</strong><br/>" 
+      +  " Selecteer de middelen in de linkerlijst en <strong>Voeg toe</strong>.<br/><br/>" 
+      +  " Als je een middel enkel aan \u00e9\u00e9n activiteit" 
+      +  " wil toewijzen selecteer deze in de rechterlijst naast de naam.<br/>" 
+      +  "<br/><strong>3. Sla op.</strong>" 
+      +  " "}
+   , { "reservation_wizard.panel3","" 
+      +  " <strong>Zoek:</strong><br/><br/>" 
+      +  " Selecteer met de muis de tijd in het weekoverzicht.;<br/>" 
+      +  " <br/>" 
+      +  " <strong>Toevoegen</strong> om te bevestigen." 
+      +  " "}
+   , { "reservation_wizard.search_free_appointment","Zoek"}
+   , { "reservation_wizard.title","Assistent: Activiteit (Periode)"}
+   , { "reservation_wizard.weekview","{0}: {1}"}
+   , { "select_persons_and_resources","Toewijzingen:"}
+   , { "warning.need_resource_or_person","Tenminste \u00e9\u00e9n middel of persoon selecteren!"}
+  };
+}
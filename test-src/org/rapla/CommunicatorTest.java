@@ -1,6 +1,11 @@
 package org.rapla;
 
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
 import java.util.Date;
+import java.util.zip.GZIPInputStream;
 
 import org.apache.avalon.framework.configuration.DefaultConfiguration;
 import org.rapla.entities.configuration.Preferences;
@@ -9,8 +14,13 @@ import org.rapla.entities.domain.Appointment;
 import org.rapla.entities.domain.Reservation;
 import org.rapla.entities.dynamictype.ClassificationFilter;
 import org.rapla.entities.dynamictype.DynamicType;
+import org.rapla.components.util.IOUtil;
 import org.rapla.facade.ClientFacade;
 import org.rapla.framework.RaplaContext;
+import org.rapla.framework.RaplaException;
+import org.rapla.server.RemoteServer;
+import org.rapla.server.RemoteStorage;
+import org.rapla.storage.dbrm.HTTPConnector;
 import org.rapla.storage.dbrm.RemoteOperator;
 
 public class CommunicatorTest extends ServletTestBase
@@ -125,4 +135,54 @@ public class CommunicatorTest extends ServletTestBase
             opt.disconnect();
         }
     }
+
+    public void testGzipResponse() throws Exception
+    {
+        HttpURLConnection login = post( RemoteServer.ROLE + "/login", "0=homer&1=duffs", null);
+        assertEquals( 200, login.getResponseCode());
+        String cookie = login.getHeaderField("Set-Cookie");
+        assertNotNull( cookie );
+        cookie = cookie.substring( 0, cookie.indexOf(';'));
+
+        HttpURLConnection conn = post( RemoteStorage.class.getName() + "/getResources", "", cookie);
+        assertEquals( 200, conn.getResponseCode());
+        assertEquals( "gzip", conn.getHeaderField("Content-Encoding"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IOUtil.copyStreams( new GZIPInputStream( conn.getInputStream()), out);
+        String xml = new String( out.toByteArray(), "UTF-8");
+        assertTrue( xml.indexOf("</rapla:data>") > 0);
+    }
+
+    public void testInlineError() throws Exception
+    {
+        HttpURLConnection conn = post( RemoteStorage.class.getName() + "/getResources", "", null, HTTPConnector.ERROR_CONTENT_TYPE);
+        assertEquals( 500, conn.getResponseCode());
+        assertTrue( conn.getContentType().startsWith( HTTPConnector.ERROR_CONTENT_TYPE));
+        Object error = new ObjectInputStream( conn.getErrorStream()).readObject();
+        assertTrue( error instanceof RaplaException);
+    }
+
+    private HttpURLConnection post( String methodName, String params, String cookie) throws Exception
+    {
+        return post( methodName, params, cookie, null);
+    }
+
+    private HttpURLConnection post( String methodName, String params, String cookie, String accept) throws Exception
+    {
+        URL url = new URL("http://localhost:8051/rapla/rpc/" + methodName);
+        HttpURLConnection conn = (HttpURLConnection)url.openConnection();
+        conn.setRequestMethod("POST");
+        conn.setRequestProperty("Accept-Encoding", "gzip");
+        if ( accept != null)
+        {
+            conn.setRequestProperty("Accept", accept);
+        }
+        if ( cookie != null)
+        {
+            conn.setRequestProperty("Cookie", cookie);
+        }
+        conn.setDoOutput( true);
+        conn.getOutputStream().write( params.getBytes("UTF-8"));
+        return conn;
+    }
 }
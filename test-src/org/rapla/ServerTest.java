@@ -11,11 +11,14 @@
  | Definition as published by the Open Source Initiative (OSI).             |
  *--------------------------------------------------------------------------*/
 package org.rapla;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 
 import org.rapla.components.util.DateTools;
@@ -38,10 +41,20 @@ import org.rapla.entities.dynamictype.ClassificationFilter;
 import org.rapla.entities.dynamictype.ConstraintIds;
 import org.rapla.entities.dynamictype.DynamicType;
 import org.rapla.entities.dynamictype.DynamicTypeAnnotations;
+import org.rapla.entities.storage.RefEntity;
 import org.rapla.facade.ClientFacade;
+import org.rapla.facade.ModificationEvent;
+import org.rapla.facade.ModificationListener;
+import org.rapla.facade.internal.FacadeImpl;
 import org.rapla.framework.RaplaException;
 import org.rapla.plugin.weekview.WeekViewFactory;
+import org.rapla.server.RemoteServiceCaller;
+import org.rapla.server.RemoteStorage;
 import org.rapla.server.ServerService;
+import org.rapla.server.internal.RemoteStorageImpl;
+import org.rapla.server.internal.ServerServiceImpl;
+import org.rapla.storage.dbrm.EntityList;
+import org.rapla.storage.dbrm.RemoteMethodRegistry;
 
 public class ServerTest extends ServletTestBase {
     ServerService raplaServer;
@@ -124,6 +137,29 @@ public class ServerTest extends ServletTestBase {
         facade2.logout();
     }
 
+    public void testPushUpdate() throws Exception {
+        final List<ModificationEvent> events = Collections.synchronizedList(new ArrayList<ModificationEvent>());
+        facade2.addModificationListener( new ModificationListener() {
+            public void dataChanged(ModificationEvent evt) {
+                events.add( evt );
+            }
+
+            public boolean isInvokedOnAWTEventQueue() {
+                return false;
+            }
+        });
+        Reservation r1 = facade1.newReservation();
+        r1.getClassification().setValue("name","test-reservation");
+        r1.addAppointment( facade1.newAppointment(facade1.today(), new Date()));
+        facade1.store( r1 );
+        // no refresh, the change is pushed to the second facade
+        for ( int i=0;i<100 && events.isEmpty();i++) {
+            Thread.sleep( 100 );
+        }
+        assertFalse( events.isEmpty() );
+        assertTrue( events.get( 0 ).isModified( Reservation.TYPE ) );
+    }
+
     public void testChangeDynamicType() throws Exception {
     	Allocatable allocatable = (Allocatable) facade1.getAllocatables()[0];
         assertEquals(3, allocatable.getClassification().getAttributes().length);
@@ -256,6 +292,37 @@ public class ServerTest extends ServletTestBase {
         }
     }
     
+    public void testRemoveAllocatableOfUnloadedReservation() throws Exception {
+        // the reservation is stored by the second client in a period the first client hasn't loaded
+        Allocatable resource = facade2.newResource();
+        resource.getClassification().setValue("name", "unloaded-resource");
+        facade2.store( resource );
+        Reservation r = facade2.newReservation();
+        r.getClassification().setValue("name","unloaded-reservation");
+        Date start = new Date( facade1.today().getTime() + 5 * 365 * DateTools.MILLISECONDS_PER_DAY);
+        r.addAppointment( facade2.newAppointment( start, new Date( start.getTime() + DateTools.MILLISECONDS_PER_HOUR)));
+        r.addAllocatable( resource );
+        facade2.store( r );
+
+        facade1.refresh();
+        Allocatable clientResource = null;
+        Allocatable[] allocatables = facade1.getAllocatables();
+        for ( int i=0;i<allocatables.length;i++)
+        {
+            if ( allocatables[i].getName( locale).equals( "unloaded-resource"))
+            {
+                clientResource = allocatables[i];
+            }
+        }
+        assertNotNull( clientResource );
+        try {
+            facade1.remove( clientResource );
+            fail("Dependency Exception should have been thrown");
+        } catch (DependencyException ex) {
+            assertTrue( contains( ex.getDependencies(), "unloaded-reservation"));
+        }
+    }
+
     public void testChangeLogin() throws RaplaException
     {
         ClientFacade facade2 = (ClientFacade)
@@ -353,6 +420,72 @@ public class ServerTest extends ServletTestBase {
 
     }
     
+    public void testReservationWindowsAreCached() throws Exception {
+        Date today = facade1.today();
+        Reservation r = facade1.newReservation();
+        r.getClassification().setValue("name","weekly-reservation");
+        Appointment appointment = facade1.newAppointment( today, new Date( today.getTime() + DateTools.MILLISECONDS_PER_HOUR));
+        appointment.setRepeatingEnabled( true );
+        r.addAppointment( appointment );
+        facade1.store( r );
+
+        RemoteMethodRegistry registry = ((ServerServiceImpl) raplaServer).getMethodRegistry();
+        long week = DateTools.MILLISECONDS_PER_WEEK;
+        Reservation[] firstWeek = facade1.getReservations( null, today, new Date( today.getTime() + week ), null );
+        long calls = getCallCount( registry, "getReservations" );
+        Reservation weekly = findReservation( firstWeek, "weekly-reservation" );
+        assertNotNull( weekly );
+
+        // a window that is already loaded is read from the cache
+        facade1.getReservations( null, new Date( today.getTime() + DateTools.MILLISECONDS_PER_DAY ), new Date( today.getTime() + week ), null );
+        assertEquals( calls, getCallCount( registry, "getReservations" ) );
+
+        // the next weeks are loaded, but the weekly reservation is not sent again
+        Reservation[] nextWeeks = facade1.getReservations( null, today, new Date( today.getTime() + 3 * week ), null );
+        assertEquals( calls + 1, getCallCount( registry, "getReservations" ) );
+        assertSame( weekly, findReservation( nextWeeks, "weekly-reservation" ) );
+        facade1.getReservations( null, new Date( today.getTime() + 2 * week ), new Date( today.getTime() + 3 * week ), null );
+        assertEquals( calls + 1, getCallCount( registry, "getReservations" ) );
+
+        // the server omits the reservations the client passes with their current version
+        RemoteStorage remoteStorage = ((RemoteServiceCaller) ((FacadeImpl) facade1).getOperator()).getRemoteMethod( RemoteStorage.class );
+        Date end = new Date( today.getTime() + week );
+        EntityList all = remoteStorage.getReservations( today, end, null );
+        String knownVersions = RemoteStorageImpl.formatKnownVersions( Collections.singletonList( weekly ) );
+        EntityList unknown = remoteStorage.getReservations( today, end, knownVersions );
+        assertTrue( containsEntity( all, weekly ) );
+        assertFalse( containsEntity( unknown, weekly ) );
+        assertEquals( all.size() - 1 - weekly.getAppointments().length, unknown.size() );
+    }
+
+    private boolean containsEntity( EntityList list, Reservation reservation ) {
+        for ( Iterator<RefEntity<?>> it = list.iterator(); it.hasNext(); ) {
+            if ( it.next().getId().equals( ((RefEntity<?>) reservation).getId() ) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long getCallCount( RemoteMethodRegistry registry, String methodName ) {
+        long count = 0;
+        for ( RemoteMethodRegistry.Statistics statistics : registry.getStatistics() ) {
+            if ( statistics.getName().endsWith( "/" + methodName ) ) {
+                count += statistics.getCount();
+            }
+        }
+        return count;
+    }
+
+    private Reservation findReservation( Reservation[] reservations, String name ) {
+        for ( Reservation reservation : reservations ) {
+            if ( name.equals( reservation.getClassification().getValue( "name" ) ) ) {
+                return reservation;
+            }
+        }
+        return null;
+    }
+
     public void testReservationInTheFutureStoredInCalendar() throws Exception{
         Date futureDate = new Date(facade1.today().getTime() + DateTools.MILLISECONDS_PER_WEEK * 10);
         Reservation r = facade1.newReservation();
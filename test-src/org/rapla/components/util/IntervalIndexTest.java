@@ -0,0 +1,109 @@
+/*--------------------------------------------------------------------------*
+ | Copyright (C) 2006 Christopher Kohlhaas                                  |
+ |                                                                          |
+ | This program is free software; you can redistribute it and/or modify     |
+ | it under the terms of the GNU General Public License as published by the |
+ | Free Software Foundation. A copy of the license has been included with   |
+ | these distribution in the COPYING file, if not go to www.fsf.org         |
+ |                                                                          |
+ | As a special exception, you are granted the permissions to link this     |
+ | program with every library, which license fulfills the Open Source       |
+ | Definition as published by the Open Source Initiative (OSI).             |
+ *--------------------------------------------------------------------------*/
+package org.rapla.components.util;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+public class IntervalIndexTest extends TestCase {
+
+    public IntervalIndexTest(String name) {
+        super(name);
+    }
+
+    public static Test suite() {
+        return new TestSuite(IntervalIndexTest.class);
+    }
+
+    public void testQuery() {
+        IntervalIndex<String> index = new IntervalIndex<String>();
+        index.add("A", 0, 10);
+        index.add("B", 5, 15);
+        index.add("C", 20, 30);
+        index.add("D", 25, IntervalIndex.OPEN_END);
+        assertEquals(4, index.size());
+
+        List<String> result = new ArrayList<String>();
+        index.query(11, 19, result);
+        assertEquals(1, result.size());
+        assertEquals("B", result.get(0));
+
+        result.clear();
+        index.query(10, 20, result);
+        assertEquals(3, result.size());
+        assertTrue(result.contains("A"));
+        assertTrue(result.contains("C"));
+
+        result.clear();
+        index.query(1000, 2000, result);
+        assertEquals(1, result.size());
+        assertEquals("D", result.get(0));
+    }
+
+    public void testReplaceAndRemove() {
+        IntervalIndex<String> index = new IntervalIndex<String>();
+        index.add("A", 0, 10);
+        // moving an interval replaces the old one
+        index.add("A", 100, 110);
+        assertEquals(1, index.size());
+        List<String> result = new ArrayList<String>();
+        index.query(0, 10, result);
+        assertEquals(0, result.size());
+        index.query(105, 105, result);
+        assertEquals(1, result.size());
+
+        assertTrue(index.remove("A"));
+        assertTrue(!index.remove("A"));
+        assertEquals(0, index.size());
+        result.clear();
+        index.query(Long.MIN_VALUE, Long.MAX_VALUE, result);
+        assertEquals(0, result.size());
+    }
+
+    public void testRandom() {
+        Random random = new Random(4711);
+        IntervalIndex<Integer> index = new IntervalIndex<Integer>();
+        long[] starts = new long[500];
+        long[] ends = new long[500];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = random.nextInt(10000);
+            ends[i] = (i % 50 == 0) ? IntervalIndex.OPEN_END : starts[i] + random.nextInt(500);
+            index.add(new Integer(i), starts[i], ends[i]);
+        }
+        // remove every third entry
+        for (int i = 0; i < starts.length; i += 3) {
+            assertTrue(index.remove(new Integer(i)));
+        }
+        for (int q = 0; q < 200; q++) {
+            long start = random.nextInt(11000);
+            long end = start + random.nextInt(1000);
+            Set<Integer> expected = new HashSet<Integer>();
+            for (int i = 0; i < starts.length; i++) {
+                if (i % 3 != 0 && starts[i] <= end && ends[i] >= start) {
+                    expected.add(new Integer(i));
+                }
+            }
+            List<Integer> result = new ArrayList<Integer>();
+            index.query(start, end, result);
+            assertEquals(expected.size(), result.size());
+            assertEquals(expected, new HashSet<Integer>(result));
+        }
+    }
+}
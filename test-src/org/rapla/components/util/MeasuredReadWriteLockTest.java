@@ -0,0 +1,83 @@
+/*--------------------------------------------------------------------------*
+ | Copyright (C) 2006 Christopher Kohlhaas                                  |
+ |                                                                          |
+ | This program is free software; you can redistribute it and/or modify     |
+ | it under the terms of the GNU General Public License as published by the |
+ | Free Software Foundation. A copy of the license has been included with   |
+ | these distribution in the COPYING file, if not go to www.fsf.org         |
+ |                                                                          |
+ | As a special exception, you are granted the permissions to link this     |
+ | program with every library, which license fulfills the Open Source       |
+ | Definition as published by the Open Source Initiative (OSI).             |
+ *--------------------------------------------------------------------------*/
+package org.rapla.components.util;
+
+import java.util.concurrent.locks.Lock;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+public class MeasuredReadWriteLockTest extends TestCase {
+
+    public MeasuredReadWriteLockTest(String name) {
+        super(name);
+    }
+
+    public static Test suite() {
+        return new TestSuite(MeasuredReadWriteLockTest.class);
+    }
+
+    public void testParallelReaders() throws Exception {
+        final MeasuredReadWriteLock lock = new MeasuredReadWriteLock();
+        lock.readLock().lock();
+        final boolean[] result = new boolean[2];
+        Thread thread = new Thread() {
+            public void run() {
+                Lock readLock = lock.readLock();
+                result[0] = readLock.tryLock();
+                if (result[0])
+                    readLock.unlock();
+                result[1] = lock.writeLock().tryLock();
+            }
+        };
+        thread.start();
+        thread.join();
+        lock.readLock().unlock();
+        assertTrue("a second reader must get the lock", result[0]);
+        assertTrue("a writer must wait for the readers", !result[1]);
+    }
+
+    public void testExclusive() throws Exception {
+        final MeasuredReadWriteLock lock = new MeasuredReadWriteLock(true);
+        assertTrue(lock.isExclusive());
+        lock.readLock().lock();
+        final boolean[] result = new boolean[1];
+        Thread thread = new Thread() {
+            public void run() {
+                result[0] = lock.readLock().tryLock();
+            }
+        };
+        thread.start();
+        thread.join();
+        lock.readLock().unlock();
+        assertTrue(!result[0]);
+    }
+
+    public void testStatistics() {
+        MeasuredReadWriteLock lock = new MeasuredReadWriteLock();
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        // reentrant calls are counted once
+        writeLock.lock();
+        lock.readLock().lock();
+        lock.readLock().unlock();
+        writeLock.unlock();
+        assertTrue(lock.isWriteLockedByCurrentThread());
+        writeLock.unlock();
+        assertEquals(1, lock.getWriteStatistics().getCount());
+        assertEquals(1, lock.getReadStatistics().getCount());
+        lock.resetStatistics();
+        assertEquals(0, lock.getWriteStatistics().getCount());
+    }
+}
@@ -19,4 +19,19 @@ public class ToolsTest extends TestCase
         assertEquals( "b2", result[1]);
         assertEquals( "c", result[2]);
     }
+
+    public void testDateArithmetic() {
+        java.util.Calendar cal = DateTools.createGMTCalendar();
+        cal.clear();
+        cal.set( 1899, java.util.Calendar.DECEMBER, 1, 13, 30 );
+        for ( int i = 0; i < 365 * 210; i++ ) {
+            long time = cal.getTimeInMillis();
+            assertEquals( cal.get( java.util.Calendar.YEAR ), DateTools.getYear( time ) );
+            assertEquals( cal.get( java.util.Calendar.MONTH ), DateTools.getMonth( time ) );
+            assertEquals( cal.get( java.util.Calendar.DAY_OF_MONTH ), DateTools.getDayOfMonth( time ) );
+            assertEquals( cal.getActualMaximum( java.util.Calendar.DAY_OF_MONTH ), DateTools.getDaysInMonth( DateTools.getYear( time ), DateTools.getMonth( time ) ) );
+            assertEquals( time - 13 * DateTools.MILLISECONDS_PER_HOUR - 30 * DateTools.MILLISECONDS_PER_MINUTE, DateTools.toDate( DateTools.getYear( time ), DateTools.getMonth( time ), DateTools.getDayOfMonth( time ) ) );
+            cal.add( java.util.Calendar.DATE, 1 );
+        }
+    }
 }
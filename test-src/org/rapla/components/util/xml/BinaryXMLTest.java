@@ -0,0 +1,213 @@
+/*--------------------------------------------------------------------------*
+ | Copyright (C) 2006 Christopher Kohlhaas                                  |
+ |                                                                          |
+ | This program is free software; you can redistribute it and/or modify     |
+ | it under the terms of the GNU General Public License as published by the |
+ | Free Software Foundation. A copy of the license has been included with   |
+ | these distribution in the COPYING file, if not go to www.fsf.org         |
+ |                                                                          |
+ | As a special exception, you are granted the permissions to link this     |
+ | program with every library, which license fulfills the Open Source       |
+ | Definition as published by the Open Source Initiative (OSI).             |
+ *--------------------------------------------------------------------------*/
+package org.rapla.components.util.xml;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+public class BinaryXMLTest extends TestCase {
+
+    static final String XML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><!--*- coding: UTF-8 -*-->\n"
+        + "<rapla:data xmlns:rapla=\"http://rapla.sourceforge.net/rapla\" xmlns:doc='http://rapla.sourceforge.net/annotation' version=\"1.0\">\n"
+        + "   <!-- resources -->\n"
+        + "   <rapla:reservation id=\"reservation_12\" owner=\"user_1\" last-changed=\"2010-01-01\">\n"
+        + "      <rapla:name>Meeting &lt;A&gt; &amp; &quot;B&quot; &#228;</rapla:name>\n"
+        + "      <doc:annotation key=\"a > b\" value=\"x_01\"/>\n"
+        + "      <rapla:appointment id=\"appointment_0\" start-date=\"2010-01-01\" end-date=\"2010-01-01\"/>\n"
+        + "   </rapla:reservation>\n"
+        + "   <rapla:reservation id=\"reservation_13\" owner=\"user_1\" last-changed=\"2010-01-01\">\n"
+        + "      <rapla:name>reservation_13</rapla:name>\n"
+        + "   </rapla:reservation>\n"
+        + "</rapla:data>\n";
+
+    public BinaryXMLTest(String name) {
+        super(name);
+    }
+
+    public static Test suite() {
+        return new TestSuite(BinaryXMLTest.class);
+    }
+
+    public void testSameEventsAsParser() throws Exception {
+        EventRecorder expected = new EventRecorder();
+        XMLReader reader = XMLReaderAdapter.createXMLReader(false);
+        reader.setContentHandler(expected);
+        reader.parse(new InputSource(new StringReader(XML)));
+
+        byte[] binary = toBinary(XML);
+        BufferedInputStream in = new BufferedInputStream(new ByteArrayInputStream(binary));
+        assertTrue(BinaryXMLReader.isBinary(in));
+        EventRecorder actual = new EventRecorder();
+        new BinaryXMLReader().parse(in, actual);
+        assertEquals(expected.toString(), actual.toString());
+        assertTrue(actual.toString().indexOf("Meeting <A> & \"B\" \u00e4") >= 0);
+        assertTrue(actual.toString().indexOf("value=x_01") >= 0);
+
+        assertFalse(BinaryXMLReader.isBinary(new BufferedInputStream(new ByteArrayInputStream(XML.getBytes("UTF-8")))));
+    }
+
+    public void testWhitespaceContent() throws Exception {
+        String xml = "<rapla:data xmlns:rapla=\"http://rapla.sourceforge.net/rapla\">\n"
+            + "  <rapla:name value=\" \"> </rapla:name>\n"
+            + "  <rapla:description>\n  <rapla:name>a b</rapla:name>\n  </rapla:description>\n"
+            + "</rapla:data>";
+        final StringBuffer events = new StringBuffer();
+        DefaultHandler handler = new DefaultHandler() {
+            public void startElement(String uri, String localName, String qName, Attributes atts) {
+                events.append("<" + localName);
+                for (int i = 0; i < atts.getLength(); i++) {
+                    events.append(" " + atts.getLocalName(i) + "=[" + atts.getValue(i) + "]");
+                }
+                events.append(">");
+            }
+
+            public void endElement(String uri, String localName, String qName) {
+                events.append("</" + localName + ">");
+            }
+
+            public void characters(char[] ch, int start, int length) {
+                events.append("[" + new String(ch, start, length) + "]");
+            }
+        };
+        new BinaryXMLReader().parse(new BufferedInputStream(new ByteArrayInputStream(toBinary(xml))), handler);
+        // whitespace between the elements is skipped, the content of an element is kept
+        assertEquals("<data><name value=[ ]>[ ]</name><description><name>[a b]</name></description></data>", events.toString());
+    }
+
+    public void testCharacterEntities() throws Exception {
+        assertEquals("\u00e4", BinaryXMLWriter.decode("&#228;"));
+        assertEquals("\u00e4", BinaryXMLWriter.decode("&#xe4;"));
+        // outside of the basic multilingual plane
+        assertEquals("\ud83d\ude00", BinaryXMLWriter.decode("&#x1F600;"));
+        assertEquals("a\ud83d\ude00b", BinaryXMLWriter.decode("a&#128512;b"));
+    }
+
+    public void testRepeatedStringsAreShorter() throws Exception {
+        StringBuffer xml = new StringBuffer("<rapla:data xmlns:rapla=\"http://rapla.sourceforge.net/rapla\">");
+        for (int i = 0; i < 100; i++) {
+            xml.append("<rapla:appointment id=\"appointment_" + i + "\" start-date=\"2010-01-01\" start-time=\"10:00:00\" end-date=\"2010-01-01\" end-time=\"12:00:00\"/>\n");
+        }
+        xml.append("</rapla:data>");
+        int xmlSize = xml.toString().getBytes("UTF-8").length;
+        int binarySize = toBinary(xml.toString()).length;
+        assertTrue("binary size " + binarySize + " xml size " + xmlSize, binarySize * 5 < xmlSize);
+    }
+
+    public void testInvalidLengths() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryXMLWriter.writeNumber(out, BinaryXMLReader.MAX_LENGTH + 1L);
+        assertInvalidLength(out.toByteArray());
+        out.reset();
+        // a number that is negative as int and as long
+        BinaryXMLWriter.writeNumber(out, 0xffffffffL);
+        assertInvalidLength(out.toByteArray());
+        // -1 as long with 7 bits per byte
+        assertInvalidLength(new byte[] {-1, -1, -1, -1, -1, -1, -1, -1, -1, 1});
+
+        // a truncated stream fails without allocating the announced length
+        out.reset();
+        BinaryXMLWriter.writeNumber(out, BinaryXMLReader.MAX_LENGTH);
+        out.write(new byte[] {1, 2, 3});
+        try {
+            BinaryXMLReader.readBytes(new ByteArrayInputStream(out.toByteArray()));
+            fail("EOFException expected");
+        } catch (EOFException ex) {
+        }
+
+        out.reset();
+        BinaryXMLWriter.writeBytes(out, new byte[20000]);
+        assertEquals(20000, BinaryXMLReader.readBytes(new ByteArrayInputStream(out.toByteArray())).length);
+    }
+
+    private void assertInvalidLength(byte[] bytes) {
+        try {
+            BinaryXMLReader.readBytes(new ByteArrayInputStream(bytes));
+            fail("IOException expected");
+        } catch (EOFException ex) {
+            fail("Length should be rejected before reading");
+        } catch (IOException ex) {
+        }
+    }
+
+    private byte[] toBinary(String xml) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryXMLWriter binaryWriter = new BinaryXMLWriter(out);
+        Writer writer = binaryWriter;
+        // write in small pieces to split tags and entities
+        for (int i = 0; i < xml.length(); i += 7) {
+            writer.write(xml, i, Math.min(7, xml.length() - i));
+        }
+        binaryWriter.finish();
+        return out.toByteArray();
+    }
+
+    static class EventRecorder extends DefaultHandler {
+        StringBuffer events = new StringBuffer();
+        StringBuffer text = new StringBuffer();
+
+        public void startPrefixMapping(String prefix, String uri) {
+            flushText();
+            events.append("prefix " + prefix + "=" + uri + "\n");
+        }
+
+        public void endPrefixMapping(String prefix) {
+            flushText();
+            events.append("end prefix " + prefix + "\n");
+        }
+
+        public void startElement(String uri, String localName, String qName, Attributes atts) {
+            flushText();
+            events.append("start {" + uri + "}" + localName + " " + qName);
+            for (int i = 0; i < atts.getLength(); i++) {
+                events.append(" {" + atts.getURI(i) + "}" + atts.getLocalName(i) + "=" + atts.getValue(i));
+            }
+            events.append("\n");
+        }
+
+        public void endElement(String uri, String localName, String qName) {
+            flushText();
+            events.append("end {" + uri + "}" + localName + "\n");
+        }
+
+        public void characters(char[] ch, int start, int length) {
+            text.append(ch, start, length);
+        }
+
+        // whitespace between the elements is not passed by the binary reader
+        private void flushText() {
+            String value = text.toString().trim();
+            if (value.length() > 0) {
+                events.append("text " + value + "\n");
+            }
+            text.setLength(0);
+        }
+
+        public String toString() {
+            return events.toString();
+        }
+    }
+}
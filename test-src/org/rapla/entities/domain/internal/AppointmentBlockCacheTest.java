@@ -0,0 +1,123 @@
+/*--------------------------------------------------------------------------*
+ | Copyright (C) 2006 Christopher Kohlhaas                                  |
+ |                                                                          |
+ | This program is free software; you can redistribute it and/or modify     |
+ | it under the terms of the GNU General Public License as published by the |
+ | Free Software Foundation. A copy of the license has been included with   |
+ | these distribution in the COPYING file, if not go to www.fsf.org         |
+ |                                                                          |
+ | As a special exception, you are granted the permissions to link this     |
+ | program with every library, which license fulfills the Open Source       |
+ | Definition as published by the Open Source Initiative (OSI).             |
+ *--------------------------------------------------------------------------*/
+package org.rapla.entities.domain.internal;
+
+import java.util.Date;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.rapla.components.util.DateTools;
+import org.rapla.entities.domain.Appointment;
+import org.rapla.entities.domain.AppointmentBlockArray;
+import org.rapla.entities.domain.RepeatingType;
+import org.rapla.entities.storage.internal.SimpleIdentifier;
+
+public class AppointmentBlockCacheTest extends TestCase {
+
+    public AppointmentBlockCacheTest(String name) {
+        super(name);
+    }
+
+    public static Test suite() {
+        return new TestSuite(AppointmentBlockCacheTest.class);
+    }
+
+    private AppointmentImpl createAppointment(int key) {
+        Date start = new Date(DateTools.cutDate(System.currentTimeMillis()) + 10 * DateTools.MILLISECONDS_PER_HOUR);
+        AppointmentImpl appointment = new AppointmentImpl(start, new Date(start.getTime() + DateTools.MILLISECONDS_PER_HOUR), RepeatingType.DAILY, 100);
+        appointment.setId(new SimpleIdentifier(Appointment.TYPE, key));
+        return appointment;
+    }
+
+    private static AppointmentBlockArray createBlocks(int count) {
+        AppointmentBlockArray blocks = new AppointmentBlockArray();
+        for (int i = 0; i < count; i++) {
+            blocks.add(i, i + 1, false);
+        }
+        return blocks;
+    }
+
+    public void testVersionAndEviction() {
+        AppointmentBlockCache cache = new AppointmentBlockCache(10);
+        AppointmentImpl a1 = createAppointment(1);
+        AppointmentImpl a2 = createAppointment(2);
+        AppointmentBlockArray blocks = createBlocks(4);
+        cache.put(a1, 0, 100, true, blocks);
+        assertSame(blocks, cache.get(a1, 0, 100, true));
+        assertNull(cache.get(a1, 0, 100, false));
+        assertNull(cache.get(a1, 0, 101, true));
+
+        // another instance with the same id, e.g. after a reload
+        AppointmentImpl copy = createAppointment(1);
+        assertNull(cache.get(copy, 0, 100, true));
+        a1.setVersion(a1.getVersion() + 1);
+        assertNull(cache.get(a1, 0, 100, true));
+
+        cache.put(a1, 0, 100, true, createBlocks(4));
+        cache.put(a2, 0, 100, true, createBlocks(4));
+        assertEquals(8, cache.getStatistics().getBlockCount());
+        // a1 was used last, so a2 is removed
+        cache.get(a1, 0, 100, true);
+        cache.put(createAppointment(3), 0, 100, true, createBlocks(4));
+        assertNull(cache.get(a2, 0, 100, true));
+        assertNotNull(cache.get(a1, 0, 100, true));
+        AppointmentBlockCache.Statistics statistics = cache.getStatistics();
+        assertEquals(2, statistics.getAppointmentCount());
+        assertEquals(8, statistics.getBlockCount());
+        assertEquals(1, statistics.getEvictions());
+        assertEquals(3, statistics.getHits());
+
+        cache.remove(a1.getId());
+        assertNull(cache.get(a1, 0, 100, true));
+        assertEquals(4, cache.getStatistics().getBlockCount());
+    }
+
+    public void testPeriodsPerAppointment() {
+        AppointmentBlockCache cache = new AppointmentBlockCache(1000);
+        AppointmentImpl a1 = createAppointment(1);
+        for (int i = 0; i < AppointmentBlockCache.MAX_PERIODS + 1; i++) {
+            cache.put(a1, i, 100, true, createBlocks(2));
+        }
+        // the first period is replaced
+        assertNull(cache.get(a1, 0, 100, true));
+        assertNotNull(cache.get(a1, 1, 100, true));
+        assertEquals(2 * AppointmentBlockCache.MAX_PERIODS, cache.getStatistics().getBlockCount());
+    }
+
+    public void testOnlyPersistantAppointments() {
+        AppointmentBlockCache cache = new AppointmentBlockCache();
+        AppointmentImpl appointment = createAppointment(1);
+        appointment.setBlockCache(cache);
+        long start = appointment.getStart().getTime();
+        long end = start + DateTools.MILLISECONDS_PER_WEEK * 20;
+        long misses = cache.getStatistics().getMisses();
+        AppointmentBlockArray blocks = new AppointmentBlockArray();
+        appointment.createBlocks(start, end, blocks, true);
+        assertEquals(misses, cache.getStatistics().getMisses());
+
+        appointment.setReadOnly(true);
+        AppointmentBlockArray cachedBlocks = new AppointmentBlockArray();
+        appointment.createBlocks(start, end, cachedBlocks, true);
+        long hits = cache.getStatistics().getHits();
+        appointment.createBlocks(start, end, cachedBlocks, true);
+        assertTrue(cache.getStatistics().getHits() > hits);
+        assertEquals(2 * blocks.size(), cachedBlocks.size());
+        for (int i = 0; i < blocks.size(); i++) {
+            assertEquals(blocks.getStart(i), cachedBlocks.getStart(i));
+            assertEquals(blocks.getStart(i), cachedBlocks.getStart(i + blocks.size()));
+            assertEquals(blocks.getEnd(i), cachedBlocks.getEnd(i + blocks.size()));
+        }
+    }
+}
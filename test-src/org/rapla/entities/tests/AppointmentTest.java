@@ -27,6 +27,7 @@ import junit.framework.TestSuite;
 import org.rapla.components.util.DateTools;
 import org.rapla.entities.domain.Appointment;
 import org.rapla.entities.domain.AppointmentBlock;
+import org.rapla.entities.domain.AppointmentBlockArray;
 import org.rapla.entities.domain.Repeating;
 import org.rapla.entities.domain.RepeatingType;
 import org.rapla.entities.domain.internal.AppointmentImpl;
@@ -432,6 +433,60 @@ public class AppointmentTest extends TestCase {
         assertEquals( start, a1.getMaxEnd() );
     }
 
+    public void testBlockArray()
+    {
+        Appointment monthly = createAppointment(new Day(2006,8,17),new Time(10,30),new Time(12,0));
+        monthly.setRepeatingEnabled(true);
+        monthly.getRepeating().setType( RepeatingType.MONTHLY );
+        monthly.getRepeating().setNumber( -1 );
+        monthly.getRepeating().addException( new Day(2006,10,19).toGMTDate() );
+        monthly.getRepeating().addException( new Day(2007,1,18).toGMTDate() );
+        Appointment yearly = createAppointment(new Day(2008,2,29),new Time(10,30),new Time(12,0));
+        yearly.setRepeatingEnabled(true);
+        yearly.getRepeating().setType( RepeatingType.YEARLY );
+        yearly.getRepeating().setNumber( 3 );
+        Appointment daily = createAppointment(new Day(2006,8,17),new Time(23,0),new Time(1,0));
+        daily.setRepeatingEnabled(true);
+        daily.getRepeating().setType( RepeatingType.DAILY );
+        daily.getRepeating().setEnd( new Day(2011,8,17).toGMTDate() );
+        daily.getRepeating().addException( new Day(2009,1,1).toGMTDate() );
+
+        Date start = new Day(2006,1,1).toGMTDate();
+        Date end = new Day(2020,1,1).toGMTDate();
+        AppointmentBlockArray array = new AppointmentBlockArray( 1 );
+        Appointment[] appointments = new Appointment[] {monthly, yearly, daily};
+        for ( int i = 0; i < appointments.length; i++ )
+        {
+            for ( int k = 0; k < 2; k++ )
+            {
+                boolean excludeExceptions = k == 0;
+                List<AppointmentBlock> blocks = new ArrayList<AppointmentBlock>();
+                appointments[i].createBlocks( start, end, blocks, excludeExceptions );
+                array.clear();
+                appointments[i].createBlocks( start.getTime(), end.getTime(), array, excludeExceptions );
+                assertEquals( blocks.size(), array.size() );
+                int exceptions = 0;
+                for ( int j = 0; j < blocks.size(); j++ )
+                {
+                    assertEquals( blocks.get( j ).getStart(), array.getStart( j ) );
+                    assertEquals( blocks.get( j ).getEnd(), array.getEnd( j ) );
+                    assertEquals( blocks.get( j ).isException(), array.isException( j ) );
+                    exceptions += array.isException( j ) ? 1 : 0;
+                }
+                assertEquals( excludeExceptions || appointments[i] == yearly ? 0 : appointments[i] == monthly ? 2 : 1, exceptions );
+            }
+        }
+        // the 29th of february is only in leap years
+        array.clear();
+        yearly.createBlocks( start.getTime(), end.getTime(), array, true );
+        assertEquals( 3, array.size() );
+        assertEquals( new Day(2012,2,29).toGMTDate().getTime() + 10 * DateTools.MILLISECONDS_PER_HOUR + 30 * DateTools.MILLISECONDS_PER_MINUTE, array.getStart( 1 ) );
+        assertEquals( 18, DateTools.getDayOfMonth( monthly.getRepeating().getExceptions()[1].getTime() ) );
+        assertTrue( monthly.getRepeating().isException( new Day(2006,10,19).toGMTDate().getTime() + DateTools.MILLISECONDS_PER_HOUR ) );
+        assertFalse( monthly.getRepeating().isException( new Day(2006,10,20).toGMTDate().getTime() ) );
+        assertFalse( monthly.getRepeating().isException( new Day(2006,10,18).toGMTDate().getTime() ) );
+    }
+
     public void testMonthlySetEnd()
     {
         Appointment a1 = createAppointment(new Day(2006,8,17),new Time(10,30),new Time(12,0));
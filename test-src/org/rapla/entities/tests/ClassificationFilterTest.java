@@ -0,0 +1,113 @@
+/*--------------------------------------------------------------------------*
+ | Copyright (C) 2006 Christopher Kohlhaas                                  |
+ |                                                                          |
+ | This program is free software; you can redistribute it and/or modify     |
+ | it under the terms of the GNU General Public License as published by the |
+ | Free Software Foundation. A copy of the license has been included with   |
+ | these distribution in the COPYING file, if not go to www.fsf.org         |
+ |                                                                          |
+ | As a special exception, you are granted the permissions to link this     |
+ | program with every library, which license fulfills the Open Source       |
+ | Definition as published by the Open Source Initiative (OSI).             |
+ *--------------------------------------------------------------------------*/
+package org.rapla.entities.tests;
+import java.util.Date;
+
+import org.rapla.RaplaTestCase;
+import org.rapla.components.util.DateTools;
+import org.rapla.entities.dynamictype.Attribute;
+import org.rapla.entities.dynamictype.AttributeType;
+import org.rapla.entities.dynamictype.Classification;
+import org.rapla.entities.dynamictype.ClassificationFilter;
+import org.rapla.entities.dynamictype.DynamicType;
+import org.rapla.entities.dynamictype.DynamicTypeAnnotations;
+import org.rapla.facade.ClientFacade;
+
+public class ClassificationFilterTest extends RaplaTestCase {
+    ClientFacade facade;
+    DynamicType type;
+
+    public ClassificationFilterTest(String name) {
+        super(name);
+    }
+
+    public void setUp() throws Exception {
+        super.setUp();
+        facade = getFacade();
+        DynamicType newType = facade.newDynamicType(DynamicTypeAnnotations.VALUE_RESOURCE_CLASSIFICATION);
+        newType.setElementKey("filter-test-type");
+        Attribute size = facade.newAttribute(AttributeType.INT);
+        size.setKey("size");
+        newType.addAttribute( size );
+        Attribute date = facade.newAttribute(AttributeType.DATE);
+        date.setKey("date");
+        newType.addAttribute( date );
+        facade.store( newType );
+        type = facade.getDynamicType("filter-test-type");
+    }
+
+    private Classification createClassification(String name, Long size, Date date) {
+        Classification classification = type.newClassification();
+        classification.setValue("name", name);
+        classification.setValue("size", size);
+        classification.setValue("date", date);
+        return classification;
+    }
+
+    private ClassificationFilter createFilter(String attribute, String operator, Object value) {
+        ClassificationFilter filter = type.newClassificationFilter();
+        filter.addRule(attribute, new Object[][] {{operator, value}});
+        return filter;
+    }
+
+    public void testLessOrEquals() {
+        ClassificationFilter filter = createFilter("size", "<=", new Long(10));
+        assertTrue( filter.matches( createClassification("small", new Long(5), null)));
+        assertTrue( filter.matches( createClassification("equal", new Long(10), null)));
+        assertFalse( filter.matches( createClassification("big", new Long(11), null)));
+        assertFalse( filter.matches( createClassification("unknown", null, null)));
+
+        Date date = new Date(DateTools.cutDate(System.currentTimeMillis()));
+        Date nextDay = new Date(date.getTime() + DateTools.MILLISECONDS_PER_DAY);
+        ClassificationFilter dateFilter = createFilter("date", "<=", date);
+        assertTrue( dateFilter.matches( createClassification("before", null, new Date(date.getTime() - 1))));
+        assertTrue( dateFilter.matches( createClassification("same", null, date)));
+        assertFalse( dateFilter.matches( createClassification("after", null, nextDay)));
+    }
+
+    public void testNumberOperators() {
+        Classification classification = createClassification("test", new Long(10), null);
+        assertTrue( createFilter("size", ">=", new Long(10)).matches( classification ));
+        assertFalse( createFilter("size", ">", new Long(10)).matches( classification ));
+        assertTrue( createFilter("size", "<", new Long(11)).matches( classification ));
+        assertTrue( createFilter("size", "=", new Long(10)).matches( classification ));
+        assertFalse( createFilter("size", "<>", new Long(10)).matches( classification ));
+        assertTrue( createFilter("size", "<>", null).matches( classification ));
+        assertFalse( createFilter("size", "=", null).matches( classification ));
+        assertTrue( createFilter("size", "=", null).matches( createClassification("test", null, null)));
+    }
+
+    public void testStringOperators() {
+        Classification classification = createClassification("Lecture Hall", null, null);
+        assertTrue( createFilter("name", "contains", " HALL ").matches( classification ));
+        assertTrue( createFilter("name", "starts", "lec").matches( classification ));
+        assertFalse( createFilter("name", "starts", "hall").matches( classification ));
+        assertTrue( createFilter("name", "=", "Lecture Hall").matches( classification ));
+        assertFalse( createFilter("name", "is", "lecture hall").matches( classification ));
+    }
+
+    public void testChangeRules() {
+        Classification classification = createClassification("test", new Long(20), null);
+        ClassificationFilter filter = createFilter("size", "<=", new Long(10));
+        assertFalse( filter.matches( classification ));
+        filter.setRule(0, "size", new Object[][] {{"<=", new Long(20)}});
+        assertTrue( filter.matches( classification ));
+        filter.addRule("name", new Object[][] {{"contains", "other"}});
+        assertFalse( filter.matches( classification ));
+        filter.removeRule(1);
+        assertTrue( filter.matches( classification ));
+        filter.removeAllRules();
+        assertTrue( filter.matches( createClassification("test", null, null)));
+    }
+
+}
@@ -19,6 +19,8 @@ import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
 
 import junit.framework.Test;
 import junit.framework.TestSuite;
@@ -43,6 +45,8 @@ import org.rapla.facade.Conflict;
 import org.rapla.facade.ModificationModule;
 import org.rapla.facade.QueryModule;
 import org.rapla.facade.UserModule;
+import org.rapla.facade.internal.ConflictFinder;
+import org.rapla.facade.internal.FacadeImpl;
 import org.rapla.framework.RaplaException;
 import org.rapla.framework.RaplaLocale;
 import org.rapla.plugin.weekview.WeekViewFactory;
@@ -89,7 +93,8 @@ public class ClientFacadeTest extends RaplaTestCase {
         facade.removeObjects( all );
         Reservation orig = (Reservation) facade.newReservation();
         orig.getClassification().setValue("name","new");
-        Date start = getRaplaLocale().toDate( 2004, 12, 1);
+        // the conflicts are computed for the appointments after today
+        Date start = new Date( DateTools.cutDate( facade.today()).getTime() + DateTools.MILLISECONDS_PER_WEEK);
         Date end = getRaplaLocale().toDate( start, getRaplaLocale().toTime(  12,0,0));
         orig.addAppointment( facade.newAppointment( start, end));
         orig.addAllocatable( facade.getAllocatables()[0]);
@@ -108,6 +113,34 @@ public class ClientFacadeTest extends RaplaTestCase {
         
     }
 
+    public void testReservationsForRestrictedAllocatable() throws Exception {
+        Allocatable allocatable = facade.getAllocatables()[0];
+        Reservation reservation = facade.newReservation();
+        reservation.getClassification().setValue("name","restricted");
+        Date start = new Date( DateTools.cutDate( facade.today()).getTime() + DateTools.MILLISECONDS_PER_WEEK);
+        Appointment first = facade.newAppointment( start, new Date( start.getTime() + DateTools.MILLISECONDS_PER_HOUR));
+        Date secondStart = new Date( start.getTime() + DateTools.MILLISECONDS_PER_WEEK);
+        Appointment second = facade.newAppointment( secondStart, new Date( secondStart.getTime() + DateTools.MILLISECONDS_PER_HOUR));
+        reservation.addAppointment( first );
+        reservation.addAppointment( second );
+        reservation.addAllocatable( allocatable );
+        reservation.setRestriction( allocatable, new Appointment[] { first });
+        facade.store( reservation );
+
+        // like hasAllocated(allocatable) the restriction is ignored, so the unrestricted appointment finds the reservation
+        Date end = new Date( secondStart.getTime() + DateTools.MILLISECONDS_PER_DAY);
+        Reservation[] reservations = facade.getReservationsForAllocatable( new Allocatable[] { allocatable }, secondStart, end, null);
+        assertTrue( Arrays.asList( reservations ).contains( reservation ));
+        Reservation[] all = facade.getReservationsForAllocatable( null, secondStart, end, null);
+        Set<Reservation> expected = new HashSet<Reservation>();
+        for (Reservation r : all) {
+            if ( r.hasAllocated( allocatable )) {
+                expected.add( r );
+            }
+        }
+        assertEquals( expected, new HashSet<Reservation>( Arrays.asList( reservations )));
+    }
+
     // Make some Changes to the Reservation in another client
     private void changeInSecondFacade(String name) throws Exception {
         ClientFacade facade2 = (ClientFacade)
@@ -292,6 +325,119 @@ public class ClientFacadeTest extends RaplaTestCase {
         assertTrue(resources.length > 0);
     }
 
+    public void testConflictInitialization() throws Exception {
+        List<Allocatable> allocatables = Arrays.asList(facade.getAllocatables());
+        int conflicts = facade.getConflicts( allocatables,(Date) null ).length;
+        ConflictFinder.InitStatistics statistics = ((FacadeImpl) facade).getConflictInitStatistics();
+        assertTrue( statistics.isFinished() );
+        assertTrue( statistics.getAllocatableCount() > 0 );
+        assertEquals( statistics.getAllocatableCount(), statistics.getCompletedCount() );
+        assertTrue( statistics.getThreadCount() >= 1 );
+        // the conflicts are computed only once
+        ((FacadeImpl) facade).initConflictsInBackground();
+        assertEquals( conflicts, facade.getConflicts( allocatables,(Date) null ).length );
+        assertEquals( statistics.getTime(), ((FacadeImpl) facade).getConflictInitStatistics().getTime() );
+    }
+
+    public void testStoreDuringConflictInitialization() throws Exception {
+        final FacadeImpl facadeImpl = (FacadeImpl) facade;
+        Allocatable allocatable = facade.getAllocatables()[0];
+        Date day = new Date( DateTools.cutDate( facade.today()).getTime() + DateTools.MILLISECONDS_PER_WEEK);
+        Reservation first = facade.newReservation();
+        first.getClassification().setValue("name","first");
+        first.addAppointment( facade.newAppointment( getRaplaLocale().toDate( day, getRaplaLocale().toTime( 10,0,0)), getRaplaLocale().toDate( day, getRaplaLocale().toTime( 12,0,0))));
+        first.addAllocatable( allocatable );
+        facade.store( first );
+        final Reservation second = facade.newReservation();
+        second.getClassification().setValue("name","second");
+        second.addAppointment( facade.newAppointment( getRaplaLocale().toDate( day, getRaplaLocale().toTime( 11,0,0)), getRaplaLocale().toDate( day, getRaplaLocale().toTime( 13,0,0))));
+        second.addAllocatable( allocatable );
+
+        // the server stores with the write lock while the conflicts are computed in the background
+        final Lock writeLock = facadeImpl.getOperator().getWriteLock();
+        final Exception[] error = new Exception[1];
+        Thread storeThread = new Thread() {
+            public void run() {
+                writeLock.lock();
+                try {
+                    facadeImpl.initConflictsInBackground();
+                    waitUntilWaiting( "rapla-conflict-init" );
+                    facade.store( second );
+                } catch (Exception ex) {
+                    error[0] = ex;
+                } finally {
+                    writeLock.unlock();
+                }
+            }
+        };
+        storeThread.setDaemon( true );
+        storeThread.start();
+        storeThread.join( 10000 );
+        assertFalse( "store blocked by the conflict initialization", storeThread.isAlive() );
+        if ( error[0] != null)
+            throw error[0];
+        assertEquals( 1, facade.getConflicts( (Reservation) facade.getPersistant( second ) ).length );
+        assertTrue( facadeImpl.getConflictInitStatistics().isFinished() );
+    }
+
+    static void waitUntilWaiting(String threadName) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            for (Thread thread : Thread.getAllStackTraces().keySet()) {
+                if (thread.getName().equals( threadName ) && thread.getState() == Thread.State.WAITING)
+                    return;
+            }
+            Thread.sleep( 10 );
+        }
+    }
+
+    public void testConflictsAfterChange() throws Exception {
+        List<Allocatable> allocatables = Arrays.asList(facade.getAllocatables());
+        facade.removeObjects( facade.getReservationsForAllocatable(null, null, null, null) );
+        Allocatable allocatable = facade.getAllocatables()[0];
+
+        // weekly without end
+        Reservation weekly = facade.newReservation();
+        weekly.getClassification().setValue("name","weekly");
+        // the conflicts are computed for the appointments after today
+        Date start = new Date( DateTools.cutDate( facade.today()).getTime() + DateTools.MILLISECONDS_PER_WEEK);
+        Appointment weeklyAppointment = facade.newAppointment( getRaplaLocale().toDate( start, getRaplaLocale().toTime( 10,0,0)), getRaplaLocale().toDate( start, getRaplaLocale().toTime( 12,0,0)));
+        weeklyAppointment.setRepeatingEnabled( true );
+        weeklyAppointment.getRepeating().setNumber( -1 );
+        weekly.addAppointment( weeklyAppointment );
+        weekly.addAllocatable( allocatable );
+        facade.store( weekly );
+
+        // overlaps the third week
+        Reservation single = facade.newReservation();
+        single.getClassification().setValue("name","single");
+        Date day = new Date( start.getTime() + 2 * DateTools.MILLISECONDS_PER_WEEK);
+        single.addAppointment( facade.newAppointment( getRaplaLocale().toDate( day, getRaplaLocale().toTime( 11,0,0)), getRaplaLocale().toDate( day, getRaplaLocale().toTime( 13,0,0))));
+        single.addAllocatable( allocatable );
+        facade.store( single );
+        assertEquals( 1, facade.getConflicts( allocatables,(Date) null ).length );
+        assertEquals( 1, facade.getConflicts( single ).length );
+
+        // moved after the weekly appointment
+        Reservation editable = (Reservation) facade.edit( single );
+        editable.getAppointments()[0].move( getRaplaLocale().toDate( day, getRaplaLocale().toTime( 12,0,0)));
+        assertEquals( 0, facade.getConflicts( editable ).length );
+        facade.store( editable );
+        assertEquals( 0, facade.getConflicts( allocatables,(Date) null ).length );
+
+        // four years later, the weekly appointment must still be found
+        Reservation later = facade.newReservation();
+        later.getClassification().setValue("name","later");
+        Date laterDay = new Date( start.getTime() + 200 * DateTools.MILLISECONDS_PER_WEEK);
+        later.addAppointment( facade.newAppointment( getRaplaLocale().toDate( laterDay, getRaplaLocale().toTime( 9,0,0)), getRaplaLocale().toDate( laterDay, getRaplaLocale().toTime( 11,0,0))));
+        later.addAllocatable( allocatable );
+        assertEquals( 1, facade.getConflicts( later ).length );
+        facade.store( later );
+        assertEquals( 1, facade.getConflicts( allocatables,(Date) null ).length );
+
+        facade.remove( facade.getPersistant( weekly ) );
+        assertEquals( 0, facade.getConflicts( allocatables,(Date) null ).length );
+    }
+
     void printConflicts(Conflict[] c) {
         System.out.println(c.length + " Conflicts:");
         for (int i=0;i<c.length;i++) {
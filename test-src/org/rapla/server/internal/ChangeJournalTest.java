@@ -0,0 +1,93 @@
+/*--------------------------------------------------------------------------*
+ | Copyright (C) 2006 Christopher Kohlhaas                                  |
+ |                                                                          |
+ | This program is free software; you can redistribute it and/or modify     |
+ | it under the terms of the GNU General Public License as published by the |
+ | Free Software Foundation. A copy of the license has been included with   |
+ | these distribution in the COPYING file, if not go to www.fsf.org         |
+ |                                                                          |
+ | As a special exception, you are granted the permissions to link this     |
+ | program with every library, which license fulfills the Open Source       |
+ | Definition as published by the Open Source Initiative (OSI).             |
+ *--------------------------------------------------------------------------*/
+package org.rapla.server.internal;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.rapla.entities.User;
+import org.rapla.entities.internal.UserImpl;
+import org.rapla.entities.storage.internal.SimpleIdentifier;
+import org.rapla.storage.UpdateEvent;
+
+public class ChangeJournalTest extends TestCase {
+
+    public ChangeJournalTest(String name) {
+        super(name);
+    }
+
+    public static Test suite() {
+        return new TestSuite(ChangeJournalTest.class);
+    }
+
+    private UserImpl createUser(int id) {
+        UserImpl user = new UserImpl();
+        user.setId(new SimpleIdentifier(User.TYPE, id));
+        return user;
+    }
+
+    public void testCollectChanges() {
+        ChangeJournal journal = new ChangeJournal(2);
+        UserImpl user1 = createUser(1);
+        UserImpl user2 = createUser(2);
+        UserImpl user3 = createUser(3);
+        journal.add(1, user1, false);
+        journal.add(2, user2, false);
+        journal.add(2, user3, false);
+        journal.add(3, user1, false);
+        journal.add(4, user2, true);
+        assertEquals(5, journal.size());
+
+        UpdateEvent evt = new UpdateEvent();
+        journal.collectChanges(0, evt);
+        assertEquals(2, evt.getStoreObjects().size());
+        assertEquals(1, evt.getRemoveObjects().size());
+        assertSame(user2, evt.getRemoveObjects().get(0));
+
+        evt = new UpdateEvent();
+        journal.collectChanges(2, evt);
+        assertEquals(1, evt.getStoreObjects().size());
+        assertSame(user1, evt.getStoreObjects().get(0));
+        assertEquals(1, evt.getRemoveObjects().size());
+
+        evt = new UpdateEvent();
+        journal.collectChanges(4, evt);
+        assertEquals(0, evt.getStoreObjects().size());
+        assertEquals(0, evt.getRemoveObjects().size());
+    }
+
+    public void testTrim() {
+        ChangeJournal journal = new ChangeJournal(4);
+        for (int i = 1; i <= 10; i++) {
+            journal.add(i, createUser(i), false);
+            if (i % 3 == 0) {
+                journal.trim(i - 2);
+            }
+        }
+        // entries up to version 7 are trimmed
+        assertEquals(3, journal.size());
+        UpdateEvent evt = new UpdateEvent();
+        journal.collectChanges(0, evt);
+        assertEquals(3, evt.getStoreObjects().size());
+        assertEquals(new SimpleIdentifier(User.TYPE, 8), ((UserImpl) evt.getStoreObjects().get(0)).getId());
+
+        try {
+            journal.add(5, createUser(5), false);
+            fail("Versions must be ordered");
+        } catch (IllegalArgumentException ex) {
+        }
+        journal.clear();
+        assertEquals(0, journal.size());
+    }
+}
@@ -0,0 +1,96 @@
+/*--------------------------------------------------------------------------*
+ | Copyright (C) 2006 Christopher Kohlhaas                                  |
+ |                                                                          |
+ | This program is free software; you can redistribute it and/or modify     |
+ | it under the terms of the GNU General Public License as published by the |
+ | Free Software Foundation. A copy of the license has been included with   |
+ | these distribution in the COPYING file, if not go to www.fsf.org         |
+ |                                                                          |
+ | As a special exception, you are granted the permissions to link this     |
+ | program with every library, which license fulfills the Open Source       |
+ | Definition as published by the Open Source Initiative (OSI).             |
+ *--------------------------------------------------------------------------*/
+package org.rapla.storage.dbfile.tests;
+import java.io.File;
+import java.io.FileOutputStream;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+import org.rapla.RaplaTestCase;
+import org.rapla.components.util.IOUtil;
+import org.rapla.entities.User;
+import org.rapla.entities.domain.Allocatable;
+import org.rapla.storage.dbfile.FileOperator;
+import org.rapla.storage.tests.AbstractOperatorTest;
+
+public class FileOperatorJournalTest extends AbstractOperatorTest {
+
+    File dataFile = new File( RaplaTestCase.TEST_FOLDER_NAME + "/test.xml");
+    File journalFile = new File( RaplaTestCase.TEST_FOLDER_NAME + "/test.xml.journal");
+
+    public FileOperatorJournalTest(String name) {
+        super(name);
+    }
+
+    public static Test suite() {
+        return new TestSuite(FileOperatorJournalTest.class);
+    }
+
+    protected void setUp() throws Exception {
+        journalFile.delete();
+        super.setUp();
+    }
+
+    protected String getStorageName() {
+        return "journalfile";
+    }
+
+    protected String getFacadeName() {
+        return "journal-facade";
+    }
+
+    public void testJournalReplay() throws Exception {
+        facade.login("homer", "duffs".toCharArray() );
+        long dataLength = dataFile.length();
+        Allocatable resource = facade.newResource();
+        resource.getClassification().setValue("name","journaled resource");
+        facade.store( resource );
+        User user = (User) facade.edit( facade.getUser("monty"));
+        user.setName("Montgomery Burns");
+        facade.store( user );
+        facade.changePassword( user, "burns".toCharArray(), "smithers".toCharArray());
+
+        assertTrue( journalFile.length() > 0);
+        // the data file is not rewritten
+        assertEquals( dataLength, dataFile.length());
+        assertTrue( new String(IOUtil.readBytes( dataFile.toURI().toURL())).indexOf("journaled resource") < 0);
+
+        // simulate a crash while appending the next change
+        FileOutputStream out = new FileOutputStream( journalFile, true);
+        out.write( new byte[] {0,0,1,0,'<','r','a'});
+        out.close();
+
+        // reload without writing the data file
+        ((FileOperator) operator).refreshFull();
+        facade.login("homer", "duffs".toCharArray() );
+        Allocatable[] allocatables = facade.getAllocatables();
+        boolean found = false;
+        for ( int i=0;i<allocatables.length;i++) {
+            if ( "journaled resource".equals( allocatables[i].getName( null ))) {
+                found = true;
+            }
+        }
+        assertTrue( found );
+        assertEquals( "Montgomery Burns", facade.getUser("monty").getName());
+        facade.logout();
+        assertTrue( facade.login("monty", "smithers".toCharArray() ));
+
+        // disconnect writes the journal into the data file
+        operator.disconnect();
+        assertEquals( 0, journalFile.length());
+        operator.connect();
+        assertTrue( facade.login("monty", "smithers".toCharArray() ));
+        assertEquals( "Montgomery Burns", facade.getUser("monty").getName());
+    }
+}
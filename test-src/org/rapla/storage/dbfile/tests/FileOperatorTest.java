@@ -11,13 +11,20 @@
  | Definition as published by the Open Source Initiative (OSI).             |
  *--------------------------------------------------------------------------*/
 package org.rapla.storage.dbfile.tests;
+import java.io.File;
+
 import junit.framework.Test;
 import junit.framework.TestSuite;
 
+import org.rapla.RaplaTestCase;
+import org.rapla.components.util.IOUtil;
+import org.rapla.entities.domain.Allocatable;
+import org.rapla.facade.ClientFacade;
 import org.rapla.framework.RaplaContext;
 import org.rapla.framework.RaplaContextException;
 import org.rapla.framework.RaplaException;
 import org.rapla.storage.CachableStorageOperator;
+import org.rapla.storage.dbfile.FileOperator;
 import org.rapla.storage.tests.AbstractOperatorTest;
 
 public class FileOperatorTest extends AbstractOperatorTest {
@@ -53,6 +60,43 @@ public class FileOperatorTest extends AbstractOperatorTest {
 		
 		assertTrue(re instanceof RaplaException);
 	}
+
+	public void testDelayedWrite() throws Exception {
+		RaplaContext rc = getContext();
+		FileOperator operator = (FileOperator) rc.lookup(CachableStorageOperator.ROLE + "/delayedfile");
+		ClientFacade facade = (ClientFacade) rc.lookup(ClientFacade.ROLE + "/delayed-facade");
+		File dataFile = new File( RaplaTestCase.TEST_FOLDER_NAME + "/test.xml");
+		facade.login("homer", "duffs".toCharArray() );
+		for ( int i=0;i<10;i++) {
+			Allocatable resource = facade.newResource();
+			resource.getClassification().setValue("name","delayed resource " + i);
+			facade.store( resource );
+		}
+		// the changes are written together with a single snapshot
+		operator.disconnect();
+		assertTrue( operator.getSnapshotStatistics().getCount() < 10);
+		assertEquals( 10, operator.getSnapshotStatistics().getChanges());
+		String data = new String( IOUtil.readBytes( dataFile.toURI().toURL()), "UTF-8");
+		assertTrue( data.indexOf("delayed resource 9") >= 0);
+		assertFalse( new File( dataFile.getPath() + ".tmp").exists());
+	}
+
+	public void testBackupRotated() throws Exception {
+		ClientFacade facade = (ClientFacade) getContext().lookup(ClientFacade.ROLE + "/" + getFacadeName());
+		File backupFile = new File( RaplaTestCase.TEST_FOLDER_NAME + "/test.xml.bak");
+		facade.login("homer", "duffs".toCharArray() );
+		Allocatable resource = facade.newResource();
+		resource.getClassification().setValue("name","first backup resource");
+		facade.store( resource );
+		resource = facade.newResource();
+		resource.getClassification().setValue("name","second backup resource");
+		facade.store( resource );
+		// the backup is the data file before the last change
+		String data = new String( IOUtil.readBytes( backupFile.toURI().toURL()), "UTF-8");
+		assertTrue( data.indexOf("first backup resource") >= 0);
+		assertTrue( data.indexOf("second backup resource") < 0);
+		facade.logout();
+	}
 }
 
 
@@ -0,0 +1,74 @@
+/*--------------------------------------------------------------------------*
+ | Copyright (C) 2006 Christopher Kohlhaas                                  |
+ |                                                                          |
+ | This program is free software; you can redistribute it and/or modify     |
+ | it under the terms of the GNU General Public License as published by the |
+ | Free Software Foundation. A copy of the license has been included with   |
+ | these distribution in the COPYING file, if not go to www.fsf.org         |
+ |                                                                          |
+ | As a special exception, you are granted the permissions to link this     |
+ | program with every library, which license fulfills the Open Source       |
+ | Definition as published by the Open Source Initiative (OSI).             |
+ *--------------------------------------------------------------------------*/
+package org.rapla.storage.dbrm;
+
+import java.util.Date;
+import java.util.List;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.rapla.components.util.TimeInterval;
+
+public class LoadedIntervalsTest extends TestCase {
+
+    public LoadedIntervalsTest(String name) {
+        super(name);
+    }
+
+    public static Test suite() {
+        return new TestSuite(LoadedIntervalsTest.class);
+    }
+
+    private static Date d(long time) {
+        return new Date(time);
+    }
+
+    public void testMissing() {
+        LoadedIntervals intervals = new LoadedIntervals();
+        assertEquals(1, intervals.getMissing(d(10), d(20)).size());
+        intervals.add(d(10), d(20));
+        intervals.add(d(40), d(50));
+        assertEquals(0, intervals.getMissing(d(12), d(20)).size());
+
+        List<TimeInterval> missing = intervals.getMissing(d(0), d(60));
+        assertEquals(3, missing.size());
+        assertEquals(new TimeInterval(d(0), d(10)), missing.get(0));
+        assertEquals(new TimeInterval(d(20), d(40)), missing.get(1));
+        assertEquals(new TimeInterval(d(50), d(60)), missing.get(2));
+
+        missing = intervals.getMissing(null, d(45));
+        assertEquals(2, missing.size());
+        assertEquals(new TimeInterval(null, d(10)), missing.get(0));
+        missing = intervals.getMissing(d(45), null);
+        assertEquals(1, missing.size());
+        assertEquals(new TimeInterval(d(50), null), missing.get(0));
+    }
+
+    public void testMerge() {
+        LoadedIntervals intervals = new LoadedIntervals();
+        intervals.add(d(10), d(20));
+        intervals.add(d(30), d(40));
+        intervals.add(d(50), d(60));
+        // touches the first and overlaps the second
+        intervals.add(d(20), d(35));
+        assertEquals(0, intervals.getMissing(d(10), d(40)).size());
+        assertEquals(1, intervals.getMissing(d(10), d(60)).size());
+        intervals.add(null, null);
+        assertEquals(0, intervals.getMissing(null, null).size());
+        assertEquals(new TimeInterval(null, null).toString(), intervals.toString());
+        intervals.clear();
+        assertEquals(1, intervals.getMissing(d(10), d(20)).size());
+    }
+}
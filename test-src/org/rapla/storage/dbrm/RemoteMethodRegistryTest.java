@@ -0,0 +1,146 @@
+/*--------------------------------------------------------------------------*
+ | Copyright (C) 2006 Christopher Kohlhaas                                  |
+ |                                                                          |
+ | This program is free software; you can redistribute it and/or modify     |
+ | it under the terms of the GNU General Public License as published by the |
+ | Free Software Foundation. A copy of the license has been included with   |
+ | these distribution in the COPYING file, if not go to www.fsf.org         |
+ |                                                                          |
+ | As a special exception, you are granted the permissions to link this     |
+ | program with every library, which license fulfills the Open Source       |
+ | Definition as published by the Open Source Initiative (OSI).             |
+ *--------------------------------------------------------------------------*/
+package org.rapla.storage.dbrm;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.rapla.entities.domain.Reservation;
+import org.rapla.framework.RaplaException;
+import org.rapla.server.RemoteServer;
+import org.rapla.server.RemoteStorage;
+
+public class RemoteMethodRegistryTest extends TestCase {
+
+    public RemoteMethodRegistryTest(String name) {
+        super(name);
+    }
+
+    public static Test suite() {
+        return new TestSuite(RemoteMethodRegistryTest.class);
+    }
+
+    public interface Echo {
+        String echo(String text) throws RaplaException;
+        String echo(String text, long times) throws RaplaException;
+        void fail() throws RaplaException;
+    }
+
+    public static class EchoImpl implements Echo {
+        public String echo(String text) {
+            return text;
+        }
+
+        public String echo(String text, long times) {
+            StringBuffer buf = new StringBuffer();
+            for (int i = 0; i < times; i++) {
+                buf.append(text);
+            }
+            return buf.toString();
+        }
+
+        public void fail() throws RaplaException {
+            throw new RaplaException("failed");
+        }
+    }
+
+    public void testFindByNameAndArity() throws Exception {
+        RemoteMethodRegistry registry = new RemoteMethodRegistry();
+        RemoteMethodRegistry.Invoker invoker = registry.find("getReservations", 2);
+        assertEquals(RemoteStorage.class.getName() + "/getReservations", invoker.getName());
+        assertTrue(invoker.returnsEntityList());
+        assertNull(registry.find("getReservations", 1));
+        assertNull(registry.find(RemoteServer.ROLE + "/unknown", 0));
+        assertSame(registry.find(RemoteServer.ROLE + "/login", 2), registry.find(RemoteServer.ROLE + "/login", 2));
+
+        // other interfaces are registered with their service
+        assertNull(registry.find(Echo.class.getName() + "/echo", 1));
+        assertFalse(registry.isRegistered(Echo.class.getName()));
+        assertTrue(registry.register(Echo.class.getName(), new EchoImpl()));
+        assertTrue(registry.isRegistered(Echo.class.getName()));
+        RemoteMethodRegistry.Invoker echo1 = registry.find(Echo.class.getName() + "/echo", 1);
+        RemoteMethodRegistry.Invoker echo2 = registry.find(Echo.class.getName() + "/echo", 2);
+        assertEquals(1, echo1.getArgumentCount());
+        assertEquals(2, echo2.getArgumentCount());
+        assertSame(echo2, registry.getInvoker(Echo.class, Echo.class.getMethod("echo", new Class[] {String.class, long.class})));
+        // a name is never loaded as class
+        assertNull(registry.find("org.rapla.Unknown/echo", 1));
+        assertFalse(registry.register(RemoteStorage.class.getName(), new EchoImpl()));
+        assertFalse(registry.register(EchoImpl.class.getName(), new EchoImpl()));
+        assertEquals(RemoteStorage.class.getName(), RemoteMethodRegistry.getServiceName("getReservations"));
+        assertEquals(Echo.class.getName(), RemoteMethodRegistry.getServiceName(Echo.class.getName() + "/echo"));
+    }
+
+    public void testConvertArguments() throws Exception {
+        RemoteMethodRegistry registry = new RemoteMethodRegistry();
+        RemoteMethodRegistry.Invoker invoker = registry.find("getReservations", 2);
+        Date start = new Date(0);
+        Map<String,String> args = invoker.createArgumentMap(new Object[] {start, null});
+        assertEquals("0", args.keySet().iterator().next());
+        assertEquals(RemoteOperator.convertToString(start), args.get("0"));
+        Object[] converted = invoker.convertArguments(args.values());
+        assertEquals(start, converted[0]);
+        assertNull(converted[1]);
+        try {
+            invoker.createArgumentMap(new Object[] {start});
+            fail("RaplaException expected");
+        } catch (RaplaException ex) {
+        }
+
+        invoker = registry.find(RemoteServer.ROLE + "/createUpdateXML", 1);
+        assertEquals(new Long(12), invoker.convertArguments(invoker.createArgumentMap(new Object[] {new Long(12)}).values())[0]);
+        invoker = registry.find("createIdentifier", 1);
+        assertEquals(Reservation.TYPE, invoker.convertArguments(invoker.createArgumentMap(new Object[] {Reservation.TYPE}).values())[0]);
+        invoker = registry.find("getServerTime", 0);
+        assertEquals(new Long(42), invoker.convertResult(invoker.convertResultToString(new Long(42))));
+    }
+
+    public void testStatistics() throws Exception {
+        RemoteMethodRegistry registry = new RemoteMethodRegistry();
+        Echo echo = new EchoImpl();
+        registry.register(Echo.class.getName(), echo);
+        RemoteMethodRegistry.Invoker invoker = registry.find(Echo.class.getName() + "/echo", 2);
+        Object[] args = invoker.convertArguments(invoker.createArgumentMap(new Object[] {"a", new Long(3)}).values());
+        assertEquals("aaa", invoker.invoke(echo, args));
+        invoker.record(500000L, false);
+        invoker.record(50000000L, false);
+
+        RemoteMethodRegistry.Invoker fail = registry.find(Echo.class.getName() + "/fail", 0);
+        try {
+            fail.invoke(echo, new Object[] {});
+            fail("RaplaException expected");
+        } catch (RaplaException ex) {
+            assertEquals("failed", ex.getMessage());
+        }
+        fail.record(20000000000L, true);
+
+        List<RemoteMethodRegistry.Statistics> statistics = registry.getStatistics();
+        assertEquals(2, statistics.size());
+        RemoteMethodRegistry.Statistics echoStatistics = statistics.get(0).getName().endsWith("echo") ? statistics.get(0) : statistics.get(1);
+        assertEquals(2, echoStatistics.getCount());
+        assertEquals(0, echoStatistics.getErrors());
+        assertEquals(50, echoStatistics.getMaxTime());
+        long[] histogram = echoStatistics.getHistogram();
+        assertEquals(1, histogram[0]);
+        assertEquals(1, histogram[2]);
+        RemoteMethodRegistry.Statistics failStatistics = statistics.get(0) == echoStatistics ? statistics.get(1) : statistics.get(0);
+        assertEquals(1, failStatistics.getErrors());
+        assertEquals(1, failStatistics.getHistogram()[RemoteMethodRegistry.HISTOGRAM_BOUNDS.length]);
+        assertTrue(registry.toString().indexOf("1 errors") >= 0);
+    }
+}
@@ -0,0 +1,234 @@
+/*--------------------------------------------------------------------------*
+ | Copyright (C) 2006 Christopher Kohlhaas                                  |
+ |                                                                          |
+ | This program is free software; you can redistribute it and/or modify     |
+ | it under the terms of the GNU General Public License as published by the |
+ | Free Software Foundation. A copy of the license has been included with   |
+ | these distribution in the COPYING file, if not go to www.fsf.org         |
+ |                                                                          |
+ | As a special exception, you are granted the permissions to link this     |
+ | program with every library, which license fulfills the Open Source       |
+ | Definition as published by the Open Source Initiative (OSI).             |
+ *--------------------------------------------------------------------------*/
+package org.rapla.storage.dbrm;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.avalon.framework.configuration.DefaultConfiguration;
+import org.rapla.ServletTestBase;
+import org.rapla.components.util.xml.BinaryXMLWriter;
+import org.rapla.entities.domain.Allocatable;
+import org.rapla.framework.RaplaException;
+import org.rapla.storage.StorageUpdateListener;
+import org.rapla.storage.UpdateResult;
+
+public class RemoteOperatorTest extends ServletTestBase
+{
+    public RemoteOperatorTest( String name )
+    {
+        super( name );
+    }
+
+    private RemoteOperator createOperator() throws RaplaException
+    {
+        DefaultConfiguration remoteConfig = new DefaultConfiguration("element");
+        DefaultConfiguration serverParam = new DefaultConfiguration("server");
+        serverParam.setValue("http://localhost:8051/");
+        remoteConfig.addChild( serverParam );
+        return new RemoteOperator( getContext(), remoteConfig );
+    }
+
+    public void testBatchLogin() throws Exception
+    {
+        RemoteOperator operator = createOperator();
+        final int[] batchCalls = new int[1];
+        final Connector connector = operator.connector;
+        operator.connector = new DelegatingConnector( connector )
+        {
+            public InputStream[] callBatch( List<String> methodNames, List<Map<String,String>> args ) throws IOException, RaplaException
+            {
+                batchCalls[0]++;
+                return connector.callBatch( methodNames, args );
+            }
+        };
+        operator.connect( "homer", "duffs".toCharArray() );
+        assertEquals( 1, batchCalls[0] );
+        assertTrue( operator.getObjects( Allocatable.class ).size() > 0 );
+        operator.disconnect();
+    }
+
+    public void testLoginWithoutBatch() throws Exception
+    {
+        RemoteOperator operator = createOperator();
+        // a server that doesn't know batch requests
+        operator.connector = new DelegatingConnector( operator.connector )
+        {
+            public InputStream[] callBatch( List<String> methodNames, List<Map<String,String>> args ) throws RaplaException
+            {
+                throw new BatchNotSupportedException( "Can't find method with name batch", null );
+            }
+        };
+        operator.connect( "homer", "duffs".toCharArray() );
+        assertTrue( operator.isConnected() );
+        assertTrue( operator.getObjects( Allocatable.class ).size() > 0 );
+        operator.disconnect();
+    }
+
+    public void testRefreshWithoutLongPoll() throws Exception
+    {
+        RemoteOperator operator = createOperator();
+        // a server that doesn't know the long poll
+        operator.connector = new DelegatingConnector( operator.connector )
+        {
+            public InputStream call( String methodName, Map<String,String> args ) throws IOException, RaplaException
+            {
+                if ( methodName.endsWith( "waitForUpdate" ))
+                {
+                    throw new RaplaException( "Can't find method with name waitForUpdate" );
+                }
+                return connector.call( methodName, args );
+            }
+        };
+        final int[] changes = new int[1];
+        operator.addStorageUpdateListener( new StorageUpdateListener()
+        {
+            public void objectsUpdated( UpdateResult evt )
+            {
+            }
+
+            public void updateError( RaplaException ex )
+            {
+            }
+
+            public void storageDisconnected()
+            {
+            }
+
+            public void pushingUpdatesChanged()
+            {
+                synchronized ( changes )
+                {
+                    changes[0]++;
+                    changes.notifyAll();
+                }
+            }
+        });
+        operator.connect( "homer", "duffs".toCharArray() );
+        synchronized ( changes )
+        {
+            if ( changes[0] == 0 )
+            {
+                changes.wait( 5000 );
+            }
+        }
+        assertEquals( 1, changes[0] );
+        assertFalse( operator.isPushingUpdates() );
+        operator.disconnect();
+    }
+
+    public void testPushingUpdates() throws Exception
+    {
+        RemoteOperator operator = createOperator();
+        assertFalse( operator.isPushingUpdates() );
+        operator.connect( "homer", "duffs".toCharArray() );
+        assertTrue( operator.isPushingUpdates() );
+        operator.disconnect();
+        assertFalse( operator.isPushingUpdates() );
+    }
+
+    /** posts the bytes in the binary form and returns the status of the response */
+    private int post( String methodName, byte[] body ) throws IOException
+    {
+        HttpURLConnection connection = (HttpURLConnection) new URL( "http://localhost:8051/rapla/rpc/" + methodName ).openConnection();
+        connection.setDoOutput( true );
+        connection.setRequestMethod( "POST" );
+        connection.setRequestProperty( "Content-Type", BinaryHTTPConnector.CONTENT_TYPE );
+        OutputStream out = connection.getOutputStream();
+        out.write( body );
+        out.close();
+        int status = connection.getResponseCode();
+        connection.disconnect();
+        return status;
+    }
+
+    public void testMalformedBinaryArguments() throws Exception
+    {
+        // an argument with a length of almost 2 GB
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        BinaryXMLWriter.writeNumber( body, 1 );
+        BinaryXMLWriter.writeNumber( body, Integer.MAX_VALUE );
+        assertEquals( 400, post( "getServerTime", body.toByteArray() ));
+
+        // too many arguments
+        body.reset();
+        BinaryXMLWriter.writeNumber( body, 0xffffffffL );
+        assertEquals( 400, post( "getServerTime", body.toByteArray() ));
+
+        // a truncated argument
+        body.reset();
+        BinaryXMLWriter.writeNumber( body, 1 );
+        BinaryXMLWriter.writeNumber( body, 1000 );
+        body.write( 'a' );
+        assertEquals( 400, post( "getServerTime", body.toByteArray() ));
+
+        body.reset();
+        BinaryXMLWriter.writeNumber( body, 0 );
+        assertEquals( 200, post( "getServerTime", body.toByteArray() ));
+    }
+
+    public void testMalformedBatch() throws Exception
+    {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        BinaryXMLWriter.writeNumber( body, Integer.MAX_VALUE );
+        assertEquals( 400, post( HTTPConnector.BATCH_METHOD, body.toByteArray() ));
+
+        // a truncated batch
+        body.reset();
+        BinaryXMLWriter.writeNumber( body, 2 );
+        BinaryXMLWriter.writeString( body, "getServerTime" );
+        BinaryXMLWriter.writeNumber( body, 0 );
+        assertEquals( 400, post( HTTPConnector.BATCH_METHOD, body.toByteArray() ));
+    }
+
+    static class DelegatingConnector implements Connector
+    {
+        Connector connector;
+
+        DelegatingConnector( Connector connector )
+        {
+            this.connector = connector;
+        }
+
+        public String getInfo()
+        {
+            return connector.getInfo();
+        }
+
+        public void start() throws Exception
+        {
+            connector.start();
+        }
+
+        public InputStream call( String methodName, Map<String,String> args ) throws IOException, RaplaException
+        {
+            return connector.call( methodName, args );
+        }
+
+        public InputStream[] callBatch( List<String> methodNames, List<Map<String,String>> args ) throws IOException, RaplaException
+        {
+            return connector.callBatch( methodNames, args );
+        }
+
+        public void stop()
+        {
+            connector.stop();
+        }
+    }
+}
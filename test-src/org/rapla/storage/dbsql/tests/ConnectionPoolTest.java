@@ -0,0 +1,143 @@
+/*--------------------------------------------------------------------------*
+ | Copyright (C) 2006 Christopher Kohlhaas                                  |
+ |                                                                          |
+ | This program is free software; you can redistribute it and/or modify     |
+ | it under the terms of the GNU General Public License as published by the |
+ | Free Software Foundation. A copy of the license has been included with   |
+ | these distribution in the COPYING file, if not go to www.fsf.org         |
+ |                                                                          |
+ | As a special exception, you are granted the permissions to link this     |
+ | program with every library, which license fulfills the Open Source       |
+ | Definition as published by the Open Source Initiative (OSI).             |
+ *--------------------------------------------------------------------------*/
+package org.rapla.storage.dbsql.tests;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.apache.avalon.framework.logger.ConsoleLogger;
+import org.rapla.storage.dbsql.ConnectionPool;
+
+public class ConnectionPoolTest extends TestCase {
+
+    public ConnectionPoolTest(String name) {
+        super(name);
+    }
+
+    public static Test suite() {
+        return new TestSuite(ConnectionPoolTest.class);
+    }
+
+    private ConnectionPool createPool(int maxSize, long maxLifetime, long leakThreshold) throws Exception {
+        final Driver driver = (Driver) Class.forName("org.hsqldb.jdbcDriver").newInstance();
+        final Properties properties = new Properties();
+        properties.setProperty("user", "sa");
+        properties.setProperty("password", "");
+        return new ConnectionPool(new ConsoleLogger(ConsoleLogger.LEVEL_DISABLED), maxSize, maxLifetime, 200, leakThreshold, "CALL 1") {
+            protected Connection connect() throws SQLException {
+                return driver.connect("jdbc:hsqldb:mem:pooltest", properties);
+            }
+        };
+    }
+
+    public void testReuse() throws Exception {
+        ConnectionPool pool = createPool(2, 60000, 0);
+        Connection con1 = pool.getConnection();
+        Connection con2 = pool.getConnection();
+        assertEquals(2, pool.getCreatedCount());
+        assertEquals(2, pool.getActiveCount());
+        con1.close();
+        // closing twice does nothing
+        con1.close();
+        assertTrue(con1.isClosed());
+        assertEquals(1, pool.getIdleCount());
+        Connection con3 = pool.getConnection();
+        con3.createStatement().execute("CALL 1");
+        assertEquals(2, pool.getCreatedCount());
+        assertEquals(3, pool.getBorrowCount());
+        try {
+            con1.createStatement();
+            fail("closed connection can be used");
+        } catch (SQLException ex) {
+        }
+        con2.close();
+        con3.close();
+        pool.clear();
+        assertEquals(0, pool.getIdleCount());
+        assertEquals(2, pool.getClosedCount());
+    }
+
+    public void testBounded() throws Exception {
+        ConnectionPool pool = createPool(1, 60000, 0);
+        final Connection con1 = pool.getConnection();
+        try {
+            pool.getConnection();
+            fail("pool size exceeded");
+        } catch (SQLException ex) {
+        }
+        // a waiting caller gets the connection as soon as it is returned
+        Thread thread = new Thread() {
+            public void run() {
+                try {
+                    Thread.sleep(50);
+                    con1.close();
+                } catch (Exception ex) {
+                }
+            }
+        };
+        thread.start();
+        Connection con2 = pool.getConnection();
+        thread.join();
+        assertEquals(1, pool.getCreatedCount());
+        con2.close();
+    }
+
+    public void testResetOnRelease() throws Exception {
+        ConnectionPool pool = createPool(1, 60000, 0);
+        Connection con1 = pool.getConnection();
+        boolean autoCommit = con1.getAutoCommit();
+        int isolation = con1.getTransactionIsolation();
+        Statement statement = con1.createStatement();
+        statement.executeQuery("CALL 1");
+        con1.setAutoCommit(!autoCommit);
+        con1.close();
+        try {
+            statement.executeQuery("CALL 1");
+            fail("statement of a returned connection is still open");
+        } catch (SQLException ex) {
+        }
+        Connection con2 = pool.getConnection();
+        assertEquals(1, pool.getCreatedCount());
+        assertEquals(autoCommit, con2.getAutoCommit());
+        assertFalse(con2.isReadOnly());
+        assertEquals(isolation, con2.getTransactionIsolation());
+        con2.close();
+    }
+
+    public void testMaxLifetime() throws Exception {
+        ConnectionPool pool = createPool(2, 50, 0);
+        pool.getConnection().close();
+        Thread.sleep(100);
+        // the old connection is replaced by a new one
+        pool.getConnection().close();
+        assertEquals(2, pool.getCreatedCount());
+        assertEquals(1, pool.getClosedCount());
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    public void testLeakDetection() throws Exception {
+        ConnectionPool pool = createPool(2, 60000, 50);
+        Connection con = pool.getConnection();
+        assertEquals(0, pool.getLeakCount());
+        Thread.sleep(100);
+        assertEquals(1, pool.getLeakCount());
+        con.close();
+    }
+}
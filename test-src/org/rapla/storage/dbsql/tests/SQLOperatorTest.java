@@ -23,6 +23,9 @@ import junit.framework.TestSuite;
 import org.rapla.components.util.DateTools;
 import org.rapla.components.util.IOUtil;
 import org.rapla.entities.Category;
+import org.rapla.entities.Entity;
+import org.rapla.entities.EntityNotFoundException;
+import org.rapla.entities.domain.Allocatable;
 import org.rapla.entities.domain.Appointment;
 import org.rapla.entities.domain.Period;
 import org.rapla.entities.domain.Repeating;
@@ -31,7 +34,10 @@ import org.rapla.entities.dynamictype.Attribute;
 import org.rapla.entities.dynamictype.AttributeType;
 import org.rapla.entities.dynamictype.DynamicType;
 import org.rapla.entities.storage.RefEntity;
+import org.rapla.entities.storage.internal.SimpleIdentifier;
 import org.rapla.framework.RaplaException;
+import org.rapla.storage.StorageUpdateListener;
+import org.rapla.storage.UpdateResult;
 import org.rapla.storage.dbsql.DBOperator;
 import org.rapla.storage.tests.AbstractOperatorTest;
 
@@ -135,6 +141,146 @@ public class SQLOperatorTest extends AbstractOperatorTest {
         assertEquals( id, idAfterEdit);
     }
 
+    public void testBatchStore() throws RaplaException {
+        facade.login("homer", "duffs".toCharArray() );
+        Allocatable resource = facade.newResource();
+        resource.getClassification().setValue("name","batch resource");
+        Entity<?>[] entities = new Entity[21];
+        entities[0] = resource;
+        for ( int i=0;i<20;i++) {
+            Reservation event = facade.newReservation();
+            event.getClassification().setValue("name","batch " + i);
+            Appointment appointment = facade.newAppointment( new Date(), new Date());
+            appointment.setRepeatingEnabled( true );
+            appointment.getRepeating().addException( DateTools.addDays( appointment.getStart(), 1));
+            event.addAppointment( appointment );
+            event.addAllocatable( resource );
+            entities[i + 1] = event;
+        }
+        facade.storeObjects( entities );
+
+        Reservation[] events = facade.getReservationsForAllocatable( new Allocatable[] {resource}, null, null, null);
+        assertEquals( 20, events.length);
+        Entity<?>[] changed = new Entity[10];
+        for ( int i=0;i<10;i++) {
+            Reservation event = (Reservation) facade.edit( events[i]);
+            event.getClassification().setValue("name","changed " + i);
+            changed[i] = event;
+        }
+        facade.storeAndRemove( changed, new Entity[] { events[10], events[11] } );
+        operator.disconnect();
+        operator.connect();
+        facade.login("homer", "duffs".toCharArray() );
+
+        Allocatable[] allocatables = facade.getAllocatables();
+        resource = null;
+        for ( int i=0;i<allocatables.length;i++) {
+            if ( "batch resource".equals( allocatables[i].getName( null))) {
+                resource = allocatables[i];
+            }
+        }
+        assertNotNull( resource );
+        events = facade.getReservationsForAllocatable( new Allocatable[] {resource}, null, null, null);
+        assertEquals( 18, events.length);
+        int changedCount = 0;
+        for ( int i=0;i<events.length;i++) {
+            if ( events[i].getName( null).startsWith("changed")) {
+                changedCount ++;
+            }
+            Appointment appointment = events[i].getAppointments()[0];
+            assertEquals( 1, appointment.getRepeating().getExceptions().length);
+            assertTrue( events[i].hasAllocated( resource, appointment));
+        }
+        assertEquals( 10, changedCount);
+    }
+
+    public void testRefreshChanges() throws Exception {
+        facade.login("homer", "duffs".toCharArray() );
+        Reservation event = facade.newReservation();
+        event.getClassification().setValue("name","before");
+        event.addAppointment( facade.newAppointment( new Date(), new Date()));
+        Period period = facade.newPeriod();
+        period.setName( "REMOVED PERIOD");
+        period.setStart( DateTools.cutDate( new Date()));
+        period.setEnd( DateTools.addDays( period.getStart(), 7));
+        facade.storeObjects( new Entity[] { event, period });
+        int eventId = ((SimpleIdentifier)((RefEntity<?>) event).getId()).getKey();
+        int periodId = ((SimpleIdentifier)((RefEntity<?>) period).getId()).getKey();
+        // nothing changed by other servers
+        operator.refresh();
+
+        // an import script changes the event and removes the period
+        Connection connection = ((DBOperator)operator).createConnection();
+        try 
+        {
+            Statement statement = connection.createStatement();
+            statement.executeUpdate("UPDATE EVENT_ATTRIBUTE_VALUE SET VALUE='after' WHERE EVENT_ID=" + eventId + " AND ATTRIBUTE_KEY='name'");
+            statement.executeUpdate("DELETE FROM PERIOD WHERE ID=" + periodId);
+            statement.executeUpdate("INSERT INTO RAPLA_CHANGE VALUES (1000," + eventId + ",'" + Reservation.TYPE + "',7,'store',CURRENT_TIMESTAMP)");
+            statement.executeUpdate("INSERT INTO RAPLA_CHANGE VALUES (1001," + periodId + ",'" + Period.TYPE + "',2,'remove',CURRENT_TIMESTAMP)");
+            statement.close();
+            connection.commit();
+        }
+        finally
+        {
+            connection.close();
+        }
+        operator.refresh();
+
+        @SuppressWarnings("unchecked")
+        Reservation event1 = operator.getPersistant( (RefEntity<Reservation>) event );
+        assertEquals( "after", event1.getName( null ));
+        assertEquals( 7, ((RefEntity<?>)event1).getVersion());
+        assertEquals( 1, event1.getAppointments().length);
+        try
+        {
+            operator.getPersistant( (RefEntity<?>) period );
+            fail( "removed period still in cache");
+        }
+        catch (EntityNotFoundException ex)
+        {
+        }
+    }
+
+    public void testRefreshSkipsOwnChanges() throws Exception {
+        facade.login("homer", "duffs".toCharArray() );
+        final int[] updates = new int[1];
+        StorageUpdateListener listener = new StorageUpdateListener()
+        {
+            public void objectsUpdated( UpdateResult evt )
+            {
+                updates[0]++;
+            }
+
+            public void updateError( RaplaException ex )
+            {
+            }
+
+            public void storageDisconnected()
+            {
+            }
+
+            public void pushingUpdatesChanged()
+            {
+            }
+        };
+        operator.addStorageUpdateListener( listener );
+        try
+        {
+            Allocatable resource = facade.newResource();
+            resource.getClassification().setValue("name","own resource");
+            facade.store( resource );
+            assertEquals( 1, updates[0]);
+            // the change is already in the cache, so a manual refresh finds nothing new
+            operator.refresh();
+            assertEquals( 1, updates[0]);
+        }
+        finally
+        {
+            operator.removeStorageUpdateListener( listener );
+        }
+    }
+
     private void printTypeIds() throws RaplaException, SQLException
     {
         Connection connection = ((DBOperator)operator).createConnection();
@@ -0,0 +1,134 @@
+/*--------------------------------------------------------------------------*
+ | Copyright (C) 2006 Christopher Kohlhaas                                  |
+ |                                                                          |
+ | This program is free software; you can redistribute it and/or modify     |
+ | it under the terms of the GNU General Public License as published by the |
+ | Free Software Foundation. A copy of the license has been included with   |
+ | these distribution in the COPYING file, if not go to www.fsf.org         |
+ |                                                                          |
+ | As a special exception, you are granted the permissions to link this     |
+ | program with every library, which license fulfills the Open Source       |
+ | Definition as published by the Open Source Initiative (OSI).             |
+ *--------------------------------------------------------------------------*/
+package org.rapla.storage.dbsql.tests;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Properties;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.apache.avalon.framework.logger.ConsoleLogger;
+import org.rapla.storage.dbsql.TableLoader;
+
+public class TableLoaderTest extends TestCase {
+    Driver driver;
+    Properties properties;
+    TableLoader loader;
+
+    public TableLoaderTest(String name) {
+        super(name);
+    }
+
+    public static Test suite() {
+        return new TestSuite(TableLoaderTest.class);
+    }
+
+    protected void setUp() throws Exception {
+        driver = (Driver) Class.forName("org.hsqldb.jdbcDriver").newInstance();
+        properties = new Properties();
+        properties.setProperty("user", "sa");
+        properties.setProperty("password", "");
+        Connection con = connect();
+        Statement stmt = con.createStatement();
+        stmt.execute("CREATE TABLE LOADTEST (ID INTEGER, NAME VARCHAR(20), CREATED TIMESTAMP)");
+        for (int i = 0; i < 5; i++) {
+            stmt.execute("INSERT INTO LOADTEST VALUES (" + i + ", " + (i == 3 ? "NULL" : "'name" + i + "'") + ", '2010-01-0" + (i + 1) + " 10:00:00')");
+        }
+        stmt.close();
+        con.close();
+        // a fetch size of 2 passes the rows in three chunks
+        loader = new TableLoader(new ConsoleLogger(ConsoleLogger.LEVEL_DISABLED), 2, 2) {
+            protected Connection connect() throws SQLException {
+                return TableLoaderTest.this.connect();
+            }
+        };
+    }
+
+    protected void tearDown() throws Exception {
+        loader.close();
+        Connection con = connect();
+        con.createStatement().execute("DROP TABLE LOADTEST");
+        con.close();
+    }
+
+    private Connection connect() throws SQLException {
+        return driver.connect("jdbc:hsqldb:mem:loadtest", properties);
+    }
+
+    public void testRows() throws Exception {
+        ResultSet first = loader.query("SELECT ID, NAME, CREATED FROM LOADTEST ORDER BY ID");
+        ResultSet second = loader.query("SELECT COUNT(*) FROM LOADTEST");
+        for (int i = 0; i < 5; i++) {
+            assertTrue(first.next());
+            assertEquals(i, first.getInt(1));
+            assertFalse(first.wasNull());
+            String name = first.getString(2);
+            if (i == 3) {
+                assertNull(name);
+                assertTrue(first.wasNull());
+            } else {
+                assertEquals("name" + i, name);
+            }
+            assertEquals(Timestamp.valueOf("2010-01-0" + (i + 1) + " 10:00:00"), first.getTimestamp(3));
+        }
+        assertFalse(first.next());
+        assertFalse(first.next());
+        first.close();
+        assertTrue(second.next());
+        assertEquals(5, second.getInt(1));
+        assertFalse(second.next());
+    }
+
+    public void testError() throws Exception {
+        ResultSet rset = loader.query("SELECT UNKNOWN FROM LOADTEST");
+        try {
+            rset.next();
+            fail("error of the query is not passed to the reader");
+        } catch (SQLException ex) {
+        }
+        assertFalse(rset.next());
+    }
+
+    public void testCloseBeforeEnd() throws Exception {
+        Connection con = connect();
+        Statement stmt = con.createStatement();
+        for (int i = 5; i < 25; i++) {
+            stmt.execute("INSERT INTO LOADTEST VALUES (" + i + ", 'name" + i + "', '2010-01-01 10:00:00')");
+        }
+        stmt.close();
+        con.close();
+        loader.close();
+        // with one thread the second query only starts, when the first is closed
+        loader = new TableLoader(new ConsoleLogger(ConsoleLogger.LEVEL_DISABLED), 1, 2) {
+            protected Connection connect() throws SQLException {
+                return TableLoaderTest.this.connect();
+            }
+        };
+        ResultSet first = loader.query("SELECT ID FROM LOADTEST ORDER BY ID");
+        ResultSet second = loader.query("SELECT COUNT(*) FROM LOADTEST");
+        assertTrue(first.next());
+        assertEquals(0, first.getInt(1));
+        first.close();
+        assertFalse(first.next());
+        assertTrue(second.next());
+        assertEquals(25, second.getInt(1));
+        assertFalse(second.next());
+    }
+}
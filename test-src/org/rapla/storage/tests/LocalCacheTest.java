@@ -13,18 +13,32 @@
 package org.rapla.storage.tests;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Locale;
+import java.util.Set;
 
 import junit.framework.Test;
 import junit.framework.TestSuite;
 
 import org.rapla.RaplaTestCase;
+import org.rapla.components.util.DateTools;
+import org.rapla.entities.Category;
+import org.rapla.entities.EntityNotFoundException;
+import org.rapla.entities.RaplaType;
 import org.rapla.entities.User;
+import org.rapla.entities.configuration.Preferences;
+import org.rapla.entities.configuration.internal.PreferencesImpl;
 import org.rapla.entities.domain.Allocatable;
+import org.rapla.entities.domain.Appointment;
+import org.rapla.entities.domain.AppointmentBlockArray;
 import org.rapla.entities.domain.Period;
+import org.rapla.entities.domain.RepeatingType;
 import org.rapla.entities.domain.Reservation;
 import org.rapla.entities.domain.internal.AllocatableImpl;
+import org.rapla.entities.domain.internal.AppointmentBlockCache;
+import org.rapla.entities.domain.internal.AppointmentImpl;
+import org.rapla.entities.domain.internal.PeriodImpl;
 import org.rapla.entities.dynamictype.Attribute;
 import org.rapla.entities.dynamictype.AttributeType;
 import org.rapla.entities.dynamictype.Classification;
@@ -32,6 +46,8 @@ import org.rapla.entities.dynamictype.DynamicType;
 import org.rapla.entities.dynamictype.DynamicTypeAnnotations;
 import org.rapla.entities.dynamictype.internal.AttributeImpl;
 import org.rapla.entities.dynamictype.internal.DynamicTypeImpl;
+import org.rapla.entities.internal.UserImpl;
+import org.rapla.entities.storage.RefEntity;
 import org.rapla.entities.storage.internal.SimpleIdentifier;
 import org.rapla.storage.CachableStorageOperator;
 import org.rapla.storage.LocalCache;
@@ -95,6 +111,78 @@ public class LocalCacheTest extends RaplaTestCase {
         assertTrue(resources[1].getName(locale).equals("Beta"));
     }
 
+    public void testSnapshot() throws Exception {
+        LocalCache cache = new LocalCache( Locale.GERMANY );
+        DynamicTypeImpl type = createDynamicType();
+        type.setReadOnly( true );
+        cache.put( type );
+        cache.put( createResource(1,type,"Adrian") );
+        Collection<Allocatable> snapshot = cache.getCollection( Allocatable.TYPE );
+        assertSame( snapshot, cache.getCollection( Allocatable.TYPE ));
+        assertSame( cache.getCollection( DynamicType.TYPE ), cache.getCollection( DynamicType.TYPE ));
+
+        // a change creates a new snapshot and leaves the old one untouched
+        AllocatableImpl resource2 = createResource(2,type,"Beta");
+        cache.put( resource2 );
+        assertEquals( 1, snapshot.size());
+        assertEquals( 2, cache.getCollection( Allocatable.TYPE ).size());
+        cache.remove( resource2 );
+        assertEquals( 1, cache.getCollection( Allocatable.TYPE ).size());
+        try {
+            snapshot.clear();
+            fail("Snapshots should be readonly");
+        } catch (UnsupportedOperationException ex) {
+        }
+
+        long version = cache.getRepositoryVersion();
+        assertEquals( version + 1, cache.increaseRepositoryVersion());
+        assertEquals( version + 1, cache.getRepositoryVersion());
+    }
+
+    public void testPeriodOrder() throws Exception {
+        LocalCache cache = new LocalCache( Locale.GERMANY );
+        long today = DateTools.cutDate(System.currentTimeMillis());
+        PeriodImpl later = new PeriodImpl(new Date(today + DateTools.MILLISECONDS_PER_WEEK), new Date(today + 2 * DateTools.MILLISECONDS_PER_WEEK));
+        later.setId(new SimpleIdentifier(Period.TYPE,1));
+        PeriodImpl earlier = new PeriodImpl(new Date(today), new Date(today + DateTools.MILLISECONDS_PER_WEEK));
+        earlier.setId(new SimpleIdentifier(Period.TYPE,2));
+        cache.put( later );
+        cache.put( earlier );
+        Iterator<Period> it = cache.<Period>getCollection( Period.TYPE ).iterator();
+        assertSame( earlier, it.next());
+        assertSame( later, it.next());
+        assertFalse( it.hasNext());
+    }
+
+    public void testAppointmentBlockCache() throws Exception {
+        LocalCache cache = new LocalCache( Locale.GERMANY );
+        AppointmentBlockCache blockCache = cache.getAppointmentBlockCache();
+        Date start = new Date(DateTools.cutDate(System.currentTimeMillis()));
+        AppointmentImpl appointment = new AppointmentImpl(start, new Date(start.getTime() + DateTools.MILLISECONDS_PER_HOUR), RepeatingType.DAILY, 10);
+        appointment.setId(new SimpleIdentifier(Appointment.TYPE,1));
+        appointment.setReadOnly( true );
+        cache.put( appointment );
+        long end = start.getTime() + DateTools.MILLISECONDS_PER_WEEK * 4;
+        appointment.createBlocks(start.getTime(), end, new AppointmentBlockArray(), true);
+        assertEquals( 1, blockCache.getStatistics().getAppointmentCount());
+
+        // a removed appointment doesn't use the cache anymore
+        cache.remove( appointment );
+        assertEquals( 0, blockCache.getStatistics().getAppointmentCount());
+        long misses = blockCache.getStatistics().getMisses();
+        appointment.createBlocks(start.getTime(), end, new AppointmentBlockArray(), true);
+        assertEquals( misses, blockCache.getStatistics().getMisses());
+
+        // the blocks are cleared with the entities
+        cache.put( appointment );
+        appointment.createBlocks(start.getTime(), end, new AppointmentBlockArray(), true);
+        assertEquals( 1, blockCache.getStatistics().getAppointmentCount());
+        cache.clearAll();
+        assertEquals( 0, blockCache.getStatistics().getAppointmentCount());
+        appointment.createBlocks(start.getTime(), end, new AppointmentBlockArray(), true);
+        assertEquals( 0, blockCache.getStatistics().getAppointmentCount());
+    }
+
     public void test2() throws Exception {
         CachableStorageOperator storage = (CachableStorageOperator)
             getContext().lookup(CachableStorageOperator.ROLE + "/file");
@@ -120,9 +208,161 @@ public class LocalCacheTest extends RaplaTestCase {
             assertEquals("Room A66",((Allocatable)it.next()).getName(locale));
         }
     }
-}
 
+    public void testReservationsForAllocatable() throws Exception {
+        CachableStorageOperator storage = (CachableStorageOperator)
+            getContext().lookup(CachableStorageOperator.ROLE + "/file");
+        storage.connect();
+        LocalCache cache = storage.getCache();
+        Iterator<?> it = cache.getCollection(Period.TYPE).iterator();
+        it.next();
+        Period period = (Period) it.next();
+        Collection<Reservation> all = cache.getReservations(null,period.getStart(),period.getEnd());
+        Iterator<?> allocatableIt = cache.getIterator(Allocatable.TYPE);
+        int found = 0;
+        while (allocatableIt.hasNext()) {
+            Allocatable allocatable = (Allocatable) allocatableIt.next();
+            Set<Reservation> expected = new HashSet<Reservation>();
+            for (Reservation reservation:all) {
+                if (reservation.hasAllocated(allocatable)) {
+                    expected.add( reservation );
+                }
+            }
+            Collection<Reservation> reservations = cache.getReservationsForAllocatable(new Allocatable[] {allocatable},period.getStart(),period.getEnd());
+            assertEquals(expected, new HashSet<Reservation>(reservations));
+            found += reservations.size();
+        }
+        assertTrue(found > 0);
+    }
 
+    public void testReferers() throws Exception {
+        CachableStorageOperator storage = (CachableStorageOperator)
+            getContext().lookup(CachableStorageOperator.ROLE + "/file");
+        storage.connect();
+        LocalCache cache = storage.getCache();
+        RaplaType[] refererTypes = new RaplaType[] {Reservation.TYPE, Allocatable.TYPE, Preferences.TYPE, User.TYPE, DynamicType.TYPE};
+        RaplaType[] referencedTypes = new RaplaType[] {Category.TYPE, Allocatable.TYPE, User.TYPE, DynamicType.TYPE};
+        int found = 0;
+        for (int i=0;i<referencedTypes.length;i++) {
+            Iterator<RefEntity<?>> it = cache.getIterator( referencedTypes[i] );
+            while (it.hasNext()) {
+                RefEntity<?> object = it.next();
+                for (int j=0;j<refererTypes.length;j++) {
+                    Set<RefEntity<?>> expected = new HashSet<RefEntity<?>>();
+                    Iterator<RefEntity<?>> it2 = cache.getIterator( refererTypes[j] );
+                    while (it2.hasNext()) {
+                        RefEntity<?> referer = it2.next();
+                        if (!referer.isIdentical(object) && referer.isRefering(object)) {
+                            expected.add( referer );
+                        }
+                    }
+                    assertEquals(expected, new HashSet<RefEntity<?>>(cache.getReferers(refererTypes[j], object)));
+                    found += expected.size();
+                }
+            }
+        }
+        assertTrue(found > 0);
+    }
+
+    public void testUserIndex() throws Exception {
+        LocalCache cache = new LocalCache( Locale.GERMANY );
+        UserImpl user = new UserImpl();
+        user.setId(new SimpleIdentifier(User.TYPE,1));
+        user.setUsername("Homer");
+        cache.put( user );
+        assertEquals(user, cache.getUser("Homer"));
+        assertEquals(user, cache.getUser("homer"));
+        assertNull(cache.getUser("marge"));
+
+        user.setUsername("marge");
+        cache.put( user );
+        assertNull(cache.getUser("homer"));
+        assertEquals(user, cache.getUser("Marge"));
+
+        cache.remove( user );
+        assertNull(cache.getUser("marge"));
+    }
+
+    public void testPreferencesIndex() throws Exception {
+        LocalCache cache = new LocalCache( Locale.GERMANY );
+        UserImpl homer = new UserImpl();
+        homer.setId(new SimpleIdentifier(User.TYPE,1));
+        homer.setUsername("homer");
+        cache.put( homer );
+        UserImpl marge = new UserImpl();
+        marge.setId(new SimpleIdentifier(User.TYPE,2));
+        marge.setUsername("marge");
+        cache.put( marge );
 
+        PreferencesImpl systemPreferences = new PreferencesImpl();
+        systemPreferences.setId(new SimpleIdentifier(Preferences.TYPE,1));
+        cache.put( systemPreferences );
+        PreferencesImpl preferences = new PreferencesImpl();
+        preferences.setId(new SimpleIdentifier(Preferences.TYPE,2));
+        preferences.setOwner( homer );
+        cache.put( preferences );
+        assertEquals(systemPreferences, cache.getPreferences( null ));
+        assertEquals(preferences, cache.getPreferences( homer ));
+        assertNull(cache.getPreferences( marge ));
 
+        // a new owner is indexed on the next lookup
+        preferences.setOwner( marge );
+        cache.put( preferences );
+        assertNull(cache.getPreferences( homer ));
+        assertEquals(preferences, cache.getPreferences( marge ));
 
+        cache.remove( preferences );
+        assertNull(cache.getPreferences( marge ));
+        assertEquals(systemPreferences, cache.getPreferences( null ));
+    }
+
+    public void testDynamicTypeIndex() throws Exception {
+        LocalCache cache = new LocalCache( Locale.GERMANY );
+        DynamicTypeImpl type = createDynamicType();
+        cache.put( type );
+        assertEquals(type, cache.getDynamicType("defaultResource"));
+        assertNull(cache.getDynamicType("room"));
+
+        type.setElementKey("room");
+        cache.put( type );
+        assertNull(cache.getDynamicType("defaultResource"));
+        assertEquals(type, cache.getDynamicType("room"));
+
+        cache.remove( type );
+        assertNull(cache.getDynamicType("room"));
+    }
+
+    public void testEmailIndex() throws Exception {
+        LocalCache cache = new LocalCache( Locale.GERMANY );
+        DynamicTypeImpl type = createDynamicType();
+        AttributeImpl email = new AttributeImpl(AttributeType.STRING);
+        email.setKey("email");
+        email.setId(new SimpleIdentifier(Attribute.TYPE,2));
+        type.addAttribute(email);
+        type.setReadOnly( true );
+        cache.put( type );
+        AllocatableImpl resource = createResource(1,type,"Homer");
+        resource.getClassification().setValue("email","homer@example.com");
+        cache.put( resource );
+        // resources without an email are not indexed
+        cache.put( createResource(2,type,"Marge") );
+        assertEquals(resource, cache.resolveEmail("homer@example.com"));
+        assertEmailNotFound(cache, "marge@example.com");
+
+        resource.getClassification().setValue("email","marge@example.com");
+        cache.put( resource );
+        assertEmailNotFound(cache, "homer@example.com");
+        assertEquals(resource, cache.resolveEmail("marge@example.com"));
+
+        cache.remove( resource );
+        assertEmailNotFound(cache, "marge@example.com");
+    }
+
+    private void assertEmailNotFound(LocalCache cache, String email) {
+        try {
+            cache.resolveEmail( email );
+            fail("Entity with email " + email + " should not be found");
+        } catch (EntityNotFoundException ex) {
+        }
+    }
+}
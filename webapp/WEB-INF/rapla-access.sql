@@ -14,3 +14,4 @@ CREATE TABLE RAPLA_USER_GROUP ( USER_ID INTEGER NOT NULL, CATEGORY_ID INTEGER NO
 CREATE TABLE RAPLA_RESOURCE (  ID INTEGER NOT NULL ,  TYPE_KEY VARCHAR(100)  NOT NULL, IGNORE_CONFLICTS INTEGER NOT NULL, OWNER_ID INTEGER, CREATION_TIME DATETIME,  LAST_CHANGED DATETIME ,LAST_CHANGED_BY INTEGER, PRIMARY KEY  (ID));
 CREATE TABLE RESOURCE_GROUP (  ID INTEGER NOT NULL ,  GROUP_ID INTEGER NOT NULL);
 CREATE TABLE RESOURCE_ATTRIBUTE_VALUE (  RESOURCE_ID INTEGER NOT NULL ,  ATTRIBUTE_KEY VARCHAR(25),  ATTRIBUTE_VALUE LONGTEXT);
+CREATE TABLE RAPLA_CHANGE (  SEQUENCE_NR INTEGER NOT NULL ,  ENTITY_ID INTEGER NOT NULL ,  TYPE_KEY VARCHAR(100) NOT NULL ,  ENTITY_VERSION INTEGER NOT NULL ,  CHANGE_TYPE VARCHAR(10) NOT NULL ,  CHANGE_TIME DATETIME NOT NULL ,  PRIMARY KEY  (SEQUENCE_NR));
@@ -209,6 +209,20 @@ CREATE  TABLE IF NOT EXISTS `RAPLA_DB`.`RESOURCE_ATTRIBUTE_VALUE` (
   `ATTRIBUTE_KEY` VARCHAR(25) NULL DEFAULT NULL ,
   `VALUE` VARCHAR(1000) NULL DEFAULT NULL );
 
+-- -----------------------------------------------------
+-- Table `RAPLA_DB`.`RAPLA_CHANGE`
+-- -----------------------------------------------------
+DROP TABLE IF EXISTS `RAPLA_DB`.`RAPLA_CHANGE` ;
+
+CREATE  TABLE IF NOT EXISTS `RAPLA_DB`.`RAPLA_CHANGE` (
+  `SEQUENCE_NR` INT NOT NULL ,
+  `ENTITY_ID` INT NOT NULL ,
+  `TYPE_KEY` VARCHAR(100) NOT NULL ,
+  `ENTITY_VERSION` INT NOT NULL ,
+  `CHANGE_TYPE` VARCHAR(10) NOT NULL ,
+  `CHANGE_TIME` DATETIME NOT NULL ,
+  PRIMARY KEY (`SEQUENCE_NR`) );
+
 DROP USER 'rapla'@'%';
 CREATE USER 'rapla'@'%' IDENTIFIED BY 'raplapw';
 GRANT ALL PRIVILEGES ON `RAPLA_DB`.* TO 'rapla'@'%';
\ No newline at end of file
@@ -169,6 +169,19 @@ CREATE TABLE RESOURCE_GROUP
 ) ;
 
 
+DROP TABLE RAPLA_CHANGE CASCADE CONSTRAINTS;
+
+CREATE TABLE RAPLA_CHANGE
+(
+  SEQUENCE_NR     INTEGER                       NOT NULL,
+  ENTITY_ID       INTEGER                       NOT NULL,
+  TYPE_KEY        VARCHAR2(100 BYTE)            NOT NULL,
+  ENTITY_VERSION  INTEGER                       NOT NULL,
+  CHANGE_TYPE     VARCHAR2(10 BYTE)             NOT NULL,
+  CHANGE_TIME     TIMESTAMP(6)                  NOT NULL
+) ;
+
+
 DROP TABLE PREF CASCADE CONSTRAINTS;
 
 CREATE TABLE PREF
@@ -219,4 +232,8 @@ ALTER TABLE RAPLA_USER ADD (
   PRIMARY KEY (ID));
 
 
+ALTER TABLE RAPLA_CHANGE ADD (
+  PRIMARY KEY (SEQUENCE_NR));
+
+
 